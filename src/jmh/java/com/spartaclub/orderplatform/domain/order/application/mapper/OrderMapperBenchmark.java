@@ -0,0 +1,46 @@
+package com.spartaclub.orderplatform.domain.order.application.mapper;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderBenchmarkFixtures;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderDetailResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * MapStruct OrderMapper 변환 비용 벤치마크 (상세: 주문 상품 수별, 목록: 주문 1건 요약)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "50"})
+    private int itemCount;
+
+    private OrderMapper orderMapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderMapper = new OrderMapperImpl();
+        order = OrderBenchmarkFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public OrderDetailResponseDto toDto() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public OrdersResponseDto.OrderSummaryDto toSummaryDto() {
+        return orderMapper.toSummaryDto(order);
+    }
+}
@@ -0,0 +1,61 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import com.spartaclub.orderplatform.domain.order.application.command.PlaceOrderCommand;
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.domain.user.domain.entity.UserRole;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 관련 벤치마크 공용 픽스처 (영속화 없이 엔티티 구성)
+ */
+public final class OrderBenchmarkFixtures {
+
+    private OrderBenchmarkFixtures() {
+    }
+
+    public static User customer(long userId) {
+        User user = User.createUser("bench", "bench@test.com", "pw", "bench", "010-0000-0000",
+            UserRole.CUSTOMER);
+        setField(User.class, user, "userId", userId);
+        return user;
+    }
+
+    public static Map<UUID, Product> products(int count) {
+        Map<UUID, Product> products = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            products.put(UUID.randomUUID(), Product.create("상품-" + i, 1_000L + i, "설명", null));
+        }
+        return products;
+    }
+
+    public static List<PlaceOrderCommand> commands(Map<UUID, Product> products) {
+        List<PlaceOrderCommand> commands = new ArrayList<>(products.size());
+        int quantity = 1;
+        for (UUID productId : products.keySet()) {
+            commands.add(new PlaceOrderCommand(productId, quantity++ % 5 + 1));
+        }
+        return commands;
+    }
+
+    public static Order order(int itemCount) {
+        Map<UUID, Product> products = products(itemCount);
+        return Order.place(customer(1L), UUID.randomUUID(), commands(products), products,
+            "서울특별시 노원구 한글비석로 24", "문 앞에 놓아주세요");
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
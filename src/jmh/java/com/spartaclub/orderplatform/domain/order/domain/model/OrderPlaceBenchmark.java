@@ -0,0 +1,47 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import com.spartaclub.orderplatform.domain.order.application.command.PlaceOrderCommand;
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 주문 생성(Order.place, 주문 상품 추가와 총액/수량 계산 포함) 벤치마크 (주문 상품 수별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderPlaceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int itemCount;
+
+    private User user;
+    private UUID storeId;
+    private Map<UUID, Product> products;
+    private List<PlaceOrderCommand> commands;
+
+    @Setup
+    public void setUp() {
+        user = OrderBenchmarkFixtures.customer(1L);
+        storeId = UUID.randomUUID();
+        products = OrderBenchmarkFixtures.products(itemCount);
+        commands = OrderBenchmarkFixtures.commands(products);
+    }
+
+    @Benchmark
+    public Order place() {
+        return Order.place(user, storeId, commands, products, "주소", null);
+    }
+}
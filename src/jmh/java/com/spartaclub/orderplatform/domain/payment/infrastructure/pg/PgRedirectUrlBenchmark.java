@@ -0,0 +1,33 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PG 리다이렉트 URL 파싱 벤치마크 (PgRedirectUrlParser.parse)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PgRedirectUrlBenchmark {
+
+    private String redirectUrl;
+
+    @Setup
+    public void setUp() {
+        redirectUrl = "https://store.com/success?paymentKey=" + UUID.randomUUID()
+            + "&orderId=" + UUID.randomUUID() + "&amount=34500";
+    }
+
+    @Benchmark
+    public String[] parse() {
+        return PgRedirectUrlParser.parse(redirectUrl);
+    }
+}
@@ -0,0 +1,78 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import com.spartaclub.orderplatform.global.config.web.WebClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 스텁 PG 서버 대상 PG 클라이언트 처리량 벤치마크 (실제 PG 없이 지연 시간별 측정)
+ * 스레드당 동기 호출 1건 / 비동기 호출 BATCH건 동시 실행 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TossPaymentsClientBenchmark {
+
+    private static final int BATCH = 50;
+
+    @Param({"0", "50"})
+    private int latencyMillis;
+
+    private StubPgServer stubPgServer;
+    private ConnectionProvider connectionProvider;
+    private TossPaymentsClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubPgServer = new StubPgServer(200).latency(Duration.ofMillis(latencyMillis));
+
+        WebClientConfig config = new WebClientConfig();
+        connectionProvider = config.tossConnectionProvider(50, 1000, Duration.ofSeconds(5),
+            Duration.ofSeconds(30));
+        WebClient webClient = config.tossWebClient(connectionProvider, stubPgServer.baseUrl(),
+            "", Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        // 벌크헤드가 측정 대상인 커넥션 풀 대기를 가리지 않도록 한도를 크게 설정
+        PgCallGuard pgCallGuard = new PgCallGuard(new SimpleMeterRegistry(), 50, 20, 50f,
+            Duration.ofSeconds(3), 80f, Duration.ofSeconds(30), 5, 10000);
+        client = new TossPaymentsClient(webClient, false, Duration.ofSeconds(10), pgCallGuard);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.dispose();
+        stubPgServer.close();
+    }
+
+    // 기존 방식: 호출 스레드가 응답까지 대기
+    @Benchmark
+    public boolean blockingConfirm() {
+        return client.confirmPayment("pk", "order", 1000L);
+    }
+
+    // BATCH건을 동시에 보내고 모두 완료될 때까지 대기 (풀 크기 내 동시 실행)
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long asyncConfirmBatch() {
+        return Flux.range(0, BATCH)
+            .flatMap(i -> client.confirmPaymentAsync("pk-" + i, "order-" + i, 1000L))
+            .filter(Boolean::booleanValue)
+            .count()
+            .block();
+    }
+}
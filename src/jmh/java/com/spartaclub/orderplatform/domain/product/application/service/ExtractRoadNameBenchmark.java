@@ -0,0 +1,31 @@
+package com.spartaclub.orderplatform.domain.product.application.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 배송지 주소에서 도로명 추출 벤치마크 (RoadNameExtractor.extract)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExtractRoadNameBenchmark {
+
+    @Param({
+        "서울특별시 노원구 한글비석로 24",
+        "경기도 성남시 분당구 판교역로 235 에이치스퀘어 N동 8층",
+        "도로명 없는 주소 123"
+    })
+    private String roadAddress;
+
+    @Benchmark
+    public String extractRoadName() {
+        return RoadNameExtractor.extract(roadAddress);
+    }
+}
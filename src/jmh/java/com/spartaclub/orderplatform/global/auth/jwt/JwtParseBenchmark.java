@@ -0,0 +1,78 @@
+package com.spartaclub.orderplatform.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtAuthenticationFilter 요청당 토큰 처리 비용 비교 벤치마크 기존 4회 파싱 / 캐시 없는 1회 파싱 / 캐시 적중 1회 파싱
+ * 및 토큰 발급(createAccessToken), Claims 파싱(getClaimsFromToken) 단건 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        set("secretKey", Base64.getEncoder().encodeToString(new byte[64]));
+        set("accessTokenExpiration", 15 * 60 * 1000L);
+        set("refreshTokenExpiration", 7 * 24 * 60 * 60 * 1000L);
+        set("verifiedTokenCacheMaxSize", 10_000L);
+        jwtUtil.init();
+
+        accessToken = jwtUtil.createAccessToken(1L, "bench@test.com", "CUSTOMER");
+    }
+
+    // 기존 필터 흐름: validateToken → isAccessToken → getUserIdFromToken → getRoleFromToken
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(jwtUtil.validateToken(accessToken));
+        bh.consume(jwtUtil.isAccessToken(accessToken));
+        bh.consume(jwtUtil.getUserIdFromToken(accessToken));
+        bh.consume(jwtUtil.getRoleFromToken(accessToken));
+    }
+
+    // 캐시 없이 서명 검증 1회
+    @Benchmark
+    public VerifiedToken parseOnceUncached() {
+        return jwtUtil.verifyToken(accessToken);
+    }
+
+    // 최근 검증 토큰 캐시 적중
+    @Benchmark
+    public VerifiedToken parseOnceCached() {
+        return jwtUtil.parseToken(accessToken);
+    }
+
+    // 로그인/재발급 시 액세스 토큰 발급 (HMAC 서명)
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(1L, "bench@test.com", "CUSTOMER");
+    }
+
+    // 서명 검증 + Claims 파싱 1회
+    @Benchmark
+    public Claims getClaimsFromToken() {
+        return jwtUtil.getClaimsFromToken(accessToken);
+    }
+
+    private void set(String name, Object value) throws Exception {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
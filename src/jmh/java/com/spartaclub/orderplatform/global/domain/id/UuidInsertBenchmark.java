@@ -0,0 +1,95 @@
+package com.spartaclub.orderplatform.global.domain.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * PK 생성 방식별 INSERT 처리량 벤치마크: 무작위 UUIDv4 vs 시간 순 UUIDv7 (preloadRows건을 채운 뒤 BATCH건씩 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 500;
+    private static final String PAYLOAD = "x".repeat(100);
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private String generator;
+
+    @Param({"200000"})
+    private int preloadRows;
+
+    private Supplier<UUID> ids;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = "RANDOM".equals(generator) ? UUID::randomUUID : UuidV7::next;
+
+        // 기본은 H2 인메모리, -Duuid.bench.jdbc-url / .user / .password로 PostgreSQL 등 실제 DB 지정
+        String url = System.getProperty("uuid.bench.jdbc-url",
+            "jdbc:h2:mem:uuid_bench_" + generator + ";DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+            System.getProperty("uuid.bench.user", "sa"),
+            System.getProperty("uuid.bench.password", ""));
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_bench");
+            statement.execute(
+                "CREATE TABLE uuid_bench (id uuid PRIMARY KEY, payload varchar(200) NOT NULL)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO uuid_bench (id, payload) VALUES (?, ?)");
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_bench");
+        }
+        connection.commit();
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insert() throws SQLException {
+        return insertBatch();
+    }
+
+    private int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, PAYLOAD);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
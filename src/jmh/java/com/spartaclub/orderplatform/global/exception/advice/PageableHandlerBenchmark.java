@@ -0,0 +1,64 @@
+package com.spartaclub.orderplatform.global.exception.advice;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 목록 API 공통 Pageable 파라미터 해석 벤치마크 (기본값 / 정렬 지정 / 허용되지 않은 값)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageableHandlerBenchmark {
+
+    private PageableHandler pageableHandler;
+    private NativeWebRequest defaultRequest;
+    private NativeWebRequest sortedRequest;
+    private NativeWebRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        pageableHandler = new PageableHandler();
+        defaultRequest = request(null, null, null);
+        sortedRequest = request("2", "30", "rating,asc");
+        invalidRequest = request("x", "99", "password,sideways");
+    }
+
+    @Benchmark
+    public Object defaults() {
+        return pageableHandler.resolveArgument(null, null, defaultRequest, null);
+    }
+
+    @Benchmark
+    public Object sorted() {
+        return pageableHandler.resolveArgument(null, null, sortedRequest, null);
+    }
+
+    @Benchmark
+    public Object invalid() {
+        return pageableHandler.resolveArgument(null, null, invalidRequest, null);
+    }
+
+    private static NativeWebRequest request(String page, String size, String sort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/orders");
+        if (page != null) {
+            request.setParameter("page", page);
+        }
+        if (size != null) {
+            request.setParameter("size", size);
+        }
+        if (sort != null) {
+            request.setParameter("sort", sort);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -1,30 +1,206 @@
 package com.spartaclub.orderplatform.domain.ai.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.spartaclub.orderplatform.domain.ai.presentation.dto.AiResponseDto;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
+import java.text.Normalizer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
+/**
+ * AI 응답 캐시 (사용자별 생성 이력, 프롬프트 캐시, 같은 프롬프트 동시 호출 공유)
+ */
 @Service
 public class AiCacheService {
 
-    // 캐시에 저장된 데이터 조회
-    @Cacheable(value = "aiResponses", key = "#userId")
+    // 문자열 1개당 객체/배열 헤더 추정치 (bytes)
+    private static final int STRING_OVERHEAD = 56;
+    // 캐시 엔트리/리스트 노드 추정치 (bytes)
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    // userId -> 생성 이력 (불변 리스트, 오래된 순, 상품 등록 시 AiLog로 옮겨 저장)
+    private final Cache<Long, List<AiResponseDto>> histories;
+
+    // 정규화 프롬프트 -> 생성 결과 (사용자와 무관하게 같은 프롬프트는 외부 호출 없이 응답)
+    private final Cache<String, String> prompts;
+
+    // 정규화 프롬프트 -> 진행 중인 외부 호출
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final int historyPerUser;
+
+    private final Counter promptHitCounter;
+    private final Counter promptMissCounter;
+    private final Counter singleFlightJoinCounter;
+
+    public AiCacheService(
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.history-max-size:16MB}") DataSize historyMaxSize,
+            @Value("${ai.cache.history-ttl:30m}") Duration historyTtl,
+            @Value("${ai.cache.history-per-user:20}") int historyPerUser,
+            @Value("${ai.cache.prompt-max-size:32MB}") DataSize promptMaxSize,
+            @Value("${ai.cache.prompt-ttl:6h}") Duration promptTtl
+    ) {
+        this.historyPerUser = historyPerUser;
+
+        // 메모리 상한은 문자열 길이 기반 추정 바이트(weigher)로 계산
+        this.histories = Caffeine.newBuilder()
+                .maximumWeight(historyMaxSize.toBytes())
+                .weigher((Long userId, List<AiResponseDto> history) -> weighHistory(history))
+                .expireAfterWrite(historyTtl)
+                .build();
+
+        this.prompts = Caffeine.newBuilder()
+                .maximumWeight(promptMaxSize.toBytes())
+                .weigher((String prompt, String generated) ->
+                        ENTRY_OVERHEAD + sizeOf(prompt) + sizeOf(generated))
+                .expireAfterWrite(promptTtl)
+                .build();
+
+        this.promptHitCounter = Counter.builder("ai.cache.prompt.requests")
+                .tag("result", "hit").register(meterRegistry);
+        this.promptMissCounter = Counter.builder("ai.cache.prompt.requests")
+                .tag("result", "miss").register(meterRegistry);
+        this.singleFlightJoinCounter = Counter.builder("ai.cache.prompt.single-flight.joins")
+                .register(meterRegistry);
+
+        Gauge.builder("ai.cache.history.weight.bytes", histories, AiCacheService::weightedSize)
+                .register(meterRegistry);
+        Gauge.builder("ai.cache.prompt.weight.bytes", prompts, AiCacheService::weightedSize)
+                .register(meterRegistry);
+        Gauge.builder("ai.cache.prompt.size", prompts, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 프롬프트 캐시 조회, 없으면 generator로 생성 후 저장 (같은 프롬프트의 동시 요청은 진행 중인 호출을 함께 기다림)
+     *
+     * @param prompt    사용자 입력 프롬프트
+     * @param generator 캐시 미스 시 외부 AI 호출 (예외 발생 시 캐시하지 않고 그대로 전파, 빈 응답은 null 반환)
+     * @return 생성 결과 (빈 응답이면 캐시하지 않고 null)
+     */
+    public String getOrGenerate(String prompt, Function<String, String> generator) {
+        String key = normalize(prompt);
+        String cached = prompts.getIfPresent(key);
+        if (cached != null) {
+            promptHitCounter.increment();
+            return cached;
+        }
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            singleFlightJoinCounter.increment();
+            return await(running);
+        }
+
+        try {
+            // 선행 호출이 방금 끝났을 수 있으므로 한 번 더 확인
+            String generated = prompts.getIfPresent(key);
+            if (generated != null) {
+                promptHitCounter.increment();
+            } else {
+                promptMissCounter.increment();
+                generated = generator.apply(prompt);
+                // 빈 응답은 일시적일 수 있으므로 TTL 동안 고정하지 않음 (다음 요청에서 다시 호출)
+                if (generated != null) {
+                    prompts.put(key, generated);
+                }
+            }
+            call.complete(generated);
+            return generated;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // 사용자 생성 이력 조회 (오래된 순, 수정 가능한 사본)
     public List<AiResponseDto> getCachedResponses(Long userId) {
-        return new ArrayList<>(); // 캐시에 없으면 빈 리스트 반환
+        List<AiResponseDto> history = histories.getIfPresent(userId);
+        if (history == null) {
+            return new ArrayList<>();
+        }
+        List<AiResponseDto> copy = new ArrayList<>(history.size());
+        for (AiResponseDto response : history) {
+            copy.add(AiResponseDto.builder()
+                    .prompt(response.getPrompt())
+                    .generatedText(response.getGeneratedText())
+                    .isUsed(response.isUsed())
+                    .build());
+        }
+        return copy;
     }
 
-    // 캐시 데이터 업데이트
-    @CachePut(value = "aiResponses", key = "#userId")
-    public List<AiResponseDto> updateCachedResponses(Long userId, List<AiResponseDto> responses) {
-        return responses;
+    // 사용자 생성 이력 추가, 사용자당 최대 건수를 넘으면 가장 오래된 응답부터 제거
+    public void addResponse(Long userId, AiResponseDto response) {
+        histories.asMap().compute(userId, (id, history) -> {
+            List<AiResponseDto> next = new ArrayList<>(history == null ? List.of() : history);
+            next.add(response);
+            int overflow = next.size() - historyPerUser;
+            if (overflow > 0) {
+                next.subList(0, overflow).clear();
+            }
+            return List.copyOf(next);
+        });
     }
 
     // 캐시 비우기
-    @CacheEvict(value = "aiResponses", key = "#userId")
-    public void evictCache(Long userId) {}
+    public void evictCache(Long userId) {
+        histories.invalidate(userId);
+    }
+
+    // 공백 정리 + 유니코드 정규화 (표기만 다른 같은 프롬프트를 같은 키로)
+    static String normalize(String prompt) {
+        String normalized = Normalizer.normalize(prompt, Normalizer.Form.NFC);
+        return WHITESPACES.matcher(normalized.strip()).replaceAll(" ");
+    }
+
+    private static String await(CompletableFuture<String> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int weighHistory(List<AiResponseDto> history) {
+        int weight = ENTRY_OVERHEAD;
+        for (AiResponseDto response : history) {
+            weight += ENTRY_OVERHEAD + sizeOf(response.getPrompt())
+                    + sizeOf(response.getGeneratedText());
+        }
+        return weight;
+    }
+
+    private static int sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length() * 2;
+    }
+
+    private static double weightedSize(Cache<?, ?> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
 }
@@ -13,6 +13,7 @@ import com.google.genai.Client;
 import com.google.genai.types.GenerateContentResponse;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +23,9 @@ import static java.lang.Thread.sleep;
 @Slf4j
 public class AiService {
 
+    // 외부 AI가 빈 응답을 준 경우 사용자에게 돌려주는 문구 (프롬프트 캐시에는 저장하지 않음)
+    private static final String NO_RESPONSE = "AI 응답 없음";
+
     private final AiCacheService aiCacheService;
     private final AiLogRepository aiLogRepository;
     private final Client geminiClient;
@@ -41,19 +45,25 @@ public class AiService {
 
     /**
      * AI 응답 생성 후 캐시에 추가
+     * 같은 프롬프트는 프롬프트 캐시에서 응답하며, 동시에 들어온 같은 프롬프트는 외부 호출 1회를 공유
      */
     public String generateAiResponse(String prompt, Long userId) {
-        // AI 응답 생성
-        String generated = callExternalAi(prompt);
+        // AI 응답 생성 (오류 응답은 프롬프트 캐시에 저장하지 않음)
+        String generated;
+        try {
+            generated = Objects.requireNonNullElse(
+                    aiCacheService.getOrGenerate(prompt, this::callExternalAi), NO_RESPONSE);
+        } catch (Exception e) {
+            log.warn(e.getMessage());
+            generated = "AI 호출 중 오류 발생: " + e.getMessage();
+        }
 
-        // 캐시에 저장
-        List<AiResponseDto> responses = aiCacheService.getCachedResponses(userId);
-        responses.add(AiResponseDto.builder()
+        // 사용자 생성 이력에 저장
+        aiCacheService.addResponse(userId, AiResponseDto.builder()
                 .prompt(prompt)
                 .generatedText(generated)
                 .isUsed(false)
                 .build());
-        aiCacheService.updateCachedResponses(userId, responses);
 
         return generated;
     }
@@ -91,25 +101,19 @@ public class AiService {
         aiCacheService.evictCache(userId);
     }
 
-    // gemini api 호출
+    // gemini api 호출 (응답 텍스트가 없으면 null)
     private String callExternalAi(String prompt) {
-        try {
-            String promptWithLimit = "3줄 이내로 답변해주세요.\n" + prompt;
-
-            GenerateContentResponse response =
-                    geminiClient.models.generateContent("gemini-2.5-flash-lite", promptWithLimit, null);
-
-            return response.candidates().stream()
-                    .findFirst()
-                    .flatMap(c -> c.get(0).content())
-                    .flatMap(content -> content.parts().stream()
-                            .findFirst()
-                            .flatMap(part -> part.stream().findFirst().flatMap(Part::text))
-                    ).orElse("AI 응답 없음");
-        } catch (Exception e) {
-            log.warn(e.getMessage());
-            return "AI 호출 중 오류 발생: " + e.getMessage();
-        }
-
+        String promptWithLimit = "3줄 이내로 답변해주세요.\n" + prompt;
+
+        GenerateContentResponse response =
+                geminiClient.models.generateContent("gemini-2.5-flash-lite", promptWithLimit, null);
+
+        return response.candidates().stream()
+                .findFirst()
+                .flatMap(c -> c.get(0).content())
+                .flatMap(content -> content.parts().stream()
+                        .findFirst()
+                        .flatMap(part -> part.stream().findFirst().flatMap(Part::text))
+                ).orElse(null);
     }
 }
@@ -1,6 +1,7 @@
 package com.spartaclub.orderplatform.domain.ai.domain.entity;
 
 import com.spartaclub.orderplatform.global.domain.entity.BaseEntity;
+import com.spartaclub.orderplatform.global.domain.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedBy;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class AiLog extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID aiLogId;
 
     // Product 연결 (null 허용)
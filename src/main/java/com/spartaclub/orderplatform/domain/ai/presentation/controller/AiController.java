@@ -1,6 +1,7 @@
 package com.spartaclub.orderplatform.domain.ai.presentation.controller;
 
 import com.spartaclub.orderplatform.domain.ai.application.service.AiService;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,6 +16,7 @@ import static com.spartaclub.orderplatform.global.application.security.SecurityU
 @RestController
 @RequestMapping("/v1/products/ai")
 @RequiredArgsConstructor
+@SqlBudget(4)
 public class AiController {
 
     private final AiService aiService;
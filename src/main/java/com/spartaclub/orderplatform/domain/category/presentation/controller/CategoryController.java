@@ -5,6 +5,7 @@ import com.spartaclub.orderplatform.domain.category.presentation.dto.request.Cat
 import com.spartaclub.orderplatform.domain.category.presentation.dto.response.CategoryResponseDto;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -40,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/v1/categories")
 @RequiredArgsConstructor
+@SqlBudget(6)
 public class CategoryController {
 
     // 필드 선언
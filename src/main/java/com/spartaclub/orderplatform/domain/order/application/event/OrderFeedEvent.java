@@ -0,0 +1,29 @@
+package com.spartaclub.orderplatform.domain.order.application.event;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 가게별 실시간 주문 피드 이벤트
+public record OrderFeedEvent(
+    Type type,
+    UUID orderId,
+    UUID storeId,
+    OrderStatus status,
+    Long totalPrice,
+    Integer productCount,
+    LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        PLACED,             // 주문 생성
+        STATUS_CHANGED,     // 주문 상태 전이
+        PAYMENT_CAPTURED    // 결제 승인
+    }
+
+    public static OrderFeedEvent of(Type type, OrderReadModel view, LocalDateTime occurredAt) {
+        return new OrderFeedEvent(type, view.getOrderId(), view.getStoreId(), view.getStatus(),
+            view.getTotalPrice(), view.getProductCount(), occurredAt);
+    }
+}
@@ -0,0 +1,14 @@
+package com.spartaclub.orderplatform.domain.order.application.event;
+
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent.Type;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 노드 간 브로드캐스트하는 피드 신호 (받은 노드가 구독자가 있을 때만 조회 모델을 읽어 피드 이벤트로 변환)
+public record OrderFeedSignal(
+    Type type,
+    UUID orderId,
+    LocalDateTime occurredAt
+) {
+
+}
@@ -3,13 +3,17 @@ package com.spartaclub.orderplatform.domain.order.application.mapper;
 import com.spartaclub.orderplatform.domain.order.application.command.PlaceOrderCommand;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
 import com.spartaclub.orderplatform.domain.order.domain.model.OrderProduct;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
 import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto.OrderItemRequest;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderDetailResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Mapper(componentModel = "spring", imports = {OrderStatus.class})
 public interface OrderMapper {
@@ -32,6 +36,17 @@ public interface OrderMapper {
     @Mapping(source = "storeId", target = "storeId")
     OrdersResponseDto.OrderSummaryDto toSummaryDto(Order order);
 
+    // OrderReadModel -> OrderDetailResponseDto
+    @Mapping(source = "items", target = "productsList")
+    OrderDetailResponseDto toDto(OrderReadModel view);
+
+    // OrderReadModel.Item -> ProductsListItem
+    @Mapping(target = "totalPrice", expression = "java(item.price() * item.quantity())")
+    OrderDetailResponseDto.ProductsListItem toItem(OrderReadModel.Item item);
+
+    // OrderReadModel -> OrderSummaryDto
+    OrdersResponseDto.OrderSummaryDto toSummaryDto(OrderReadModel view);
+
     PlaceOrderCommand toCommand(OrderItemRequest requestDto);
 
     // Page -> PageableDto
@@ -47,4 +62,15 @@ public interface OrderMapper {
             page.isLast()
         );
     }
+
+    // Slice -> CursorDto (마지막 주문 기준으로 다음 커서 생성)
+    default OrdersResponseDto.CursorDto toCursorDto(Slice<OrderReadModel> slice) {
+        List<OrderReadModel> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            OrderReadModel last = content.get(content.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode();
+        }
+        return new OrdersResponseDto.CursorDto(slice.getSize(), slice.hasNext(), nextCursor);
+    }
 }
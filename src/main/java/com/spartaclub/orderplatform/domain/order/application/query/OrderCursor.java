@@ -0,0 +1,44 @@
+package com.spartaclub.orderplatform.domain.order.application.query;
+
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/*
+    키셋(커서) 페이지네이션 위치
+    (createdAt, orderId) 쌍을 불투명한 Base64 문자열로 주고받는다.
+ */
+public record OrderCursor(
+    LocalDateTime createdAt,
+    UUID orderId
+) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 값이면 첫 페이지(null)
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            return new OrderCursor(
+                LocalDateTime.parse(raw.substring(0, idx)),
+                UUID.fromString(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(OrderErrorCode.INVALID_CURSOR);
+        }
+    }
+}
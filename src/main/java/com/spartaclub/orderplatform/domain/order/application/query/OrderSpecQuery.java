@@ -3,10 +3,16 @@ package com.spartaclub.orderplatform.domain.order.application.query;
 import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 public record OrderSpecQuery(
     List<OrderStatus> status,
-    User viewer
+    User viewer,
+    Set<UUID> ownedStoreIds     // OWNER 가시성 판단용 소유 가게 ID (그 외 역할은 빈 집합)
 ) {
 
+    public OrderSpecQuery(List<OrderStatus> status, User viewer) {
+        this(status, viewer, Set.of());
+    }
 }
@@ -0,0 +1,30 @@
+package com.spartaclub.orderplatform.domain.order.application.service;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderArchiveRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 오래된 종료 주문 보관 이관 (운영 테이블과 인덱스를 최근 주문 크기로 유지)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    /**
+     * cutoff 이전에 생성된 종료 주문을 최대 chunkSize건 이관
+     *
+     * @return 이관한 주문 수 (chunkSize보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        // 복사와 삭제를 한 트랜잭션에서 수행 (중간에 실패해도 주문이 유실되거나 중복되지 않음)
+        return orderArchiveRepository.archiveBefore(OrderStatus.terminal(), cutoff, chunkSize,
+            LocalDateTime.now()).size();
+    }
+}
@@ -0,0 +1,44 @@
+package com.spartaclub.orderplatform.domain.order.application.service;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 없이 방치된 PAYMENT_PENDING 주문 만료 (청크 단위 집합 UPDATE)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExpiryService {
+
+    private static final Map<String, String> EXPIRED_PAYLOAD =
+        Map.of("status", OrderStatus.EXPIRED.name());
+
+    private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
+
+    /**
+     * cutoff 이전에 생성된 결제 대기 주문을 최대 chunkSize건 만료
+     *
+     * @return 만료한 주문 수 (chunkSize보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int expireChunk(LocalDateTime cutoff, int chunkSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> expired = orderRepository.expirePendingBefore(cutoff, chunkSize, now);
+        outboxService.appendAll(expired.stream()
+            .map(orderId -> OutboxEvent.of(OutboxEventType.ORDER_STATUS_CHANGED, orderId,
+                EXPIRED_PAYLOAD, now))
+            .toList());
+        return expired.size();
+    }
+}
@@ -0,0 +1,100 @@
+package com.spartaclub.orderplatform.domain.order.application.service;
+
+import static java.util.function.UnaryOperator.identity;
+
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent;
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent.Type;
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedSignal;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.infrastructure.feed.OrderFeedBroadcaster;
+import com.spartaclub.orderplatform.domain.order.infrastructure.feed.OrderFeedBus;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxAppendedEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 가게별 실시간 주문 피드: 구독 권한 확인, 주문/결제 변경을 커밋 시점에 모든 노드로 브로드캐스트해 피드 이벤트로 발행
+// (아웃박스 릴레이는 한 노드만 전달하고 폴링 간격만큼 늦으므로 피드에는 사용하지 않음)
+@Service
+@RequiredArgsConstructor
+public class OrderFeedService {
+
+    private static final String PAYMENT_CAPTURED = "CAPTURED";
+
+    private final OrderFeedBus orderFeedBus;
+    private final OrderFeedBroadcaster orderFeedBroadcaster;
+    private final OrderViewRepository orderViewRepository;
+    private final StoreAccessChecker storeAccessChecker;
+
+    @PostConstruct
+    void registerReceiver() {
+        orderFeedBroadcaster.onReceive(this::deliver);
+    }
+
+    // 가게 피드 구독 (OWNER는 본인 가게만, MANAGER/MASTER는 모든 가게)
+    public SseEmitter subscribe(UUID storeId, User viewer) {
+        storeAccessChecker.checkReadable(storeId, viewer);
+        return orderFeedBus.subscribe(storeId);
+    }
+
+    // 아웃박스 기록과 같은 트랜잭션에서 피드 신호 브로드캐스트 (커밋되어야 전달)
+    @EventListener
+    public void onAppended(OutboxAppendedEvent appended) {
+        orderFeedBroadcaster.broadcast(appended.events().stream()
+            .filter(OrderFeedService::isFeedEvent)
+            .map(event -> new OrderFeedSignal(feedTypeOf(event), orderIdOf(event),
+                event.getOccurredAt()))
+            .toList());
+    }
+
+    // 브로드캐스트로 받은 신호 → 이 노드의 구독자에게 발행 (구독 중인 가게가 있을 때만 조회 모델을 읽음)
+    public void deliver(List<OrderFeedSignal> signals) {
+        if (signals.isEmpty() || !orderFeedBus.hasSubscribers()) {
+            return;
+        }
+        Map<UUID, OrderReadModel> views = orderViewRepository.findAllById(
+                signals.stream().map(OrderFeedSignal::orderId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(OrderReadModel::getOrderId, identity()));
+
+        List<OrderFeedEvent> published = new ArrayList<>(signals.size());
+        for (OrderFeedSignal signal : signals) {
+            OrderReadModel view = views.get(signal.orderId());
+            if (view != null && orderFeedBus.hasSubscribers(view.getStoreId())) {
+                published.add(OrderFeedEvent.of(signal.type(), view, signal.occurredAt()));
+            }
+        }
+        orderFeedBus.publish(published);
+    }
+
+    // 결제 이벤트는 승인(CAPTURED)만 피드 대상
+    private static boolean isFeedEvent(OutboxEvent event) {
+        return event.getEventType() != OutboxEventType.PAYMENT_STATUS_CHANGED
+            || PAYMENT_CAPTURED.equals(event.attribute("status"));
+    }
+
+    private static UUID orderIdOf(OutboxEvent event) {
+        return event.getEventType() == OutboxEventType.PAYMENT_STATUS_CHANGED
+            ? UUID.fromString(event.attribute("orderId"))
+            : event.getAggregateId();
+    }
+
+    private static Type feedTypeOf(OutboxEvent event) {
+        return switch (event.getEventType()) {
+            case ORDER_PLACED -> Type.PLACED;
+            case ORDER_STATUS_CHANGED -> Type.STATUS_CHANGED;
+            case PAYMENT_STATUS_CHANGED -> Type.PAYMENT_CAPTURED;
+        };
+    }
+}
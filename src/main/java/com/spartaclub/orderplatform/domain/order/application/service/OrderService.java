@@ -7,22 +7,41 @@ import com.spartaclub.orderplatform.domain.order.application.dto.StoreInfoDto;
 import com.spartaclub.orderplatform.domain.order.application.mapper.OrderMapper;
 import com.spartaclub.orderplatform.domain.order.application.query.StoreQuery;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
-import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
 import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.ProductReaderRepository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
 import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.domain.order.exception.ProductRefErrorCode;
 import com.spartaclub.orderplatform.domain.order.exception.StoreRefErrorCode;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto.OrderItemRequest;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkOrderStatusResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkOrderStatusResponseDto.FailedOrder;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkPlaceOrderResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkPlaceOrderResponseDto.PlacedOrder;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderStatusResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.PlaceOrderResponseDto;
 import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
+import com.spartaclub.orderplatform.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -36,9 +55,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
     private final OrderMapper orderMapper;
     private final ProductReaderRepository productReaderRepository;
     private final StoreReaderRepository storeReaderRepository;
+    private final OutboxService outboxService;
 
     //주문 생성
     @Transactional
@@ -58,19 +79,68 @@ public class OrderService {
             placeOrderRequestDto.memo());
 
         order = orderRepository.save(order);
+        // 조회 모델은 감사 필드가 기록된 저장 결과로 같은 트랜잭션에서 생성
+        orderViewRepository.saveAll(List.of(OrderReadModel.of(order, storeInfoDto.ownerId())));
+        // 후속 처리(일별 통계 등)는 커밋 이후 아웃박스 릴레이가 전달, 실시간 피드는 커밋 시 브로드캐스트
+        outboxService.append(OutboxEventType.ORDER_PLACED, order.getOrderId(), placedPayload(order));
 
         return new PlaceOrderResponseDto(order.getOrderId());
     }
 
-    //주문 취소
+    //주문 일괄 생성: 가게/상품을 IN 조회 1회씩으로 검증하고 통과한 주문만 배치 INSERT, 결과는 요청 순번별로 반환
     @Transactional
-    public OrderStatusResponseDto cancelOrder(UserDetailsImpl userDetails, UUID orderId) {
-        User user = userDetails.getUser();
-        Order order = findById(orderId);
+    public BulkPlaceOrderResponseDto placeOrders(List<PlaceOrderRequestDto> requests, User user) {
+        Map<UUID, StoreSummary> stores = storeReaderRepository.loadStoreSummaryInfos(
+            requests.stream().map(PlaceOrderRequestDto::storeId).collect(Collectors.toSet()));
+        Map<UUID, Product> productMap = loadProductMap(
+            requests.stream().flatMap(request -> request.items().stream()).toList());
+
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+        List<BulkPlaceOrderResponseDto.FailedOrder> failedOrders = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            PlaceOrderRequestDto request = requests.get(index);
+            Optional<ErrorCode> error = validatePlaceable(request, stores, productMap);
+            if (error.isPresent()) {
+                failedOrders.add(
+                    new BulkPlaceOrderResponseDto.FailedOrder(index, error.get().getCode()));
+                continue;
+            }
 
-        //상태 검증 및 변경, 5분 이내의 주문만 취소 가능
-        order.checkCancelable();
-        order.changeStatus(OrderStatus.CANCELED);
+            List<PlaceOrderCommand> commands = request.items().stream()
+                .map(orderMapper::toCommand).toList();
+            orders.add(Order.place(user, request.storeId(), commands, productMap,
+                request.address(), request.memo()));
+            orderIndexes.add(index);
+        }
+
+        // 주문/주문 상품 INSERT는 커밋 시점에 테이블별로 묶여 배치 실행
+        List<Order> saved = orderRepository.saveAll(orders);
+        List<PlacedOrder> placedOrders = new ArrayList<>(saved.size());
+        List<OrderReadModel> views = new ArrayList<>(saved.size());
+        List<OutboxEvent> events = new ArrayList<>(saved.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < saved.size(); i++) {
+            Order order = saved.get(i);
+            placedOrders.add(new PlacedOrder(orderIndexes.get(i), order.getOrderId()));
+            views.add(OrderReadModel.of(order, stores.get(order.getStoreId()).ownerId()));
+            events.add(OutboxEvent.of(OutboxEventType.ORDER_PLACED, order.getOrderId(),
+                placedPayload(order), now));
+        }
+        orderViewRepository.saveAll(views);
+        outboxService.appendAll(events);
+
+        if (!failedOrders.isEmpty()) {
+            log.warn("[Order-Place] 일괄 주문 일부 실패 - requested={}, failed={}",
+                requests.size(), failedOrders.size());
+        }
+        return new BulkPlaceOrderResponseDto(placedOrders, failedOrders);
+    }
+
+    //주문 취소 (5분 이내의 주문만 취소 가능)
+    @Transactional
+    public OrderStatusResponseDto cancelOrder(UserDetailsImpl userDetails, UUID orderId) {
+        transition(orderId, OrderTransition.CANCEL);
 
         return OrderStatusResponseDto.ofCanceled(orderId);
     }
@@ -78,11 +148,7 @@ public class OrderService {
     //주문 승인
     @Transactional
     public OrderStatusResponseDto acceptOrder(UserDetailsImpl userDetails, UUID orderId) {
-        Order order = findById(orderId);
-
-        //상태 검증 및 변경
-        order.checkAcceptable();
-        order.changeStatus(OrderStatus.ACCEPTED);
+        transition(orderId, OrderTransition.ACCEPT);
 
         return OrderStatusResponseDto.ofAccepted(orderId);
     }
@@ -90,11 +156,7 @@ public class OrderService {
     //주문 거부
     @Transactional
     public OrderStatusResponseDto rejectOrder(UserDetailsImpl userDetails, UUID orderId) {
-        Order order = findById(orderId);
-
-        //상태 검증 및 변경
-        order.checkRejectable();
-        order.changeStatus(OrderStatus.REJECTED);
+        transition(orderId, OrderTransition.REJECT);
 
         return OrderStatusResponseDto.ofRejected(orderId);
     }
@@ -102,19 +164,133 @@ public class OrderService {
     //주문 배달 완료
     @Transactional
     public OrderStatusResponseDto completeDelivery(UserDetailsImpl userDetails, UUID orderId) {
+        transition(orderId, OrderTransition.COMPLETE_DELIVERY);
+
+        return OrderStatusResponseDto.ofDelivered(orderId);
+    }
+
+    //주문 일괄 승인 (본인 가게 주문만)
+    @Transactional
+    public BulkOrderStatusResponseDto acceptOrders(UserDetailsImpl userDetails,
+        List<UUID> orderIds) {
+        return transitionAll(ownedStoreIds(userDetails), orderIds, OrderTransition.ACCEPT);
+    }
+
+    //주문 일괄 거부 (본인 가게 주문만)
+    @Transactional
+    public BulkOrderStatusResponseDto rejectOrders(UserDetailsImpl userDetails,
+        List<UUID> orderIds) {
+        return transitionAll(ownedStoreIds(userDetails), orderIds, OrderTransition.REJECT);
+    }
+
+    // 결제 결과(PG 통지) 반영: 전이 가능한 주문만 일괄 전이하고 나머지는 무시, 전이된 주문 ID 반환
+    @Transactional
+    public List<UUID> applyPaymentResult(Collection<UUID> orderIds, OrderTransition transition) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> updated = orderRepository.transitionAll(orderIds, transition, now);
+        outboxService.appendAll(updated.stream()
+            .map(orderId -> OutboxEvent.of(OutboxEventType.ORDER_STATUS_CHANGED, orderId,
+                statusPayload(transition), now))
+            .toList());
+        return updated;
+    }
+
+    // 조건부 UPDATE 1회로 상태 전이, 반영되지 않은 경우에만 주문을 조회해 실패 사유 판별
+    private void transition(UUID orderId, OrderTransition transition) {
+        if (orderRepository.transition(orderId, transition, LocalDateTime.now())) {
+            outboxService.append(OutboxEventType.ORDER_STATUS_CHANGED, orderId,
+                statusPayload(transition));
+            return;
+        }
+
         Order order = findById(orderId);
+        transition.validate(order);
 
-        //상태 검증 및 변경
-        order.checkDeliverable();
-        order.changeStatus(OrderStatus.DELIVERED);
+        // 검증을 통과했다면 UPDATE 이후 다른 요청이 상태를 바꾼 경우
+        log.warn("[Order-Transition] 동시 상태 변경 감지 - orderId={}, transition={}, currentStatus={}",
+            orderId, transition, order.getStatus());
+        throw new BusinessException(transition.getErrorCode());
+    }
 
-        return OrderStatusResponseDto.ofDelivered(orderId);
+    // 오너의 가게 ID (캐시)
+    private Set<UUID> ownedStoreIds(UserDetailsImpl userDetails) {
+        return storeReaderRepository.loadStoreIdsByOwner(userDetails.getUser().getUserId());
+    }
+
+    // 가게 범위 일괄 상태 전이, 전이되지 않은 주문은 없는 주문(다른 가게 포함)이면 NOT_EXIST, 그 외는 전이 불가 에러 코드로 응답
+    private BulkOrderStatusResponseDto transitionAll(Set<UUID> storeIds, List<UUID> orderIds,
+        OrderTransition transition) {
+        Set<UUID> requested = new LinkedHashSet<>(orderIds);
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> updated = storeIds.isEmpty() ? Set.of() : new HashSet<>(
+            orderRepository.transitionAllInStores(requested, storeIds, transition, now));
+
+        // 실패가 있을 때만 존재 여부 조회 (다른 가게 주문은 존재를 드러내지 않도록 없는 주문으로 응답)
+        List<UUID> notUpdated = requested.stream()
+            .filter(orderId -> !updated.contains(orderId))
+            .toList();
+        Set<UUID> existing = notUpdated.isEmpty() || storeIds.isEmpty() ? Set.of()
+            : new HashSet<>(orderRepository.findIdsInStores(notUpdated, storeIds));
+
+        List<UUID> updatedOrderIds = new ArrayList<>();
+        List<FailedOrder> failedOrders = new ArrayList<>();
+        for (UUID orderId : requested) {
+            if (updated.contains(orderId)) {
+                updatedOrderIds.add(orderId);
+            } else {
+                ErrorCode errorCode = existing.contains(orderId)
+                    ? transition.getErrorCode() : OrderErrorCode.NOT_EXIST;
+                failedOrders.add(new FailedOrder(orderId, errorCode.getCode()));
+            }
+        }
+
+        outboxService.appendAll(updatedOrderIds.stream()
+            .map(orderId -> OutboxEvent.of(OutboxEventType.ORDER_STATUS_CHANGED, orderId,
+                statusPayload(transition), now))
+            .toList());
+        if (!failedOrders.isEmpty()) {
+            log.warn("[Order-Transition] 일괄 전이 일부 실패 - transition={}, requested={}, failed={}",
+                transition, requested.size(), failedOrders.size());
+        }
+        return new BulkOrderStatusResponseDto(transition.getTarget(), updatedOrderIds,
+            failedOrders);
+    }
+
+    private static Map<String, String> placedPayload(Order order) {
+        return Map.of("storeId", order.getStoreId().toString(),
+            "status", order.getStatus().name());
+    }
+
+    private static Map<String, String> statusPayload(OrderTransition transition) {
+        return Map.of("status", transition.getTarget().name());
+    }
+
+    // 일괄 주문 건별 검증: 가게 존재, 상품 존재 및 해당 가게 상품 여부
+    private Optional<ErrorCode> validatePlaceable(PlaceOrderRequestDto request,
+        Map<UUID, StoreSummary> stores, Map<UUID, Product> products) {
+        if (!stores.containsKey(request.storeId())) {
+            return Optional.of(StoreRefErrorCode.NOT_EXIST);
+        }
+        for (OrderItemRequest item : request.items()) {
+            Product product = products.get(item.productId());
+            if (product == null) {
+                return Optional.of(ProductRefErrorCode.NOT_EXIST);
+            }
+            if (!request.storeId().equals(product.getStore().getStoreId())) {
+                return Optional.of(ProductRefErrorCode.STORE_MISMATCH);
+            }
+        }
+        return Optional.empty();
     }
 
     // 상품 로딩(IN) → id->Product 맵
     private Map<UUID, Product> loadProductMap(List<OrderItemRequest> items) {
         List<UUID> ids = items.stream()
             .map(OrderItemRequest::productId)
+            .distinct()
             .toList();
 
         return productReaderRepository.findByProductIdIn(ids).stream()
@@ -0,0 +1,104 @@
+package com.spartaclub.orderplatform.domain.order.application.service;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 조회 모델 정합성 보정 (도입 이전 주문의 누락분 생성과 누적 불일치 보정)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewService {
+
+    private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final StoreReaderRepository storeReaderRepository;
+
+    /**
+     * after 이후 주문 한 청크를 조회 모델과 비교해 누락분은 생성, 상태가 다른 행은 주문 기준으로 덮어씀
+     *
+     * @param after     이전 청크의 마지막 주문 위치
+     * @param chunkSize 청크 크기
+     * @return 검사한 주문 수, 생성 수, 보정 수, 마지막 주문 위치
+     */
+    @Transactional
+    public ReconcileResult reconcileChunk(OrderCursor after, int chunkSize) {
+        List<Order> chunk = orderRepository.findChunkWithProducts(after, chunkSize);
+        if (chunk.isEmpty()) {
+            return new ReconcileResult(0, 0, 0, null);
+        }
+
+        Map<UUID, OrderReadModel> views = orderViewRepository.findAllById(
+                chunk.stream().map(Order::getOrderId).toList()).stream()
+            .collect(Collectors.toMap(OrderReadModel::getOrderId, Function.identity()));
+
+        List<Order> missing = new ArrayList<>();
+        int corrected = 0;
+        for (Order order : chunk) {
+            OrderReadModel view = views.get(order.getOrderId());
+            if (view == null) {
+                missing.add(order);
+            } else if (view.isDriftedFrom(order)) {
+                view.syncWith(order); // 변경 감지로 UPDATE
+                corrected++;
+            }
+        }
+
+        int created = 0;
+        if (!missing.isEmpty()) {
+            Map<UUID, StoreSummary> stores = storeReaderRepository.loadStoreSummaryInfos(
+                missing.stream().map(Order::getStoreId).collect(Collectors.toSet()));
+            List<OrderReadModel> createdViews = new ArrayList<>(missing.size());
+            for (Order order : missing) {
+                StoreSummary store = stores.get(order.getStoreId());
+                if (store == null) {
+                    log.warn("[OrderView] 가게 없음으로 조회 모델 생성 생략 - orderId={}, storeId={}",
+                        order.getOrderId(), order.getStoreId());
+                    continue;
+                }
+                createdViews.add(OrderReadModel.of(order, store.ownerId()));
+            }
+            orderViewRepository.saveAll(createdViews);
+            created = createdViews.size();
+        }
+
+        if (created > 0 || corrected > 0) {
+            log.warn("[OrderView] 조회 모델 보정 - created={}, corrected={}", created, corrected);
+        }
+
+        Order last = chunk.get(chunk.size() - 1);
+        return new ReconcileResult(chunk.size(), created, corrected,
+            new OrderCursor(last.getCreatedAt(), last.getOrderId()));
+    }
+
+    // 조회 모델이 없는 주문이 있는지 (기동 시 백필 필요 여부)
+    @Transactional(readOnly = true)
+    public boolean hasMissingViews() {
+        return orderViewRepository.existsOrderWithoutView();
+    }
+
+    public record ReconcileResult(
+        int scanned,          // 검사한 주문 수
+        int created,          // 생성한 조회 모델 수
+        int corrected,        // 보정한 조회 모델 수
+        OrderCursor last      // 다음 청크 시작 기준
+    ) {
+
+    }
+}
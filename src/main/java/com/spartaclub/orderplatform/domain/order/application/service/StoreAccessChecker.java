@@ -0,0 +1,33 @@
+package com.spartaclub.orderplatform.domain.order.application.service;
+
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.exception.AuthErrorCode;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 가게 단위 조회 권한 확인 (OWNER는 본인 가게만, MANAGER/MASTER는 모든 가게)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreAccessChecker {
+
+    private final StoreReaderRepository storeReaderRepository;
+
+    public void checkReadable(UUID storeId, User viewer) {
+        boolean allowed = switch (viewer.getRole()) {
+            case OWNER -> storeReaderRepository.loadStoreIdsByOwner(viewer.getUserId())
+                .contains(storeId);
+            case MANAGER, MASTER -> true;
+            default -> false;
+        };
+        if (!allowed) {
+            log.warn("[StoreAccess] 가게 조회 권한 없음 - role={}, viewerId={}, storeId={}",
+                viewer.getRole(), viewer.getUserId(), storeId);
+            throw new BusinessException(AuthErrorCode.FORBIDDEN);
+        }
+    }
+}
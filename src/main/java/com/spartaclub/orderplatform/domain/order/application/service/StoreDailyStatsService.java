@@ -0,0 +1,157 @@
+package com.spartaclub.orderplatform.domain.order.application.service;
+
+import static java.util.function.UnaryOperator.identity;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsDelta;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsId;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreDailyStatsRepository;
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.StoreDailyStatsResponseDto;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxEventHandler;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가게 일별 매출 집계: 아웃박스로 전달된 결제 승인/환불, 배달 완료/취소를 증분 반영하고 기간 조회에 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreDailyStatsService implements OutboxEventHandler {
+
+    // 여러 노드가 같은 행들을 갱신할 때 교착을 피하기 위한 고정 순서
+    private static final Comparator<StoreDailyStatsDelta> APPLY_ORDER =
+        Comparator.comparing(StoreDailyStatsDelta::storeId)
+            .thenComparing(StoreDailyStatsDelta::statDate);
+
+    private final StoreDailyStatsRepository storeDailyStatsRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final StoreAccessChecker storeAccessChecker;
+
+    @Value("${order.stats.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Override
+    public Set<OutboxEventType> supports() {
+        return EnumSet.of(OutboxEventType.ORDER_STATUS_CHANGED,
+            OutboxEventType.PAYMENT_STATUS_CHANGED);
+    }
+
+    @Override
+    @Transactional
+    public void handle(List<OutboxEvent> events) {
+        List<OutboxEvent> statsEvents = events.stream()
+            .filter(StoreDailyStatsService::isStatsEvent)
+            .toList();
+        if (statsEvents.isEmpty()) {
+            return;
+        }
+
+        // 반영한 이벤트 ID를 같은 트랜잭션에 기록하므로 재전달된 이벤트는 건너뜀
+        Set<UUID> applied = storeDailyStatsRepository.findAppliedEventIds(
+            statsEvents.stream().map(OutboxEvent::getEventId).toList());
+        List<OutboxEvent> fresh = statsEvents.stream()
+            .filter(event -> !applied.contains(event.getEventId()))
+            .toList();
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        // 가게 ID/주문 금액은 조회 모델에서 일괄 조회 (결제 금액은 승인 시 주문 총액과 같음을 검증함)
+        Map<UUID, OrderReadModel> views = orderViewRepository.findAllById(
+                fresh.stream().map(StoreDailyStatsService::orderIdOf).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(OrderReadModel::getOrderId, identity()));
+
+        // 가게/일자별로 합산해 행마다 UPSERT 1회만 실행
+        Map<StoreDailyStatsId, StoreDailyStatsDelta> deltas = new HashMap<>();
+        for (OutboxEvent event : fresh) {
+            OrderReadModel view = views.get(orderIdOf(event));
+            if (view == null) {
+                log.warn("[StoreDailyStats] 조회 모델 없음, 집계 제외 - eventId={}, orderId={}",
+                    event.getEventId(), orderIdOf(event));
+                continue;
+            }
+            StoreDailyStatsDelta delta = toDelta(event, view);
+            deltas.merge(new StoreDailyStatsId(delta.storeId(), delta.statDate()), delta,
+                StoreDailyStatsDelta::plus);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.values().stream()
+            .sorted(APPLY_ORDER)
+            .forEach(delta -> storeDailyStatsRepository.increment(delta, now));
+        storeDailyStatsRepository.markApplied(
+            fresh.stream().map(OutboxEvent::getEventId).toList(), now);
+    }
+
+    // 기간 조회: 일자 수만큼의 집계 행만 읽고, 집계가 없는 일자는 0으로 채움
+    @Transactional(readOnly = true)
+    public StoreDailyStatsResponseDto getDailyStats(UUID storeId, LocalDate from, LocalDate to,
+        User viewer) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            log.warn("[StoreDailyStats] 조회 기간 오류 - from={}, to={}, maxRangeDays={}", from, to,
+                maxRangeDays);
+            throw new BusinessException(OrderErrorCode.INVALID_STATS_RANGE);
+        }
+        storeAccessChecker.checkReadable(storeId, viewer);
+
+        return StoreDailyStatsResponseDto.of(storeId, from, to,
+            storeDailyStatsRepository.findAllByStoreIdBetween(storeId, from, to));
+    }
+
+    // 결제는 승인/환불, 주문은 배달 완료/고객 취소만 집계 대상
+    private static boolean isStatsEvent(OutboxEvent event) {
+        String status = event.attribute("status");
+        return switch (event.getEventType()) {
+            case PAYMENT_STATUS_CHANGED -> PaymentStatus.CAPTURED.name().equals(status)
+                || PaymentStatus.REFUNDED.name().equals(status);
+            case ORDER_STATUS_CHANGED -> OrderStatus.DELIVERED.name().equals(status)
+                || OrderStatus.CANCELED.name().equals(status);
+            default -> false;
+        };
+    }
+
+    private static UUID orderIdOf(OutboxEvent event) {
+        return event.getEventType() == OutboxEventType.PAYMENT_STATUS_CHANGED
+            ? UUID.fromString(event.attribute("orderId"))
+            : event.getAggregateId();
+    }
+
+    // 이벤트 발생 일자 기준 집계 (환불은 승인 일자가 아닌 환불 일자에 반영)
+    private static StoreDailyStatsDelta toDelta(OutboxEvent event, OrderReadModel view) {
+        UUID storeId = view.getStoreId();
+        LocalDate statDate = event.getOccurredAt().toLocalDate();
+        String status = event.attribute("status");
+        if (event.getEventType() == OutboxEventType.PAYMENT_STATUS_CHANGED) {
+            return PaymentStatus.CAPTURED.name().equals(status)
+                ? StoreDailyStatsDelta.paid(storeId, statDate, view.getTotalPrice())
+                : StoreDailyStatsDelta.refunded(storeId, statDate, view.getTotalPrice());
+        }
+        return OrderStatus.DELIVERED.name().equals(status)
+            ? StoreDailyStatsDelta.delivered(storeId, statDate)
+            : StoreDailyStatsDelta.canceled(storeId, statDate);
+    }
+}
@@ -1,7 +1,7 @@
 package com.spartaclub.orderplatform.domain.order.application.service.query;
 
 
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.GetOrdersRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderDetailResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
@@ -31,10 +31,10 @@ public class OrderCustomerQueryService implements OrderRoleQuery {
 
     @Override
     public OrderDetailResponseDto getOrderDetail(UUID orderId, User viewer) {
-        Order order = orderReader.findById(orderId);
+        OrderReadModel order = orderReader.findById(orderId);
 
         // 본인 주문만
-        Long odererId = order.getUser().getUserId();
+        Long odererId = order.getUserId();
         Long viewerId = viewer.getUserId();
         if (!odererId.equals(viewerId)) {
             log.warn(
@@ -1,10 +1,8 @@
 package com.spartaclub.orderplatform.domain.order.application.service.query;
 
-import com.spartaclub.orderplatform.domain.order.application.dto.StoreInfoDto;
-import com.spartaclub.orderplatform.domain.order.application.query.StoreQuery;
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
 import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
-import com.spartaclub.orderplatform.domain.order.exception.StoreRefErrorCode;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.GetOrdersRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderDetailResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
@@ -35,36 +33,28 @@ public class OrderOwnerQueryService implements OrderRoleQuery {
 
     @Override
     public OrderDetailResponseDto getOrderDetail(UUID orderId, User viewer) {
-        Order order = orderReader.findById(orderId);
+        OrderReadModel order = orderReader.findById(orderId);
 
-        StoreQuery storeQuery = new StoreQuery(order.getStoreId());
-        StoreInfoDto storeInfoDto = loadStoreSummaryInfo(storeQuery,
-            viewer.getUserId());
-
-        // 본인 가게 주문만
-        Long storeOwnerId = storeInfoDto.ownerId();
+        // 본인 가게 주문만 (소유 가게 ID는 메모리 캐시에서 확인)
         Long viewerUserId = viewer.getUserId();
-        if (!storeOwnerId.equals(viewerUserId)) {
+        if (!storeReaderRepository.loadStoreIdsByOwner(viewerUserId).contains(order.getStoreId())) {
             log.warn(
-                "OWNER는 본인 가게의 주문만 조회할 수 있습니다. : role={}, viewerId={}, storeOwnerId={}, orderId={}",
-                viewer.getRole(), viewerUserId, storeOwnerId, orderId);
+                "OWNER는 본인 가게의 주문만 조회할 수 있습니다. : role={}, viewerId={}, storeId={}, orderId={}",
+                viewer.getRole(), viewerUserId, order.getStoreId(), orderId);
             throw new BusinessException(AuthErrorCode.FORBIDDEN);
         }
         return orderMapper.toDto(order);
     }
 
+    @Override
+    public OrderSpecQuery toSpecQuery(GetOrdersRequestDto requestDto, User viewer) {
+        return new OrderSpecQuery(requestDto.status(), viewer,
+            storeReaderRepository.loadStoreIdsByOwner(viewer.getUserId()));
+    }
+
     @Override
     public OrdersResponseDto getOrders(GetOrdersRequestDto requestDto, User viewer,
         Pageable pageable) {
         return getOrdersCommon(requestDto, viewer, pageable, orderReader, orderMapper);
     }
-
-    private StoreInfoDto loadStoreSummaryInfo(StoreQuery query, Long userId) {
-        return storeReaderRepository.loadStoreSummaryInfo(query.storeId())
-            .map(StoreInfoDto::from)
-            .orElseThrow(() -> {
-                log.warn("[Store] NOT_EXIST - storeId={}, userId={}", query.storeId(), userId);
-                return new BusinessException(StoreRefErrorCode.NOT_EXIST);
-            });
-    }
 }
@@ -1,15 +1,24 @@
 package com.spartaclub.orderplatform.domain.order.application.service.query;
 
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
 import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderArchive;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderArchiveRepository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
 import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,18 +28,49 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 class OrderReader {
 
+    // 주문 애그리거트 대신 비정규화 조회 모델에서 단일 인덱스 조회로 응답
+    private final OrderViewRepository orderViewRepository;
+    // 보관 이관된 과거 주문 (상세는 운영에 없을 때만, 목록은 이력 요청일 때만 조회)
+    private final OrderArchiveRepository orderArchiveRepository;
+    // 조회 모델이 아직 없는 주문 (도입 이전 주문은 기동 시 백필이 끝나기 전까지 애그리거트로 응답)
     private final OrderRepository orderRepository;
+    private final StoreReaderRepository storeReaderRepository;
 
-    Order findById(UUID orderId) {
-        return orderRepository.findById(orderId)
+    OrderReadModel findById(UUID orderId) {
+        return orderViewRepository.findById(orderId)
+            .or(() -> findFromAggregate(orderId))
+            .or(() -> orderArchiveRepository.findById(orderId).map(OrderArchive::toReadModel))
             .orElseThrow(() -> {
                 log.warn("[OrderReader] NOT_EXIST - orderId={}", orderId);
                 return new BusinessException(OrderErrorCode.NOT_EXIST);
             });
     }
 
-    Page<Order> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable) {
-        return orderRepository.findAll(orderSpecQuery, pageable);
+    // 주문 애그리거트로 조회 모델을 만들어 응답 (저장하지 않음, 백필은 OrderViewScheduler가 담당)
+    private Optional<OrderReadModel> findFromAggregate(UUID orderId) {
+        return orderRepository.findById(orderId).map(order -> {
+            StoreSummary store = storeReaderRepository.loadStoreSummaryInfos(
+                Set.of(order.getStoreId())).get(order.getStoreId());
+            return OrderReadModel.of(order, store == null ? null : store.ownerId());
+        });
+    }
+
+    Page<OrderReadModel> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable,
+        boolean history) {
+        if (history) {
+            return orderArchiveRepository.findAll(orderSpecQuery, pageable)
+                .map(OrderArchive::toReadModel);
+        }
+        return orderViewRepository.findAll(orderSpecQuery, pageable);
+    }
+
+    Slice<OrderReadModel> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor, int size,
+        boolean history) {
+        if (history) {
+            return orderArchiveRepository.findSlice(orderSpecQuery, cursor, size)
+                .map(OrderArchive::toReadModel);
+        }
+        return orderViewRepository.findSlice(orderSpecQuery, cursor, size);
     }
 
 }
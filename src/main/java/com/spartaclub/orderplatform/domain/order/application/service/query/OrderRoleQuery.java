@@ -1,8 +1,9 @@
 package com.spartaclub.orderplatform.domain.order.application.service.query;
 
 import com.spartaclub.orderplatform.domain.order.application.mapper.OrderMapper;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
 import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.GetOrdersRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderDetailResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 
 //주문 조회 전략 인터페이스
@@ -30,13 +32,23 @@ public interface OrderRoleQuery {
         User user,
         Pageable pageable);
 
+    // 목록 조회 조건 (역할별 추가 조건이 있으면 오버라이드)
+    default OrderSpecQuery toSpecQuery(GetOrdersRequestDto requestDto, User viewer) {
+        return new OrderSpecQuery(requestDto.status(), viewer);
+    }
+
     // 공통 구현: 다르면 오버라이드
     default OrdersResponseDto getOrdersCommon(
         GetOrdersRequestDto requestDto, User viewer, Pageable pageable,
         OrderReader orderReader, OrderMapper orderMapper
     ) {
-        OrderSpecQuery orderSpecQuery = new OrderSpecQuery(requestDto.status(), viewer);
-        Page<Order> orders = orderReader.findAll(orderSpecQuery, pageable);
+        OrderSpecQuery orderSpecQuery = toSpecQuery(requestDto, viewer);
+        if (requestDto.isCursorMode()) {
+            return getOrdersByCursorCommon(requestDto, orderSpecQuery, pageable, orderReader,
+                orderMapper);
+        }
+        Page<OrderReadModel> orders = orderReader.findAll(orderSpecQuery, pageable,
+            requestDto.isHistory());
 
         List<OrderSummaryDto> ordersList = orders.getContent().stream()
             .map(orderMapper::toSummaryDto)
@@ -45,4 +57,20 @@ public interface OrderRoleQuery {
         OrdersResponseDto.PageableDto meta = orderMapper.toPageableDto(orders);
         return new OrdersResponseDto(ordersList, meta);
     }
+
+    // 커서 모드: page 번호는 무시하고 size만 사용, COUNT 쿼리 없음
+    default OrdersResponseDto getOrdersByCursorCommon(
+        GetOrdersRequestDto requestDto, OrderSpecQuery orderSpecQuery, Pageable pageable,
+        OrderReader orderReader, OrderMapper orderMapper
+    ) {
+        OrderCursor cursor = OrderCursor.decode(requestDto.cursor());
+        Slice<OrderReadModel> orders = orderReader.findSlice(orderSpecQuery, cursor,
+            pageable.getPageSize(), requestDto.isHistory());
+
+        List<OrderSummaryDto> ordersList = orders.getContent().stream()
+            .map(orderMapper::toSummaryDto)
+            .collect(Collectors.toList());
+
+        return new OrdersResponseDto(ordersList, orderMapper.toCursorDto(orders));
+    }
 }
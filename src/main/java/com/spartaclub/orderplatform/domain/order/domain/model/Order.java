@@ -6,6 +6,7 @@ import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
 import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import com.spartaclub.orderplatform.global.domain.entity.BaseEntity;
+import com.spartaclub.orderplatform.global.domain.id.TimeOrderedUuid;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -14,6 +15,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,17 +32,23 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.annotations.UuidGenerator;
 
 @Entity
-@Table(name = "p_orders")
+@Table(name = "p_orders", indexes = {
+    // 키셋 페이지네이션 정렬 키
+    @Index(name = "idx_orders_created_at_order_id", columnList = "createdAt, order_id"),
+    // OWNER 가시성(store_id IN) + 상태 필터
+    @Index(name = "idx_orders_store_status_created", columnList = "store_id, status, createdAt"),
+    // 결제 대기 만료 스윕 (status = PAYMENT_PENDING AND createdAt < cutoff)
+    @Index(name = "idx_orders_status_created", columnList = "status, createdAt")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Slf4j
 public class Order extends BaseEntity {
 
     @Id
-    @UuidGenerator
+    @TimeOrderedUuid
     @Column(name = "order_id", nullable = false, updatable = false, columnDefinition = "uuid")
     private UUID orderId;
 
@@ -118,13 +126,19 @@ public class Order extends BaseEntity {
             throw new BusinessException(OrderErrorCode.INVALID_CREATED_TIME);
         }
 
-        long elapsedMinutes = Duration.between(created, LocalDateTime.now()).toMinutes();
-        if (elapsedMinutes > CANCEL_WINDOW_MINUTES) {
-            log.warn("[Order-Validate] 주문 취소 불가 상태 감지 - 주문 생성 후 경과 시간(분)={}", elapsedMinutes);
+        LocalDateTime now = LocalDateTime.now();
+        if (!created.isAfter(cancelDeadline(now))) {
+            log.warn("[Order-Validate] 주문 취소 불가 상태 감지 - 주문 생성 후 경과 시간(분)={}",
+                Duration.between(created, now).toMinutes());
             throw new BusinessException(OrderErrorCode.CANCELLATION_WINDOW_EXPIRED);
         }
     }
 
+    //취소 가능 기준 시각 (이 시각 이후 생성된 주문만 취소 가능)
+    public static LocalDateTime cancelDeadline(LocalDateTime now) {
+        return now.minusMinutes(CANCEL_WINDOW_MINUTES);
+    }
+
     //주문 승인 가능 여부 검증
     public void checkAcceptable() {
         if (status.isNotPaid()) {
@@ -142,6 +156,23 @@ public class Order extends BaseEntity {
         }
     }
 
+    //결제 완료 반영 가능 여부
+    public void checkPayable() {
+        if (status.isNotPending()) {
+            log.warn("[Order-Validate] 결제 완료 반영 불가 상태 감지 - requiredStatus={}, currentStatus={}",
+                OrderStatus.PAYMENT_PENDING, status);
+            throw new BusinessException(OrderErrorCode.INVALID_STATUS_FOR_PAYMENT);
+        }
+    }
+
+    //결제 취소에 따른 주문 취소 가능 여부 (취소 기한 없음)
+    public void checkPaymentCancelable() {
+        if (status.isNotPending() && status.isNotPaid()) {
+            log.warn("[Order-Validate] 결제 취소 반영 불가 상태 감지 - currentStatus={}", status);
+            throw new BusinessException(OrderErrorCode.INVALID_STATUS_FOR_CANCELLATION);
+        }
+    }
+
     //주문 배달 완료 처리 가능 여부
     public void checkDeliverable() {
         if (status.isNotAccepted()) {
@@ -0,0 +1,104 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 보관(콜드) 주문: 오래된 종료 주문을 주문 상품 스냅샷/결제 요약과 함께 한 행으로 보관
+ */
+@Entity
+@Table(name = "p_order_archives", indexes = {
+    @Index(name = "idx_order_archives_user_created", columnList = "user_id, created_at, order_id"),
+    @Index(name = "idx_order_archives_store_status_created", columnList = "store_id, status, created_at"),
+    @Index(name = "idx_order_archives_created", columnList = "created_at, order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OrderArchive {
+
+    @Id
+    @Column(name = "order_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID orderId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private UUID storeId;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "total_price", nullable = false, updatable = false)
+    private Long totalPrice;
+
+    @Column(name = "product_count", nullable = false, updatable = false)
+    private Integer productCount;
+
+    @Column(name = "address", length = 255, updatable = false)
+    private String address;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 40, updatable = false)
+    private OrderStatus status;
+
+    @Column(name = "memo", length = 100, updatable = false)
+    private String memo;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "items", nullable = false, updatable = false)
+    private List<OrderReadModel.Item> items;  // 주문 시점 상품 스냅샷
+
+    @Column(name = "payment_id", columnDefinition = "uuid", updatable = false)
+    private UUID paymentId;               // 결제가 없던 주문은 null
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", length = 40, updatable = false)
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "payment_amount", updatable = false)
+    private Long paymentAmount;
+
+    @Column(name = "pg_payment_key", updatable = false)
+    private String pgPaymentKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified_at", updatable = false)
+    private LocalDateTime modifiedAt;
+
+    @Column(name = "deleted_at", updatable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "created_id", nullable = false, updatable = false)
+    private Long createdId;
+
+    @Column(name = "modified_id", updatable = false)
+    private Long modifiedId;
+
+    @Column(name = "deleted_id", updatable = false)
+    private Long deletedId;
+
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;     // 보관 이관 시각
+
+    // 조회 응답용 조회 모델로 변환 (영속 상태 아님)
+    public OrderReadModel toReadModel() {
+        return OrderReadModel.restore(this);
+    }
+}
@@ -2,6 +2,7 @@ package com.spartaclub.orderplatform.domain.order.domain.model;
 
 import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
 import com.spartaclub.orderplatform.global.domain.entity.BaseEntity;
+import com.spartaclub.orderplatform.global.domain.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,7 +14,6 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
 
 @Entity
 @Table(name = "p_orders_products")
@@ -22,7 +22,7 @@ import org.hibernate.annotations.UuidGenerator;
 public class OrderProduct extends BaseEntity {
 
     @Id
-    @UuidGenerator
+    @TimeOrderedUuid
     @Column(name = "order_product_id", nullable = false, updatable = false, columnDefinition = "uuid")
     private UUID orderProductId;
 
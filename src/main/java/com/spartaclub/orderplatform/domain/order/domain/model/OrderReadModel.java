@@ -0,0 +1,161 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 주문 조회 전용 비정규화 모델 (주문 생성/상태 전이와 같은 트랜잭션에서 기록)
+ */
+@Entity
+@Table(name = "p_order_views", indexes = {
+    // 역할별 목록 조회 + 키셋 정렬 키
+    @Index(name = "idx_order_views_user_created", columnList = "user_id, created_at, order_id"),
+    @Index(name = "idx_order_views_store_status_created", columnList = "store_id, status, created_at"),
+    @Index(name = "idx_order_views_created", columnList = "created_at, order_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OrderReadModel {
+
+    @Id
+    @Column(name = "order_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID orderId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;                  // 주문자 ID
+
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private UUID storeId;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;                 // 주문 시점 가게 소유자 ID
+
+    @Column(name = "total_price", nullable = false)
+    private Long totalPrice;
+
+    @Column(name = "product_count", nullable = false)
+    private Integer productCount;
+
+    @Column(name = "address", length = 255)
+    private String address;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 40)
+    private OrderStatus status;
+
+    @Column(name = "memo", length = 100)
+    private String memo;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "items", nullable = false)
+    private List<Item> items;             // 주문 시점 상품 스냅샷
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "created_id", nullable = false, updatable = false)
+    private Long createdId;
+
+    @Column(name = "modified_id")
+    private Long modifiedId;
+
+    @Column(name = "deleted_id")
+    private Long deletedId;
+
+    // 주문 상품 스냅샷
+    public record Item(
+        UUID productId,
+        String name,
+        Long price,
+        Integer quantity
+    ) {
+
+    }
+
+    // 저장(감사 필드 기록)된 주문으로부터 생성
+    public static OrderReadModel of(Order order, Long ownerId) {
+        OrderReadModel view = new OrderReadModel();
+        view.orderId = order.getOrderId();
+        view.userId = order.getUser().getUserId();
+        view.storeId = order.getStoreId();
+        view.ownerId = ownerId;
+        view.totalPrice = order.getTotalPrice();
+        view.productCount = order.getProductCount();
+        view.address = order.getAddress();
+        view.status = order.getStatus();
+        view.memo = order.getMemo();
+        view.items = order.getOrderProducts().stream()
+            .map(op -> new Item(op.getProduct().getProductId(), op.getProductName(),
+                op.getUnitPrice(), op.getQuantity()))
+            .toList();
+        view.createdAt = order.getCreatedAt();
+        view.modifiedAt = order.getModifiedAt();
+        view.deletedAt = order.getDeletedAt();
+        view.createdId = order.getCreatedId();
+        view.modifiedId = order.getModifiedId();
+        view.deletedId = order.getDeletedId();
+        return view;
+    }
+
+    // 보관 주문으로부터 복원 (과거 이력 조회 응답용)
+    static OrderReadModel restore(OrderArchive archive) {
+        OrderReadModel view = new OrderReadModel();
+        view.orderId = archive.getOrderId();
+        view.userId = archive.getUserId();
+        view.storeId = archive.getStoreId();
+        view.ownerId = archive.getOwnerId();
+        view.totalPrice = archive.getTotalPrice();
+        view.productCount = archive.getProductCount();
+        view.address = archive.getAddress();
+        view.status = archive.getStatus();
+        view.memo = archive.getMemo();
+        view.items = archive.getItems();
+        view.createdAt = archive.getCreatedAt();
+        view.modifiedAt = archive.getModifiedAt();
+        view.deletedAt = archive.getDeletedAt();
+        view.createdId = archive.getCreatedId();
+        view.modifiedId = archive.getModifiedId();
+        view.deletedId = archive.getDeletedId();
+        return view;
+    }
+
+    // 주문과 상태/수정 정보가 다른지 (정합성 보정용, 조회 모델이 더 최근에 갱신됐으면 보정하지 않음)
+    public boolean isDriftedFrom(Order order) {
+        if (modifiedAt != null && order.getModifiedAt() != null
+            && modifiedAt.isAfter(order.getModifiedAt())) {
+            return false;
+        }
+        return status != order.getStatus()
+            || !Objects.equals(modifiedAt, order.getModifiedAt())
+            || !Objects.equals(deletedAt, order.getDeletedAt());
+    }
+
+    // 주문의 상태/수정 정보로 덮어쓰기
+    public void syncWith(Order order) {
+        this.status = order.getStatus();
+        this.modifiedAt = order.getModifiedAt();
+        this.modifiedId = order.getModifiedId();
+        this.deletedAt = order.getDeletedAt();
+        this.deletedId = order.getDeletedId();
+    }
+}
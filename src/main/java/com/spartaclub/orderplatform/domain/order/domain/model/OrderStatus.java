@@ -1,5 +1,8 @@
 package com.spartaclub.orderplatform.domain.order.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     PAYMENT_PENDING,   // 결제 대기중
     PAID,              // 결제완료
@@ -7,8 +10,14 @@ public enum OrderStatus {
     DELIVERED,          // 배달완료
     ACCEPTED,          // 점주 승인
     REJECTED,          // 점주 거절
+    EXPIRED,           // 결제 기한 만료 (결제 없이 방치된 주문)
     ;
 
+    // 더 이상 전이되지 않는 종료 상태 (보관 이관 대상)
+    public static Set<OrderStatus> terminal() {
+        return EnumSet.of(CANCELED, DELIVERED, REJECTED, EXPIRED);
+    }
+
     boolean isPending() {
         return this == PAYMENT_PENDING;
     }
@@ -0,0 +1,65 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+/**
+ * 주문 상태 전이 정의 (목표 상태, 전이 가능한 현재 상태, 실패 시 에러 코드)
+ * 조건부 UPDATE의 WHERE 절과 엔티티 검증(check*)이 같은 규칙을 공유하도록 한 곳에 모음
+ */
+@Getter
+public enum OrderTransition {
+    CANCEL(OrderStatus.CANCELED,
+        EnumSet.of(OrderStatus.PAYMENT_PENDING, OrderStatus.PAID),
+        OrderErrorCode.INVALID_STATUS_FOR_CANCELLATION,
+        Order::checkCancelable),
+    ACCEPT(OrderStatus.ACCEPTED,
+        EnumSet.of(OrderStatus.PAID),
+        OrderErrorCode.INVALID_STATUS_FOR_ACCEPT,
+        Order::checkAcceptable),
+    REJECT(OrderStatus.REJECTED,
+        EnumSet.of(OrderStatus.PAYMENT_PENDING, OrderStatus.PAID),
+        OrderErrorCode.INVALID_STATUS_FOR_REJECT,
+        Order::checkRejectable),
+    COMPLETE_DELIVERY(OrderStatus.DELIVERED,
+        EnumSet.of(OrderStatus.ACCEPTED),
+        OrderErrorCode.INVALID_STATUS_FOR_COMPLETE_DELIVERY,
+        Order::checkDeliverable),
+    // PG 결제 완료 통지 (결제 대기 주문만)
+    PAY(OrderStatus.PAID,
+        EnumSet.of(OrderStatus.PAYMENT_PENDING),
+        OrderErrorCode.INVALID_STATUS_FOR_PAYMENT,
+        Order::checkPayable),
+    // PG 환불/취소 통지 (점주 승인 전 주문만, 취소 기한 없음)
+    CANCEL_BY_PAYMENT(OrderStatus.CANCELED,
+        EnumSet.of(OrderStatus.PAYMENT_PENDING, OrderStatus.PAID),
+        OrderErrorCode.INVALID_STATUS_FOR_CANCELLATION,
+        Order::checkPaymentCancelable),
+    ;
+
+    private final OrderStatus target;             // 전이 후 상태
+    private final Set<OrderStatus> allowedFrom;   // 전이 가능한 현재 상태
+    private final OrderErrorCode errorCode;       // 전이 불가 시 기본 에러 코드
+    private final Consumer<Order> validator;      // 엔티티 단위 검증 (실패 원인 판별용)
+
+    OrderTransition(OrderStatus target, Set<OrderStatus> allowedFrom, OrderErrorCode errorCode,
+        Consumer<Order> validator) {
+        this.target = target;
+        this.allowedFrom = allowedFrom;
+        this.errorCode = errorCode;
+        this.validator = validator;
+    }
+
+    // 주문 생성 시각 제한이 있는 전이인지 (취소는 5분 이내만 가능)
+    public boolean hasCancelWindow() {
+        return this == CANCEL;
+    }
+
+    // 엔티티 검증 실행, 전이 불가 사유에 맞는 예외 발생
+    public void validate(Order order) {
+        validator.accept(order);
+    }
+}
@@ -0,0 +1,53 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 일별 매출 집계 (결제 승인/환불, 배달 완료/취소 시 UPSERT 증분 반영)
+ */
+@Entity
+@Table(name = "p_store_daily_stats")
+@IdClass(StoreDailyStatsId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StoreDailyStats {
+
+    @Id
+    @Column(name = "store_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID storeId;
+
+    @Id
+    @Column(name = "stat_date", nullable = false, updatable = false)
+    private LocalDate statDate;
+
+    @Column(name = "paid_count", nullable = false)
+    private long paidCount;               // 결제 승인 건수
+
+    @Column(name = "gross_sales", nullable = false)
+    private long grossSales;              // 결제 승인 금액 합계
+
+    @Column(name = "refund_count", nullable = false)
+    private long refundCount;             // 환불 건수
+
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;          // 환불 금액 합계
+
+    @Column(name = "delivered_count", nullable = false)
+    private long deliveredCount;          // 배달 완료 주문 수
+
+    @Column(name = "canceled_count", nullable = false)
+    private long canceledCount;           // 고객 취소 주문 수
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,38 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 일별 집계에 반영한 아웃박스 이벤트 (재전달된 이벤트를 중복 집계하지 않기 위한 기록)
+ */
+@Entity
+@Table(name = "p_store_daily_stats_applied_events", indexes = {
+    @Index(name = "idx_store_daily_stats_applied_at", columnList = "applied_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StoreDailyStatsAppliedEvent {
+
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID eventId;
+
+    @Column(name = "applied_at", nullable = false, updatable = false)
+    private LocalDateTime appliedAt;
+
+    public static StoreDailyStatsAppliedEvent of(UUID eventId, LocalDateTime appliedAt) {
+        StoreDailyStatsAppliedEvent applied = new StoreDailyStatsAppliedEvent();
+        applied.eventId = eventId;
+        applied.appliedAt = appliedAt;
+        return applied;
+    }
+}
@@ -0,0 +1,44 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// 가게 일별 집계 증분 (이벤트 배치를 가게/일자별로 합산한 값)
+public record StoreDailyStatsDelta(
+    UUID storeId,
+    LocalDate statDate,
+    long paidCount,
+    long grossSales,
+    long refundCount,
+    long refundedAmount,
+    long deliveredCount,
+    long canceledCount
+) {
+
+    public static StoreDailyStatsDelta paid(UUID storeId, LocalDate statDate, long amount) {
+        return new StoreDailyStatsDelta(storeId, statDate, 1, amount, 0, 0, 0, 0);
+    }
+
+    public static StoreDailyStatsDelta refunded(UUID storeId, LocalDate statDate, long amount) {
+        return new StoreDailyStatsDelta(storeId, statDate, 0, 0, 1, amount, 0, 0);
+    }
+
+    public static StoreDailyStatsDelta delivered(UUID storeId, LocalDate statDate) {
+        return new StoreDailyStatsDelta(storeId, statDate, 0, 0, 0, 0, 1, 0);
+    }
+
+    public static StoreDailyStatsDelta canceled(UUID storeId, LocalDate statDate) {
+        return new StoreDailyStatsDelta(storeId, statDate, 0, 0, 0, 0, 0, 1);
+    }
+
+    // 같은 가게/일자 증분 합산
+    public StoreDailyStatsDelta plus(StoreDailyStatsDelta other) {
+        return new StoreDailyStatsDelta(storeId, statDate,
+            paidCount + other.paidCount,
+            grossSales + other.grossSales,
+            refundCount + other.refundCount,
+            refundedAmount + other.refundedAmount,
+            deliveredCount + other.deliveredCount,
+            canceledCount + other.canceledCount);
+    }
+}
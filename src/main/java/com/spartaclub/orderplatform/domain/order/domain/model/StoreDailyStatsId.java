@@ -0,0 +1,19 @@
+package com.spartaclub.orderplatform.domain.order.domain.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+// 가게 일별 집계 식별자 (가게 ID + 집계 일자)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StoreDailyStatsId implements Serializable {
+
+    private UUID storeId;
+    private LocalDate statDate;
+}
@@ -0,0 +1,29 @@
+package com.spartaclub.orderplatform.domain.order.domain.repository;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderArchive;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// 보관 주문 저장소 (운영 테이블의 오래된 종료 주문을 이관하고 과거 이력 조회에 사용)
+public interface OrderArchiveRepository {
+
+    // cutoff 이전에 생성된 statuses 상태 주문을 최대 limit건 보관 테이블로 이관 (주문 상품/결제/조회 모델 포함 삭제), 이관된 주문 ID 반환
+    List<UUID> archiveBefore(Collection<OrderStatus> statuses, LocalDateTime cutoff, int limit,
+        LocalDateTime now);
+
+    Optional<OrderArchive> findById(UUID orderId);
+
+    Page<OrderArchive> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable);
+
+    // 키셋 페이지네이션: (createdAt, orderId) 내림차순, COUNT 쿼리 없음
+    Slice<OrderArchive> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor, int size);
+}
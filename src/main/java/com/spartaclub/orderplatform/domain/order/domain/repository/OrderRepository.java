@@ -1,17 +1,49 @@
 package com.spartaclub.orderplatform.domain.order.domain.repository;
 
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
 import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    // 여러 주문 일괄 저장 (flush 시 JDBC 배치 INSERT)
+    List<Order> saveAll(List<Order> orders);
+
     Page<Order> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable);
 
+    // 키셋 페이지네이션: (createdAt, orderId) 내림차순, COUNT 쿼리 없음
+    Slice<Order> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor, int size);
+
     Optional<Order> findById(UUID orderId);
+
+    // after 이후 주문 한 청크를 (createdAt, orderId) 오름차순으로 주문 상품과 함께 조회 (조회 모델 보정용)
+    List<Order> findChunkWithProducts(OrderCursor after, int size);
+
+    // 조건부 상태 전이: 허용 상태(취소는 기한 포함)일 때만 UPDATE 1회, 반영 여부 반환
+    boolean transition(UUID orderId, OrderTransition transition, LocalDateTime now);
+
+    // 일괄 조건부 상태 전이: 실제로 전이된 주문 ID 목록 반환
+    List<UUID> transitionAll(Collection<UUID> orderIds, OrderTransition transition,
+        LocalDateTime now);
+
+    // 가게 범위 일괄 조건부 상태 전이: storeIds에 속한 주문만 전이 (취소 기한이 없는 전이만), 실제로 전이된 주문 ID 목록 반환
+    List<UUID> transitionAllInStores(Collection<UUID> orderIds, Collection<UUID> storeIds,
+        OrderTransition transition, LocalDateTime now);
+
+    // orderIds 중 storeIds에 속한 주문 ID (일괄 전이 실패 사유 판별용)
+    List<UUID> findIdsInStores(Collection<UUID> orderIds, Collection<UUID> storeIds);
+
+    // cutoff 이전에 생성되어 결제 없이 남은 PAYMENT_PENDING 주문을 최대 limit건 EXPIRED로 전이, 전이된 주문 ID 반환
+    List<UUID> expirePendingBefore(LocalDateTime cutoff, int limit, LocalDateTime now);
 }
@@ -0,0 +1,31 @@
+package com.spartaclub.orderplatform.domain.order.domain.repository;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// 주문 조회 모델 저장소 (상태 전이 반영은 OrderRepository의 전이 UPDATE와 함께 수행)
+public interface OrderViewRepository {
+
+    // 주문 생성과 같은 트랜잭션에서 일괄 저장
+    void saveAll(List<OrderReadModel> views);
+
+    Optional<OrderReadModel> findById(UUID orderId);
+
+    List<OrderReadModel> findAllById(Collection<UUID> orderIds);
+
+    Page<OrderReadModel> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable);
+
+    // 키셋 페이지네이션: (createdAt, orderId) 내림차순, COUNT 쿼리 없음
+    Slice<OrderReadModel> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor, int size);
+
+    // 조회 모델이 없는 주문이 남아 있는지 (도입 이전 주문 백필 필요 여부)
+    boolean existsOrderWithoutView();
+}
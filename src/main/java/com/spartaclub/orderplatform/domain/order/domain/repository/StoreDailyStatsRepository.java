@@ -0,0 +1,28 @@
+package com.spartaclub.orderplatform.domain.order.domain.repository;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStats;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsDelta;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 가게 일별 집계 저장소 (증분 UPSERT + 반영한 이벤트 기록)
+public interface StoreDailyStatsRepository {
+
+    // 가게/일자 행이 없으면 생성, 있으면 증분만큼 더함
+    void increment(StoreDailyStatsDelta delta, LocalDateTime now);
+
+    // 기간 내 집계 행 (집계가 없는 일자는 행 없음), 일자 오름차순
+    List<StoreDailyStats> findAllByStoreIdBetween(UUID storeId, LocalDate from, LocalDate to);
+
+    // 이미 반영한 이벤트 ID
+    Set<UUID> findAppliedEventIds(Collection<UUID> eventIds);
+
+    void markApplied(Collection<UUID> eventIds, LocalDateTime now);
+
+    // 기준 시각 이전 반영 기록 삭제, 삭제 건수 반환
+    int purgeAppliedBefore(LocalDateTime before);
+}
@@ -1,10 +1,18 @@
 package com.spartaclub.orderplatform.domain.order.domain.repository;
 
 import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface StoreReaderRepository {
 
     Optional<StoreSummary> loadStoreSummaryInfo(UUID storeId);
+
+    Map<UUID, StoreSummary> loadStoreSummaryInfos(Collection<UUID> storeIds);
+
+    // 소유자의 가게 ID 집합 (메모리 캐시)
+    Set<UUID> loadStoreIdsByOwner(Long ownerId);
 }
@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 public enum OrderErrorCode implements ErrorCode {
     // 주문 공통
     NOT_EXIST(HttpStatus.NOT_FOUND, "Order Not Found"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
 
     // 결제 관련
     INVALID_STATUS_FOR_PAYMENT(HttpStatus.BAD_REQUEST, "결제를 진행할 수 없는 주문 상태입니다."),
@@ -25,6 +26,12 @@ public enum OrderErrorCode implements ErrorCode {
 
     // 주문 배달
     INVALID_STATUS_FOR_COMPLETE_DELIVERY(HttpStatus.BAD_REQUEST, "승인 상태의 주문만 배달 완료할 수 있습니다."),
+
+    // 실시간 주문 피드
+    FEED_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "실시간 주문 피드 연결 수가 한도에 도달했습니다. 잠시 후 다시 시도해주세요."),
+
+    // 가게 일별 매출 집계
+    INVALID_STATS_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다. 시작일은 종료일 이전이어야 하며 최대 기간을 넘을 수 없습니다."),
     ;
 
     private final HttpStatus status;
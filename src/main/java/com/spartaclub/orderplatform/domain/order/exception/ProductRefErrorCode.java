@@ -7,6 +7,7 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum ProductRefErrorCode implements ErrorCode {
     NOT_EXIST(HttpStatus.NOT_FOUND, "Product Not Found"),
+    STORE_MISMATCH(HttpStatus.BAD_REQUEST, "Product Does Not Belong To Store"),
     ;
 
     private final HttpStatus status;
@@ -0,0 +1,194 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedSignal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 피드 신호를 모든 노드에 전달 (PostgreSQL LISTEN/NOTIFY, 그 외 DB는 커밋 이후 이 노드에만 발행)
+ */
+@Slf4j
+@Component
+public class OrderFeedBroadcaster {
+
+    static final String CHANNEL = "order_feed";
+
+    // NOTIFY 페이로드 한도(8000바이트) 안에 들도록 나눠 보냄
+    private static final int MAX_SIGNALS_PER_NOTIFY = 40;
+
+    private static final TypeReference<List<OrderFeedSignal>> SIGNALS = new TypeReference<>() {
+    };
+
+    private final DataSource dataSource;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    // 받은 신호 처리 (OrderFeedService가 등록)
+    private volatile Consumer<List<OrderFeedSignal>> receiver = signals -> {
+    };
+    private volatile boolean notifySupported;
+    private volatile boolean running;
+    private Thread listener;
+
+    public OrderFeedBroadcaster(
+        DataSource dataSource,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${order.feed.listen-poll-timeout:1s}") Duration pollTimeout,
+        @Value("${order.feed.listen-reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.dataSource = dataSource;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.receivedCounter = Counter.builder("order.feed.signals.received")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.feed.signals.failed")
+            .description("해석/발행에 실패한 신호 묶음 수")
+            .register(meterRegistry);
+    }
+
+    public void onReceive(Consumer<List<OrderFeedSignal>> receiver) {
+        this.receiver = receiver;
+    }
+
+    // 변경 트랜잭션 안에서 호출 (커밋되면 모든 노드에 전달)
+    public void broadcast(List<OrderFeedSignal> signals) {
+        if (signals.isEmpty()) {
+            return;
+        }
+        if (!notifySupported) {
+            deliverAfterCommit(signals);
+            return;
+        }
+        for (int from = 0; from < signals.size(); from += MAX_SIGNALS_PER_NOTIFY) {
+            List<OrderFeedSignal> part = signals.subList(from,
+                Math.min(from + MAX_SIGNALS_PER_NOTIFY, signals.size()));
+            entityManager.createNativeQuery("SELECT 1 FROM (SELECT pg_notify(?1, ?2)) notified")
+                .setParameter(1, CHANNEL)
+                .setParameter(2, toPayload(part))
+                .getSingleResult();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try (Connection connection = dataSource.getConnection()) {
+            notifySupported = connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            log.warn("[OrderFeed] DB 확인 실패, 노드 내 발행만 사용", e);
+        }
+        if (!notifySupported) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "order-feed-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // LISTEN 전용 커넥션 1개 점유, 끊기면 재연결 (끊긴 동안의 신호는 유실되고 클라이언트가 목록으로 재동기화)
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("[OrderFeed] 피드 신호 수신 시작 - channel={}", CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(
+                        (int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("[OrderFeed] 피드 신호 수신 연결 끊김, {} 후 재연결", reconnectDelay, e);
+                    sleep(reconnectDelay);
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            List<OrderFeedSignal> signals = objectMapper.readValue(payload, SIGNALS);
+            receivedCounter.increment(signals.size());
+            receiver.accept(signals);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 한 묶음의 실패가 수신 루프를 멈추지 않도록 기록만 함
+            failedCounter.increment();
+            log.warn("[OrderFeed] 피드 신호 처리 실패", e);
+        }
+    }
+
+    private void deliverAfterCommit(List<OrderFeedSignal> signals) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            receiver.accept(signals);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                receiver.accept(signals);
+            }
+        });
+    }
+
+    private String toPayload(List<OrderFeedSignal> signals) {
+        try {
+            return objectMapper.writeValueAsString(signals);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("피드 신호 직렬화 실패", e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
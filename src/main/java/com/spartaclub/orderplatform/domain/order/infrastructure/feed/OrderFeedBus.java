@@ -0,0 +1,330 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.feed;
+
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent;
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 가게별 실시간 주문 피드 (인프로세스 fan-out, 노드 간 전달은 OrderFeedBroadcaster)
+ */
+@Slf4j
+@Component
+public class OrderFeedBus {
+
+    private static final long RECONNECT_MILLIS = 3_000L;
+
+    // storeId -> 채널
+    private final ConcurrentMap<UUID, StoreChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    // 전송 상태 감시 대상 구독
+    private final Set<Delivery> deliveries = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final Scheduler deliveryScheduler;
+    private final Scheduler watchdogScheduler;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration heartbeatInterval;
+    private final Duration connectionTimeout;
+    private final Duration sendTimeout;   // 넘기면 구독자 강제 해제
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final Counter evictedCounter;
+
+    public OrderFeedBus(
+        MeterRegistry meterRegistry,
+        @Value("${order.feed.buffer-size:256}") int bufferSize,
+        @Value("${order.feed.max-subscribers:10000}") int maxSubscribers,
+        @Value("${order.feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+        @Value("${order.feed.connection-timeout:30m}") Duration connectionTimeout,
+        @Value("${order.feed.delivery-threads:16}") int deliveryThreads,
+        @Value("${order.feed.send-timeout:10s}") Duration sendTimeout
+    ) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatInterval = heartbeatInterval;
+        this.connectionTimeout = connectionTimeout;
+        this.sendTimeout = sendTimeout;
+        this.deliveryExecutor = deliveryExecutor(deliveryThreads);
+        this.deliveryScheduler = Schedulers.fromExecutorService(deliveryExecutor, "order-feed");
+
+        this.publishedCounter = Counter.builder("order.feed.events.published")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("order.feed.events.dropped")
+            .description("구독자 버퍼 초과로 버린 이벤트 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.feed.subscriptions.rejected")
+            .register(meterRegistry);
+        this.evictedCounter = Counter.builder("order.feed.subscriptions.evicted")
+            .description("전송 제한 시간 초과로 강제 해제한 구독 수")
+            .register(meterRegistry);
+        Gauge.builder("order.feed.subscribers", subscribers, AtomicInteger::get)
+            .register(meterRegistry);
+        Gauge.builder("order.feed.channels", channels, Map::size)
+            .register(meterRegistry);
+
+        // 멈춘 전송 감시 (제한 시간의 절반 주기)
+        long checkMillis = Math.max(sendTimeout.toMillis() / 2, 100L);
+        this.watchdogScheduler = Schedulers.newSingle("order-feed-watchdog", true);
+        watchdogScheduler.schedulePeriodically(this::evictStalled, checkMillis, checkMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 가게 피드 구독
+     *
+     * @param storeId 가게 ID
+     * @return SSE 연결 (완료/타임아웃/오류 시 구독 해제)
+     */
+    public SseEmitter subscribe(UUID storeId) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            rejectedCounter.increment();
+            log.warn("[OrderFeed] 구독 한도 초과 - storeId={}, max={}", storeId, maxSubscribers);
+            throw new BusinessException(OrderErrorCode.FEED_CAPACITY_EXCEEDED);
+        }
+        StoreChannel channel = channels.compute(storeId, (id, current) -> {
+            StoreChannel target = current == null ? new StoreChannel() : current;
+            target.subscribers.incrementAndGet();
+            return target;
+        });
+
+        SseEmitter emitter = createEmitter(connectionTimeout.toMillis());
+        try {
+            // 응답 헤더를 바로 내보내고 재연결 간격을 알림
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        } catch (IOException e) {
+            release(storeId, channel);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        // 구독자별 버퍼 초과 시 가장 오래된 이벤트부터 버림
+        Flux<SseEmitter.SseEventBuilder> events = channel.sink.asFlux()
+            .onBackpressureBuffer(bufferSize, dropped -> droppedCounter.increment(),
+                BufferOverflowStrategy.DROP_OLDEST)
+            .map(OrderFeedBus::toSse);
+        // 타이머는 전송 스레드와 분리 (전송 스레드가 모두 막혀도 tick은 버려질 뿐)
+        Flux<SseEmitter.SseEventBuilder> heartbeats = Flux.interval(heartbeatInterval)
+            .onBackpressureDrop()
+            .map(tick -> SseEmitter.event().comment("heartbeat"));
+
+        // merge/publishOn 선반입을 1건으로 두어 대기 이벤트는 구독자 버퍼에만 쌓이게 함
+        Delivery delivery = new Delivery(storeId, emitter);
+        deliveries.add(delivery);
+        Disposable subscription = Flux.merge(1, events, heartbeats)
+            .publishOn(deliveryScheduler, 1)
+            .doFinally(signal -> {
+                deliveries.remove(delivery);
+                release(storeId, channel);
+            })
+            .subscribe(event -> send(delivery, event), emitter::completeWithError,
+                emitter::complete);
+        delivery.subscription = subscription;
+
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return emitter;
+    }
+
+    // 구독자가 있는 가게인지 (발행 전 조회 생략 판단용)
+    public boolean hasSubscribers(UUID storeId) {
+        return channels.containsKey(storeId);
+    }
+
+    public boolean hasSubscribers() {
+        return !channels.isEmpty();
+    }
+
+    // 이벤트 발행 (트랜잭션 안이면 커밋 이후)
+    public void publish(List<OrderFeedEvent> events) {
+        if (events.isEmpty() || !hasSubscribers()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        events.forEach(OrderFeedBus.this::emit);
+                    }
+                });
+        } else {
+            events.forEach(this::emit);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 구독자에게 종료를 알려 다른 인스턴스로 재연결하도록 함
+        channels.values().forEach(channel -> channel.sink.tryEmitComplete());
+        watchdogScheduler.dispose();
+        deliveryScheduler.dispose();
+    }
+
+    // 제한 시간을 넘겨 전송 중인 구독 강제 해제 (전송 스레드를 인터럽트하고, 풀리지 않는 동안 풀에 스레드 1개를 보충)
+    private void evictStalled() {
+        long now = System.nanoTime();
+        for (Delivery delivery : deliveries) {
+            synchronized (delivery) {
+                if (delivery.sender == null || delivery.evicted
+                    || now - delivery.sendStartedNanos < sendTimeout.toNanos()) {
+                    continue;
+                }
+                delivery.evicted = true;
+                delivery.sender.interrupt();
+                resizeDeliveryPool(1);
+            }
+            evictedCounter.increment();
+            log.warn("[OrderFeed] 전송 제한 시간 초과로 구독 해제 - storeId={}, timeout={}",
+                delivery.storeId, sendTimeout);
+            // 구독 해제는 즉시, SSE 연결 종료는 전송이 풀린 뒤 전송 스레드에서 처리 (전송 중에는 연결 잠금을 잡고 있음)
+            if (delivery.subscription != null) {
+                delivery.subscription.dispose();
+            }
+        }
+    }
+
+    private void send(Delivery delivery, SseEmitter.SseEventBuilder event) {
+        synchronized (delivery) {
+            if (delivery.evicted) {
+                return;
+            }
+            delivery.sender = Thread.currentThread();
+            delivery.sendStartedNanos = System.nanoTime();
+        }
+        try {
+            delivery.emitter.send(event);
+        } catch (IOException e) {
+            if (!delivery.evicted) {
+                // 연결이 끊긴 구독자는 오류로 종료되어 구독 해제
+                throw Exceptions.propagate(e);
+            }
+        } finally {
+            synchronized (delivery) {
+                delivery.sender = null;
+                if (delivery.evicted) {
+                    // 감시 스레드가 건 인터럽트를 지우고 보충했던 스레드 반납
+                    Thread.interrupted();
+                    resizeDeliveryPool(-1);
+                }
+            }
+        }
+        if (delivery.evicted) {
+            delivery.emitter.completeWithError(
+                new TimeoutException("order feed send timed out after " + sendTimeout));
+        }
+    }
+
+    private void resizeDeliveryPool(int delta) {
+        synchronized (deliveryExecutor) {
+            if (delta > 0) {
+                deliveryExecutor.setMaximumPoolSize(deliveryExecutor.getMaximumPoolSize() + delta);
+                deliveryExecutor.setCorePoolSize(deliveryExecutor.getCorePoolSize() + delta);
+            } else {
+                deliveryExecutor.setCorePoolSize(deliveryExecutor.getCorePoolSize() + delta);
+                deliveryExecutor.setMaximumPoolSize(deliveryExecutor.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private void emit(OrderFeedEvent event) {
+        StoreChannel channel = channels.get(event.storeId());
+        if (channel == null) {
+            return;
+        }
+        publishedCounter.increment();
+        // 싱크는 동시 발행을 허용하지 않으므로 채널 단위로 직렬화
+        synchronized (channel) {
+            channel.sink.tryEmitNext(event);
+        }
+    }
+
+    private void release(UUID storeId, StoreChannel channel) {
+        subscribers.decrementAndGet();
+        channels.computeIfPresent(storeId, (id, current) ->
+            current == channel && channel.subscribers.decrementAndGet() == 0 ? null : current);
+    }
+
+    // 구독마다 새 SSE 연결 생성 (전송 지연/끊김을 재현하는 테스트에서 교체)
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // 전송 스레드 풀: 작업 단위로 비어 있는 스레드를 사용 (구독자별 순서는 publishOn이 보장)
+    private static ThreadPoolExecutor deliveryExecutor(int deliveryThreads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(deliveryThreads, deliveryThreads,
+            60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "order-feed-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(OrderFeedEvent event) {
+        return SseEmitter.event()
+            .id(event.orderId().toString())
+            .name(event.type().name())
+            .data(event);
+    }
+
+    // 구독 1건의 전송 상태 (전송 중인 스레드와 시작 시각)
+    private static final class Delivery {
+
+        private final UUID storeId;
+        private final SseEmitter emitter;
+        private volatile Disposable subscription;
+        private Thread sender;
+        private long sendStartedNanos;
+        private volatile boolean evicted;
+
+        private Delivery(UUID storeId, SseEmitter emitter) {
+            this.storeId = storeId;
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class StoreChannel {
+
+        private final Sinks.Many<OrderFeedEvent> sink = Sinks.many().multicast()
+            .directBestEffort();
+        private final AtomicInteger subscribers = new AtomicInteger();
+    }
+}
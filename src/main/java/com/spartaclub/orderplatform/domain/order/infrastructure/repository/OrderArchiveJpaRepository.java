@@ -0,0 +1,56 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderArchive;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// 보관 이관은 엔티티를 읽지 않고 집합 단위 SQL(INSERT ... SELECT, DELETE)로 처리
+@Repository
+public interface OrderArchiveJpaRepository extends JpaRepository<OrderArchive, UUID>,
+    JpaSpecificationExecutor<OrderArchive> {
+
+    // 조회 모델(상품 스냅샷) + 주문(최종 상태) + 결제 요약을 보관 행으로 복사
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+           INSERT INTO p_order_archives (
+               order_id, user_id, store_id, owner_id, total_price, product_count, address,
+               status, memo, items, payment_id, payment_status, payment_amount, pg_payment_key,
+               created_at, modified_at, deleted_at, created_id, modified_id, deleted_id,
+               archived_at)
+           SELECT v.order_id, v.user_id, v.store_id, v.owner_id, v.total_price, v.product_count,
+               v.address, o.status, v.memo, v.items, p.payment_id, p.status, p.payment_amount,
+               p.pg_payment_key, v.created_at, o.modified_at, o.deleted_at, v.created_id,
+               o.modified_id, o.deleted_id, :now
+           FROM p_order_views v
+           JOIN p_orders o ON o.order_id = v.order_id
+           LEFT JOIN p_payments p ON p.order_id = v.order_id
+           WHERE v.order_id IN (:orderIds)
+        """, nativeQuery = true)
+    int copyFromHot(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_orders_products WHERE order_id IN (:orderIds)",
+        nativeQuery = true)
+    int deleteHotOrderProducts(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_payments WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotPayments(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_order_views WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotViews(@Param("orderIds") Collection<UUID> orderIds);
+
+    // 자식 행 삭제 후 마지막에 실행 (영속성 컨텍스트에 남은 주문 엔티티 제거)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM p_orders WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotOrders(@Param("orderIds") Collection<UUID> orderIds);
+}
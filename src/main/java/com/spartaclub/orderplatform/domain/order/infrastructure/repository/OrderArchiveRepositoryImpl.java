@@ -0,0 +1,93 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderArchive;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderArchiveRepository;
+import com.spartaclub.orderplatform.domain.order.infrastructure.repository.spec.OrderViewSpecs;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepositoryImpl implements OrderArchiveRepository {
+
+    private final OrderArchiveJpaRepository orderArchiveJpaRepository;
+    private final OrderJpaRepository orderJpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UUID> archiveBefore(Collection<OrderStatus> statuses, LocalDateTime cutoff,
+        int limit, LocalDateTime now) {
+        // 잠근 주문만 이관 (동시에 실행된 다른 노드/전이 요청과 겹치지 않음)
+        List<UUID> orderIds = orderJpaRepository.findArchivableIds(statuses, cutoff,
+            PageRequest.of(0, limit));
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        orderArchiveJpaRepository.copyFromHot(orderIds, now);
+        orderArchiveJpaRepository.deleteHotOrderProducts(orderIds);
+        orderArchiveJpaRepository.deleteHotPayments(orderIds);
+        orderArchiveJpaRepository.deleteHotViews(orderIds);
+        orderArchiveJpaRepository.deleteHotOrders(orderIds);
+        return orderIds;
+    }
+
+    @Override
+    public Optional<OrderArchive> findById(UUID orderId) {
+        return orderArchiveJpaRepository.findById(orderId);
+    }
+
+    @Override
+    public Page<OrderArchive> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable) {
+        return orderArchiveJpaRepository.findAll(toSpec(orderSpecQuery), pageable);
+    }
+
+    @Override
+    public Slice<OrderArchive> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor,
+        int size) {
+        Specification<OrderArchive> spec = toSpec(orderSpecQuery)
+            .and(OrderViewSpecs.after(cursor));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderArchive> query = cb.createQuery(OrderArchive.class);
+        Root<OrderArchive> root = query.from(OrderArchive.class);
+        query.select(root)
+            .where(spec.toPredicate(root, query, cb))
+            .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("orderId")));
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<OrderArchive> archives = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+
+        boolean hasNext = archives.size() > size;
+        List<OrderArchive> content = hasNext ? archives.subList(0, size) : archives;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private Specification<OrderArchive> toSpec(OrderSpecQuery orderSpecQuery) {
+        Specification<OrderArchive> spec = (root, query, cb) -> cb.conjunction(); // 초기값
+        return spec
+            .and(OrderViewSpecs.visibleFor(orderSpecQuery.viewer(),
+                orderSpecQuery.ownedStoreIds()))
+            .and(OrderViewSpecs.statusIn(orderSpecQuery.status()));
+    }
+}
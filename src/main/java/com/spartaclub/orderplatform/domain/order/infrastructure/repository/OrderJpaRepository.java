@@ -1,6 +1,13 @@
 package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
 
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,15 +15,173 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<Order, UUID>,
     JpaSpecificationExecutor<Order> {
 
+    // Hibernate: 잠금 대기 시간 -2 = SKIP LOCKED
+    String LOCK_TIMEOUT_SKIP_LOCKED = "-2";
+
     @EntityGraph(attributePaths = {"user"})
     Page<Order> findAll(Pageable pageable);
 
     @EntityGraph(attributePaths = {"user"})
     Page<Order> findAll(Specification<Order> specification, Pageable pageable);
+
+    // 키셋 청크 ID 조회: (createdAt, orderId) > (:createdAt, :orderId) 오름차순
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.createdAt > :createdAt
+           OR (o.createdAt = :createdAt AND o.orderId > :orderId)
+           ORDER BY o.createdAt, o.orderId
+        """)
+    List<UUID> findIdsAfter(@Param("createdAt") LocalDateTime createdAt,
+        @Param("orderId") UUID orderId, Pageable pageable);
+
+    // 주문 + 주문 상품 fetch join (ID 목록 기준)
+    @Query("""
+           SELECT DISTINCT o
+           FROM Order o
+           LEFT JOIN FETCH o.orderProducts
+           WHERE o.orderId IN :orderIds
+           ORDER BY o.createdAt, o.orderId
+        """)
+    List<Order> findAllWithProductsByIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    // 전이 대상 주문 ID 조회 + 행 잠금 (일괄 전이 결과 판별용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.orderId IN :orderIds
+           AND o.status IN :allowed
+        """)
+    List<UUID> findIdsForTransition(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("allowed") Collection<OrderStatus> allowed);
+
+    // 전이 대상 주문 ID 조회 + 행 잠금 (지정한 가게의 주문만)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.orderId IN :orderIds
+           AND o.storeId IN :storeIds
+           AND o.status IN :allowed
+        """)
+    List<UUID> findIdsForTransitionInStores(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("storeIds") Collection<UUID> storeIds,
+        @Param("allowed") Collection<OrderStatus> allowed);
+
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.orderId IN :orderIds
+           AND o.storeId IN :storeIds
+        """)
+    List<UUID> findIdsInStores(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("storeIds") Collection<UUID> storeIds);
+
+    // 전이 대상 주문 ID 조회 + 행 잠금 (기준 시각 이후 생성된 주문만)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.orderId IN :orderIds
+           AND o.status IN :allowed
+           AND o.createdAt > :createdAfter
+        """)
+    List<UUID> findIdsForTransitionCreatedAfter(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("allowed") Collection<OrderStatus> allowed,
+        @Param("createdAfter") LocalDateTime createdAfter);
+
+    // 만료 대상 주문 ID 조회 + 행 잠금 (다른 트랜잭션이 잠근 주문은 건너뜀)
+    // 결제가 진행 중이거나 완료된 주문은 제외 (PG 웹훅의 주문 상태 반영은 비동기로 뒤따르므로 결제 행으로 판단)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout",
+        value = LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.status = :pending
+           AND o.createdAt < :cutoff
+           AND NOT EXISTS (
+               SELECT 1 FROM Payment p
+               WHERE p.order = o
+               AND p.status <> :failed
+           )
+           ORDER BY o.createdAt
+        """)
+    List<UUID> findExpirableIds(@Param("pending") OrderStatus pending,
+        @Param("cutoff") LocalDateTime cutoff, @Param("failed") PaymentStatus failed,
+        Pageable pageable);
+
+    // 보관 이관 대상 주문 ID 조회 + 행 잠금 (다른 트랜잭션이 잠근 주문은 건너뜀)
+    // 리뷰가 참조하는 주문은 운영 테이블에 남기고, 조회 모델이 없는 주문은 보정 후 다음 회차에 이관
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout",
+        value = LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE o.status IN :statuses
+           AND o.createdAt < :cutoff
+           AND EXISTS (
+               SELECT 1 FROM OrderReadModel v
+               WHERE v.orderId = o.orderId
+           )
+           AND NOT EXISTS (
+               SELECT 1 FROM Review r
+               WHERE r.order = o
+           )
+           ORDER BY o.createdAt
+        """)
+    List<UUID> findArchivableIds(@Param("statuses") Collection<OrderStatus> statuses,
+        @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 결제 대기 만료 (잠근 ID 범위 안에서 상태/생성 시각 조건을 다시 확인)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Order o
+           SET o.status = :to, o.modifiedAt = :now
+           WHERE o.orderId IN :orderIds
+           AND o.status = :pending
+           AND o.createdAt < :cutoff
+        """)
+    int expire(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("pending") OrderStatus pending, @Param("to") OrderStatus to,
+        @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    // 조건부 상태 전이 (허용 상태인 주문만 반영)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Order o
+           SET o.status = :to, o.modifiedAt = :now, o.modifiedId = :modifiedId
+           WHERE o.orderId IN :orderIds
+           AND o.status IN :allowed
+        """)
+    int updateStatus(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("allowed") Collection<OrderStatus> allowed, @Param("to") OrderStatus to,
+        @Param("now") LocalDateTime now, @Param("modifiedId") Long modifiedId);
+
+    // 조건부 상태 전이 (허용 상태 + 기준 시각 이후 생성된 주문만 반영)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Order o
+           SET o.status = :to, o.modifiedAt = :now, o.modifiedId = :modifiedId
+           WHERE o.orderId IN :orderIds
+           AND o.status IN :allowed
+           AND o.createdAt > :createdAfter
+        """)
+    int updateStatusCreatedAfter(@Param("orderIds") Collection<UUID> orderIds,
+        @Param("allowed") Collection<OrderStatus> allowed, @Param("to") OrderStatus to,
+        @Param("createdAfter") LocalDateTime createdAfter, @Param("now") LocalDateTime now,
+        @Param("modifiedId") Long modifiedId);
 }
@@ -1,14 +1,29 @@
 package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
 
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
 import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
 import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
 import com.spartaclub.orderplatform.domain.order.infrastructure.repository.spec.OrderSpecs;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.global.application.security.SecurityUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
@@ -17,23 +32,135 @@ import org.springframework.stereotype.Repository;
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderViewJpaRepository orderViewJpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Order save(Order order) {
         return orderJpaRepository.save(order);
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        return orderJpaRepository.saveAll(orders);
+    }
+
     @Override
     public Page<Order> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable) {
-        Specification<Order> spec = (root, query, cb) -> cb.conjunction(); // 초기값
-        spec = spec
-            .and(OrderSpecs.visibleFor(orderSpecQuery.viewer()))
-            .and(OrderSpecs.statusIn(orderSpecQuery.status()));
-        return orderJpaRepository.findAll(spec, pageable);
+        return orderJpaRepository.findAll(toSpec(orderSpecQuery), pageable);
+    }
+
+    @Override
+    public Slice<Order> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor, int size) {
+        Specification<Order> spec = toSpec(orderSpecQuery).and(OrderSpecs.after(cursor));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Order> query = cb.createQuery(Order.class);
+        Root<Order> root = query.from(Order.class);
+        query.select(root)
+            .where(spec.toPredicate(root, query, cb))
+            .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("orderId")));
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<Order> orders = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+
+        boolean hasNext = orders.size() > size;
+        List<Order> content = hasNext ? orders.subList(0, size) : orders;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
 
     @Override
     public Optional<Order> findById(UUID orderId) {
         return orderJpaRepository.findById(orderId);
     }
+
+    @Override
+    public List<Order> findChunkWithProducts(OrderCursor after, int size) {
+        // 컬렉션 fetch join + LIMIT는 메모리 페이징이 되므로 ID를 먼저 자른 뒤 fetch join
+        List<UUID> orderIds = orderJpaRepository.findIdsAfter(after.createdAt(), after.orderId(),
+            PageRequest.ofSize(size));
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderJpaRepository.findAllWithProductsByIdIn(orderIds);
+    }
+
+    @Override
+    public boolean transition(UUID orderId, OrderTransition transition, LocalDateTime now) {
+        return update(List.of(orderId), transition, now) == 1;
+    }
+
+    @Override
+    public List<UUID> transitionAll(Collection<UUID> orderIds, OrderTransition transition,
+        LocalDateTime now) {
+        // 전이 가능한 주문을 잠근 뒤 한 번의 UPDATE로 반영
+        List<UUID> targetIds = transition.hasCancelWindow()
+            ? orderJpaRepository.findIdsForTransitionCreatedAfter(orderIds,
+            transition.getAllowedFrom(), Order.cancelDeadline(now))
+            : orderJpaRepository.findIdsForTransition(orderIds, transition.getAllowedFrom());
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        update(targetIds, transition, now);
+        return targetIds;
+    }
+
+    @Override
+    public List<UUID> transitionAllInStores(Collection<UUID> orderIds, Collection<UUID> storeIds,
+        OrderTransition transition, LocalDateTime now) {
+        if (transition.hasCancelWindow()) {
+            throw new IllegalArgumentException("취소 기한이 있는 전이는 가게 범위 일괄 전이 불가 - " + transition);
+        }
+        // 가게 범위로 잠근 대상만 UPDATE (UPDATE 대상은 잠근 ID로 한정되므로 다른 가게 주문은 바뀌지 않음)
+        List<UUID> targetIds = orderJpaRepository.findIdsForTransitionInStores(orderIds, storeIds,
+            transition.getAllowedFrom());
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        update(targetIds, transition, now);
+        return targetIds;
+    }
+
+    @Override
+    public List<UUID> findIdsInStores(Collection<UUID> orderIds, Collection<UUID> storeIds) {
+        return orderJpaRepository.findIdsInStores(orderIds, storeIds);
+    }
+
+    @Override
+    public List<UUID> expirePendingBefore(LocalDateTime cutoff, int limit, LocalDateTime now) {
+        List<UUID> targetIds = orderJpaRepository.findExpirableIds(OrderStatus.PAYMENT_PENDING,
+            cutoff, PaymentStatus.FAILED, PageRequest.ofSize(limit));
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        // 대상은 잠겨 있으므로 전부 반영됨, 조회 모델도 같은 트랜잭션에서 갱신 (시스템 작업이라 수정자 없음)
+        orderJpaRepository.expire(targetIds, OrderStatus.PAYMENT_PENDING, OrderStatus.EXPIRED,
+            cutoff, now);
+        orderViewJpaRepository.updateStatus(targetIds, OrderStatus.EXPIRED, now, null);
+        return targetIds;
+    }
+
+    // 벌크 UPDATE는 Auditing을 거치지 않으므로 수정 시각/수정자를 직접 기록
+    // 단건은 1건, 일괄은 잠근 대상 전체가 반영되므로 반영된 경우에만 같은 ID로 조회 모델도 갱신
+    private int update(Collection<UUID> orderIds, OrderTransition transition, LocalDateTime now) {
+        Long modifiedId = SecurityUtils.getCurrentUserId();
+        int updated = transition.hasCancelWindow()
+            ? orderJpaRepository.updateStatusCreatedAfter(orderIds, transition.getAllowedFrom(),
+            transition.getTarget(), Order.cancelDeadline(now), now, modifiedId)
+            : orderJpaRepository.updateStatus(orderIds, transition.getAllowedFrom(),
+                transition.getTarget(), now, modifiedId);
+        if (updated > 0) {
+            orderViewJpaRepository.updateStatus(orderIds, transition.getTarget(), now, modifiedId);
+        }
+        return updated;
+    }
+
+    private Specification<Order> toSpec(OrderSpecQuery orderSpecQuery) {
+        Specification<Order> spec = (root, query, cb) -> cb.conjunction(); // 초기값
+        return spec
+            .and(OrderSpecs.visibleFor(orderSpecQuery.viewer(), orderSpecQuery.ownedStoreIds()))
+            .and(OrderSpecs.statusIn(orderSpecQuery.status()));
+    }
 }
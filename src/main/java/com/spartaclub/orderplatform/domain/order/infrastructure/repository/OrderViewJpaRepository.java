@@ -0,0 +1,38 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderViewJpaRepository extends JpaRepository<OrderReadModel, UUID>,
+    JpaSpecificationExecutor<OrderReadModel> {
+
+    // 주문 상태 전이 반영 (주문 UPDATE로 실제 전이된 주문 ID만 전달)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE OrderReadModel v
+           SET v.status = :to, v.modifiedAt = :now, v.modifiedId = :modifiedId
+           WHERE v.orderId IN :orderIds
+        """)
+    int updateStatus(@Param("orderIds") Collection<UUID> orderIds, @Param("to") OrderStatus to,
+        @Param("now") LocalDateTime now, @Param("modifiedId") Long modifiedId);
+
+    // 조회 모델이 없는 주문 ID (백필 필요 여부 확인용)
+    @Query("""
+           SELECT o.orderId
+           FROM Order o
+           WHERE NOT EXISTS (SELECT v.orderId FROM OrderReadModel v WHERE v.orderId = o.orderId)
+        """)
+    List<UUID> findOrderIdsWithoutView(Pageable pageable);
+}
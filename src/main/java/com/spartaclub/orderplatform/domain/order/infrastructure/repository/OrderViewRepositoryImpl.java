@@ -0,0 +1,87 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.query.OrderSpecQuery;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.infrastructure.repository.spec.OrderViewSpecs;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderViewRepositoryImpl implements OrderViewRepository {
+
+    private final OrderViewJpaRepository orderViewJpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public void saveAll(List<OrderReadModel> views) {
+        orderViewJpaRepository.saveAll(views);
+    }
+
+    @Override
+    public Optional<OrderReadModel> findById(UUID orderId) {
+        return orderViewJpaRepository.findById(orderId);
+    }
+
+    @Override
+    public List<OrderReadModel> findAllById(Collection<UUID> orderIds) {
+        return orderViewJpaRepository.findAllById(orderIds);
+    }
+
+    @Override
+    public Page<OrderReadModel> findAll(OrderSpecQuery orderSpecQuery, Pageable pageable) {
+        return orderViewJpaRepository.findAll(toSpec(orderSpecQuery), pageable);
+    }
+
+    @Override
+    public Slice<OrderReadModel> findSlice(OrderSpecQuery orderSpecQuery, OrderCursor cursor,
+        int size) {
+        Specification<OrderReadModel> spec = toSpec(orderSpecQuery)
+            .and(OrderViewSpecs.after(cursor));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderReadModel> query = cb.createQuery(OrderReadModel.class);
+        Root<OrderReadModel> root = query.from(OrderReadModel.class);
+        query.select(root)
+            .where(spec.toPredicate(root, query, cb))
+            .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("orderId")));
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<OrderReadModel> views = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+
+        boolean hasNext = views.size() > size;
+        List<OrderReadModel> content = hasNext ? views.subList(0, size) : views;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public boolean existsOrderWithoutView() {
+        return !orderViewJpaRepository.findOrderIdsWithoutView(PageRequest.ofSize(1)).isEmpty();
+    }
+
+    private Specification<OrderReadModel> toSpec(OrderSpecQuery orderSpecQuery) {
+        Specification<OrderReadModel> spec = (root, query, cb) -> cb.conjunction(); // 초기값
+        return spec
+            .and(OrderViewSpecs.visibleFor(orderSpecQuery.viewer(),
+                orderSpecQuery.ownedStoreIds()))
+            .and(OrderViewSpecs.statusIn(orderSpecQuery.status()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsAppliedEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface StoreDailyStatsAppliedEventJpaRepository extends
+    JpaRepository<StoreDailyStatsAppliedEvent, UUID> {
+
+    @Query("""
+           SELECT a.eventId
+           FROM StoreDailyStatsAppliedEvent a
+           WHERE a.eventId IN :eventIds
+        """)
+    List<UUID> findExistingIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    // 정리 스케줄러가 트랜잭션 없이 호출
+    @Transactional
+    @Modifying
+    @Query("""
+           DELETE FROM StoreDailyStatsAppliedEvent a
+           WHERE a.appliedAt < :before
+        """)
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,52 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStats;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreDailyStatsJpaRepository extends
+    JpaRepository<StoreDailyStats, StoreDailyStatsId> {
+
+    // 증분 UPSERT (행 조회 없이 한 문장으로 생성/가산, 동시 반영은 행 잠금으로 직렬화)
+    @Modifying
+    @Query(value = """
+           INSERT INTO p_store_daily_stats (
+               store_id, stat_date, paid_count, gross_sales, refund_count, refunded_amount,
+               delivered_count, canceled_count, modified_at)
+           VALUES (:storeId, :statDate, :paidCount, :grossSales, :refundCount, :refundedAmount,
+               :deliveredCount, :canceledCount, :now)
+           ON CONFLICT (store_id, stat_date) DO UPDATE SET
+               paid_count = p_store_daily_stats.paid_count + EXCLUDED.paid_count,
+               gross_sales = p_store_daily_stats.gross_sales + EXCLUDED.gross_sales,
+               refund_count = p_store_daily_stats.refund_count + EXCLUDED.refund_count,
+               refunded_amount = p_store_daily_stats.refunded_amount + EXCLUDED.refunded_amount,
+               delivered_count = p_store_daily_stats.delivered_count + EXCLUDED.delivered_count,
+               canceled_count = p_store_daily_stats.canceled_count + EXCLUDED.canceled_count,
+               modified_at = EXCLUDED.modified_at
+        """, nativeQuery = true)
+    int upsertIncrement(@Param("storeId") UUID storeId, @Param("statDate") LocalDate statDate,
+        @Param("paidCount") long paidCount, @Param("grossSales") long grossSales,
+        @Param("refundCount") long refundCount, @Param("refundedAmount") long refundedAmount,
+        @Param("deliveredCount") long deliveredCount, @Param("canceledCount") long canceledCount,
+        @Param("now") LocalDateTime now);
+
+    // 기본 키 (store_id, stat_date) 범위 조회
+    @Query("""
+           SELECT s
+           FROM StoreDailyStats s
+           WHERE s.storeId = :storeId
+           AND s.statDate BETWEEN :from AND :to
+           ORDER BY s.statDate
+        """)
+    List<StoreDailyStats> findAllByStoreIdBetween(@Param("storeId") UUID storeId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
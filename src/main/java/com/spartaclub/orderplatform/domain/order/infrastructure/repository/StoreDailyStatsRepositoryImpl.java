@@ -0,0 +1,55 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStats;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsAppliedEvent;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsDelta;
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreDailyStatsRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreDailyStatsRepositoryImpl implements StoreDailyStatsRepository {
+
+    private final StoreDailyStatsJpaRepository storeDailyStatsJpaRepository;
+    private final StoreDailyStatsAppliedEventJpaRepository appliedEventJpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public void increment(StoreDailyStatsDelta delta, LocalDateTime now) {
+        storeDailyStatsJpaRepository.upsertIncrement(delta.storeId(), delta.statDate(),
+            delta.paidCount(), delta.grossSales(), delta.refundCount(), delta.refundedAmount(),
+            delta.deliveredCount(), delta.canceledCount(), now);
+    }
+
+    @Override
+    public List<StoreDailyStats> findAllByStoreIdBetween(UUID storeId, LocalDate from,
+        LocalDate to) {
+        return storeDailyStatsJpaRepository.findAllByStoreIdBetween(storeId, from, to);
+    }
+
+    @Override
+    public Set<UUID> findAppliedEventIds(Collection<UUID> eventIds) {
+        return new HashSet<>(appliedEventJpaRepository.findExistingIds(eventIds));
+    }
+
+    @Override
+    public void markApplied(Collection<UUID> eventIds, LocalDateTime now) {
+        // 식별자를 직접 지정하므로 save(merge)의 선조회 없이 persist로 일괄 INSERT
+        eventIds.forEach(eventId ->
+            entityManager.persist(StoreDailyStatsAppliedEvent.of(eventId, now)));
+    }
+
+    @Override
+    public int purgeAppliedBefore(LocalDateTime before) {
+        return appliedEventJpaRepository.deleteAppliedBefore(before);
+    }
+}
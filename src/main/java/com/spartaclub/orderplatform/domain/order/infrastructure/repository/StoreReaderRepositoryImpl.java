@@ -3,8 +3,12 @@ package com.spartaclub.orderplatform.domain.order.infrastructure.repository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
 import com.spartaclub.orderplatform.domain.store.application.facade.StorePublicReader;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -18,5 +22,16 @@ public class StoreReaderRepositoryImpl implements StoreReaderRepository {
     public Optional<StoreSummary> loadStoreSummaryInfo(UUID storeId) {
         return storePublicReader.loadStoreSummaryInfo(storeId).map(StoreSummary::from);
     }
+
+    @Override
+    public Map<UUID, StoreSummary> loadStoreSummaryInfos(Collection<UUID> storeIds) {
+        return storePublicReader.loadStoreSummaryInfos(storeIds).entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> StoreSummary.from(e.getValue())));
+    }
+
+    @Override
+    public Set<UUID> loadStoreIdsByOwner(Long ownerId) {
+        return storePublicReader.loadStoreIdsByOwner(ownerId);
+    }
 }
 // TODO: StoreJPARepository 생기면 수정하기
\ No newline at end of file
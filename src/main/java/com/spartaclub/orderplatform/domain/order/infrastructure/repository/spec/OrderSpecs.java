@@ -1,9 +1,11 @@
 package com.spartaclub.orderplatform.domain.order.infrastructure.repository.spec;
 
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
 import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
-import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import java.util.Collection;
+import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class OrderSpecs {
@@ -11,23 +13,13 @@ public final class OrderSpecs {
     private OrderSpecs() {
     }
 
-    // 역할별 가시성
-    public static Specification<Order> visibleFor(User viewer) {
+    // 역할별 가시성 (OWNER는 캐시된 소유 가게 ID로 store_id IN 조건, 상관 서브쿼리 없음)
+    public static Specification<Order> visibleFor(User viewer, Collection<UUID> ownedStoreIds) {
         return (root, q, cb) -> switch (viewer.getRole()) {
             case CUSTOMER -> cb.equal(root.get("user").get("userId"), viewer.getUserId());
-            case OWNER -> {
-                // EXISTS (select 1 from Store s
-                //         where s.storeId = order.storeId
-                //           and s.user.userId = :viewerUserId)
-                var sub = q.subquery(Integer.class);
-                var s = sub.from(Store.class);
-                sub.select(cb.literal(1));
-                sub.where(
-                    cb.equal(s.get("storeId"), root.get("storeId")),
-                    cb.equal(s.get("user").get("userId"), viewer.getUserId())
-                );
-                yield cb.exists(sub);
-            }
+            case OWNER -> ownedStoreIds == null || ownedStoreIds.isEmpty()
+                ? cb.disjunction()
+                : root.get("storeId").in(ownedStoreIds);
             case MASTER, MANAGER -> cb.conjunction(); // 모두 허용
             default -> cb.disjunction(); // 서비스에서 AccessDeniedException
         };
@@ -44,4 +36,21 @@ public final class OrderSpecs {
             return in;
         };
     }
+
+    // 키셋 조건: (createdAt, orderId) < (cursor.createdAt, cursor.orderId)
+    public static Specification<Order> after(OrderCursor cursor) {
+        return (root, q, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            var createdAt = root.<java.time.LocalDateTime>get("createdAt");
+            return cb.or(
+                cb.lessThan(createdAt, cursor.createdAt()),
+                cb.and(
+                    cb.equal(createdAt, cursor.createdAt()),
+                    cb.lessThan(root.<java.util.UUID>get("orderId"), cursor.orderId())
+                )
+            );
+        };
+    }
 }
@@ -0,0 +1,59 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.repository.spec;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+// 조회 모델/보관 주문 공통 조건 (두 엔티티의 조건 속성 이름이 같음)
+public final class OrderViewSpecs {
+
+    private OrderViewSpecs() {
+    }
+
+    // 역할별 가시성 (OWNER는 캐시된 소유 가게 ID로 store_id IN 조건, 소유자 변경이 즉시 반영됨)
+    public static <T> Specification<T> visibleFor(User viewer,
+        Collection<UUID> ownedStoreIds) {
+        return (root, q, cb) -> switch (viewer.getRole()) {
+            case CUSTOMER -> cb.equal(root.get("userId"), viewer.getUserId());
+            case OWNER -> ownedStoreIds == null || ownedStoreIds.isEmpty()
+                ? cb.disjunction()
+                : root.get("storeId").in(ownedStoreIds);
+            case MASTER, MANAGER -> cb.conjunction(); // 모두 허용
+            default -> cb.disjunction(); // 서비스에서 AccessDeniedException
+        };
+    }
+
+    // 상태 필터
+    public static <T> Specification<T> statusIn(List<OrderStatus> statuses) {
+        return (root, q, cb) -> {
+            if (statuses == null || statuses.isEmpty()) {
+                return cb.conjunction();
+            }
+            var in = cb.in(root.get("status"));
+            statuses.forEach(in::value);
+            return in;
+        };
+    }
+
+    // 키셋 조건: (createdAt, orderId) < (cursor.createdAt, cursor.orderId)
+    public static <T> Specification<T> after(OrderCursor cursor) {
+        return (root, q, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            var createdAt = root.<LocalDateTime>get("createdAt");
+            return cb.or(
+                cb.lessThan(createdAt, cursor.createdAt()),
+                cb.and(
+                    cb.equal(createdAt, cursor.createdAt()),
+                    cb.lessThan(root.<UUID>get("orderId"), cursor.orderId())
+                )
+            );
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderArchiveService;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJob;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 주문 보관 이관 스케줄러 (한 노드만 실행, 청크마다 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+public class OrderArchiveScheduler {
+
+    private static final String LOCK_NAME = "order-archive";
+
+    private final OrderArchiveService orderArchiveService;
+    private final ChunkedJobRunner chunkedJobRunner;
+    private final Duration retention;
+    private final ChunkedJob job;
+
+    public OrderArchiveScheduler(
+        OrderArchiveService orderArchiveService,
+        ChunkedJobRunner chunkedJobRunner,
+        MeterRegistry meterRegistry,
+        @Value("${order.archive.retention:90d}") Duration retention,
+        @Value("${order.archive.chunk-size:500}") int chunkSize,
+        @Value("${order.archive.max-chunks:1000}") int maxChunks,
+        @Value("${order.archive.lock-at-most-for:2h}") Duration lockAtMostFor
+    ) {
+        this.orderArchiveService = orderArchiveService;
+        this.chunkedJobRunner = chunkedJobRunner;
+        this.retention = retention;
+        this.job = new ChunkedJob(LOCK_NAME, lockAtMostFor, chunkSize, maxChunks,
+            Counter.builder("order.archive.archived")
+                .description("보관 테이블로 이관한 주문 수")
+                .register(meterRegistry),
+            Timer.builder("order.archive.duration")
+                .description("종료 주문 보관 이관 소요 시간")
+                .register(meterRegistry));
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 4 * * *}")
+    public void archiveOrders() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        chunkedJobRunner.run(job, () -> orderArchiveService.archiveChunk(cutoff, job.chunkSize()))
+            .ifPresent(archived -> log.info(
+                "[OrderArchive] 종료 주문 보관 이관 완료 - cutoff={}, archived={}", cutoff, archived));
+    }
+}
@@ -0,0 +1,63 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderExpiryService;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJob;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대기 주문 만료 스케줄러 (한 노드만 실행, 청크마다 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduler {
+
+    private static final String LOCK_NAME = "order-expiry";
+
+    private final OrderExpiryService orderExpiryService;
+    private final ChunkedJobRunner chunkedJobRunner;
+    private final Duration pendingTtl;
+    private final ChunkedJob job;
+
+    public OrderExpiryScheduler(
+        OrderExpiryService orderExpiryService,
+        ChunkedJobRunner chunkedJobRunner,
+        MeterRegistry meterRegistry,
+        @Value("${order.expiry.pending-ttl:30m}") Duration pendingTtl,
+        @Value("${order.expiry.chunk-size:500}") int chunkSize,
+        @Value("${order.expiry.max-chunks:200}") int maxChunks,
+        @Value("${order.expiry.lock-at-most-for:10m}") Duration lockAtMostFor
+    ) {
+        this.orderExpiryService = orderExpiryService;
+        this.chunkedJobRunner = chunkedJobRunner;
+        this.pendingTtl = pendingTtl;
+        this.job = new ChunkedJob(LOCK_NAME, lockAtMostFor, chunkSize, maxChunks,
+            Counter.builder("order.expiry.swept")
+                .description("만료 처리한 결제 대기 주문 수")
+                .register(meterRegistry),
+            Timer.builder("order.expiry.duration")
+                .description("결제 대기 주문 만료 스윕 소요 시간")
+                .register(meterRegistry));
+    }
+
+    @Scheduled(cron = "${order.expiry.cron:0 */5 * * * *}")
+    public void expirePendingOrders() {
+        // 회차 내 모든 청크에 같은 cutoff 적용 (실행 중 생성된 주문은 만료하지 않음)
+        LocalDateTime cutoff = LocalDateTime.now().minus(pendingTtl);
+        chunkedJobRunner.run(job, () -> orderExpiryService.expireChunk(cutoff, job.chunkSize()))
+            .ifPresent(expired -> {
+                if (expired > 0) {
+                    log.info("[OrderExpiry] 결제 대기 주문 만료 - cutoff={}, expired={}", cutoff,
+                        expired);
+                }
+            });
+    }
+}
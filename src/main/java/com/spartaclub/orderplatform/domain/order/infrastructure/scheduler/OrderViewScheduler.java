@@ -0,0 +1,88 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderViewService;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderViewService.ReconcileResult;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJob;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 조회 모델 정합성 보정 스케줄러 (한 노드만 실행, 기동 시 누락분이 있으면 바로 백필)
+ */
+@Slf4j
+@Component
+public class OrderViewScheduler {
+
+    private static final String LOCK_NAME = "order-view-reconcile";
+
+    // 정렬상 최소 위치 (첫 청크 시작 기준)
+    private static final OrderCursor FIRST = new OrderCursor(LocalDateTime.of(1970, 1, 1, 0, 0),
+        new UUID(0L, 0L));
+
+    private final OrderViewService orderViewService;
+    private final ChunkedJobRunner chunkedJobRunner;
+    private final ChunkedJob job;
+
+    public OrderViewScheduler(
+        OrderViewService orderViewService,
+        ChunkedJobRunner chunkedJobRunner,
+        MeterRegistry meterRegistry,
+        @Value("${order.view.reconcile-chunk-size:500}") int chunkSize,
+        @Value("${order.view.reconcile-max-chunks:100000}") int maxChunks,
+        @Value("${order.view.reconcile-lock-at-most-for:2h}") Duration lockAtMostFor
+    ) {
+        this.orderViewService = orderViewService;
+        this.chunkedJobRunner = chunkedJobRunner;
+        this.job = new ChunkedJob(LOCK_NAME, lockAtMostFor, chunkSize, maxChunks,
+            Counter.builder("order.view.reconcile.scanned")
+                .description("정합성 보정에서 검사한 주문 수")
+                .register(meterRegistry),
+            Timer.builder("order.view.reconcile.duration")
+                .description("주문 조회 모델 정합성 보정 소요 시간")
+                .register(meterRegistry));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (orderViewService.hasMissingViews()) {
+            log.info("[OrderView] 조회 모델이 없는 주문 발견, 기동 시 보정 실행");
+            reconcileOrderViews();
+        }
+    }
+
+    @Scheduled(cron = "${order.view.reconcile-cron:0 0 5 * * *}")
+    public void reconcileOrderViews() {
+        AtomicReference<OrderCursor> after = new AtomicReference<>(FIRST);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger corrected = new AtomicInteger();
+
+        // 청크마다 별도 트랜잭션으로 처리하여 영속성 컨텍스트를 짧게 유지
+        chunkedJobRunner.run(job, () -> {
+                ReconcileResult result = orderViewService.reconcileChunk(after.get(),
+                    job.chunkSize());
+                created.addAndGet(result.created());
+                corrected.addAndGet(result.corrected());
+                if (result.last() != null) {
+                    after.set(result.last());
+                }
+                return result.scanned();
+            })
+            .ifPresent(scanned -> log.info(
+                "[OrderView] 조회 모델 정합성 보정 완료 - scanned={}, created={}, corrected={}",
+                scanned, created.get(), corrected.get()));
+    }
+}
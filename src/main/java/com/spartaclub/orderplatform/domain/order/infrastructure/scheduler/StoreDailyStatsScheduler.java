@@ -0,0 +1,32 @@
+package com.spartaclub.orderplatform.domain.order.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreDailyStatsRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 일별 집계 반영 기록 정리 스케줄러 (삭제는 멱등이라 잠금 없이 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDailyStatsScheduler {
+
+    private final StoreDailyStatsRepository storeDailyStatsRepository;
+
+    // 아웃박스 재시도 기간보다 길게 지정 (그보다 오래된 기록은 재전달될 수 없음)
+    @Value("${order.stats.applied-retention:7d}")
+    private Duration appliedRetention;
+
+    @Scheduled(cron = "${order.stats.purge-cron:0 0 6 * * *}")
+    public void purgeAppliedEvents() {
+        int purged = storeDailyStatsRepository.purgeAppliedBefore(
+            LocalDateTime.now().minus(appliedRetention));
+        log.info("[StoreDailyStats] 집계 반영 기록 정리 - purged={}", purged);
+    }
+}
@@ -1,14 +1,24 @@
 package com.spartaclub.orderplatform.domain.order.presentation.controller;
 
+import com.spartaclub.orderplatform.domain.order.application.service.OrderFeedService;
 import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.application.service.StoreDailyStatsService;
 import com.spartaclub.orderplatform.domain.order.application.service.query.OrderQueryFacade;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.BulkOrderStatusRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.BulkPlaceOrderRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.GetOrdersRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.GetStoreDailyStatsRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkOrderStatusResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkPlaceOrderResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderDetailResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderStatusResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.PlaceOrderResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.StoreDailyStatsResponseDto;
+import com.spartaclub.orderplatform.global.application.idempotency.IdempotencyService;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,17 +43,23 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/v1/orders")
 @RequiredArgsConstructor
 @Tag(name = "Order", description = "주문 API")
+@SqlBudget(8)
 public class OrderController {
 
     private final OrderService orderService;
     private final OrderQueryFacade orderQueryFacade;
+    private final OrderFeedService orderFeedService;
+    private final StoreDailyStatsService storeDailyStatsService;
+    private final IdempotencyService idempotencyService;
 
     // 주문 생성 API
     @Operation(
@@ -51,6 +68,7 @@ public class OrderController {
             새 주문을 생성합니다.
             - 성공 시 201과 함께 생성된 주문의 ID를 반환하며, Location 헤더에 상세 조회 URL이 포함됩니다.
             - 요청 본문은 음식점 ID, 주문 품목 리스트, 수령지, 요청사항 등으로 구성됩니다.
+            - Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 주문을 다시 만들지 않고 처음 응답을 반환합니다.
             """
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
@@ -65,12 +83,17 @@ public class OrderController {
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효성 검증 실패"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "가게/상품 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "가게/상품 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청")
     })
     @PostMapping("")
     public ResponseEntity<ApiResponse<PlaceOrderResponseDto>> placeOrder(
         @Parameter(hidden = true)
         @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(name = IdempotencyService.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 처리 결과를 그대로 반환 (선택, 최대 100자)")
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             required = true,
             description = "주문 생성 요청 본문",
@@ -78,8 +101,9 @@ public class OrderController {
         )
         @Valid @RequestBody PlaceOrderRequestDto requestDto
     ) {
-        PlaceOrderResponseDto responseDto =
-            orderService.placeOrder(requestDto, userDetails.getUser());
+        PlaceOrderResponseDto responseDto = idempotencyService.execute("order.place",
+            idempotencyKey, requestDto, PlaceOrderResponseDto.class,
+            () -> orderService.placeOrder(requestDto, userDetails.getUser()));
 
         String location = "/v1/orders/" + responseDto.orderId();
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -87,6 +111,37 @@ public class OrderController {
             .body(ApiResponse.success(responseDto));
     }
 
+    // 주문 일괄 생성 (키오스크/제휴사 연동)
+    @Operation(
+        summary = "주문 일괄 생성",
+        description = """
+            여러 주문을 한 번에 생성합니다.
+            - 가게/상품은 요청 전체에 대해 한 번에 검증하며, 주문별 결과를 요청 순번(index)과 함께 반환합니다.
+            - 검증에 실패한 주문은 failedOrders에 사유 코드와 함께 반환되고, 나머지 주문은 생성됩니다.
+            - 한 번에 최대 100건까지 요청할 수 있습니다.
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "일괄 주문 처리 완료",
+            content = @Content(schema = @Schema(implementation = BulkPlaceOrderResponseDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효성 검증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SqlBudget(10)
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkPlaceOrderResponseDto>> placeOrders(
+        @Parameter(hidden = true)
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Valid @RequestBody BulkPlaceOrderRequestDto requestDto
+    ) {
+        BulkPlaceOrderResponseDto response =
+            orderService.placeOrders(requestDto.orders(), userDetails.getUser());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 주문 상세 조회
     @Operation(
         summary = "주문 상세 조회",
@@ -120,6 +175,9 @@ public class OrderController {
             주문 목록을 조건에 따라 페이지네이션 조회합니다.
             - 상태(statuses/status) 필터는 선택입니다.
             - 페이지 파라미터: page(0부터), size, sort(예: createdAt,desc)
+            - cursor 파라미터를 지정하면 커서 모드로 동작합니다. (빈 값은 첫 페이지)
+              최신순(createdAt, orderId) 고정 정렬이며 전체 건수 없이 nextCursor만 반환합니다.
+            - history=true면 보관 이관된 과거 주문(오래된 배달완료/취소/거절/만료 주문)을 조회합니다.
             """
     )
     @ApiResponses({
@@ -147,6 +205,72 @@ public class OrderController {
                 orderQueryFacade.getOrders(requestDto, userDetails.getUser(), pageable)));
     }
 
+    // 가게 실시간 주문 피드 (SSE)
+    @Operation(
+        summary = "가게 실시간 주문 피드",
+        description = """
+            가게의 주문 생성/상태 변경/결제 승인 이벤트를 SSE(text/event-stream)로 전달합니다.
+            - OWNER는 본인 가게만, MANAGER/MASTER는 모든 가게를 구독할 수 있습니다.
+            - 이벤트 이름은 PLACED, STATUS_CHANGED, PAYMENT_CAPTURED 이며 id는 주문 ID입니다.
+            - 연결 유지를 위해 주기적으로 heartbeat 주석을 보냅니다.
+            - 느린 구독자는 오래된 이벤트부터 유실될 수 있으므로, 재연결 시 주문 목록 조회로 보정하세요.
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "구독 성공",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "피드 연결 수 한도 초과")
+    })
+    @GetMapping(value = "/stores/{storeId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'MASTER')")
+    public SseEmitter subscribeStoreFeed(
+        @Parameter(hidden = true)
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(name = "storeId", description = "가게 ID", in = ParameterIn.PATH, required = true)
+        @PathVariable UUID storeId
+    ) {
+        return orderFeedService.subscribe(storeId, userDetails.getUser());
+    }
+
+    // 가게 일별 매출 집계 조회
+    @Operation(
+        summary = "가게 일별 매출 집계 조회",
+        description = """
+            기간(from~to, 양끝 포함) 동안 가게의 일별 매출/주문 수/객단가를 조회합니다.
+            - OWNER는 본인 가게만, MANAGER/MASTER는 모든 가게를 조회할 수 있습니다.
+            - 결제 승인/환불, 배달 완료/취소 시점에 증분 집계된 값이며, 이벤트 발생 일자 기준입니다.
+            - 집계가 없는 일자는 0으로 채워 반환합니다. 최대 조회 기간은 366일입니다.
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = StoreDailyStatsResponseDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조회 기간 오류"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/stores/{storeId}/stats/daily")
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'MASTER')")
+    public ResponseEntity<ApiResponse<StoreDailyStatsResponseDto>> getStoreDailyStats(
+        @Parameter(hidden = true)
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(name = "storeId", description = "가게 ID", in = ParameterIn.PATH, required = true)
+        @PathVariable UUID storeId,
+        @ParameterObject @Valid @ModelAttribute GetStoreDailyStatsRequestDto requestDto
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+            storeDailyStatsService.getDailyStats(storeId, requestDto.from(), requestDto.to(),
+                userDetails.getUser())));
+    }
+
     // 주문 취소
     @Operation(
         summary = "주문 취소",
@@ -254,4 +378,68 @@ public class OrderController {
         OrderStatusResponseDto response = orderService.completeDelivery(userDetails, orderId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    // 주문 일괄 승인 (OWNER)
+    @Operation(
+        summary = "주문 일괄 승인(점주)",
+        description = """
+            점주 권한으로 여러 주문을 한 번에 승인합니다.
+            - 결제 완료 상태의 주문만 승인되며, 나머지는 failedOrders에 사유 코드와 함께 반환됩니다.
+            - 한 번에 최대 100건까지 요청할 수 있습니다.
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "일괄 승인 처리 완료",
+            content = @Content(schema = @Schema(implementation = BulkOrderStatusResponseDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효성 검증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "점주 권한 필요")
+    })
+    @SqlBudget(12)
+    @PostMapping("/bulk/accept")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<ApiResponse<BulkOrderStatusResponseDto>> acceptOrders(
+        @Parameter(hidden = true)
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Valid @RequestBody BulkOrderStatusRequestDto requestDto
+    ) {
+        BulkOrderStatusResponseDto response =
+            orderService.acceptOrders(userDetails, requestDto.orderIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 주문 일괄 거부 (OWNER)
+    @Operation(
+        summary = "주문 일괄 거부(점주)",
+        description = """
+            점주 권한으로 여러 주문을 한 번에 거부합니다.
+            - 결제 대기 또는 결제 완료 상태의 주문만 거부되며, 나머지는 failedOrders에 사유 코드와 함께 반환됩니다.
+            - 한 번에 최대 100건까지 요청할 수 있습니다.
+            """
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "일괄 거부 처리 완료",
+            content = @Content(schema = @Schema(implementation = BulkOrderStatusResponseDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효성 검증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "점주 권한 필요")
+    })
+    @SqlBudget(12)
+    @PostMapping("/bulk/reject")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<ApiResponse<BulkOrderStatusResponseDto>> rejectOrders(
+        @Parameter(hidden = true)
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Valid @RequestBody BulkOrderStatusRequestDto requestDto
+    ) {
+        BulkOrderStatusResponseDto response =
+            orderService.rejectOrders(userDetails, requestDto.orderIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
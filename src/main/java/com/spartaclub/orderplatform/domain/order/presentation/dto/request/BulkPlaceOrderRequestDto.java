@@ -0,0 +1,15 @@
+package com.spartaclub.orderplatform.domain.order.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkPlaceOrderRequestDto(
+    @NotEmpty(message = "주문 목록은 최소 1개 이상이어야 합니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 주문할 수 있습니다.")
+    List<@Valid @NotNull(message = "주문은 필수 값입니다.") PlaceOrderRequestDto> orders
+) {
+
+}
@@ -6,7 +6,20 @@ import java.util.List;
 
 public record GetOrdersRequestDto(
     @JsonAlias({"statuses", "status"})
-    List<OrderStatus> status
+    List<OrderStatus> status,
+
+    // 지정 시 커서 모드(빈 값이면 첫 페이지), 미지정 시 offset 모드
+    String cursor,
+
+    // true면 보관 이관된 과거 주문에서 조회 (미지정 시 운영 주문)
+    Boolean history
 ) {
 
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public boolean isHistory() {
+        return Boolean.TRUE.equals(history);
+    }
 }
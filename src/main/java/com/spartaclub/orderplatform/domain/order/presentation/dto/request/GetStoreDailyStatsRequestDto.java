@@ -0,0 +1,17 @@
+package com.spartaclub.orderplatform.domain.order.presentation.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record GetStoreDailyStatsRequestDto(
+    @NotNull(message = "from은 필수 값입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate from,             // 시작 일자 (포함)
+
+    @NotNull(message = "to는 필수 값입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate to                // 종료 일자 (포함)
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.spartaclub.orderplatform.domain.order.presentation.dto.response;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import java.util.List;
+import java.util.UUID;
+
+public record BulkOrderStatusResponseDto(
+    OrderStatus status,                 // 전이 후 상태
+    List<UUID> updatedOrderIds,         // 상태가 변경된 주문
+    List<FailedOrder> failedOrders      // 변경되지 않은 주문과 사유
+) {
+
+    public record FailedOrder(
+        UUID orderId,
+        String code
+    ) {
+
+    }
+}
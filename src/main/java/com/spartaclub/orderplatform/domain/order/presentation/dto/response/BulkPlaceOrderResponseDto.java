@@ -0,0 +1,24 @@
+package com.spartaclub.orderplatform.domain.order.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkPlaceOrderResponseDto(
+    List<PlacedOrder> placedOrders,     // 생성된 주문
+    List<FailedOrder> failedOrders      // 생성되지 않은 주문과 사유
+) {
+
+    public record PlacedOrder(
+        int index,                      // 요청 목록에서의 순번 (0부터)
+        UUID orderId
+    ) {
+
+    }
+
+    public record FailedOrder(
+        int index,                      // 요청 목록에서의 순번 (0부터)
+        String code
+    ) {
+
+    }
+}
@@ -9,9 +9,20 @@ import java.util.UUID;
 @JsonInclude(JsonInclude.Include.NON_NULL) // null일 경우 JSON에 미포함
 public record OrdersResponseDto(
     List<OrderSummaryDto> orders,
-    PageableDto pageable
+    PageableDto pageable,
+    CursorDto cursor
 ) {
 
+    // offset 모드
+    public OrdersResponseDto(List<OrderSummaryDto> orders, PageableDto pageable) {
+        this(orders, pageable, null);
+    }
+
+    // 커서 모드 (전체 건수 미포함)
+    public OrdersResponseDto(List<OrderSummaryDto> orders, CursorDto cursor) {
+        this(orders, null, cursor);
+    }
+
     public record OrderSummaryDto(
         UUID orderId,
         Long userId,
@@ -39,5 +50,12 @@ public record OrdersResponseDto(
     ) {
 
     }
-}
 
+    public record CursorDto(
+        Integer size,
+        Boolean hasNext,
+        String nextCursor
+    ) {
+
+    }
+}
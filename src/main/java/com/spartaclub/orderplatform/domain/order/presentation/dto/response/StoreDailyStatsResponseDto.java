@@ -0,0 +1,74 @@
+package com.spartaclub.orderplatform.domain.order.presentation.dto.response;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStats;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record StoreDailyStatsResponseDto(
+    UUID storeId,
+    LocalDate from,
+    LocalDate to,
+    Stats total,                // 기간 합계
+    List<DailyStats> days       // 일자 오름차순 (집계가 없는 일자는 0)
+) {
+
+    public record DailyStats(
+        LocalDate date,
+        Stats stats
+    ) {
+
+    }
+
+    public record Stats(
+        long paidCount,         // 결제 승인 건수
+        long grossSales,        // 결제 승인 금액
+        long refundCount,       // 환불 건수
+        long refundedAmount,    // 환불 금액
+        long netSales,          // 순매출 (승인 - 환불)
+        long averageBasket,     // 객단가 (승인 금액 / 승인 건수)
+        long deliveredCount,    // 배달 완료 주문 수
+        long canceledCount      // 고객 취소 주문 수
+    ) {
+
+        private static final Stats EMPTY = of(0, 0, 0, 0, 0, 0);
+
+        static Stats of(long paidCount, long grossSales, long refundCount, long refundedAmount,
+            long deliveredCount, long canceledCount) {
+            return new Stats(paidCount, grossSales, refundCount, refundedAmount,
+                grossSales - refundedAmount, paidCount == 0 ? 0L : grossSales / paidCount,
+                deliveredCount, canceledCount);
+        }
+
+        static Stats from(StoreDailyStats row) {
+            return of(row.getPaidCount(), row.getGrossSales(), row.getRefundCount(),
+                row.getRefundedAmount(), row.getDeliveredCount(), row.getCanceledCount());
+        }
+
+        Stats plus(Stats other) {
+            return of(paidCount + other.paidCount, grossSales + other.grossSales,
+                refundCount + other.refundCount, refundedAmount + other.refundedAmount,
+                deliveredCount + other.deliveredCount, canceledCount + other.canceledCount);
+        }
+    }
+
+    public static StoreDailyStatsResponseDto of(UUID storeId, LocalDate from, LocalDate to,
+        List<StoreDailyStats> rows) {
+        Map<LocalDate, StoreDailyStats> byDate = rows.stream()
+            .collect(Collectors.toMap(StoreDailyStats::getStatDate, Function.identity()));
+
+        List<DailyStats> days = new ArrayList<>();
+        Stats total = Stats.EMPTY;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            StoreDailyStats row = byDate.get(date);
+            Stats stats = row == null ? Stats.EMPTY : Stats.from(row);
+            days.add(new DailyStats(date, stats));
+            total = total.plus(stats);
+        }
+        return new StoreDailyStatsResponseDto(storeId, from, to, total, days);
+    }
+}
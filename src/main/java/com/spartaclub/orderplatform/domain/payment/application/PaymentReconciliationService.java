@@ -0,0 +1,186 @@
+package com.spartaclub.orderplatform.domain.payment.application;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentReconciliationRow;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.settlement.SettlementFileReader;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.settlement.SettlementRecord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PG 정산 파일 대사 서비스 (불일치는 건별로 sink에 전달)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    // PG에서 돈이 움직인 상태 (정산 파일에 반드시 있어야 함)
+    private static final Set<PaymentStatus> SETTLED = EnumSet.of(PaymentStatus.CAPTURED,
+        PaymentStatus.REFUNDED);
+
+    private final PaymentRepository paymentRepository;
+
+    @Transactional(readOnly = true)
+    public ReconciliationReport reconcile(Path settlementFile, LocalDate settlementDate,
+        Consumer<Mismatch> sink) {
+        long startedAt = System.nanoTime();
+        LocalDateTime from = settlementDate.atStartOfDay();
+        Tally tally = new Tally(sink);
+
+        try (SettlementFileReader settlements = SettlementFileReader.open(settlementFile);
+            Stream<PaymentReconciliationRow> rows = paymentRepository.streamForReconciliation(
+                from, from.plusDays(1))) {
+            // 양쪽 모두 PG 주문번호 순으로 스트리밍해 병합 비교 (한 행씩만 메모리에 유지)
+            Iterator<PaymentReconciliationRow> payments = rows.iterator();
+            SettlementRecord settlement = nextOrNull(settlements);
+            PaymentReconciliationRow payment = nextPayment(payments, null);
+
+            while (settlement != null || payment != null) {
+                int order = settlement == null ? 1
+                    : payment == null ? -1
+                        : settlement.pgOrderId().compareTo(payment.pgOrderId());
+                if (order < 0) {
+                    tally.mismatch(new Mismatch(MismatchType.MISSING_PAYMENT,
+                        settlement.pgOrderId(), null, settlement.pgStatus(), null));
+                    tally.settlementRows++;
+                    settlement = nextOrNull(settlements);
+                } else if (order > 0) {
+                    if (SETTLED.contains(payment.status())) {
+                        tally.mismatch(new Mismatch(MismatchType.MISSING_SETTLEMENT,
+                            payment.pgOrderId(), payment.paymentId(), null,
+                            payment.status().name()));
+                    }
+                    tally.paymentRows++;
+                    payment = nextPayment(payments, payment);
+                } else {
+                    compare(settlement, payment, tally);
+                    tally.settlementRows++;
+                    tally.paymentRows++;
+                    settlement = nextOrNull(settlements);
+                    payment = nextPayment(payments, payment);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return tally.toReport(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private void compare(SettlementRecord settlement, PaymentReconciliationRow payment,
+        Tally tally) {
+        boolean matched = true;
+        PaymentStatus expectedStatus = settlement.expectedStatus();
+        if (expectedStatus != payment.status()) {
+            matched = tally.mismatch(new Mismatch(MismatchType.STATUS, payment.pgOrderId(),
+                payment.paymentId(), settlement.pgStatus(), payment.status().name()));
+        }
+        if (settlement.amount() != payment.amount()) {
+            matched = tally.mismatch(new Mismatch(MismatchType.AMOUNT, payment.pgOrderId(),
+                payment.paymentId(), String.valueOf(settlement.amount()),
+                String.valueOf(payment.amount())));
+        }
+        if (!Objects.equals(settlement.pgPaymentKey(), payment.pgPaymentKey())) {
+            matched = tally.mismatch(new Mismatch(MismatchType.PAYMENT_KEY, payment.pgOrderId(),
+                payment.paymentId(), settlement.pgPaymentKey(), payment.pgPaymentKey()));
+        }
+        if (matched) {
+            tally.matched++;
+        }
+    }
+
+    private static SettlementRecord nextOrNull(SettlementFileReader settlements) {
+        return settlements.hasNext() ? settlements.next() : null;
+    }
+
+    // DB 정렬이 파일과 다르면(콜레이션 등) 병합 결과를 신뢰할 수 없으므로 즉시 실패
+    private static PaymentReconciliationRow nextPayment(Iterator<PaymentReconciliationRow> payments,
+        PaymentReconciliationRow previous) {
+        if (!payments.hasNext()) {
+            return null;
+        }
+        PaymentReconciliationRow next = payments.next();
+        if (previous != null && previous.pgOrderId().compareTo(next.pgOrderId()) > 0) {
+            throw new IllegalStateException(
+                "결제 조회 결과가 PG 주문번호 순이 아님 - pgOrderId=" + next.pgOrderId());
+        }
+        return next;
+    }
+
+    public enum MismatchType {
+        MISSING_PAYMENT,     // 정산 파일에만 있음
+        MISSING_SETTLEMENT,  // 승인/환불된 결제가 정산 파일에 없음
+        STATUS,
+        AMOUNT,
+        PAYMENT_KEY
+    }
+
+    // expected: 정산 파일 값, actual: DB 값
+    public record Mismatch(MismatchType type, String pgOrderId, UUID paymentId, String expected,
+                           String actual) {
+
+    }
+
+    public record ReconciliationReport(long settlementRows, long paymentRows, long matched,
+                                       Map<MismatchType, Long> mismatches, Duration elapsed) {
+
+        public long mismatchCount() {
+            return mismatches.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        // 초당 처리 행 수 (정산 파일 + 결제)
+        public double rowsPerSecond() {
+            double seconds = Math.max(elapsed.toNanos(), 1L) / 1_000_000_000.0;
+            return (settlementRows + paymentRows) / seconds;
+        }
+    }
+
+    private static final class Tally {
+
+        private final Consumer<Mismatch> sink;
+        private final long[] mismatches = new long[MismatchType.values().length];
+        private long settlementRows;
+        private long paymentRows;
+        private long matched;
+
+        private Tally(Consumer<Mismatch> sink) {
+            this.sink = sink;
+        }
+
+        // 불일치 기록, 호출부에서 일치 여부 갱신에 쓰도록 항상 false 반환
+        private boolean mismatch(Mismatch mismatch) {
+            mismatches[mismatch.type().ordinal()]++;
+            sink.accept(mismatch);
+            return false;
+        }
+
+        private ReconciliationReport toReport(Duration elapsed) {
+            Map<MismatchType, Long> counts = new EnumMap<>(MismatchType.class);
+            for (MismatchType type : MismatchType.values()) {
+                counts.put(type, mismatches[type.ordinal()]);
+            }
+            return new ReconciliationReport(settlementRows, paymentRows, matched,
+                Collections.unmodifiableMap(counts), elapsed);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.spartaclub.orderplatform.domain.payment.application;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.TossPaymentsClient;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 중단된 PG 호출 복구 서비스 (진행 표시가 남은 결제를 PG 조회 결과로 확정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentRecoveryService {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateService paymentStateService;
+    private final TossPaymentsClient tossPaymentsClient;
+
+    /**
+     * before 이전에 시작되어 완료되지 않은 PG 호출을 최대 limit건 복구 PG 조회는 트랜잭션 밖에서, 결과 반영은 건별 짧은 트랜잭션으로 처리
+     *
+     * @return 조회한 건수, 확정한 건수 (PG 장애로 확정하지 못한 건은 다음 스윕에서 재시도)
+     */
+    public RecoveryResult recover(LocalDateTime before, int limit) {
+        List<Payment> stale = paymentRepository.findStalePgOperations(before, limit);
+        int resolved = 0;
+        for (Payment payment : stale) {
+            try {
+                if (resolve(payment)) {
+                    resolved++;
+                }
+            } catch (BusinessException e) {
+                log.warn("[PaymentRecovery] PG 조회 실패, 다음 스윕에서 재시도 - paymentId={}, code={}",
+                    payment.getPaymentId(), e.getErrorCode().getCode());
+            }
+        }
+        return new RecoveryResult(stale.size(), resolved);
+    }
+
+    private boolean resolve(Payment payment) {
+        PgOperation operation = payment.getPgOperation();
+        // PG 결제 준비가 만들어지지 않은 예약은 삭제
+        if (operation == PgOperation.READY) {
+            return paymentStateService.abandonReservation(payment.getPaymentId());
+        }
+
+        Optional<TossPaymentResponse> pgPayment = tossPaymentsClient.getPayment(
+            payment.getPgPaymentKey());
+        PaymentStatus result = operation == PgOperation.CONFIRM
+            ? confirmResult(pgPayment)
+            : cancelResult(pgPayment);
+
+        log.info("[PaymentRecovery] 중단된 PG 호출 확정 - paymentId={}, operation={}, pgStatus={}, result={}",
+            payment.getPaymentId(), operation,
+            pgPayment.map(TossPaymentResponse::status).orElse(null), result);
+        return paymentStateService.complete(payment.getPaymentId(), operation, result);
+    }
+
+    // 승인 완료면 CAPTURED, 승인 불가면 FAILED, 그 외(PG 기록 없음 포함)는 AUTHORIZED로 되돌려 재승인 허용
+    private PaymentStatus confirmResult(Optional<TossPaymentResponse> pgPayment) {
+        if (pgPayment.filter(TossPaymentResponse::isDone).isPresent()) {
+            return PaymentStatus.CAPTURED;
+        }
+        if (pgPayment.filter(TossPaymentResponse::isAborted).isPresent()) {
+            return PaymentStatus.FAILED;
+        }
+        return PgOperation.CONFIRM.getFromStatus();
+    }
+
+    // 취소 완료면 REFUNDED, 그 외는 CAPTURED로 되돌림
+    private PaymentStatus cancelResult(Optional<TossPaymentResponse> pgPayment) {
+        if (pgPayment.filter(TossPaymentResponse::isCanceled).isPresent()) {
+            return PaymentStatus.REFUNDED;
+        }
+        return PgOperation.CANCEL.getFromStatus();
+    }
+
+    public record RecoveryResult(int scanned, int resolved) {
+
+    }
+}
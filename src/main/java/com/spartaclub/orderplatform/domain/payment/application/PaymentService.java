@@ -5,13 +5,16 @@ import static com.spartaclub.orderplatform.domain.payment.domain.model.PaymentSt
 import static com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus.FAILED;
 import static com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus.REFUNDED;
 
-import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentCursor;
 import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentQuery;
 import com.spartaclub.orderplatform.domain.payment.application.mapper.PaymentMapper;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentSummary;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
 import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
 import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.PgCallGuard;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.PgRedirectUrlParser;
 import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.TossPaymentsClient;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.CancelPaymentRequestDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.ConfirmPaymentRequestDto;
@@ -29,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,86 +42,96 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final OrderService orderService;
+    private final PaymentStateService paymentStateService;
     private final TossPaymentsClient tossPaymentsClient;
     private final PaymentMapper paymentMapper;
 
+    /*
+     * PG 호출은 트랜잭션 밖에서 수행 (PG 응답 대기 중 DB 커넥션 미점유)
+     * 1) 짧은 트랜잭션: 검증 + 결제 예약/진행 표시
+     * 2) PG 호출 (커넥션 없음)
+     * 3) 짧은 트랜잭션: 결과 반영 + 진행 표시 해제
+     * 2)에서 중단된 결제는 PaymentRecoveryService가 PG 조회로 확정
+     */
+
     //결제 생성
-    @Transactional
     public InitPaymentResponseDto initPayment(InitPaymentRequestDto requestDto) {
-        Order order = orderService.findById(requestDto.orderId());
-
-        //주문 상태 및 결제 금액 검증
-        order.validatePaymentAvailable(requestDto.amount());
+        UUID paymentId = paymentStateService.reserve(requestDto);
 
-        if (paymentRepository.existsByOrder(order)) {
-            log.warn("[Payment] Duplicate Payment Exception");
-            throw new BusinessException(PaymentErrorCode.DUPLICATE_PAYMENT);
+        String redirectUrl;
+        String[] redirectUrlParts;
+        try {
+            //PG사 결제 요청
+            redirectUrl = tossPaymentsClient.requestPaymentReady(requestDto.amount());
+
+            //리다이렉트 URL 파싱
+            redirectUrlParts = PgRedirectUrlParser.parse(redirectUrl);
+        } catch (RuntimeException e) {
+            // PG 결제 준비가 만들어지지 않았으므로 예약을 지워 재시도 가능하게 함
+            paymentStateService.abandonReservation(paymentId);
+            throw e;
         }
-
-        //PG사 결제 요청
-        String redirectUrl = tossPaymentsClient.requestPaymentReady(requestDto.amount());
-
-        //리다이렉트 URL 파싱
-        String[] redirectUrlParts = parseRedirectUrl(redirectUrl);
         String result = redirectUrlParts[0];
         String PgPaymentKey = redirectUrlParts[1];
         String PgOrderId = redirectUrlParts[2];
 
         if (result.equals("success")) {
-            Payment payment = Payment.ofStatus(order, AUTHORIZED, requestDto.amount(),
-                PgPaymentKey, PgOrderId);
-            paymentRepository.save(payment);
-            return new InitPaymentResponseDto(payment.getPaymentId(), redirectUrl, PgPaymentKey,
-                PgOrderId);
+            if (!paymentStateService.authorize(paymentId, PgPaymentKey, PgOrderId)) {
+                throw new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_ERROR);
+            }
+            return new InitPaymentResponseDto(paymentId, redirectUrl, PgPaymentKey, PgOrderId);
         } else {
-            Payment payment = Payment.ofStatus(order, FAILED, requestDto.amount());
-            paymentRepository.save(payment);
-            return new InitPaymentResponseDto(payment.getPaymentId(), redirectUrl, null, null);
+            paymentStateService.complete(paymentId, PgOperation.READY, FAILED);
+            return new InitPaymentResponseDto(paymentId, redirectUrl, null, null);
         }
     }
 
     //결제 승인
-    @Transactional
     public void confirmPayment(ConfirmPaymentRequestDto requestDto, UUID paymentId) {
-        Order order = orderService.findById(requestDto.orderId());
-
-        //주문 상태 및 결제 금액 검증
-        order.validatePaymentAvailable(requestDto.amount());
-
-        Payment payment = findById(paymentId);
-
-        //결제 상태, PG 결제키, PG orderId, 금액 검증
-        payment.validateApproval(requestDto.pgPaymentKey(), requestDto.pgOrderId(),
-            requestDto.amount());
+        paymentStateService.beginConfirm(requestDto, paymentId);
 
-        boolean success = tossPaymentsClient.confirmPayment(requestDto.pgPaymentKey(),
-            requestDto.pgOrderId(), requestDto.amount());
-
-        if (success) {
-            payment.changeStatus(CAPTURED);
+        // 타임아웃 등 PG 오류 시 승인 여부를 알 수 없으므로 진행 표시를 남겨 복구 스윕에 맡김
+        boolean success;
+        try {
+            success = tossPaymentsClient.confirmPayment(requestDto.pgPaymentKey(),
+                requestDto.pgOrderId(), requestDto.amount());
+        } catch (BusinessException e) {
+            releaseIfNotCalled(e, paymentId, PgOperation.CONFIRM);
+            throw e;
         }
-//        else {
-//            payment.changeStatus(PaymentStatus.FAILED);
-//        }
+
+        // 승인 → CAPTURED, 거절 → AUTHORIZED 유지 (재승인 가능)
+        paymentStateService.complete(paymentId, PgOperation.CONFIRM,
+            success ? CAPTURED : AUTHORIZED);
     }
 
     //결제 취소
-    @Transactional
     public void cancelPayment(CancelPaymentRequestDto requestDto, UUID paymentId) {
-        Payment payment = findById(paymentId);
+        paymentStateService.beginCancel(requestDto, paymentId);
+
+        boolean success;
+        try {
+            success = tossPaymentsClient.cancelPayment(requestDto.pgPaymentKey(),
+                requestDto.cancelReason());
+        } catch (BusinessException e) {
+            releaseIfNotCalled(e, paymentId, PgOperation.CANCEL);
+            throw e;
+        }
 
-        //결제 취소 검증
-        payment.checkCancelable(requestDto.pgPaymentKey());
+        // 취소 → REFUNDED, 거절 → CAPTURED 유지
+        paymentStateService.complete(paymentId, PgOperation.CANCEL,
+            success ? REFUNDED : CAPTURED);
+    }
 
-        boolean success = tossPaymentsClient.cancelPayment(requestDto.pgPaymentKey(),
-            requestDto.cancelReason());
-        if (success) {
-            payment.changeStatus(REFUNDED);
+    // 서킷 열림/동시 호출 한도 초과로 PG를 호출하지 않은 경우 복구 스윕을 기다리지 않고 진행 표시 해제 (바로 재시도 가능)
+    private void releaseIfNotCalled(BusinessException e, UUID paymentId, PgOperation operation) {
+        if (PgCallGuard.isRejectedBeforeCall(e)) {
+            paymentStateService.complete(paymentId, operation, operation.getFromStatus());
         }
     }
 
     //결제 상세 조회
+    @Transactional(readOnly = true)
     public PaymentDetailResponseDto getPaymentDetail(UUID paymentId) {
         Payment payment = findById(paymentId);
         return paymentMapper.toDto(payment);
@@ -131,59 +145,39 @@ public class PaymentService {
             });
     }
 
-    private String[] parseRedirectUrl(String redirectUrl) {
-        String[] resultParts = new String[3];
-        try {
-            // 결과 구분
-            resultParts[0] = redirectUrl.contains("success") ? "success" : "fail";
-
-            // 쿼리 파라미터 부분만 분리
-            String[] split = redirectUrl.split("\\?");
-            if (split.length < 2) {
-                log.warn("[RedirectURL-Parsing] 잘못된 형식 - '?' 구분자가 없습니다. URL: {}", redirectUrl);
-                throw new BusinessException(PaymentErrorCode.INVALID_REDIRECT_URL_FORMAT);
-            }
-
-            // 각 파라미터를 '=' 기준으로 분리
-            String[] params = split[1].split("&");
-            for (String param : params) {
-                String[] keyValue = param.split("=");
-                if (keyValue.length != 2) {
-                    log.warn("[RedirectURL-Parsing] 잘못된 파라미터 형식: {}", param);
-                    throw new BusinessException(PaymentErrorCode.INVALID_REDIRECT_URL_FORMAT);
-                }
-                String key = keyValue[0];
-                String value = keyValue[1];
-                if (key.equals("paymentKey")) {
-                    resultParts[1] = value;
-                } else if (key.equals("orderId")) {
-                    resultParts[2] = value;
-                }
-            }
+    //결제 전체 조회 (엔티티 대신 프로젝션으로 조회해 주문 연관관계를 로딩하지 않음)
+    @Transactional(readOnly = true)
+    public PaymentsListResponseDto getPayments(GetPaymentsListRequestDto requestDto, User user,
+        Pageable pageable) {
 
-        } catch (Exception e) {
-            log.warn("[RedirectURL-Parsing] Payment 예외 발생 - message={}", e.getMessage());
-            throw new BusinessException(PaymentErrorCode.REDIRECT_URL_PARSING_FAILED);
+        //조회 조건 (종료일 포함)
+        PaymentQuery paymentQuery = new PaymentQuery(
+            requestDto.status(),
+            requestDto.storeId(),
+            requestDto.from() == null ? null : requestDto.from().atStartOfDay(),
+            requestDto.to() == null ? null : requestDto.to().plusDays(1).atStartOfDay());
+
+        //커서 모드: page 번호는 무시하고 size만 사용, COUNT 쿼리 없음
+        if (requestDto.isCursorMode()) {
+            PaymentCursor cursor = PaymentCursor.decode(requestDto.cursor());
+            Slice<PaymentSummary> paymentSlice = paymentRepository.findSummarySlice(paymentQuery,
+                cursor, pageable.getPageSize());
+            return new PaymentsListResponseDto(toDtos(paymentSlice),
+                paymentMapper.toCursorDto(paymentSlice));
         }
-        return resultParts;
-    }
 
-    //결제 전체 조회
-    public PaymentsListResponseDto getPayments(GetPaymentsListRequestDto requestDto, User user,
-        Pageable pageable) {
+        Page<PaymentSummary> paymentPage = paymentRepository.findSummaries(paymentQuery,
+            pageable);
+        PaymentsListResponseDto.PageableDto pageableDto = paymentMapper.toPageableDto(paymentPage);
 
-        //조회
-        PaymentQuery paymentQuery = new PaymentQuery(requestDto.status());
-        Page<Payment> paymentPage = paymentRepository.findAll(paymentQuery, pageable);
+        return new PaymentsListResponseDto(toDtos(paymentPage), pageableDto);
+    }
 
-        //매핑
-        List<PaymentDetailResponseDto> payments = paymentPage.stream()
+    //매핑
+    private List<PaymentDetailResponseDto> toDtos(Slice<PaymentSummary> summaries) {
+        return summaries.stream()
             .map(paymentMapper::toDto)
             .collect(Collectors.toList());
-
-        PaymentsListResponseDto.PageableDto pageableDto = paymentMapper.toPageableDto(paymentPage);
-
-        return new PaymentsListResponseDto(payments, pageableDto);
     }
 
 }
@@ -0,0 +1,134 @@
+package com.spartaclub.orderplatform.domain.payment.application;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.CancelPaymentRequestDto;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.ConfirmPaymentRequestDto;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.InitPaymentRequestDto;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 상태 변경 단위 트랜잭션 (PG 호출 전 진행 표시, PG 호출 후 결과 반영을 각각 짧은 트랜잭션으로 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentStateService {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final OutboxService outboxService;
+
+    // 주문 검증 후 결제 예약 (PAYMENT_PENDING + READY), 결제 ID 반환
+    @Transactional
+    public UUID reserve(InitPaymentRequestDto requestDto) {
+        Order order = orderService.findById(requestDto.orderId());
+
+        //주문 상태 및 결제 금액 검증
+        order.validatePaymentAvailable(requestDto.amount());
+
+        Payment payment = paymentRepository.saveIfOrderAbsent(
+                Payment.reserve(order, requestDto.amount(), LocalDateTime.now()))
+            .orElseThrow(() -> {
+                log.warn("[Payment] Duplicate Payment Exception");
+                return new BusinessException(PaymentErrorCode.DUPLICATE_PAYMENT);
+            });
+        return payment.getPaymentId();
+    }
+
+    // 결제 승인 검증 후 승인 진행 표시
+    @Transactional
+    public void beginConfirm(ConfirmPaymentRequestDto requestDto, UUID paymentId) {
+        Order order = orderService.findById(requestDto.orderId());
+
+        //주문 상태 및 결제 금액 검증
+        order.validatePaymentAvailable(requestDto.amount());
+
+        Payment payment = findById(paymentId);
+
+        //결제 상태, PG 결제키, PG orderId, 금액 검증
+        payment.validateApproval(requestDto.pgPaymentKey(), requestDto.pgOrderId(),
+            requestDto.amount());
+
+        begin(paymentId, PgOperation.CONFIRM);
+    }
+
+    // 결제 취소 검증 후 취소 진행 표시
+    @Transactional
+    public void beginCancel(CancelPaymentRequestDto requestDto, UUID paymentId) {
+        Payment payment = findById(paymentId);
+
+        //결제 취소 검증
+        payment.checkCancelable(requestDto.pgPaymentKey());
+
+        begin(paymentId, PgOperation.CANCEL);
+    }
+
+    // 결제 준비 성공 반영
+    @Transactional
+    public boolean authorize(UUID paymentId, String pgPaymentKey, String pgOrderId) {
+        boolean updated = paymentRepository.authorize(paymentId, pgPaymentKey, pgOrderId,
+            LocalDateTime.now());
+        if (!updated) {
+            log.warn("[Payment] 결제 준비 결과 반영 불가 (이미 정리됨) - paymentId={}", paymentId);
+        }
+        return updated;
+    }
+
+    // PG 호출 결과 반영 및 진행 표시 해제, 상태가 바뀐 경우 같은 트랜잭션에서 아웃박스 기록
+    @Transactional
+    public boolean complete(UUID paymentId, PgOperation operation, PaymentStatus result) {
+        boolean updated = paymentRepository.completePgOperation(paymentId, operation, result,
+            LocalDateTime.now());
+        if (!updated) {
+            // 복구 스윕이 먼저 확정한 경우
+            log.warn("[Payment] PG 결과 반영 불가 (이미 정리됨) - paymentId={}, operation={}",
+                paymentId, operation);
+            return false;
+        }
+        // PG 거절로 시작 상태로 되돌린 경우는 상태 변경이 아님
+        if (result != operation.getFromStatus()) {
+            paymentRepository.findOrderIdById(paymentId).ifPresent(orderId ->
+                outboxService.append(OutboxEventType.PAYMENT_STATUS_CHANGED, paymentId,
+                    Map.of("orderId", orderId.toString(), "status", result.name())));
+        }
+        return true;
+    }
+
+    // PG 준비 요청 실패 시 예약 삭제 (같은 주문으로 다시 결제 가능)
+    @Transactional
+    public boolean abandonReservation(UUID paymentId) {
+        return paymentRepository.deleteReservation(paymentId);
+    }
+
+    private void begin(UUID paymentId, PgOperation operation) {
+        if (!paymentRepository.beginPgOperation(paymentId, operation, LocalDateTime.now())) {
+            // 같은 결제에 대한 PG 호출이 이미 진행 중
+            log.warn("[Payment] PG 호출 진행 중 - paymentId={}, operation={}", paymentId,
+                operation);
+            throw new BusinessException(PaymentErrorCode.PAYMENT_IN_PROGRESS);
+        }
+    }
+
+    private Payment findById(UUID paymentId) {
+        return paymentRepository.findById(paymentId)
+            .orElseThrow(() -> {
+                log.warn("[Payment] NOT_EXIST - paymentId={}", paymentId);
+                return new BusinessException(PaymentErrorCode.NOT_EXIST);
+            });
+    }
+}
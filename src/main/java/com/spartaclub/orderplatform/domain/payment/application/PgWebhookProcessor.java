@@ -0,0 +1,327 @@
+package com.spartaclub.orderplatform.domain.payment.application;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentWebhookTarget;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PgWebhookEventRepository;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PG 웹훅 이벤트 배치 반영 (결제키별 발생 순 적용 후 최종 상태별로 결제/주문 일괄 UPDATE)
+ */
+@Slf4j
+@Service
+public class PgWebhookProcessor {
+
+    // PG 조회로 확인한 뒤에만 반영하는 상태 (토스 웹훅은 서명이 없으므로 본문의 상태를 그대로 믿지 않음)
+    public static final Set<PaymentStatus> REQUIRES_PG_CONFIRMATION = EnumSet.of(
+        PaymentStatus.CAPTURED, PaymentStatus.REFUNDED);
+
+    // 결제 최종 상태에 따른 주문 전이 (실패는 주문을 그대로 두고 만료 스윕에 맡김)
+    private static final Map<PaymentStatus, OrderTransition> ORDER_TRANSITIONS = Map.of(
+        PaymentStatus.CAPTURED, OrderTransition.PAY,
+        PaymentStatus.REFUNDED, OrderTransition.CANCEL_BY_PAYMENT);
+
+    // 같은 결제의 이벤트 순서: 발생 시각 → 수신 시각
+    private static final Comparator<PgWebhookEvent> EVENT_ORDER = Comparator
+        .comparing(PgWebhookEvent::getOccurredAt)
+        .thenComparing(PgWebhookEvent::getReceivedAt);
+
+    private final PaymentRepository paymentRepository;
+    private final PgWebhookEventRepository pgWebhookEventRepository;
+    private final OrderService orderService;
+    private final OutboxService outboxService;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+
+    public PgWebhookProcessor(
+        PaymentRepository paymentRepository,
+        PgWebhookEventRepository pgWebhookEventRepository,
+        OrderService orderService,
+        OutboxService outboxService,
+        @Value("${pg.webhook.lease:1m}") Duration lease,
+        @Value("${pg.webhook.retry-delay:30s}") Duration retryDelay,
+        @Value("${pg.webhook.max-attempts:20}") int maxAttempts
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.pgWebhookEventRepository = pgWebhookEventRepository;
+        this.orderService = orderService;
+        this.outboxService = outboxService;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 배치 반영 결과
+     *
+     * @param changed  상태가 바뀐 결제 수
+     * @param rejected PG 조회 결과와 맞지 않아 버린 이벤트 수
+     * @param deferred 재시도 대상으로 남긴 이벤트 수
+     * @param dead     최대 시도 횟수를 넘겨 DEAD로 남긴 이벤트 수
+     */
+    public record Result(int changed, int rejected, int deferred, int dead) {
+
+    }
+
+    // PG 상태에 대응하는 결제 상태, 반영하지 않는 상태(부분 취소, 진행 중 등)는 null
+    public static PaymentStatus targetStatus(String pgStatus) {
+        return switch (pgStatus) {
+            case TossPaymentResponse.STATUS_DONE -> PaymentStatus.CAPTURED;
+            case TossPaymentResponse.STATUS_CANCELED -> PaymentStatus.REFUNDED;
+            case TossPaymentResponse.STATUS_ABORTED, TossPaymentResponse.STATUS_EXPIRED ->
+                PaymentStatus.FAILED;
+            default -> null;
+        };
+    }
+
+    // PG 조회가 필요한 이벤트인지 (반영 전 트랜잭션 밖에서 조회)
+    public static boolean requiresPgConfirmation(PgWebhookEvent event) {
+        PaymentStatus target = targetStatus(event.getPgStatus());
+        return target != null && REQUIRES_PG_CONFIRMATION.contains(target);
+    }
+
+    // DB로 넘겨진 이벤트를 최대 limit건 점유 (lease 동안 다른 노드/다음 폴링에서 제외)
+    @Transactional
+    public List<PgWebhookEvent> claimSpilled(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PgWebhookEvent> events = pgWebhookEventRepository.findAvailableForUpdate(now, limit);
+        events.forEach(event -> event.claim(now.plus(lease)));
+        return events;
+    }
+
+    /**
+     * 인메모리 큐에서 꺼낸 이벤트 반영, 아직 반영할 수 없는 이벤트는 같은 트랜잭션에서 DB로 넘겨 재시도
+     *
+     * @param pgPayments 결제키별 PG 조회 결과 (PG에 기록이 없으면 empty, 조회에 실패한 키는 없음)
+     */
+    @Transactional
+    public Result applyQueued(List<PgWebhookEvent> events,
+        Map<String, Optional<TossPaymentResponse>> pgPayments) {
+        Outcome outcome = applyInOrder(events, pgPayments);
+
+        LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+        outcome.deferred.forEach((event, reason) -> {
+            event.retryAt(retryAt, reason);
+            pgWebhookEventRepository.saveIfAbsent(event);
+        });
+        return outcome.toResult(0);
+    }
+
+    /**
+     * 점유한 DB 이벤트 반영: 처리된 이벤트는 같은 트랜잭션에서 삭제, 아직 반영할 수 없는 이벤트는 재시도 예약 또는 DEAD
+     *
+     * @param pgPayments 결제키별 PG 조회 결과 (PG에 기록이 없으면 empty, 조회에 실패한 키는 없음)
+     */
+    @Transactional
+    public Result applySpilled(List<PgWebhookEvent> events,
+        Map<String, Optional<TossPaymentResponse>> pgPayments) {
+        Outcome outcome = applyInOrder(events, pgPayments);
+        pgWebhookEventRepository.deleteAllById(
+            outcome.handled.stream().map(PgWebhookEvent::getEventId).toList());
+        if (outcome.deferred.isEmpty()) {
+            return outcome.toResult(0);
+        }
+
+        Map<String, String> reasons = outcome.deferred.entrySet().stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().getEventId(), Map.Entry::getValue));
+        LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+        int dead = 0;
+        for (PgWebhookEvent event : pgWebhookEventRepository.findAllById(reasons.keySet())) {
+            String reason = reasons.get(event.getEventId());
+            if (event.getAttempts() >= maxAttempts) {
+                event.markDead(reason);
+                dead++;
+                log.error("[PgWebhook] 최대 재시도 초과 - eventId={}, pgPaymentKey={}, pgStatus={}, "
+                    + "reason={}", event.getEventId(), event.getPgPaymentKey(),
+                    event.getPgStatus(), reason);
+            } else {
+                event.retryAt(retryAt, reason);
+            }
+        }
+        return outcome.toResult(dead);
+    }
+
+    private Outcome applyInOrder(List<PgWebhookEvent> events,
+        Map<String, Optional<TossPaymentResponse>> pgPayments) {
+        Outcome outcome = new Outcome();
+
+        // 이벤트 ID 중복 제거 후 결제키별로 모음 (반영 대상이 아닌 상태는 처리된 것으로 봄)
+        Set<String> eventIds = new HashSet<>();
+        Map<String, List<PgWebhookEvent>> byKey = new LinkedHashMap<>();
+        for (PgWebhookEvent event : events) {
+            if (!eventIds.add(event.getEventId())) {
+                continue;
+            }
+            if (targetStatus(event.getPgStatus()) == null) {
+                outcome.handled.add(event);
+                continue;
+            }
+            byKey.computeIfAbsent(event.getPgPaymentKey(), key -> new ArrayList<>()).add(event);
+        }
+        if (byKey.isEmpty()) {
+            return outcome;
+        }
+
+        Map<String, PaymentWebhookTarget> payments = paymentRepository
+            .findForWebhookUpdate(byKey.keySet()).stream()
+            .collect(Collectors.toMap(PaymentWebhookTarget::pgPaymentKey, Function.identity()));
+
+        // 결제키별 발생 순 적용 → 최종 상태가 바뀐 결제를 상태별로 모음
+        Map<PaymentStatus, List<PaymentWebhookTarget>> changedByStatus =
+            new EnumMap<>(PaymentStatus.class);
+        byKey.forEach((pgPaymentKey, keyEvents) -> {
+            PaymentWebhookTarget payment = payments.get(pgPaymentKey);
+            PaymentStatus last = applyEvents(payment, keyEvents,
+                pgPayments.get(pgPaymentKey), outcome);
+            if (payment != null && last != payment.status()) {
+                changedByStatus.computeIfAbsent(last, key -> new ArrayList<>()).add(payment);
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        changedByStatus.forEach((status, changed) -> changeStatus(status, changed, now));
+        outcome.changed = changedByStatus.values().stream().mapToInt(List::size).sum();
+
+        log.debug("[PgWebhook] 배치 반영 - events={}, payments={}, changed={}, deferred={}",
+            events.size(), byKey.size(), outcome.changed, outcome.deferred.size());
+        return outcome;
+    }
+
+    // 한 결제의 이벤트를 발생 순으로 적용하고 마지막 상태 반환, 미뤄진 이벤트 이후는 모두 미룸
+    private PaymentStatus applyEvents(PaymentWebhookTarget payment, List<PgWebhookEvent> events,
+        Optional<TossPaymentResponse> pgPayment, Outcome outcome) {
+        events.sort(EVENT_ORDER);
+        PaymentStatus current = payment == null ? null : payment.status();
+        String blockedBy = null;
+        for (PgWebhookEvent event : events) {
+            if (blockedBy != null) {
+                outcome.deferred.put(event, blockedBy);
+                continue;
+            }
+            if (payment == null) {
+                blockedBy = "결제 없음";
+                outcome.deferred.put(event, blockedBy);
+                continue;
+            }
+
+            PaymentStatus target = targetStatus(event.getPgStatus());
+            Step step = step(current, target);
+            String deferReason = "앞선 승인 통지 대기";
+            if (step == Step.APPLY && REQUIRES_PG_CONFIRMATION.contains(target)) {
+                if (pgPayment == null) {
+                    step = Step.DEFER;
+                    deferReason = "PG 조회 실패";
+                } else if (!confirms(target, pgPayment, payment)) {
+                    log.warn("[PgWebhook] PG 조회 결과와 불일치, 무시 - eventId={}, pgPaymentKey={}, "
+                            + "pgStatus={}, actual={}", event.getEventId(), event.getPgPaymentKey(),
+                        event.getPgStatus(), pgPayment.map(TossPaymentResponse::status).orElse(null));
+                    outcome.rejected++;
+                    step = Step.SKIP;
+                }
+            }
+
+            switch (step) {
+                case APPLY -> {
+                    current = target;
+                    outcome.handled.add(event);
+                }
+                case SKIP -> outcome.handled.add(event);
+                case DEFER -> {
+                    blockedBy = deferReason;
+                    outcome.deferred.put(event, blockedBy);
+                }
+            }
+        }
+        return current;
+    }
+
+    // 현재 상태에서 목표 상태로의 전이: 반영, 이미 반영됨/지난 통지(무시), 앞선 통지가 필요함(대기)
+    private static Step step(PaymentStatus current, PaymentStatus target) {
+        boolean beforeCapture = current == PaymentStatus.PAYMENT_PENDING
+            || current == PaymentStatus.AUTHORIZED;
+        return switch (target) {
+            case CAPTURED, FAILED -> beforeCapture ? Step.APPLY : Step.SKIP;
+            case REFUNDED -> current == PaymentStatus.CAPTURED ? Step.APPLY
+                : beforeCapture ? Step.DEFER : Step.SKIP;
+            default -> Step.SKIP;
+        };
+    }
+
+    // PG의 현재 결제가 통지 내용을 뒷받침하는지 (승인은 이후 취소된 결제도 인정, 금액 일치)
+    private static boolean confirms(PaymentStatus target, Optional<TossPaymentResponse> pgPayment,
+        PaymentWebhookTarget payment) {
+        if (pgPayment.isEmpty()) {
+            return false;
+        }
+        TossPaymentResponse actual = pgPayment.get();
+        if (actual.totalAmount() != null && actual.totalAmount() != payment.amount()) {
+            return false;
+        }
+        return target == PaymentStatus.CAPTURED
+            ? actual.isDone() || actual.isCanceled()
+            : TossPaymentResponse.STATUS_CANCELED.equals(actual.status());
+    }
+
+    private void changeStatus(PaymentStatus status, List<PaymentWebhookTarget> payments,
+        LocalDateTime now) {
+        paymentRepository.changeStatus(
+            payments.stream().map(PaymentWebhookTarget::paymentId).toList(), status, now);
+
+        outboxService.appendAll(payments.stream()
+            .map(payment -> OutboxEvent.of(OutboxEventType.PAYMENT_STATUS_CHANGED,
+                payment.paymentId(),
+                Map.of("orderId", payment.orderId().toString(), "status", status.name()), now))
+            .toList());
+
+        OrderTransition transition = ORDER_TRANSITIONS.get(status);
+        if (transition != null) {
+            orderService.applyPaymentResult(
+                payments.stream().map(PaymentWebhookTarget::orderId).toList(), transition);
+        }
+    }
+
+    private enum Step {
+        APPLY,  // 상태 변경
+        SKIP,   // 이미 반영됨, 지난 통지, PG 조회 불일치 → 처리된 것으로 보고 삭제
+        DEFER   // 앞선 통지 또는 PG 조회가 필요함 → 재시도
+    }
+
+    // 배치 처리 결과 누적 (처리된 이벤트는 삭제, 미뤄진 이벤트는 사유와 함께 재시도)
+    private static final class Outcome {
+
+        private final List<PgWebhookEvent> handled = new ArrayList<>();
+        private final Map<PgWebhookEvent, String> deferred = new LinkedHashMap<>();
+        private int changed;
+        private int rejected;
+
+        Result toResult(int dead) {
+            return new Result(changed, rejected, deferred.size(), dead);
+        }
+    }
+}
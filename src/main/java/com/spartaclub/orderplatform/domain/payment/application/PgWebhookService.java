@@ -0,0 +1,241 @@
+package com.spartaclub.orderplatform.domain.payment.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookProcessor.Result;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.TossPaymentsClient;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.webhook.PgWebhookQueue;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.PgWebhookRequestDto;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PG 웹훅 수신/처리 (수신은 큐 적재 후 즉시 응답, 반영은 배치 워커가 {@link PgWebhookProcessor}로 일괄 처리)
+ */
+@Slf4j
+@Service
+public class PgWebhookService {
+
+    // 토큰 없이 수신을 허용하는 프로필 (로컬 개발용, 그 외 환경에서 토큰이 없으면 모든 요청 거부)
+    private static final String LOCAL_PROFILE = "local";
+
+    private final PgWebhookQueue pgWebhookQueue;
+    private final PgWebhookProcessor pgWebhookProcessor;
+    private final TossPaymentsClient tossPaymentsClient;
+
+    // 웹훅 URL에 포함되는 공유 토큰
+    private final byte[] token;
+
+    // 토큰 미설정 시 검증 생략 여부 (local 프로필에서만)
+    private final boolean skipTokenCheck;
+
+    // 배치당 PG 결제 조회 동시 호출 수 (벌크헤드 한도보다 작게 두어 사용자 결제 요청 몫을 남김)
+    private final int lookupConcurrency;
+
+    // 최근 수신한 이벤트 ID (PG 재전송 중복을 큐 적재 전에 제거)
+    private final Cache<String, Boolean> recentEventIds;
+
+    private final Counter acceptedCounter;
+    private final Counter duplicateCounter;
+    private final Counter ignoredCounter;
+    private final Counter appliedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deferredCounter;
+    private final Counter deadCounter;
+    private final Counter failedCounter;
+    private final Counter lostCounter;
+
+    public PgWebhookService(
+        PgWebhookQueue pgWebhookQueue,
+        PgWebhookProcessor pgWebhookProcessor,
+        TossPaymentsClient tossPaymentsClient,
+        MeterRegistry meterRegistry,
+        Environment environment,
+        @Value("${pg.toss.webhook.token:}") String token,
+        @Value("${pg.webhook.lookup-concurrency:8}") int lookupConcurrency,
+        @Value("${pg.webhook.dedup.max-size:100000}") long dedupMaxSize,
+        @Value("${pg.webhook.dedup.ttl:1h}") Duration dedupTtl
+    ) {
+        this.pgWebhookQueue = pgWebhookQueue;
+        this.pgWebhookProcessor = pgWebhookProcessor;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.skipTokenCheck = this.token.length == 0
+            && environment.acceptsProfiles(Profiles.of(LOCAL_PROFILE));
+        this.lookupConcurrency = lookupConcurrency;
+        this.recentEventIds = Caffeine.newBuilder()
+            .maximumSize(dedupMaxSize)
+            .expireAfterWrite(dedupTtl)
+            .build();
+
+        this.acceptedCounter = received(meterRegistry, "accepted");
+        this.duplicateCounter = received(meterRegistry, "duplicate");
+        this.ignoredCounter = received(meterRegistry, "ignored");
+        this.appliedCounter = Counter.builder("pg.webhook.applied")
+            .description("웹훅으로 상태가 바뀐 결제 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("pg.webhook.rejected")
+            .description("PG 조회 결과와 맞지 않아 버린 웹훅 이벤트 수")
+            .register(meterRegistry);
+        this.deferredCounter = Counter.builder("pg.webhook.deferred")
+            .description("아직 반영할 수 없어 재시도로 미룬 웹훅 이벤트 수")
+            .register(meterRegistry);
+        this.deadCounter = Counter.builder("pg.webhook.dead")
+            .description("최대 재시도를 넘겨 DEAD로 남긴 웹훅 이벤트 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("pg.webhook.failed")
+            .description("배치 반영에 실패해 DB로 넘긴 웹훅 이벤트 수")
+            .register(meterRegistry);
+        this.lostCounter = Counter.builder("pg.webhook.lost")
+            .description("DB로 넘기지도 큐에 되돌리지도 못한 웹훅 이벤트 수")
+            .register(meterRegistry);
+
+        if (skipTokenCheck) {
+            log.warn("[PgWebhook] 웹훅 토큰 미설정(local) - 토큰 검증 없이 수신");
+        } else if (this.token.length == 0) {
+            log.error("[PgWebhook] 웹훅 토큰 미설정 - pg.toss.webhook.token 설정 전까지 모든 웹훅 거부");
+        }
+    }
+
+    private static Counter received(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("pg.webhook.received")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    // 검증 후 큐에 넣고 즉시 반환 (상태 반영은 배치 워커가 처리)
+    public void receive(String requestToken, PgWebhookRequestDto request) {
+        verifyToken(requestToken);
+
+        PgWebhookRequestDto.Data data = request.data();
+        if (PgWebhookProcessor.targetStatus(data.status()) == null) {
+            ignoredCounter.increment();
+            return;
+        }
+
+        String eventId = request.resolveEventId();
+        if (recentEventIds.asMap().putIfAbsent(eventId, Boolean.TRUE) != null) {
+            duplicateCounter.increment();
+            return;
+        }
+
+        try {
+            pgWebhookQueue.add(PgWebhookEvent.of(eventId, data.paymentKey(), data.status(),
+                request.createdAt(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // 저장하지 못했으므로 PG 재전송을 중복으로 거르지 않음
+            recentEventIds.invalidate(eventId);
+            throw e;
+        }
+        acceptedCounter.increment();
+    }
+
+    // 큐에서 최대 batchSize건 꺼내 반영, 꺼낸 건수 반환
+    public int processQueued(int batchSize) {
+        List<PgWebhookEvent> events = pgWebhookQueue.drain(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            record(pgWebhookProcessor.applyQueued(events, lookupPgPayments(events)));
+        } catch (RuntimeException e) {
+            log.warn("[PgWebhook] 배치 반영 실패, DB로 넘겨 재시도 - events={}", events.size(), e);
+            failedCounter.increment(events.size());
+            spillOrRequeue(events);
+        }
+        return events.size();
+    }
+
+    // DB로 넘겨진 이벤트를 최대 batchSize건 반영, 점유한 건수 반환 (실패 시 lease 만료 후 재시도)
+    public int processSpilled(int batchSize) {
+        try {
+            List<PgWebhookEvent> events = pgWebhookProcessor.claimSpilled(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            record(pgWebhookProcessor.applySpilled(events, lookupPgPayments(events)));
+            return events.size();
+        } catch (RuntimeException e) {
+            log.warn("[PgWebhook] DB 이벤트 반영 실패, lease 만료 후 재시도", e);
+            return 0;
+        }
+    }
+
+    // 승인/취소 이벤트의 결제키별 PG 결제 조회 (트랜잭션 밖, 동시 호출 수 제한)
+    // PG에 기록이 없으면 empty, 조회에 실패한 키는 결과에서 빠져 해당 이벤트는 재시도
+    private Map<String, Optional<TossPaymentResponse>> lookupPgPayments(List<PgWebhookEvent> events) {
+        List<String> keys = events.stream()
+            .filter(PgWebhookProcessor::requiresPgConfirmation)
+            .map(PgWebhookEvent::getPgPaymentKey)
+            .distinct()
+            .toList();
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return Flux.fromIterable(keys)
+            .flatMap(key -> tossPaymentsClient.getPaymentAsync(key)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .map(found -> Map.entry(key, found))
+                    .onErrorResume(e -> Mono.empty()),
+                lookupConcurrency)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .block();
+    }
+
+    private void record(Result result) {
+        appliedCounter.increment(result.changed());
+        rejectedCounter.increment(result.rejected());
+        deferredCounter.increment(result.deferred());
+        deadCounter.increment(result.dead());
+    }
+
+    // 반영에 실패한 배치를 DB로 넘기고, DB도 실패하면(보통 반영 실패 원인과 같음) 큐에 되돌려 다음 폴링에서 재시도
+    private void spillOrRequeue(List<PgWebhookEvent> events) {
+        try {
+            pgWebhookQueue.spill(events);
+        } catch (RuntimeException e) {
+            List<PgWebhookEvent> lost = pgWebhookQueue.requeue(events);
+            if (lost.isEmpty()) {
+                log.warn("[PgWebhook] DB 이관 실패, 큐에 되돌림 - events={}", events.size(), e);
+                return;
+            }
+            lostCounter.increment(lost.size());
+            log.error("[PgWebhook] DB 이관 실패, 큐도 가득 차 유실 - lost={}, events={}", lost.size(),
+                lost.stream()
+                    .map(event -> event.getEventId() + "(" + event.getPgPaymentKey() + ":"
+                        + event.getPgStatus() + ")")
+                    .toList(), e);
+        }
+    }
+
+    private void verifyToken(String requestToken) {
+        if (skipTokenCheck) {
+            return;
+        }
+        byte[] provided = requestToken == null ? new byte[0]
+            : requestToken.getBytes(StandardCharsets.UTF_8);
+        // 토큰 미설정이면 어떤 요청도 일치하지 않도록 거부 (빈 토큰끼리 비교하지 않음)
+        if (token.length == 0 || !MessageDigest.isEqual(token, provided)) {
+            throw new BusinessException(PaymentErrorCode.INVALID_WEBHOOK_TOKEN);
+        }
+    }
+}
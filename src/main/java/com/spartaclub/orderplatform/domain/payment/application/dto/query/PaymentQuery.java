@@ -1,10 +1,19 @@
 package com.spartaclub.orderplatform.domain.payment.application.dto.query;
 
 import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 public record PaymentQuery(
-    List<PaymentStatus> status
+    List<PaymentStatus> status,
+    UUID storeId,               // 주문 가게 (null이면 전체)
+    LocalDateTime createdFrom,  // 생성일시 하한, 포함 (null이면 제한 없음)
+    LocalDateTime createdTo     // 생성일시 상한, 미포함 (null이면 제한 없음)
 ) {
 
-}
\ No newline at end of file
+    // 상태 필터만
+    public PaymentQuery(List<PaymentStatus> status) {
+        this(status, null, null, null);
+    }
+}
@@ -1,13 +1,18 @@
 package com.spartaclub.orderplatform.domain.payment.application.mapper;
 
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentCursor;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
 import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentSummary;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentDetailResponseDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentsListResponseDto;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentsListResponseDto.CursorDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentsListResponseDto.PageableDto;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Mapper(componentModel = "spring", imports = {PaymentStatus.class})
 public interface PaymentMapper {
@@ -16,6 +21,9 @@ public interface PaymentMapper {
     @Mapping(target = "orderId", source = "order.orderId")
     PaymentDetailResponseDto toDto(Payment payment);
 
+    //목록 프로젝션 -> dto 변환
+    PaymentDetailResponseDto toDto(PaymentSummary summary);
+
     // Page -> PageableDto
     default PageableDto toPageableDto(Page<?> page) {
         return new PaymentsListResponseDto.PageableDto(
@@ -29,4 +37,15 @@ public interface PaymentMapper {
             page.isLast()
         );
     }
+
+    // Slice -> CursorDto (마지막 결제 기준으로 다음 커서 생성)
+    default CursorDto toCursorDto(Slice<PaymentSummary> slice) {
+        List<PaymentSummary> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            PaymentSummary last = content.get(content.size() - 1);
+            nextCursor = new PaymentCursor(last.createdAt(), last.paymentId()).encode();
+        }
+        return new CursorDto(slice.getSize(), slice.hasNext(), nextCursor);
+    }
 }
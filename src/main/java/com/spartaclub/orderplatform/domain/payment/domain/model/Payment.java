@@ -3,6 +3,7 @@ package com.spartaclub.orderplatform.domain.payment.domain.model;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
 import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
 import com.spartaclub.orderplatform.global.domain.entity.BaseEntity;
+import com.spartaclub.orderplatform.global.domain.id.TimeOrderedUuid;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,31 +11,42 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.annotations.UuidGenerator;
 
 @Entity
-@Table(name = "p_payments")
+@Table(name = "p_payments", indexes = {
+    @Index(name = "idx_payments_pg_requested_at", columnList = "pg_requested_at"),
+    // PG 웹훅 반영 (결제키로 조회)
+    @Index(name = "idx_payments_pg_payment_key", columnList = "pg_payment_key"),
+    // 목록 최신순/커서 조회
+    @Index(name = "idx_payments_created_at_payment_id", columnList = "createdAt, payment_id"),
+    // 일자별 정산 대사 (현재 상태가 된 시각 기준)
+    @Index(name = "idx_payments_status_changed_at", columnList = "status_changed_at"),
+    // 상태 필터 목록 조회
+    @Index(name = "idx_payments_status_created", columnList = "status, createdAt, payment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Slf4j
 public class Payment extends BaseEntity {
 
     @Id
-    @UuidGenerator
+    @TimeOrderedUuid
     @Column(name = "payment_id", nullable = false, updatable = false, columnDefinition = "uuid")
     private UUID paymentId;               // 결제ID
 
     @OneToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "order_id", nullable = false, columnDefinition = "uuid")
+    @JoinColumn(name = "order_id", nullable = false, unique = true, columnDefinition = "uuid")
     private Order order;     // 주문 엔티티 연관관계 1:1
 
     @Column(name = "payment_amount", nullable = false)
@@ -50,7 +62,20 @@ public class Payment extends BaseEntity {
     @Column(name = "pg_order_id")
     private String pgOrderId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "pg_operation", length = 20)
+    private PgOperation pgOperation;      // 진행 중인 PG 호출 (없으면 null)
+
+    @Column(name = "pg_requested_at")
+    private LocalDateTime pgRequestedAt;  // PG 호출 시작 시각 (복구 스윕 기준)
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt; // 현재 상태가 된 시각 (승인/환불이 정산되는 날짜 기준)
+
     public void changeStatus(PaymentStatus status) {
+        if (this.status != status) {
+            this.statusChangedAt = LocalDateTime.now();
+        }
         this.status = status;
     }
 
@@ -117,6 +142,16 @@ public class Payment extends BaseEntity {
         payment.paymentAmount = paymentAmount;
         payment.pgPaymentKey = PgPaymentKey;
         payment.pgOrderId = PgOrderId;
+        payment.statusChangedAt = LocalDateTime.now();
+        return payment;
+    }
+
+    // 결제 예약: PG 준비 요청 전에 결제 행을 먼저 저장하여 중복 결제를 막음
+    public static Payment reserve(Order order, Long paymentAmount, LocalDateTime now) {
+        Payment payment = ofStatus(order, PaymentStatus.PAYMENT_PENDING, paymentAmount);
+        payment.pgOperation = PgOperation.READY;
+        payment.pgRequestedAt = now;
+        payment.statusChangedAt = now;
         return payment;
     }
 
@@ -125,6 +160,7 @@ public class Payment extends BaseEntity {
         payment.order = order;
         payment.status = status;
         payment.paymentAmount = paymentAmount;
+        payment.statusChangedAt = LocalDateTime.now();
         return payment;
     }
 }
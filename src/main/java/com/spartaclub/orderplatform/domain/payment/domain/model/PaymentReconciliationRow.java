@@ -0,0 +1,16 @@
+package com.spartaclub.orderplatform.domain.payment.domain.model;
+
+import java.util.UUID;
+
+/**
+ * 정산 대사용 결제 행 (엔티티를 영속성 컨텍스트에 쌓지 않도록 필요한 컬럼만 조회)
+ */
+public record PaymentReconciliationRow(
+    String pgOrderId,
+    UUID paymentId,
+    String pgPaymentKey,
+    PaymentStatus status,
+    long amount
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.spartaclub.orderplatform.domain.payment.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 결제 목록 조회용 프로젝션 (엔티티/주문 연관관계 로딩 없이 필요한 컬럼만 조회)
+public record PaymentSummary(
+    UUID paymentId,
+    UUID orderId,
+    Long paymentAmount,
+    PaymentStatus status,
+    String pgPaymentKey,
+    String pgOrderId,
+    LocalDateTime createdAt
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.spartaclub.orderplatform.domain.payment.domain.model;
+
+import java.util.UUID;
+
+/**
+ * PG 웹훅 반영 대상 결제 (잠근 행의 현재 상태, 엔티티 로딩 없이 필요한 컬럼만 조회)
+ */
+public record PaymentWebhookTarget(
+    UUID paymentId,
+    UUID orderId,
+    String pgPaymentKey,
+    PaymentStatus status,
+    long amount
+) {
+
+}
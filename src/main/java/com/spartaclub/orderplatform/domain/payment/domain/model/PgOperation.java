@@ -0,0 +1,21 @@
+package com.spartaclub.orderplatform.domain.payment.domain.model;
+
+import lombok.Getter;
+
+/**
+ * 진행 중인 PG 호출 종류 (PG 호출 전 기록, 결과 반영 시 해제, 오래 남은 기록은 복구 스윕이 확정)
+ */
+@Getter
+public enum PgOperation {
+    READY(PaymentStatus.PAYMENT_PENDING),  // 결제 준비 요청 (결제 예약 직후)
+    CONFIRM(PaymentStatus.AUTHORIZED),     // 결제 승인 요청
+    CANCEL(PaymentStatus.CAPTURED),        // 결제 취소 요청
+    ;
+
+    // PG 호출 시작 가능한 결제 상태 (PG 거절/미처리 시 되돌아갈 상태)
+    private final PaymentStatus fromStatus;
+
+    PgOperation(PaymentStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+}
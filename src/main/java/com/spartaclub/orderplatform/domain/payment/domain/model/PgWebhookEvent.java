@@ -0,0 +1,100 @@
+package com.spartaclub.orderplatform.domain.payment.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 결제 상태 변경 통지(웹훅) - 인메모리 큐에서 넘겨졌거나 아직 반영할 수 없는 이벤트 (반영되면 삭제)
+ */
+@Entity
+@Table(name = "p_pg_webhook_events", indexes = {
+    // 워커 폴링 (status = PENDING AND available_at <= now)
+    @Index(name = "idx_pg_webhook_events_status_available", columnList = "status, available_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PgWebhookEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false, length = 200)
+    private String eventId;
+
+    @Column(name = "pg_payment_key", nullable = false, updatable = false, length = 200)
+    private String pgPaymentKey;
+
+    @Column(name = "pg_status", nullable = false, updatable = false, length = 40)
+    private String pgStatus;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;     // PG에서 상태가 바뀐 시각 (결제별 처리 순서 기준)
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EventStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;    // 이 시각 이후에 워커가 점유 가능
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public enum EventStatus {
+        PENDING,    // 처리 대기 (재시도 포함)
+        DEAD        // 최대 시도 횟수 초과, 수동 확인 필요
+    }
+
+    public static PgWebhookEvent of(String eventId, String pgPaymentKey, String pgStatus,
+        LocalDateTime occurredAt, LocalDateTime receivedAt) {
+        PgWebhookEvent event = new PgWebhookEvent();
+        event.eventId = eventId;
+        event.pgPaymentKey = pgPaymentKey;
+        event.pgStatus = pgStatus;
+        event.occurredAt = occurredAt;
+        event.receivedAt = receivedAt;
+        event.status = EventStatus.PENDING;
+        event.availableAt = receivedAt;
+        return event;
+    }
+
+    // 워커 점유: leaseUntil까지 다른 노드가 가져가지 않음 (노드가 처리 중 종료되면 이후 재점유)
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    // 아직 반영할 수 없음: retryAt 이후 재시도
+    public void retryAt(LocalDateTime retryAt, String reason) {
+        this.availableAt = retryAt;
+        this.lastError = truncate(reason);
+    }
+
+    // 재시도 중단
+    public void markDead(String reason) {
+        this.status = EventStatus.DEAD;
+        this.lastError = truncate(reason);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,20 +1,66 @@
 package com.spartaclub.orderplatform.domain.payment.domain.repository;
 
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentCursor;
 import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentQuery;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentReconciliationRow;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentSummary;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentWebhookTarget;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PaymentRepository {
 
     Payment save(Payment payment);
 
-    boolean existsByOrder(Order order);
+    // 주문당 결제 1건 (order_id 유니크 제약으로 판정, 사전 조회 없음), 이미 결제가 있으면 empty
+    Optional<Payment> saveIfOrderAbsent(Payment payment);
 
     Optional<Payment> findById(UUID paymentId);
 
+    // 결제의 주문 ID (결제/주문 엔티티 로딩 없이)
+    Optional<UUID> findOrderIdById(UUID paymentId);
+
     Page<Payment> findAll(PaymentQuery paymentQuery, Pageable pageable);
+
+    // 목록 조회 (프로젝션, 정렬 미지정 시 최신순), 마지막 페이지로 판단되면 COUNT 생략
+    Page<PaymentSummary> findSummaries(PaymentQuery paymentQuery, Pageable pageable);
+
+    // 커서 이후 최신순 size건 (프로젝션, COUNT 없이 size + 1건으로 다음 페이지 판단)
+    Slice<PaymentSummary> findSummarySlice(PaymentQuery paymentQuery, PaymentCursor cursor,
+        int size);
+
+    // [from, to)에 현재 상태가 된 PG 주문번호가 있는 결제를 주문번호 바이트 순으로 스트리밍 (트랜잭션 안에서 사용 후 close)
+    Stream<PaymentReconciliationRow> streamForReconciliation(LocalDateTime from, LocalDateTime to);
+
+    // PG 호출 시작 표시 (operation 시작 가능 상태이고 진행 중인 호출이 없을 때만), 표시 성공 여부 반환
+    boolean beginPgOperation(UUID paymentId, PgOperation operation, LocalDateTime now);
+
+    // PG 결제키로 찾은 결제의 현재 상태 조회 + 행 잠금 (웹훅 반영, 트랜잭션 안에서 사용)
+    List<PaymentWebhookTarget> findForWebhookUpdate(Collection<String> pgPaymentKeys);
+
+    // 잠근 결제를 한 번의 UPDATE로 상태 변경 (진행 중인 PG 호출은 통지 결과로 확정되므로 표시 해제)
+    void changeStatus(Collection<UUID> paymentIds, PaymentStatus to, LocalDateTime now);
+
+    // PG 호출 결과 상태 반영 및 진행 표시 해제 (operation이 아직 진행 중일 때만)
+    boolean completePgOperation(UUID paymentId, PgOperation operation, PaymentStatus result,
+        LocalDateTime now);
+
+    // 결제 준비(READY) 성공 반영: AUTHORIZED + PG 결제키/주문번호 저장
+    boolean authorize(UUID paymentId, String pgPaymentKey, String pgOrderId, LocalDateTime now);
+
+    // 결제 준비(READY) 중인 예약 삭제 (PG 준비 요청 실패 시 재시도 가능하도록)
+    boolean deleteReservation(UUID paymentId);
+
+    // before 이전에 시작되어 아직 완료되지 않은 PG 호출 (오래된 순)
+    List<Payment> findStalePgOperations(LocalDateTime before, int limit);
 }
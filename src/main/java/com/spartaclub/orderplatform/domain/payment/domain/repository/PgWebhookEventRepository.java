@@ -0,0 +1,20 @@
+package com.spartaclub.orderplatform.domain.payment.domain.repository;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PgWebhookEventRepository {
+
+    // 같은 이벤트 ID가 없을 때만 저장 (PG 재전송 중복 무시), 저장 여부 반환
+    boolean saveIfAbsent(PgWebhookEvent event);
+
+    // 처리 가능한(PENDING, availableAt <= now) 이벤트 최대 limit건 점유
+    // (다른 노드가 점유한 행은 건너뜀, 트랜잭션 안에서 사용)
+    List<PgWebhookEvent> findAvailableForUpdate(LocalDateTime now, int limit);
+
+    List<PgWebhookEvent> findAllById(Collection<String> eventIds);
+
+    void deleteAllById(Collection<String> eventIds);
+}
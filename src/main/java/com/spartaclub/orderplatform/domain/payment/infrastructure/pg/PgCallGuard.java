@@ -0,0 +1,131 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * PG 호출 보호: 서킷 브레이커 + 벌크헤드 (PG 지연이 서블릿 스레드 전체로 번지지 않게 즉시 실패)
+ */
+@Slf4j
+@Component
+public class PgCallGuard {
+
+    private static final String NAME = "toss-pg";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    public PgCallGuard(
+        MeterRegistry meterRegistry,
+        @Value("${pg.toss.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+        @Value("${pg.toss.circuit-breaker.minimum-calls:20}") int minimumCalls,
+        @Value("${pg.toss.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${pg.toss.circuit-breaker.slow-call-duration:3s}") Duration slowCallDuration,
+        @Value("${pg.toss.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+        @Value("${pg.toss.circuit-breaker.open-duration:30s}") Duration openDuration,
+        @Value("${pg.toss.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+        @Value("${pg.toss.bulkhead.max-concurrent-calls:40}") int maxConcurrentCalls
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = CircuitBreaker.of(NAME, CircuitBreakerConfig.custom()
+            .slidingWindowType(SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumCalls)
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(slowCallDuration)
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .waitDurationInOpenState(openDuration)
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+            // 장애(5xx/타임아웃/연결 실패)만 집계, 거절(4xx)은 PG가 정상 처리한 결과
+            .recordException(PgCallGuard::isGatewayFailure)
+            // 벌크헤드는 서킷 안쪽에 있어 한도 초과 거절이 빠른 성공으로 집계되면 느린 호출 비율이 희석되므로 집계에서 제외
+            .ignoreExceptions(BulkheadFullException.class)
+            .build());
+        // 리액티브 호출은 스레드를 점유하지 않으므로 대기 없이 즉시 거절
+        this.bulkhead = Bulkhead.of(NAME, BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("[PgCallGuard] 서킷 상태 전이 - transition={}", event.getStateTransition());
+            Counter.builder("pg.circuit.transitions")
+                .description("PG 서킷 브레이커 상태 전이 횟수")
+                .tag("from", event.getStateTransition().getFromState().name())
+                .tag("to", event.getStateTransition().getToState().name())
+                .register(this.meterRegistry)
+                .increment();
+        });
+        Gauge.builder("pg.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+            .description("PG 서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+            .register(meterRegistry);
+        Gauge.builder("pg.bulkhead.available", bulkhead,
+                bh -> bh.getMetrics().getAvailableConcurrentCalls())
+            .description("PG 동시 호출 잔여 한도")
+            .register(meterRegistry);
+        this.circuitOpenRejections = rejectionCounter("circuit_open");
+        this.bulkheadFullRejections = rejectionCounter("bulkhead_full");
+    }
+
+    /**
+     * PG 호출에 서킷 브레이커/벌크헤드 적용 (호출 제한 시간은 call 안에서 적용되어 있어야 장애로 집계됨)
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return call
+            .transformDeferred(BulkheadOperator.of(bulkhead))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            // 두 경우 모두 PG를 호출하지 않고 거절
+            .onErrorMap(CallNotPermittedException.class, e -> {
+                circuitOpenRejections.increment();
+                return new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+            })
+            .onErrorMap(BulkheadFullException.class, e -> {
+                bulkheadFullRejections.increment();
+                return new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_BUSY);
+            });
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    // PG를 호출하지 않고 거절된 경우 (진행 표시를 남길 필요 없음)
+    public static boolean isRejectedBeforeCall(BusinessException e) {
+        return e.getErrorCode() == PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE
+            || e.getErrorCode() == PaymentErrorCode.PAYMENT_GATEWAY_BUSY;
+    }
+
+    private static boolean isGatewayFailure(Throwable e) {
+        return e instanceof BusinessException be
+            && be.getErrorCode() == PaymentErrorCode.PAYMENT_GATEWAY_ERROR;
+    }
+
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder("pg.calls.rejected")
+            .description("PG를 호출하지 않고 즉시 실패한 요청 수")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
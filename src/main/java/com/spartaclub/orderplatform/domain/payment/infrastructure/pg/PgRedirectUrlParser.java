@@ -0,0 +1,55 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+
+// PG 리다이렉트 URL 파싱 (결제 준비 응답 형식)
+@Slf4j
+public final class PgRedirectUrlParser {
+
+    private PgRedirectUrlParser() {
+    }
+
+    /**
+     * 결제 준비 후 PG가 돌려준 리다이렉트 URL 파싱
+     *
+     * @return [결과(success/fail), paymentKey, orderId]
+     */
+    public static String[] parse(String redirectUrl) {
+        String[] resultParts = new String[3];
+        try {
+            // 결과 구분
+            resultParts[0] = redirectUrl.contains("success") ? "success" : "fail";
+
+            // 쿼리 파라미터 부분만 분리
+            String[] split = redirectUrl.split("\\?");
+            if (split.length < 2) {
+                log.warn("[RedirectURL-Parsing] 잘못된 형식 - '?' 구분자가 없습니다. URL: {}", redirectUrl);
+                throw new BusinessException(PaymentErrorCode.INVALID_REDIRECT_URL_FORMAT);
+            }
+
+            // 각 파라미터를 '=' 기준으로 분리
+            String[] params = split[1].split("&");
+            for (String param : params) {
+                String[] keyValue = param.split("=");
+                if (keyValue.length != 2) {
+                    log.warn("[RedirectURL-Parsing] 잘못된 파라미터 형식: {}", param);
+                    throw new BusinessException(PaymentErrorCode.INVALID_REDIRECT_URL_FORMAT);
+                }
+                String key = keyValue[0];
+                String value = keyValue[1];
+                if (key.equals("paymentKey")) {
+                    resultParts[1] = value;
+                } else if (key.equals("orderId")) {
+                    resultParts[2] = value;
+                }
+            }
+
+        } catch (Exception e) {
+            log.warn("[RedirectURL-Parsing] Payment 예외 발생 - message={}", e.getMessage());
+            throw new BusinessException(PaymentErrorCode.REDIRECT_URL_PARSING_FAILED);
+        }
+        return resultParts;
+    }
+}
@@ -1,22 +1,52 @@
 package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
 
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+/**
+ * 토스페이먼츠 PG 클라이언트 (비동기 호출이 기본, 동기 메서드는 call-timeout 안에서 기다리는 래퍼)
+ */
 @Component
 @Slf4j
 public class TossPaymentsClient {
 
-    public TossPaymentsClient(WebClient webClient) {
+    private final WebClient webClient;
+
+    // true면 실제 PG 호출 없이 항상 성공 응답 (실제 PG 연동 전 기본값)
+    private final boolean mockEnabled;
+
+    // PG 호출 1건 전체 제한 시간 (풀 대기 + 연결 + 응답)
+    private final Duration callTimeout;
+
+    private final PgCallGuard pgCallGuard;
+
+    public TossPaymentsClient(
+        @Qualifier("tossWebClient") WebClient webClient,
+        @Value("${pg.toss.mock-enabled:true}") boolean mockEnabled,
+        @Value("${pg.toss.call-timeout:8s}") Duration callTimeout,
+        PgCallGuard pgCallGuard
+    ) {
         this.webClient = webClient;
+        this.mockEnabled = mockEnabled;
+        this.callTimeout = callTimeout;
+        this.pgCallGuard = pgCallGuard;
     }
 
-    @Qualifier("tossWebClient")
-    private final WebClient webClient;
-
     //PG사에 결제 요청 실제 연동 X
     public String requestPaymentReady(Long amount) {
         log.info("[TossPaymentsClient] 결제 준비 요청 - amount={}", amount);
@@ -30,46 +60,123 @@ public class TossPaymentsClient {
 
     //PG사 결제 승인
     public boolean confirmPayment(String paymentKey, String orderId, Long amount) {
-        log.info("[TossPaymentsClient] 결제 승인 요청 - paymentKey={}, orderId={}, amount={}",
-            paymentKey, orderId, amount);
-        // WebClient로 실제 연동 시:
-        /*
-        return webClient.post()
-            .uri("/v1/payments/confirm")
-            .bodyValue(Map.of(
-                "paymentKey", paymentKey,
-                "orderId", orderId,
-                "amount", amount
-            ))
-            .retrieve()
-            .bodyToMono(Boolean.class)
-            .block();
-        */
-
-        /*실제 PG 연동하지 않기 때문에 무조건 true*/
-        return true;
+        return confirmPaymentAsync(paymentKey, orderId, amount).block();
     }
 
     //결제 환불 요청
     public boolean cancelPayment(String paymentKey, String cancelReason) {
+        return cancelPaymentAsync(paymentKey, cancelReason).block();
+    }
+
+    //PG사 결제 조회 (PG에 결제 기록이 없으면 empty)
+    public Optional<TossPaymentResponse> getPayment(String paymentKey) {
+        return getPaymentAsync(paymentKey).blockOptional();
+    }
+
+    public CompletableFuture<Boolean> confirmPaymentFuture(String paymentKey, String orderId,
+        Long amount) {
+        return confirmPaymentAsync(paymentKey, orderId, amount).toFuture();
+    }
+
+    public CompletableFuture<Boolean> cancelPaymentFuture(String paymentKey, String cancelReason) {
+        return cancelPaymentAsync(paymentKey, cancelReason).toFuture();
+    }
+
+    //PG사 결제 승인 (비동기)
+    public Mono<Boolean> confirmPaymentAsync(String paymentKey, String orderId, Long amount) {
+        log.info("[TossPaymentsClient] 결제 승인 요청 - paymentKey={}, orderId={}, amount={}",
+            paymentKey, orderId, amount);
+        if (mockEnabled) {
+            return Mono.just(true);
+        }
+
+        return call(webClient.post()
+                .uri("/payments/confirm")
+                .bodyValue(Map.of(
+                    "paymentKey", paymentKey,
+                    "orderId", orderId,
+                    "amount", amount
+                )),
+            TossPaymentResponse::isDone, "confirm", paymentKey);
+    }
+
+    //결제 환불 요청 (비동기)
+    public Mono<Boolean> cancelPaymentAsync(String paymentKey, String cancelReason) {
         log.info("[TossPaymentsClient] 결제 취소 요청 - paymentKey={}, reason={}", paymentKey,
             cancelReason);
+        if (mockEnabled) {
+            return Mono.just(true);
+        }
 
-        // 실제 연동 시 예시:
-        /*
-        return webClient.post()
-            .uri("/v1/payments/cancel")
-            .bodyValue(Map.of(
-                "paymentKey", paymentKey,
-                "cancelReason", cancelReason
-            ))
-            .retrieve()
-            .bodyToMono(Boolean.class)
-            .block();
-        */
-
-        /*실제 PG 연동하지 않기 때문에 무조건 true*/
-        return true;
+        return call(webClient.post()
+                .uri("/payments/{paymentKey}/cancel", paymentKey)
+                .bodyValue(Map.of("cancelReason", cancelReason)),
+            TossPaymentResponse::isCanceled, "cancel", paymentKey);
     }
 
+    //PG사 결제 조회 (비동기), 호출이 중단된 결제의 실제 처리 결과 확인용
+    public Mono<TossPaymentResponse> getPaymentAsync(String paymentKey) {
+        log.info("[TossPaymentsClient] 결제 조회 요청 - paymentKey={}", paymentKey);
+        if (mockEnabled) {
+            // 가짜 PG는 결제 기록을 보관하지 않음
+            return Mono.empty();
+        }
+
+        return withDeadline(webClient.get()
+            .uri("/payments/{paymentKey}", paymentKey)
+            .exchangeToMono(response -> {
+                if (response.statusCode().is2xxSuccessful()) {
+                    return response.bodyToMono(TossPaymentResponse.class);
+                }
+                if (response.statusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                    return response.releaseBody().then(Mono.empty());
+                }
+                log.warn("[TossPaymentsClient] PG 오류 응답 - op=get, paymentKey={}, status={}",
+                    paymentKey, response.statusCode().value());
+                return response.releaseBody()
+                    .then(Mono.error(new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_ERROR)));
+            }), "get", paymentKey);
+    }
+
+    // 2xx + 기대 상태면 true, 4xx(거절)면 false, 5xx/타임아웃/연결 실패는 PAYMENT_GATEWAY_ERROR
+    private Mono<Boolean> call(WebClient.RequestHeadersSpec<?> request,
+        Predicate<TossPaymentResponse> success, String operation, String paymentKey) {
+        return withDeadline(request
+                .exchangeToMono(response -> toResult(response, success, operation, paymentKey)),
+            operation, paymentKey);
+    }
+
+    // 호출 제한 시간 적용, 타임아웃/연결 실패 등은 PAYMENT_GATEWAY_ERROR로 변환한 뒤 서킷 브레이커/벌크헤드로 보호
+    private <T> Mono<T> withDeadline(Mono<T> call, String operation, String paymentKey) {
+        return pgCallGuard.protect(call
+                .timeout(callTimeout)
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                    log.warn("[TossPaymentsClient] PG 호출 실패 - op={}, paymentKey={}, error={}",
+                        operation, paymentKey, e.toString());
+                    return new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_ERROR);
+                }))
+            .doOnError(e -> e instanceof BusinessException be
+                    && PgCallGuard.isRejectedBeforeCall(be),
+                e -> log.warn("[TossPaymentsClient] PG 호출 차단 - op={}, paymentKey={}, error={}",
+                    operation, paymentKey, e.getMessage()));
+    }
+
+    private Mono<Boolean> toResult(ClientResponse response, Predicate<TossPaymentResponse> success,
+        String operation, String paymentKey) {
+        if (response.statusCode().is2xxSuccessful()) {
+            return response.bodyToMono(TossPaymentResponse.class)
+                .map(success::test)
+                .defaultIfEmpty(false);
+        }
+        if (response.statusCode().is4xxClientError()) {
+            // 카드 거절, 잔액 부족 등 PG가 처리 후 거절한 경우
+            log.warn("[TossPaymentsClient] PG 거절 - op={}, paymentKey={}, status={}",
+                operation, paymentKey, response.statusCode().value());
+            return response.releaseBody().thenReturn(false);
+        }
+        log.warn("[TossPaymentsClient] PG 오류 응답 - op={}, paymentKey={}, status={}",
+            operation, paymentKey, response.statusCode().value());
+        return response.releaseBody()
+            .then(Mono.error(new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_ERROR)));
+    }
 }
@@ -0,0 +1,34 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 토스페이먼츠 Payment 응답 중 결과 판단에 필요한 필드만 매핑
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TossPaymentResponse(
+    String paymentKey,
+    String orderId,
+    String status,
+    Long totalAmount
+) {
+
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_CANCELED = "CANCELED";
+    public static final String STATUS_PARTIAL_CANCELED = "PARTIAL_CANCELED";
+    public static final String STATUS_ABORTED = "ABORTED";
+    public static final String STATUS_EXPIRED = "EXPIRED";
+
+    public boolean isDone() {
+        return STATUS_DONE.equals(status);
+    }
+
+    public boolean isCanceled() {
+        return STATUS_CANCELED.equals(status) || STATUS_PARTIAL_CANCELED.equals(status);
+    }
+
+    // 승인 실패 또는 유효 시간 만료로 더 이상 승인할 수 없는 결제
+    public boolean isAborted() {
+        return STATUS_ABORTED.equals(status) || STATUS_EXPIRED.equals(status);
+    }
+}
@@ -0,0 +1,167 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg.settlement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PG 정산 파일(CSV: {@code orderId,paymentKey,status,amount}, PG 주문번호 오름차순) 스트리밍 리더
+ */
+public final class SettlementFileReader implements Iterator<SettlementRecord>, Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_LINE_LENGTH = 1024;
+    private static final int FIELD_COUNT = 4;
+    private static final String HEADER_PREFIX = "orderId,";
+
+    private final FileChannel channel;
+    // 파일 크기와 무관하게 고정 크기 direct 버퍼와 한 줄 버퍼만 사용
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private final int[] commas = new int[FIELD_COUNT - 1];
+
+    private long lineNumber;
+    private SettlementRecord next;
+    private String previousOrderId;
+
+    private SettlementFileReader(FileChannel channel) {
+        this.channel = channel;
+        buffer.flip(); // 읽을 데이터가 없는 상태로 시작
+    }
+
+    public static SettlementFileReader open(Path path) throws IOException {
+        return new SettlementFileReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRecord();
+        }
+        return next != null;
+    }
+
+    @Override
+    public SettlementRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SettlementRecord record = next;
+        next = null;
+        return record;
+    }
+
+    private SettlementRecord readRecord() {
+        int length;
+        while ((length = readLine()) >= 0) {
+            lineNumber++;
+            if (length == 0 || (lineNumber == 1 && isHeader(length))) {
+                continue;
+            }
+            SettlementRecord record = parse(length);
+            // 정렬 순서가 어긋나면 병합 비교가 불가능하므로 즉시 실패
+            if (previousOrderId != null && previousOrderId.compareTo(record.pgOrderId()) >= 0) {
+                throw new IllegalStateException(
+                    "정산 파일이 주문번호 오름차순이 아니거나 중복됨 - line=" + lineNumber);
+            }
+            previousOrderId = record.pgOrderId();
+            return record;
+        }
+        return null;
+    }
+
+    // 다음 줄을 line에 복사해 길이 반환 (줄바꿈 제외), 파일 끝이면 -1
+    private int readLine() {
+        int length = 0;
+        while (true) {
+            if (!buffer.hasRemaining() && !fill()) {
+                return length == 0 ? -1 : length;
+            }
+            byte b = buffer.get();
+            if (b == '\n') {
+                return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+            }
+            if (length == MAX_LINE_LENGTH) {
+                throw new IllegalStateException(
+                    "정산 파일 줄 길이 초과 - line=" + (lineNumber + 1));
+            }
+            line[length++] = b;
+        }
+    }
+
+    private boolean fill() {
+        try {
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            return read > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isHeader(int length) {
+        return length >= HEADER_PREFIX.length()
+            && new String(line, 0, HEADER_PREFIX.length(), StandardCharsets.US_ASCII)
+            .equals(HEADER_PREFIX);
+    }
+
+    private SettlementRecord parse(int length) {
+        int found = 0;
+        for (int i = 0; i < length; i++) {
+            if (line[i] == ',') {
+                if (found == commas.length) {
+                    throw invalidLine();
+                }
+                commas[found++] = i;
+            }
+        }
+        if (found != commas.length) {
+            throw invalidLine();
+        }
+        return new SettlementRecord(
+            field(0, commas[0]),
+            field(commas[0] + 1, commas[1]),
+            field(commas[1] + 1, commas[2]),
+            parseAmount(commas[2] + 1, length));
+    }
+
+    private String field(int from, int to) {
+        if (from == to) {
+            throw invalidLine();
+        }
+        return new String(line, from, to - from, StandardCharsets.US_ASCII);
+    }
+
+    // 금액은 문자열을 만들지 않고 바로 숫자로 변환
+    private long parseAmount(int from, int to) {
+        if (from == to) {
+            throw invalidLine();
+        }
+        long amount = 0;
+        for (int i = from; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidLine();
+            }
+            amount = Math.addExact(Math.multiplyExact(amount, 10), digit);
+        }
+        return amount;
+    }
+
+    private IllegalStateException invalidLine() {
+        return new IllegalStateException("정산 파일 형식 오류 - line=" + lineNumber);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,26 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg.settlement;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+
+/**
+ * PG 정산 파일 1행 (PG 주문번호, 결제키, PG 결제 상태, 결제 금액)
+ */
+public record SettlementRecord(
+    String pgOrderId,
+    String pgPaymentKey,
+    String pgStatus,
+    long amount
+) {
+
+    // PG 상태에 대응하는 결제 상태, 대응하지 않는 상태(부분 취소 등)는 null
+    public PaymentStatus expectedStatus() {
+        return switch (pgStatus) {
+            case TossPaymentResponse.STATUS_DONE -> PaymentStatus.CAPTURED;
+            case TossPaymentResponse.STATUS_CANCELED -> PaymentStatus.REFUNDED;
+            case TossPaymentResponse.STATUS_ABORTED, TossPaymentResponse.STATUS_EXPIRED ->
+                PaymentStatus.FAILED;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg.webhook;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PgWebhookEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 웹훅 수신 큐 (노드별 인메모리, 용량 제한, 넘치면 DB로 넘겨 어느 노드든 처리)
+ */
+@Slf4j
+@Component
+public class PgWebhookQueue {
+
+    private final PgWebhookEventRepository pgWebhookEventRepository;
+    private final BlockingQueue<PgWebhookEvent> queue;
+    private final Counter spilledCounter;
+
+    public PgWebhookQueue(
+        PgWebhookEventRepository pgWebhookEventRepository,
+        MeterRegistry meterRegistry,
+        @Value("${pg.webhook.queue-capacity:10000}") int capacity
+    ) {
+        this.pgWebhookEventRepository = pgWebhookEventRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        this.spilledCounter = Counter.builder("pg.webhook.spilled")
+            .description("인메모리 큐 대신 DB로 넘긴 웹훅 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("pg.webhook.queue.size", queue, Collection::size)
+            .description("처리 대기 중인 인메모리 웹훅 이벤트 수")
+            .register(meterRegistry);
+    }
+
+    // 큐가 가득 차면 DB로 넘김 (DB 저장도 실패하면 예외, PG가 재전송)
+    public void add(PgWebhookEvent event) {
+        if (!queue.offer(event)) {
+            spill(List.of(event));
+        }
+    }
+
+    // 수신 순으로 최대 maxEvents건 꺼냄
+    public List<PgWebhookEvent> drain(int maxEvents) {
+        List<PgWebhookEvent> events = new ArrayList<>(Math.min(maxEvents, queue.size()));
+        queue.drainTo(events, maxEvents);
+        return events;
+    }
+
+    // 큐에 되돌림 (DB로 넘기지 못한 경우), 자리가 없어 되돌리지 못한 이벤트 반환
+    public List<PgWebhookEvent> requeue(List<PgWebhookEvent> events) {
+        List<PgWebhookEvent> rejected = new ArrayList<>();
+        for (PgWebhookEvent event : events) {
+            if (!queue.offer(event)) {
+                rejected.add(event);
+            }
+        }
+        return rejected;
+    }
+
+    // DB로 넘김 (이미 넘겨진 이벤트 ID는 무시)
+    public void spill(List<PgWebhookEvent> events) {
+        events.forEach(pgWebhookEventRepository::saveIfAbsent);
+        spilledCounter.increment(events.size());
+    }
+
+    // 종료 시 처리하지 못한 이벤트를 DB로 넘겨 재기동 후 또는 다른 노드에서 처리
+    @PreDestroy
+    void spillRemaining() {
+        List<PgWebhookEvent> remaining = drain(Integer.MAX_VALUE);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        log.info("[PgWebhook] 종료 전 미처리 이벤트 DB 이관 - events={}", remaining.size());
+        spill(remaining);
+    }
+}
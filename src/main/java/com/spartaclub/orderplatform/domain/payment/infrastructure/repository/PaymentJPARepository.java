@@ -1,15 +1,128 @@
 package com.spartaclub.orderplatform.domain.payment.infrastructure.repository;
 
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PaymentJPARepository extends JpaRepository<Payment, UUID>,
     JpaSpecificationExecutor<Payment> {
 
-    boolean existsByOrder(Order order);
+    @Query("SELECT p.order.orderId FROM Payment p WHERE p.paymentId = :paymentId")
+    Optional<UUID> findOrderIdById(@Param("paymentId") UUID paymentId);
+
+    // 정산 대사용 (PG 주문번호, 결제 ID, PG 결제키, 상태, 금액), 정산 파일과 같은 바이트 순으로 정렬해 병합 비교
+    // 정산 파일은 승인/환불된 날짜로 묶이므로 생성 시각이 아닌 현재 상태가 된 시각으로 구간을 나눔 (자정 직전 생성, 직후 승인)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = """
+           SELECT p.pg_order_id, p.payment_id, p.pg_payment_key, p.status, p.payment_amount
+           FROM p_payments p
+           WHERE p.pg_order_id IS NOT NULL
+           AND p.status_changed_at >= :from
+           AND p.status_changed_at < :to
+           ORDER BY p.pg_order_id COLLATE "C"
+        """, nativeQuery = true)
+    Stream<Object[]> streamForReconciliation(@Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Payment p
+           SET p.pgOperation = :operation, p.pgRequestedAt = :now, p.modifiedAt = :now
+           WHERE p.paymentId = :paymentId
+           AND p.status = :fromStatus
+           AND p.pgOperation IS NULL
+        """)
+    int beginPgOperation(@Param("paymentId") UUID paymentId,
+        @Param("operation") PgOperation operation,
+        @Param("fromStatus") PaymentStatus fromStatus,
+        @Param("now") LocalDateTime now);
+
+    // 웹훅 반영 대상 (결제 ID, 주문 ID, PG 결제키, 상태, 금액) 조회 + 행 잠금 (여러 워커가 같은 순서로 잠그도록 정렬)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           SELECT p.paymentId, p.order.orderId, p.pgPaymentKey, p.status, p.paymentAmount
+           FROM Payment p
+           WHERE p.pgPaymentKey IN :pgPaymentKeys
+           ORDER BY p.paymentId
+        """)
+    List<Object[]> findForWebhookUpdate(
+        @Param("pgPaymentKeys") Collection<String> pgPaymentKeys);
+
+    // PG 통지 반영 (진행 중인 PG 호출은 통지 결과로 확정되므로 표시 해제)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Payment p
+           SET p.status = :to, p.pgOperation = null, p.pgRequestedAt = null, p.modifiedAt = :now,
+               p.statusChangedAt = CASE WHEN p.status = :to THEN p.statusChangedAt ELSE :now END
+           WHERE p.paymentId IN :paymentIds
+        """)
+    int changeStatus(@Param("paymentIds") Collection<UUID> paymentIds,
+        @Param("to") PaymentStatus to,
+        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Payment p
+           SET p.status = :result, p.pgOperation = null, p.pgRequestedAt = null,
+               p.modifiedAt = :now,
+               p.statusChangedAt = CASE WHEN p.status = :result THEN p.statusChangedAt ELSE :now END
+           WHERE p.paymentId = :paymentId
+           AND p.pgOperation = :operation
+        """)
+    int completePgOperation(@Param("paymentId") UUID paymentId,
+        @Param("operation") PgOperation operation,
+        @Param("result") PaymentStatus result,
+        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE Payment p
+           SET p.status = :result, p.pgPaymentKey = :pgPaymentKey, p.pgOrderId = :pgOrderId,
+               p.pgOperation = null, p.pgRequestedAt = null, p.modifiedAt = :now,
+               p.statusChangedAt = CASE WHEN p.status = :result THEN p.statusChangedAt ELSE :now END
+           WHERE p.paymentId = :paymentId
+           AND p.pgOperation = :operation
+        """)
+    int completeWithPgKeys(@Param("paymentId") UUID paymentId,
+        @Param("operation") PgOperation operation,
+        @Param("result") PaymentStatus result,
+        @Param("pgPaymentKey") String pgPaymentKey,
+        @Param("pgOrderId") String pgOrderId,
+        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           DELETE FROM Payment p
+           WHERE p.paymentId = :paymentId
+           AND p.pgOperation = :operation
+        """)
+    int deleteByIdAndPgOperation(@Param("paymentId") UUID paymentId,
+        @Param("operation") PgOperation operation);
+
+    @Query("""
+           SELECT p FROM Payment p
+           WHERE p.pgOperation IS NOT NULL
+           AND p.pgRequestedAt < :before
+           ORDER BY p.pgRequestedAt
+        """)
+    List<Payment> findStalePgOperations(@Param("before") LocalDateTime before, Pageable pageable);
 }
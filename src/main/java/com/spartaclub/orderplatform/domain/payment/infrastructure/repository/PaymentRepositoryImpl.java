@@ -1,16 +1,38 @@
 package com.spartaclub.orderplatform.domain.payment.infrastructure.repository;
 
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentCursor;
 import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentQuery;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentReconciliationRow;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentSummary;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentWebhookTarget;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
 import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
 import com.spartaclub.orderplatform.domain.payment.infrastructure.repository.spec.PaymentSpecs;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +40,7 @@ import org.springframework.stereotype.Repository;
 public class PaymentRepositoryImpl implements PaymentRepository {
 
     private final PaymentJPARepository paymentJPARepository;
+    private final EntityManager entityManager;
 
 
     @Override
@@ -26,8 +49,12 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public boolean existsByOrder(Order order) {
-        return paymentJPARepository.existsByOrder(order);
+    public Optional<Payment> saveIfOrderAbsent(Payment payment) {
+        try {
+            return Optional.of(paymentJPARepository.saveAndFlush(payment));
+        } catch (DataIntegrityViolationException e) {
+            return Optional.empty(); // 같은 주문의 결제가 먼저 저장됨
+        }
     }
 
     @Override
@@ -35,10 +62,157 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJPARepository.findById(paymentId);
     }
 
+    @Override
+    public Optional<UUID> findOrderIdById(UUID paymentId) {
+        return paymentJPARepository.findOrderIdById(paymentId);
+    }
+
     @Override
     public Page<Payment> findAll(PaymentQuery paymentQuery, Pageable pageable) {
-        Specification<Payment> spec = (root, query, cb) -> cb.conjunction();
-        spec = spec.and(PaymentSpecs.statusIn(paymentQuery.status()));
-        return paymentJPARepository.findAll(spec, pageable);
+        return paymentJPARepository.findAll(toSpec(paymentQuery), pageable);
+    }
+
+    @Override
+    public Page<PaymentSummary> findSummaries(PaymentQuery paymentQuery, Pageable pageable) {
+        Specification<Payment> spec = toSpec(paymentQuery);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PaymentSummary> query = cb.createQuery(PaymentSummary.class);
+        Root<Payment> root = query.from(Payment.class);
+        List<Order> orders = pageable.getSort().isSorted()
+            ? QueryUtils.toOrders(pageable.getSort(), root, cb)
+            : latestFirst(root, cb);
+        query.select(summaryOf(root, cb))
+            .where(spec.toPredicate(root, query, cb))
+            .orderBy(orders);
+
+        TypedQuery<PaymentSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        }
+        // 첫 페이지가 가득 차지 않았거나 마지막 페이지면 COUNT 없이 전체 건수 계산
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+            () -> count(spec));
+    }
+
+    @Override
+    public Slice<PaymentSummary> findSummarySlice(PaymentQuery paymentQuery,
+        PaymentCursor cursor, int size) {
+        Specification<Payment> spec = toSpec(paymentQuery).and(PaymentSpecs.after(cursor));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PaymentSummary> query = cb.createQuery(PaymentSummary.class);
+        Root<Payment> root = query.from(Payment.class);
+        query.select(summaryOf(root, cb))
+            .where(spec.toPredicate(root, query, cb))
+            .orderBy(latestFirst(root, cb));
+
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<PaymentSummary> summaries = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+
+        boolean hasNext = summaries.size() > size;
+        List<PaymentSummary> content = hasNext ? summaries.subList(0, size) : summaries;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private Specification<Payment> toSpec(PaymentQuery paymentQuery) {
+        Specification<Payment> spec = (root, query, cb) -> cb.conjunction(); // 초기값
+        return spec
+            .and(PaymentSpecs.statusIn(paymentQuery.status()))
+            .and(PaymentSpecs.createdBetween(paymentQuery.createdFrom(),
+                paymentQuery.createdTo()))
+            .and(PaymentSpecs.storeIdEq(paymentQuery.storeId()));
+    }
+
+    // 주문 ID는 결제 테이블의 FK 컬럼을 그대로 읽으므로 주문 조인/로딩 없음
+    private static CompoundSelection<PaymentSummary> summaryOf(
+        Root<Payment> root, CriteriaBuilder cb) {
+        return cb.construct(PaymentSummary.class,
+            root.get("paymentId"),
+            root.get("order").get("orderId"),
+            root.get("paymentAmount"),
+            root.get("status"),
+            root.get("pgPaymentKey"),
+            root.get("pgOrderId"),
+            root.get("createdAt"));
+    }
+
+    private static List<Order> latestFirst(Root<Payment> root, CriteriaBuilder cb) {
+        return List.of(cb.desc(root.get("createdAt")), cb.desc(root.get("paymentId")));
+    }
+
+    private long count(Specification<Payment> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Payment> root = query.from(Payment.class);
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Stream<PaymentReconciliationRow> streamForReconciliation(LocalDateTime from,
+        LocalDateTime to) {
+        return paymentJPARepository.streamForReconciliation(from, to)
+            .map(row -> new PaymentReconciliationRow(
+                (String) row[0],
+                (UUID) row[1],
+                (String) row[2],
+                PaymentStatus.valueOf((String) row[3]),
+                ((Number) row[4]).longValue()));
+    }
+
+    @Override
+    public boolean beginPgOperation(UUID paymentId, PgOperation operation, LocalDateTime now) {
+        return paymentJPARepository.beginPgOperation(paymentId, operation,
+            operation.getFromStatus(), now) > 0;
+    }
+
+    @Override
+    public List<PaymentWebhookTarget> findForWebhookUpdate(Collection<String> pgPaymentKeys) {
+        if (pgPaymentKeys.isEmpty()) {
+            return List.of();
+        }
+        return paymentJPARepository.findForWebhookUpdate(pgPaymentKeys).stream()
+            .map(row -> new PaymentWebhookTarget(
+                (UUID) row[0],
+                (UUID) row[1],
+                (String) row[2],
+                (PaymentStatus) row[3],
+                (Long) row[4]))
+            .toList();
+    }
+
+    @Override
+    public void changeStatus(Collection<UUID> paymentIds, PaymentStatus to, LocalDateTime now) {
+        if (paymentIds.isEmpty()) {
+            return;
+        }
+        paymentJPARepository.changeStatus(paymentIds, to, now);
+    }
+
+    @Override
+    public boolean completePgOperation(UUID paymentId, PgOperation operation,
+        PaymentStatus result, LocalDateTime now) {
+        return paymentJPARepository.completePgOperation(paymentId, operation, result, now) > 0;
+    }
+
+    @Override
+    public boolean authorize(UUID paymentId, String pgPaymentKey, String pgOrderId,
+        LocalDateTime now) {
+        return paymentJPARepository.completeWithPgKeys(paymentId, PgOperation.READY,
+            PaymentStatus.AUTHORIZED, pgPaymentKey, pgOrderId, now) > 0;
+    }
+
+    @Override
+    public boolean deleteReservation(UUID paymentId) {
+        return paymentJPARepository.deleteByIdAndPgOperation(paymentId, PgOperation.READY) > 0;
+    }
+
+    @Override
+    public List<Payment> findStalePgOperations(LocalDateTime before, int limit) {
+        return paymentJPARepository.findStalePgOperations(before, PageRequest.of(0, limit));
     }
 }
@@ -0,0 +1,51 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PgWebhookEventJpaRepository extends JpaRepository<PgWebhookEvent, String> {
+
+    // 수신 스레드에서 트랜잭션 없이 호출되면 자체 트랜잭션 사용 (배치 반영 중이면 참여)
+    @Transactional
+    @Modifying
+    @Query(value = """
+           INSERT INTO p_pg_webhook_events
+               (event_id, pg_payment_key, pg_status, occurred_at, received_at,
+                status, attempts, available_at, last_error)
+           VALUES (:eventId, :pgPaymentKey, :pgStatus, :occurredAt, :receivedAt,
+                   :status, :attempts, :availableAt, :lastError)
+           ON CONFLICT (event_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") String eventId,
+        @Param("pgPaymentKey") String pgPaymentKey,
+        @Param("pgStatus") String pgStatus,
+        @Param("occurredAt") LocalDateTime occurredAt,
+        @Param("receivedAt") LocalDateTime receivedAt,
+        @Param("status") String status,
+        @Param("attempts") int attempts,
+        @Param("availableAt") LocalDateTime availableAt,
+        @Param("lastError") String lastError);
+
+    // 여러 노드가 동시에 처리해도 같은 행을 점유하지 않도록 잠긴 행은 건너뜀
+    @Query(value = """
+           SELECT * FROM p_pg_webhook_events
+           WHERE status = 'PENDING'
+           AND available_at <= :now
+           ORDER BY available_at
+           LIMIT :limit
+           FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<PgWebhookEvent> findAvailableForUpdate(@Param("now") LocalDateTime now,
+        @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PgWebhookEvent e WHERE e.eventId IN :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<String> eventIds);
+}
@@ -0,0 +1,45 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.repository;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PgWebhookEventRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PgWebhookEventRepositoryImpl implements PgWebhookEventRepository {
+
+    private final PgWebhookEventJpaRepository pgWebhookEventJpaRepository;
+
+    @Override
+    public boolean saveIfAbsent(PgWebhookEvent event) {
+        return pgWebhookEventJpaRepository.insertIfAbsent(event.getEventId(),
+            event.getPgPaymentKey(), event.getPgStatus(), event.getOccurredAt(),
+            event.getReceivedAt(), event.getStatus().name(), event.getAttempts(),
+            event.getAvailableAt(), event.getLastError()) > 0;
+    }
+
+    @Override
+    public List<PgWebhookEvent> findAvailableForUpdate(LocalDateTime now, int limit) {
+        return pgWebhookEventJpaRepository.findAvailableForUpdate(now, limit);
+    }
+
+    @Override
+    public List<PgWebhookEvent> findAllById(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return pgWebhookEventJpaRepository.findAllById(eventIds);
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        pgWebhookEventJpaRepository.deleteAllByEventIdIn(eventIds);
+    }
+}
@@ -1,8 +1,11 @@
 package com.spartaclub.orderplatform.domain.payment.infrastructure.repository.spec;
 
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentCursor;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
 import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class PaymentSpecs {
@@ -21,4 +24,46 @@ public final class PaymentSpecs {
             return in;
         };
     }
+
+    //생성일시 범위 필터 [from, to)
+    public static Specification<Payment> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, q, cb) -> {
+            var createdAt = root.<LocalDateTime>get("createdAt");
+            var predicate = cb.conjunction();
+            if (from != null) {
+                predicate = cb.and(predicate, cb.greaterThanOrEqualTo(createdAt, from));
+            }
+            if (to != null) {
+                predicate = cb.and(predicate, cb.lessThan(createdAt, to));
+            }
+            return predicate;
+        };
+    }
+
+    //가게별 필터 (지정 시에만 주문 조인)
+    public static Specification<Payment> storeIdEq(UUID storeId) {
+        return (root, q, cb) -> {
+            if (storeId == null) {
+                return cb.conjunction();
+            }
+            return cb.equal(root.join("order").get("storeId"), storeId);
+        };
+    }
+
+    //커서 이후 (createdAt, paymentId) 내림차순 기준
+    public static Specification<Payment> after(PaymentCursor cursor) {
+        return (root, q, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            var createdAt = root.<LocalDateTime>get("createdAt");
+            return cb.or(
+                cb.lessThan(createdAt, cursor.createdAt()),
+                cb.and(
+                    cb.equal(createdAt, cursor.createdAt()),
+                    cb.lessThan(root.<UUID>get("paymentId"), cursor.paymentId())
+                )
+            );
+        };
+    }
 }
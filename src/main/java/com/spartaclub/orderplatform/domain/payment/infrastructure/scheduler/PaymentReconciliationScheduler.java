@@ -0,0 +1,119 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.Mismatch;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.MismatchType;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.ReconciliationReport;
+import com.spartaclub.orderplatform.global.application.lock.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 정산 파일 대사 스케줄러 (전일 settlement-yyyyMMdd.csv, 불일치는 같은 디렉터리의 .mismatches.csv로 기록)
+ */
+@Slf4j
+@Component
+public class PaymentReconciliationScheduler {
+
+    private static final String LOCK_NAME = "payment-reconciliation";
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final SchedulerLockService schedulerLockService;
+    private final Path settlementDir;
+    private final Duration lockAtMostFor;
+
+    private final Timer reconciliationTimer;
+    private final Map<MismatchType, Counter> mismatchCounters = new EnumMap<>(MismatchType.class);
+    private final AtomicLong rowsPerSecond = new AtomicLong();
+
+    public PaymentReconciliationScheduler(
+        PaymentReconciliationService paymentReconciliationService,
+        SchedulerLockService schedulerLockService,
+        MeterRegistry meterRegistry,
+        @Value("${payment.reconciliation.settlement-dir:settlements}") Path settlementDir,
+        @Value("${payment.reconciliation.lock-at-most-for:1h}") Duration lockAtMostFor
+    ) {
+        this.paymentReconciliationService = paymentReconciliationService;
+        this.schedulerLockService = schedulerLockService;
+        this.settlementDir = settlementDir;
+        this.lockAtMostFor = lockAtMostFor;
+
+        this.reconciliationTimer = Timer.builder("payment.reconciliation.duration")
+            .description("정산 파일 대사 소요 시간")
+            .register(meterRegistry);
+        for (MismatchType type : MismatchType.values()) {
+            mismatchCounters.put(type, Counter.builder("payment.reconciliation.mismatches")
+                .tag("type", type.name())
+                .register(meterRegistry));
+        }
+        Gauge.builder("payment.reconciliation.throughput", rowsPerSecond, AtomicLong::get)
+            .description("마지막 대사의 초당 처리 행 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 7 * * *}")
+    public void reconcilePayments() {
+        schedulerLockService.runExclusively(LOCK_NAME, lockAtMostFor,
+            () -> reconciliationTimer.record(() -> reconcile(LocalDate.now().minusDays(1))));
+    }
+
+    void reconcile(LocalDate settlementDate) {
+        String date = settlementDate.format(FILE_DATE);
+        Path settlementFile = settlementDir.resolve("settlement-" + date + ".csv");
+        if (!Files.isReadable(settlementFile)) {
+            log.warn("[PaymentReconciliation] 정산 파일 없음, 대사 생략 - file={}", settlementFile);
+            return;
+        }
+
+        Path mismatchFile = settlementDir.resolve("settlement-" + date + ".mismatches.csv");
+        ReconciliationReport report;
+        try (BufferedWriter writer = Files.newBufferedWriter(mismatchFile,
+            StandardCharsets.UTF_8)) {
+            writer.write("type,pgOrderId,paymentId,expected,actual");
+            writer.newLine();
+            report = paymentReconciliationService.reconcile(settlementFile, settlementDate,
+                mismatch -> write(writer, mismatch));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        report.mismatches().forEach((type, count) -> mismatchCounters.get(type).increment(count));
+        rowsPerSecond.set(Math.round(report.rowsPerSecond()));
+        log.info("[PaymentReconciliation] 대사 완료 - date={}, settlementRows={}, paymentRows={}, "
+                + "matched={}, mismatches={}, elapsed={}ms, rowsPerSecond={}",
+            settlementDate, report.settlementRows(), report.paymentRows(), report.matched(),
+            report.mismatches(), report.elapsed().toMillis(), Math.round(report.rowsPerSecond()));
+    }
+
+    private static void write(BufferedWriter writer, Mismatch mismatch) {
+        try {
+            writer.write(String.join(",", mismatch.type().name(), mismatch.pgOrderId(),
+                Objects.toString(mismatch.paymentId(), ""),
+                Objects.toString(mismatch.expected(), ""),
+                Objects.toString(mismatch.actual(), "")));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.payment.application.PaymentRecoveryService;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentRecoveryService.RecoveryResult;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 PG 호출 복구 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryScheduler {
+
+    private final PaymentRecoveryService paymentRecoveryService;
+
+    // PG 호출 제한 시간(pg.toss.call-timeout)보다 충분히 길게 두어 진행 중인 호출과 겹치지 않도록 함
+    @Value("${payment.recovery.stale-after:2m}")
+    private Duration staleAfter;
+
+    @Value("${payment.recovery.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(cron = "${payment.recovery.cron:30 * * * * *}")
+    public void recoverStalePayments() {
+        RecoveryResult result = paymentRecoveryService.recover(
+            LocalDateTime.now().minus(staleAfter), batchSize);
+        if (result.scanned() > 0) {
+            log.info("[PaymentRecovery] 중단된 PG 호출 복구 - scanned={}, resolved={}",
+                result.scanned(), result.resolved());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.scheduler;
+
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 웹훅 배치 워커 (DB 이벤트는 SKIP LOCKED로 점유하므로 모든 노드에서 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgWebhookScheduler {
+
+    private final PgWebhookService pgWebhookService;
+
+    @Value("${pg.webhook.batch-size:500}")
+    private int batchSize;
+
+    @Value("${pg.webhook.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${pg.webhook.poll-interval-ms:200}")
+    public void process() {
+        // 인메모리 큐, DB로 넘겨진 이벤트 순으로 배치가 가득 차지 않을 때까지(max-batches 한도) 연속 처리
+        int queued = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int drained = pgWebhookService.processQueued(batchSize);
+            queued += drained;
+            if (drained < batchSize) {
+                break;
+            }
+        }
+
+        int spilled = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int claimed = pgWebhookService.processSpilled(batchSize);
+            spilled += claimed;
+            if (claimed < batchSize) {
+                break;
+            }
+        }
+
+        if (queued + spilled >= batchSize) {
+            log.info("[PgWebhook] 적체 이벤트 처리 - queued={}, spilled={}", queued, spilled);
+        }
+    }
+}
@@ -8,7 +8,9 @@ import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.Init
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.InitPaymentResponseDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentDetailResponseDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentsListResponseDto;
+import com.spartaclub.orderplatform.global.application.idempotency.IdempotencyService;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -37,9 +41,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RequestMapping("/v1/payments")
 @Tag(name = "Payment", description = "결제 API")
+@SqlBudget(8)
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
     // 결제 생성 및 요청
     @Operation(
@@ -48,6 +54,7 @@ public class PaymentController {
             주문에 대한 결제를 초기화합니다.
             - PG에 결제 세션/키를 생성하거나 승인 준비 상태로 전환합니다.
             - 성공 시 201 Created와 함께 초기화 결과를 반환합니다.
+            - Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 처음 응답을 반환합니다.
             """
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
@@ -61,11 +68,16 @@ public class PaymentController {
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "요청 본문 검증 실패"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "주문/가맹점 리소스 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "주문/가맹점 리소스 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청")
     })
     @PostMapping("/init")
     public ResponseEntity<ApiResponse<InitPaymentResponseDto>> initPayment(
         @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(name = IdempotencyService.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 처리 결과를 그대로 반환 (선택, 최대 100자)")
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             required = true,
             description = "결제 초기화 요청 본문",
@@ -74,7 +86,9 @@ public class PaymentController {
         @Valid @RequestBody InitPaymentRequestDto requestDto
     ) {
         return ResponseEntity.status(HttpStatus.CREATED)
-            .body(ApiResponse.success(paymentService.initPayment(requestDto)));
+            .body(ApiResponse.success(idempotencyService.execute("payment.init", idempotencyKey,
+                requestDto, InitPaymentResponseDto.class,
+                () -> paymentService.initPayment(requestDto))));
     }
 
     // 결제 승인
@@ -84,6 +98,7 @@ public class PaymentController {
             결제 승인(캡처) 처리합니다.
             - 결제 ID와 승인에 필요한 파라미터를 받아 PG에 승인 요청을 수행합니다.
             - 성공 시 200 OK와 공통 성공 응답을 반환합니다.
+            - Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 PG에 다시 승인 요청하지 않습니다.
             """
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
@@ -91,11 +106,16 @@ public class PaymentController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "요청 본문 검증 실패 / 승인 불가 상태"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "결제 리소스 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "결제 리소스 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청")
     })
     @PostMapping("/{paymentId}/confirm")
     public ResponseEntity<ApiResponse<Void>> confirmPayment(
         @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(name = IdempotencyService.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 처리 결과를 그대로 반환 (선택, 최대 100자)")
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
         @Parameter(name = "paymentId", description = "결제 ID", in = ParameterIn.PATH, required = true,
             example = "7b8c2f2a-2b3c-4d5e-8f90-1a2b3c4d5e6f")
         @PathVariable UUID paymentId,
@@ -106,7 +126,9 @@ public class PaymentController {
         )
         @Valid @RequestBody ConfirmPaymentRequestDto requestDto
     ) {
-        paymentService.confirmPayment(requestDto, paymentId);
+        idempotencyService.execute("payment.confirm", idempotencyKey,
+            List.of(paymentId, requestDto),
+            () -> paymentService.confirmPayment(requestDto, paymentId));
         return ResponseEntity.ok(ApiResponse.success());
     }
 
@@ -116,6 +138,7 @@ public class PaymentController {
         description = """
             이미 승인된 결제를 취소합니다.
             - 성공 시 200 OK와 공통 성공 응답을 반환합니다.
+            - Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 PG에 다시 취소 요청하지 않습니다.
             """
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
@@ -123,11 +146,16 @@ public class PaymentController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "취소 불가 상태 / 요청 본문 검증 실패"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "결제 리소스 없음")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "결제 리소스 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 요청 처리 중"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청")
     })
     @PostMapping("/{paymentId}/cancel")
     public ResponseEntity<ApiResponse<Void>> cancelPayment(
         @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @Parameter(name = IdempotencyService.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 처리 결과를 그대로 반환 (선택, 최대 100자)")
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
         @Parameter(name = "paymentId", description = "결제 ID", in = ParameterIn.PATH, required = true)
         @PathVariable UUID paymentId,
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -137,7 +165,9 @@ public class PaymentController {
         )
         @Valid @RequestBody CancelPaymentRequestDto requestDto
     ) {
-        paymentService.cancelPayment(requestDto, paymentId);
+        idempotencyService.execute("payment.cancel", idempotencyKey,
+            List.of(paymentId, requestDto),
+            () -> paymentService.cancelPayment(requestDto, paymentId));
         return ResponseEntity.ok(ApiResponse.success());
     }
 
@@ -171,7 +201,10 @@ public class PaymentController {
         description = """
             관리자 권한으로 결제 목록을 조건/정렬/페이지네이션하여 조회합니다.
             - 권한: MANAGER, MASTER
-            - 페이지 파라미터: page(0부터), size, sort(예: createdAt,desc)
+            - 페이지 파라미터: page(0부터), size, sort(예: createdAt,desc), 정렬 미지정 시 최신순
+            - 필터: statuses/status, storeId, from/to(결제 생성일, yyyy-MM-dd, 양 끝 포함) 모두 선택입니다.
+            - cursor 파라미터를 지정하면 커서 모드로 동작합니다. (빈 값은 첫 페이지)
+              최신순(createdAt, paymentId) 고정 정렬이며 전체 건수 없이 nextCursor만 반환합니다.
             """
     )
     @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
@@ -188,7 +221,7 @@ public class PaymentController {
     public ResponseEntity<ApiResponse<PaymentsListResponseDto>> getPaymentsList(
         @Parameter(hidden = true) @AuthenticationPrincipal UserDetailsImpl userDetails,
         @Parameter(
-            description = "결제 상태 필터(aliases: statuses, status). 미지정 시 전체.",
+            description = "결제 상태(aliases: statuses, status), storeId, from/to, cursor 필터. 미지정 시 전체.",
             name = "statuses/status",
             required = false
         )
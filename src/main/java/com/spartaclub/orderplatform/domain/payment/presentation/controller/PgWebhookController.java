@@ -0,0 +1,53 @@
+package com.spartaclub.orderplatform.domain.payment.presentation.controller;
+
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookService;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.PgWebhookRequestDto;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
+import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/payments/webhooks")
+@Tag(name = "Payment Webhook", description = "PG 결제 상태 변경 통지 수신 API")
+@SqlBudget(1)
+public class PgWebhookController {
+
+    private final PgWebhookService pgWebhookService;
+
+    // 토스페이먼츠 결제 상태 변경 통지
+    @Operation(
+        summary = "토스페이먼츠 웹훅 수신",
+        description = """
+            PG의 결제 상태 변경 통지(승인 완료, 취소, 실패/만료)를 수신합니다.
+            - 검증 후 처리 큐에 넣고 즉시 200 OK를 반환하며, 결제/주문 상태는 배치 워커가 비동기로 반영합니다.
+            - 승인 완료/취소 통지는 PG 결제 조회 결과와 일치할 때만 반영합니다.
+            - 같은 이벤트의 재전송과 반영 대상이 아닌 상태(부분 취소 등)는 무시하고 200 OK를 반환합니다.
+            """
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수신 완료"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "요청 본문 검증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "웹훅 토큰 불일치 또는 서버 토큰 미설정")
+    })
+    @PostMapping("/toss")
+    public ResponseEntity<ApiResponse<Void>> receiveTossWebhook(
+        @Parameter(name = "token", in = ParameterIn.QUERY, description = "웹훅 URL에 등록한 공유 토큰")
+        @RequestParam(value = "token", required = false) String token,
+        @Valid @RequestBody PgWebhookRequestDto requestDto
+    ) {
+        pgWebhookService.receive(token, requestDto);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+}
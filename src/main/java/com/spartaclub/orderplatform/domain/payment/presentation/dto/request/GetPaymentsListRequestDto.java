@@ -2,12 +2,31 @@ package com.spartaclub.orderplatform.domain.payment.presentation.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 
 public record GetPaymentsListRequestDto(
 
     @JsonAlias({"statuses", "status"})
-    List<PaymentStatus> status
+    List<PaymentStatus> status,
+
+    // 주문 가게 필터 (미지정 시 전체)
+    UUID storeId,
+
+    // 결제 생성일 범위 (양 끝 포함, 미지정 시 제한 없음)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate from,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate to,
+
+    // 지정 시 커서 모드(빈 값이면 첫 페이지), 미지정 시 offset 모드
+    String cursor
 ) {
 
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
@@ -0,0 +1,43 @@
+package com.spartaclub.orderplatform.domain.payment.presentation.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+// 토스페이먼츠 결제 상태 변경 웹훅 본문 중 반영에 필요한 필드만 매핑
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PgWebhookRequestDto(
+    String eventId,             // 이벤트 ID (없으면 결제키/상태/발생 시각으로 생성)
+
+    String eventType,
+
+    @NotNull(message = "발생 시각(createdAt)은 필수입니다.")
+    LocalDateTime createdAt,
+
+    @NotNull(message = "결제 정보(data)는 필수입니다.")
+    @Valid
+    Data data
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Data(
+        @NotBlank(message = "결제 키(paymentKey)는 필수입니다.")
+        String paymentKey,
+
+        String orderId,
+
+        @NotBlank(message = "결제 상태(status)는 필수입니다.")
+        String status
+    ) {
+
+    }
+
+    public String resolveEventId() {
+        if (eventId != null && !eventId.isBlank()) {
+            return eventId;
+        }
+        return data.paymentKey() + ":" + data.status() + ":" + createdAt;
+    }
+}
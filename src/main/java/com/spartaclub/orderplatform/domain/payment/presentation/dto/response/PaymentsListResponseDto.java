@@ -1,12 +1,26 @@
 package com.spartaclub.orderplatform.domain.payment.presentation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL) // null일 경우 JSON에 미포함
 public record PaymentsListResponseDto(
     List<PaymentDetailResponseDto> payments,
-    PageableDto pageable
+    PageableDto pageable,
+    CursorDto cursor
 ) {
 
+    // offset 모드
+    public PaymentsListResponseDto(List<PaymentDetailResponseDto> payments,
+        PageableDto pageable) {
+        this(payments, pageable, null);
+    }
+
+    // 커서 모드 (전체 건수 미포함)
+    public PaymentsListResponseDto(List<PaymentDetailResponseDto> payments, CursorDto cursor) {
+        this(payments, null, cursor);
+    }
+
     public record PageableDto(
         int page,
         int size,
@@ -19,4 +33,12 @@ public record PaymentsListResponseDto(
     ) {
 
     }
+
+    public record CursorDto(
+        int size,
+        boolean hasNext,
+        String nextCursor
+    ) {
+
+    }
 }
@@ -6,6 +6,7 @@ import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
 import com.spartaclub.orderplatform.domain.product.domain.entity.ProductOptionGroup;
 import com.spartaclub.orderplatform.domain.product.domain.repository.*;
 import com.spartaclub.orderplatform.domain.product.exception.ProductErrorCode;
+import com.spartaclub.orderplatform.domain.product.infrastructure.search.ProductSearchIndex;
 import com.spartaclub.orderplatform.domain.product.presentation.dto.*;
 import com.spartaclub.orderplatform.domain.review.domain.model.Review;
 import com.spartaclub.orderplatform.domain.store.application.mapper.StoreMapper;
@@ -19,6 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -40,6 +43,7 @@ public class ProductService {
     private final AiService aiService;
     private final ProductOptionGroupRepository productOptionGroupRepository;
     private final ProductReviewReaderRepository reviewRepository;
+    private final ProductSearchIndex productSearchIndex;
 
     // 상품 등록 서비스 로직
     @Transactional
@@ -54,8 +58,9 @@ public class ProductService {
         // 2. 상품 생성
         Product product = Product.create(productCreateRequestDto.getProductName(), productCreateRequestDto.getPrice(), productCreateRequestDto.getProductDescription(), store);
 
-        // 3. 저장
+        // 3. 저장 후 검색 색인 반영 (커밋 이후)
         Product savedProduct = productRepository.save(product);
+        productSearchIndex.putProduct(savedProduct.getProductId(), store.getStoreId(), savedProduct.getProductName());
 
         // 4. 캐시에 AI 응답이 있으면 로그 저장
         aiService.saveAiLogsIfNeeded(userId, savedProduct.getProductId(), savedProduct.getCreatedId(), productCreateRequestDto.getProductDescription());
@@ -73,8 +78,9 @@ public class ProductService {
         // 1. productId로 상품 조회
         Product product = findProductOrThrow(productId);
 
-        // 2. 상품 정보 수정
+        // 2. 상품 정보 수정 후 검색 색인 반영 (커밋 이후)
         product.updateProduct(productUpdateRequestDto);
+        productSearchIndex.putProduct(product.getProductId(), product.getStore().getStoreId(), product.getProductName());
 
         // 3. JPA의 변경 감지(dirty checking)로 자동 저장
         // 별도로 save 호출 안 해도 @Transactional 안에서 commit 시 DB 반영
@@ -93,6 +99,7 @@ public class ProductService {
         Product product = findProductOrThrow(productId);
 
         product.deleteProduct(userId); // 도메인 메서드 호출, 회원 연결 전 하드코딩
+        productSearchIndex.removeProduct(productId); // 검색 색인에서 제거 (커밋 이후)
         // @Transactional 안에서 dirty checking으로 자동 반영
     }
 
@@ -141,22 +148,33 @@ public class ProductService {
 
     // 검색 키워드와 사용자 배송지 정보로 상점 검색
     public PageResponseDto<ProductStoreSearchResponseDto> getStoreListByProductNameAndAddressId(String keyword, UUID addressId, Pageable pageable) {
-        // 1. 사용자의 배송지 조회
+        // 1. 검색어 검증 (공백만 입력한 경우)
+        if (ProductSearchIndex.keywordLength(keyword) == 0) {
+            throw new BusinessException(ProductErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+
+        // 2. 사용자의 배송지 조회
         Address address = addressRepository.findById(addressId)
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.ADDRESS_NOT_EXIST));
 
-        // 2. 도로명 주소만 추출
-        String roadName = extractRoadName(address.getRoadNameAddress());
+        // 3. 도로명 주소만 추출
+        String roadName = RoadNameExtractor.extract(address.getRoadNameAddress());
 
-        // 3. 키워드로 찾은 상품과 연계된 가게 중 배송지 주소 근처인 가게 조회
-        Page<Store> storePage = storeRepository.findDistinctByProductNameContainingIgnoreCase(keyword, roadName, pageable);
+        // 4. 검색 색인에서 정렬/페이징한 가게 ID 조회 (전체 건수도 색인 기준, COUNT 쿼리 없음)
+        Page<UUID> storeIdPage = productSearchIndex.searchStoreIds(keyword, roadName, pageable);
 
-        List<ProductStoreSearchResponseDto> storeList = storePage.getContent().stream()
+        // 5. 페이지에 해당하는 가게만 조회 후 색인 순서대로 정렬 (색인 재구축 전 삭제된 가게는 제외)
+        Map<UUID, Store> stores = storeIdPage.isEmpty()
+                ? Map.of()
+                : storeRepository.findAllById(storeIdPage.getContent());
+        List<ProductStoreSearchResponseDto> storeList = storeIdPage.getContent().stream()
+                .map(stores::get)
+                .filter(Objects::nonNull)
                 .map(productMapper::toProductStoreSearchResponseDto)
                 .toList();
 
-        PageMetaDto pageMetaDto = productMapper.toPageDto(storePage);
-        // 3. entity -> dto 후 반환
+        PageMetaDto pageMetaDto = productMapper.toPageDto(storeIdPage);
+        // 6. entity -> dto 후 반환
         return new PageResponseDto<>(storeList, pageMetaDto);
     }
 
@@ -200,16 +218,4 @@ public class ProductService {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_EXIST));
     }
-
-    // 사용자 배송지에서 도로명 주소만 추출하는 메소드
-    private String extractRoadName(String roadAddress) {
-        // 예: "서울특별시 노원구 한글비석로 24" → "한글비석로"
-        String[] parts = roadAddress.split(" ");
-        for (String part : parts) {
-            if (part.endsWith("로") || part.endsWith("길")) {
-                return part;
-            }
-        }
-        return ""; // 못 찾은 경우
-    }
 }
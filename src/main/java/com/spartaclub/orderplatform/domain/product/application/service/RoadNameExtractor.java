@@ -0,0 +1,20 @@
+package com.spartaclub.orderplatform.domain.product.application.service;
+
+// 사용자 배송지에서 도로명 주소만 추출 (가게 검색 지역 조건)
+public final class RoadNameExtractor {
+
+    private RoadNameExtractor() {
+    }
+
+    // 도로명 주소에서 도로명만 추출 (못 찾으면 빈 문자열)
+    public static String extract(String roadAddress) {
+        // 예: "서울특별시 노원구 한글비석로 24" → "한글비석로"
+        String[] parts = roadAddress.split(" ");
+        for (String part : parts) {
+            if (part.endsWith("로") || part.endsWith("길")) {
+                return part;
+            }
+        }
+        return ""; // 못 찾은 경우
+    }
+}
@@ -2,14 +2,15 @@ package com.spartaclub.orderplatform.domain.product.domain.repository;
 
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ProductStoreReaderRepository {
-    Page<Store> findDistinctByProductNameContainingIgnoreCase(String keyword, String roadName, Pageable pageable);
+    // 검색 색인에서 찾은 페이지의 가게 조회 (가게 ID -> 가게)
+    Map<UUID, Store> findAllById(Collection<UUID> storeIds);
 
     Optional<Store> findById(@NotNull(message = "스토어 ID는 필수입니다.") UUID storeId);
 }
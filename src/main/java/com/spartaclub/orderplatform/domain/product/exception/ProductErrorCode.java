@@ -7,6 +7,7 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum ProductErrorCode implements ErrorCode {
     PRODUCT_NOT_EXIST(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 입력해야 합니다."),
     STORE_NOT_EXIST(HttpStatus.NOT_FOUND, "가게를 찾을 수 없습니다."),
     ADDRESS_NOT_EXIST(HttpStatus.NOT_FOUND, "주소를 찾을 수 없습니다."),
     PRODUCT_OPTION_GROUP_NOT_EXIST(HttpStatus.NOT_FOUND, "상품 옵션 그룹을 찾을 수 없습니다."),
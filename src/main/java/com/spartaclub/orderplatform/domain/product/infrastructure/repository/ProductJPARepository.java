@@ -1,14 +1,18 @@
 package com.spartaclub.orderplatform.domain.product.infrastructure.repository;
 
 import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import jakarta.persistence.QueryHint;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 /**
@@ -32,4 +36,9 @@ public interface ProductJPARepository extends JpaRepository<Product, UUID> {
     Optional<Product> findWithOptionGroupsAndItemsByProductId(@Param("productId") UUID productId);
 
     List<Product> findByProductIdIn(Collection<UUID> productIds);
+
+    // 검색 색인 재구축용 (상품 ID, 상품명, 가게 ID)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.productId, p.productName, p.store.storeId FROM Product p WHERE p.deletedAt IS NULL")
+    Stream<Object[]> streamSearchDocuments();
 }
@@ -4,12 +4,14 @@ import com.spartaclub.orderplatform.domain.product.domain.repository.ProductStor
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.store.infrastructure.repository.StoreJpaRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -18,8 +20,9 @@ public class ProductStoreReaderRepositoryImpl implements ProductStoreReaderRepos
     private final StoreJpaRepository storeJpaRepository;
 
     @Override
-    public Page<Store> findDistinctByProductNameContainingIgnoreCase(String keyword, String roadName, Pageable pageable) {
-        return storeJpaRepository.findDistinctByProductNameContainingIgnoreCase(keyword, roadName, pageable);
+    public Map<UUID, Store> findAllById(Collection<UUID> storeIds) {
+        return storeJpaRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
     }
 
     @Override
@@ -0,0 +1,142 @@
+package com.spartaclub.orderplatform.domain.product.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문자 n-gram(1-gram + 2-gram) 역색인 (한글은 음절 단위)
+ *
+ * @param <K> 문서 키 타입
+ */
+class NgramIndex<K> {
+
+    // gram -> 문서 키 집합
+    private final Map<String, Set<K>> postings = new ConcurrentHashMap<>();
+
+    // 문서 키 -> 정규화된 원문
+    private final Map<K, String> documents = new ConcurrentHashMap<>();
+
+    // 문서 추가 또는 교체
+    synchronized void put(K key, String text) {
+        remove(key);
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        documents.put(key, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    // 문서 제거
+    synchronized void remove(K key) {
+        String previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<K> keys = postings.get(gram);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    boolean contains(K key) {
+        return documents.containsKey(key);
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * 질의 문자열을 포함하는 문서 키 조회
+     *
+     * @param query 검색어
+     * @return 정규화 기준으로 검색어를 포함하는 문서 키 (검색어가 비어 있으면 빈 집합)
+     */
+    Set<K> search(String query) {
+        // NFC/소문자/공백 제거 기준이라 LIKE와 달리 "김치 찌개"도 "김치찌개"로 검색됨
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+
+        // 질의 gram의 posting 중 가장 작은 것부터 교집합
+        List<Set<K>> lists = new ArrayList<>();
+        for (String gram : queryGrams(normalized)) {
+            Set<K> keys = postings.get(gram);
+            if (keys == null) {
+                return Set.of();
+            }
+            lists.add(keys);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<K> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+
+        // gram 교집합은 순서를 보장하지 않으므로 원문 포함 여부로 검증
+        candidates.removeIf(key -> {
+            String document = documents.get(key);
+            return document == null || !document.contains(normalized);
+        });
+        return candidates;
+    }
+
+    // NFC 정규화 + 소문자 + 공백 제거 ("김치 찌개" == "김치찌개")
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC)
+            .toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        composed.codePoints()
+            .filter(cp -> !Character.isWhitespace(cp))
+            .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    // 색인용 gram: 모든 1-gram + 2-gram
+    private static Set<String> grams(String normalized) {
+        int[] cps = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < cps.length; i++) {
+            grams.add(new String(cps, i, 1));
+            if (i + 1 < cps.length) {
+                grams.add(new String(cps, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    // 질의용 gram: 한 글자면 1-gram, 그 외에는 2-gram
+    private static Set<String> queryGrams(String normalized) {
+        int[] cps = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (cps.length == 1) {
+            grams.add(new String(cps, 0, 1));
+            return grams;
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            grams.add(new String(cps, i, 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,292 @@
+package com.spartaclub.orderplatform.domain.product.infrastructure.search;
+
+import com.spartaclub.orderplatform.domain.product.infrastructure.repository.ProductJPARepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreSearchIndexer;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메뉴(상품명) + 배달 지역(가게 주소) 검색용 인메모리 n-gram 역색인 (커밋 이후 증분 반영, 주기적 전체 재구축)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex implements StoreSearchIndexer {
+
+    // 검색 결과 정렬 기준 (가게 등록 시각, 평균 평점)
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String SORT_RATING = "rating";
+
+    private final ProductJPARepository productJpaRepository;
+    private final StoreRepository storeRepository;
+
+    private final Object rebuildLock = new Object();
+
+    // 검색에 사용하는 색인
+    private volatile Snapshot current = new Snapshot();
+
+    // 재구축 중인 색인 (재구축 도중의 증분 변경도 함께 반영)
+    private Snapshot building;
+
+    /**
+     * 상품명에 keyword를 포함하는 상품을 가진 가게 중 주소에 area를 포함하는 가게 ID 페이지 조회
+     *
+     * @param keyword  상품명 검색어 (비어 있으면 상품이 있는 모든 가게)
+     * @param area     배달 지역(도로명) 검색어 (비어 있으면 지역 조건 없음)
+     * @param pageable 페이지 (정렬은 createdAt, rating만 반영, 없으면 최신순)
+     * @return 정렬한 가게 ID 페이지
+     */
+    public Page<UUID> searchStoreIds(String keyword, String area, Pageable pageable) {
+        Snapshot snapshot = current;
+        Set<UUID> storeIds = matchStoreIds(snapshot, keyword, area);
+        Comparator<UUID> comparator = comparator(snapshot, pageable.getSort());
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(storeIds.stream().sorted(comparator).toList());
+        }
+        if (pageable.getOffset() >= storeIds.size()) {
+            return new PageImpl<>(List.of(), pageable, storeIds.size());
+        }
+        // 요청 페이지 끝까지만 부분 정렬 (짧은 검색어로 일치 가게가 많아도 전체를 정렬하지 않음)
+        List<UUID> content = top(storeIds, comparator,
+                (int) Math.min(pageable.getOffset() + pageable.getPageSize(), storeIds.size()))
+            .stream()
+            .skip(pageable.getOffset())
+            .toList();
+        return new PageImpl<>(content, pageable, storeIds.size());
+    }
+
+    // 공백을 제외한 검색어 글자 수 (색인과 같은 정규화 기준)
+    public static int keywordLength(String keyword) {
+        String normalized = NgramIndex.normalize(keyword);
+        return normalized.codePointCount(0, normalized.length());
+    }
+
+    // 요청한 정렬 기준 순서대로 비교 (지원하지 않는 기준은 무시, 동률은 가게 ID 순)
+    private static Comparator<UUID> comparator(Snapshot snapshot, Sort sort) {
+        Comparator<UUID> byCreatedAt = Comparator.comparing(
+            (UUID storeId) -> snapshot.storeCreatedAt.getOrDefault(storeId, LocalDateTime.MIN));
+        Comparator<UUID> byRating = Comparator.comparing(
+            (UUID storeId) -> snapshot.storeRatings.getOrDefault(storeId, 0.0));
+
+        Comparator<UUID> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<UUID> next = switch (order.getProperty()) {
+                case SORT_CREATED_AT -> byCreatedAt;
+                case SORT_RATING -> byRating;
+                default -> null;
+            };
+            if (next == null) {
+                continue;
+            }
+            next = order.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator == null) {
+            comparator = byCreatedAt.reversed();
+        }
+        return comparator.thenComparing(Comparator.naturalOrder());
+    }
+
+    // 정렬 순서상 앞쪽 limit개만 힙으로 골라 정렬 (O(n log limit))
+    private static List<UUID> top(Set<UUID> storeIds, Comparator<UUID> comparator, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<UUID> heap = new PriorityQueue<>(limit, comparator.reversed());
+        for (UUID storeId : storeIds) {
+            if (heap.size() < limit) {
+                heap.offer(storeId);
+            } else if (comparator.compare(storeId, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(storeId);
+            }
+        }
+        List<UUID> result = new ArrayList<>(heap);
+        result.sort(comparator);
+        return result;
+    }
+
+    private static Set<UUID> matchStoreIds(Snapshot snapshot, String keyword, String area) {
+        Set<UUID> storeIds = new HashSet<>();
+        if (NgramIndex.normalize(keyword).isEmpty()) {
+            storeIds.addAll(snapshot.productStores.values());
+        } else {
+            for (UUID productId : snapshot.productNames.search(keyword)) {
+                UUID storeId = snapshot.productStores.get(productId);
+                if (storeId != null) {
+                    storeIds.add(storeId);
+                }
+            }
+        }
+
+        if (NgramIndex.normalize(area).isEmpty()) {
+            storeIds.removeIf(storeId -> !snapshot.storeAreas.contains(storeId));
+        } else {
+            storeIds.retainAll(snapshot.storeAreas.search(area));
+        }
+        return storeIds;
+    }
+
+    // 상품 등록/수정 반영
+    public void putProduct(UUID productId, UUID storeId, String productName) {
+        afterCommit(snapshot -> snapshot.putProduct(productId, storeId, productName),
+            snapshot -> snapshot.touchedProducts.add(productId));
+    }
+
+    // 상품 삭제 반영
+    public void removeProduct(UUID productId) {
+        afterCommit(snapshot -> snapshot.removeProduct(productId),
+            snapshot -> snapshot.touchedProducts.add(productId));
+    }
+
+    // 가게 등록/주소 수정 반영 (평균 평점은 리뷰마다 갱신하지 않고 재구축 주기로 반영)
+    @Override
+    public void putStore(StoreSearchArea area) {
+        afterCommit(snapshot -> snapshot.putStore(area),
+            snapshot -> snapshot.touchedStores.add(area.storeId()));
+    }
+
+    // 가게 삭제 반영
+    @Override
+    public void removeStore(UUID storeId) {
+        afterCommit(snapshot -> snapshot.removeStore(storeId),
+            snapshot -> snapshot.touchedStores.add(storeId));
+    }
+
+    /**
+     * DB 기준 전체 재구축 후 교체 재구축 도중 증분 반영된 키는 조회 결과로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${product.search-index.rebuild-cron:0 0/30 * * * *}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Snapshot next = new Snapshot();
+        synchronized (rebuildLock) {
+            building = next;
+        }
+
+        try {
+            try (Stream<StoreSearchArea> areas = storeRepository.streamSearchAreas()) {
+                areas.forEach(area -> {
+                    synchronized (rebuildLock) {
+                        if (!next.touchedStores.contains(area.storeId())) {
+                            next.putStore(area);
+                        }
+                    }
+                });
+            }
+            try (Stream<Object[]> rows = productJpaRepository.streamSearchDocuments()) {
+                rows.forEach(row -> {
+                    UUID productId = (UUID) row[0];
+                    synchronized (rebuildLock) {
+                        if (!next.touchedProducts.contains(productId)) {
+                            next.putProduct(productId, (UUID) row[2], (String) row[1]);
+                        }
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                building = null;
+            }
+            log.error("[ProductSearchIndex] 재구축 실패 - 기존 색인 유지", e);
+            throw e;
+        }
+
+        synchronized (rebuildLock) {
+            current = next;
+            building = null;
+        }
+        log.info("[ProductSearchIndex] 재구축 완료 - products={}, stores={}, elapsedMs={}",
+            next.productNames.size(), next.storeAreas.size(), System.currentTimeMillis() - start);
+    }
+
+    // 트랜잭션 커밋 이후 현재 색인(및 재구축 중인 색인)에 반영
+    private void afterCommit(Consumer<Snapshot> action, Consumer<Snapshot> touch) {
+        Runnable apply = () -> {
+            synchronized (rebuildLock) {
+                action.accept(current);
+                if (building != null) {
+                    touch.accept(building);
+                    action.accept(building);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        apply.run();
+                    }
+                });
+        } else {
+            apply.run();
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final NgramIndex<UUID> productNames = new NgramIndex<>();   // 상품명 색인
+        private final Map<UUID, UUID> productStores = new ConcurrentHashMap<>(); // 상품 -> 가게
+        private final NgramIndex<UUID> storeAreas = new NgramIndex<>();     // 가게 주소 색인
+        private final Map<UUID, LocalDateTime> storeCreatedAt = new ConcurrentHashMap<>(); // 가게 -> 등록 시각
+        private final Map<UUID, Double> storeRatings = new ConcurrentHashMap<>(); // 가게 -> 평균 평점
+        private final Set<UUID> touchedProducts = ConcurrentHashMap.newKeySet();
+        private final Set<UUID> touchedStores = ConcurrentHashMap.newKeySet();
+
+        private void putProduct(UUID productId, UUID storeId, String productName) {
+            productStores.put(productId, storeId);
+            productNames.put(productId, productName);
+        }
+
+        private void removeProduct(UUID productId) {
+            productStores.remove(productId);
+            productNames.remove(productId);
+        }
+
+        private void putStore(StoreSearchArea area) {
+            storeAreas.put(area.storeId(), area.storeAddress());
+            if (area.createdAt() != null) {
+                storeCreatedAt.put(area.storeId(), area.createdAt());
+            }
+            if (area.averageRating() != null) {
+                storeRatings.put(area.storeId(), area.averageRating());
+            }
+        }
+
+        private void removeStore(UUID storeId) {
+            storeAreas.remove(storeId);
+            storeCreatedAt.remove(storeId);
+            storeRatings.remove(storeId);
+        }
+    }
+}
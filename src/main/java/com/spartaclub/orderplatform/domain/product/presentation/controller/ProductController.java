@@ -3,6 +3,7 @@ package com.spartaclub.orderplatform.domain.product.presentation.controller;
 import com.spartaclub.orderplatform.domain.product.application.service.ProductService;
 import com.spartaclub.orderplatform.domain.product.presentation.dto.*;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.response.StoreSearchResponseDto;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +31,7 @@ import static com.spartaclub.orderplatform.global.application.security.SecurityU
 @RequestMapping("/v1/products")
 @RequiredArgsConstructor
 @Tag(name = "상품 API", description = "상품 등록, 수정, 삭제, 조회 및 검색 관련 API")
+@SqlBudget(8)
 public class ProductController {
 
     private final ProductService productService;
@@ -48,6 +50,7 @@ public class ProductController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PreAuthorize("hasRole('OWNER')")
+    @SqlBudget(30)  // 캐시된 AI 응답 수만큼 ai_logs INSERT
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponseDto>> createProduct(
             @Valid @RequestBody ProductCreateRequestDto productCreateRequestDto
@@ -124,6 +127,7 @@ public class ProductController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "옵션 그룹 또는 상품 없음")
     })
     @PreAuthorize("hasRole('OWNER')")
+    @SqlBudget(12)
     @PostMapping("/add-group-to-product")
     public ResponseEntity<ApiResponse<Void>> addGroupToProduct(
             @Valid @RequestBody ProductAddOptionGroupsRequestDto productAddOptionGroupsRequestDto
@@ -176,11 +180,11 @@ public class ProductController {
             summary = "상품 이름으로 상점 검색",
             description = """
                     입력한 상품 이름과 사용자 주소를 기반으로 배송 가능한 상점을 검색합니다.<br><br>
-                    keyword: 검색 키워드 (상품 이름)<br>
+                    keyword: 검색 키워드 (상품 이름, 공백만 입력 불가)<br>
                     addressId: 사용자 주소 ID (선택)<br>
                     page: 페이지 번호 (0부터 시작)<br>
                     size: 페이지당 아이템 수 (허용값: 10, 30, 50)<br>
-                    sort: 정렬 기준 (예: createdAt,desc / rating,asc)<br>
+                    sort: 정렬 기준 (예: createdAt,desc / rating,asc, 기본 createdAt,desc)<br>
                     예) /products/search-by-product-name?keyword=커피&page=0&size=10&sort=rating,asc
                     """
     )
@@ -3,6 +3,7 @@ package com.spartaclub.orderplatform.domain.product.presentation.controller;
 import com.spartaclub.orderplatform.domain.product.application.service.ProductOptionGroupService;
 import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductOptionGroupRequestDto;
 import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductOptionGroupResponseDto;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,6 +24,7 @@ import static com.spartaclub.orderplatform.global.application.security.SecurityU
 @RequestMapping("/v1/product-option-groups")
 @RequiredArgsConstructor
 @Tag(name = "Product Option Group", description = "상품 옵션 그룹 관련 API")
+@SqlBudget(6)
 public class ProductOptionGroupController {
 
     private final ProductOptionGroupService productOptionGroupService;
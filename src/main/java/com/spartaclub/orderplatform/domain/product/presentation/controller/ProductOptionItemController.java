@@ -3,6 +3,7 @@ package com.spartaclub.orderplatform.domain.product.presentation.controller;
 import com.spartaclub.orderplatform.domain.product.application.service.ProductOptionItemService;
 import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductOptionItemRequestDto;
 import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductOptionItemResponseDto;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +23,7 @@ import static com.spartaclub.orderplatform.global.application.security.SecurityU
 @RestController
 @RequestMapping("/v1/product-option-items")
 @RequiredArgsConstructor
+@SqlBudget(6)
 public class ProductOptionItemController {
 
     private final ProductOptionItemService service;
@@ -13,6 +13,7 @@ import com.spartaclub.orderplatform.domain.review.presentation.dto.request.Revie
 import com.spartaclub.orderplatform.domain.review.presentation.dto.request.ReviewUpdateRequestDto;
 import com.spartaclub.orderplatform.domain.review.presentation.dto.response.ReviewResponseDto;
 import com.spartaclub.orderplatform.domain.review.presentation.dto.response.ReviewSearchResponseDto;
+import com.spartaclub.orderplatform.domain.store.application.service.StoreRatingService;
 import com.spartaclub.orderplatform.domain.store.application.service.StoreService;
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
@@ -44,6 +45,7 @@ public class ReviewService {
     private final OrderService orderService;
     private final StoreService storeService;
     private final ProductService productService;
+    private final StoreRatingService storeRatingService;
 
     // 리뷰 등록 로직(create)
     @Transactional
@@ -64,8 +66,12 @@ public class ReviewService {
         // 2. 리뷰 객체 생성 By 정적 팩토리 메서드
         Review review = Review.create(user, store, product, order, requestDto.getRating(),
             requestDto.getContents());
-        // 3. DB 저장 후 entity → responseDto 전환
-        return reviewMapper.toReviewResponseDto(reviewRepository.save(review));
+        // 3. DB 저장
+        Review savedReview = reviewRepository.save(review);
+        // 4. 가게 평점 합계/리뷰 수 증분 반영
+        storeRatingService.addReview(store.getStoreId(), savedReview.getRating());
+        // 5. entity → responseDto 전환
+        return reviewMapper.toReviewResponseDto(savedReview);
     }
 
     // 리뷰 수정 로직(update)
@@ -78,10 +84,16 @@ public class ReviewService {
             throw new BusinessException(AuthErrorCode.FORBIDDEN);
         }
         // 3. 리뷰 엔티티 update 함수에서 변경된 값 반영
+        int oldRating = review.getRating();
         review.updateReview(dto.getRating(), dto.getContents());
         // 4. dirty checking후 et.commit()이 호출될 때 DB 반영
         // @Transactional안에서 JPA 변경 감지(dirty checking) 되면 entity transaction에 의해 et.commit()이 호출될 때 DB반영
-        // 5. entity → responseDto 변환 뒤 반환
+        // 5. 가게 평점 합계 증분 반영 (삭제된 리뷰는 집계 대상 아님)
+        if (!review.isDeleted()) {
+            storeRatingService.changeReview(review.getStore().getStoreId(), oldRating,
+                review.getRating());
+        }
+        // 6. entity → responseDto 변환 뒤 반환
         return reviewMapper.toReviewResponseDto(review);
     }
 
@@ -95,7 +107,12 @@ public class ReviewService {
             throw new BusinessException(AuthErrorCode.FORBIDDEN);
         }
         // 3. 리뷰 도메인 삭제 메서드 호출
+        boolean wasActive = !review.isDeleted();
         review.deleteReview(user.getUserId());
+        // 4. 가게 평점 합계/리뷰 수 차감 (이미 삭제된 리뷰는 중복 차감하지 않음)
+        if (wasActive) {
+            storeRatingService.removeReview(review.getStore().getStoreId(), review.getRating());
+        }
     }
 
     // 리뷰 목록 조회
@@ -5,11 +5,10 @@ import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import com.spartaclub.orderplatform.global.domain.entity.BaseEntity;
+import com.spartaclub.orderplatform.global.domain.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -34,7 +33,7 @@ import lombok.NoArgsConstructor;
 public class Review extends BaseEntity {
 
     @Id // primary key
-    @GeneratedValue(strategy = GenerationType.UUID) // UUID 자동 생성
+    @TimeOrderedUuid // UUIDv7 자동 생성
     private UUID reviewId;              // 리뷰 ID
     @Column(nullable = false) // Null 값 허용 안함
     private Integer rating;             // 리뷰 별점
@@ -1,12 +1,14 @@
 package com.spartaclub.orderplatform.domain.review.infrastructure.repository;
 
 import com.spartaclub.orderplatform.domain.review.domain.model.Review;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /*
  * Review Entity 레포지토리 인터페이스
@@ -40,14 +42,14 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
     Page<Review> findAllByProduct_ProductId(UUID productId, Pageable pageable);
 
-    // 평점과 리뷰 개수 가져와는 쿼리 추가
+    // 가게별 평점 합계와 리뷰 개수 (평점 정합성 보정용)
     @Query("""
-           SELECT s.storeId, COALESCE(ROUND(AVG(r.rating), 1), 0), COUNT(r)
-           FROM Store s
-           LEFT JOIN Review r
-                   ON r.store = s AND r.deletedAt IS NULL
-           GROUP BY s.storeId
+           SELECT r.store.storeId, COALESCE(SUM(r.rating), 0), COUNT(r)
+           FROM Review r
+           WHERE r.store.storeId IN :storeIds
+           AND r.deletedAt IS NULL
+           GROUP BY r.store.storeId
         """)
-    List<Object[]> findReviewCountAndAverageForAllStores();
+    List<Object[]> sumRatingAndCountByStoreIds(@Param("storeIds") Collection<UUID> storeIds);
 
 }
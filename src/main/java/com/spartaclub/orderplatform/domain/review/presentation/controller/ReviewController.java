@@ -7,6 +7,7 @@ import com.spartaclub.orderplatform.domain.review.presentation.dto.response.Revi
 import com.spartaclub.orderplatform.domain.review.presentation.dto.response.ReviewSearchResponseDto;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -42,6 +43,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController // @ResponseBody + @Controller
 @RequiredArgsConstructor // final 제어자가 붙은 필드에 대한 생성자 생성
 @RequestMapping("/v1/reviews")
+@SqlBudget(8)
 public class ReviewController {
 
     // 필드 선언
@@ -1,7 +1,10 @@
 package com.spartaclub.orderplatform.domain.store.application.facade;
 
 import com.spartaclub.orderplatform.domain.store.application.facade.dto.StoreView;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -12,9 +15,14 @@ import java.util.UUID;
 public interface StorePublicReader {
 
     Optional<StoreView> loadStoreSummaryInfo(UUID storeId);
+
+    // 여러 가게 요약 정보 일괄 조회 (IN 조회 1회), storeId -> StoreView
+    Map<UUID, StoreView> loadStoreSummaryInfos(Collection<UUID> storeIds);
+
+    // 오너의 모든 가게 ID (캐시, 삭제된 가게 포함)
+    Set<UUID> loadStoreIdsByOwner(Long ownerId);
     /*
     더 구현 해볼만한 메서드
-    List<StoreView> findByOwner(Long ownerId);                     // 오너의 모든 가게
     Page<StoreView> search(StoreSearchQuery query, Pageable pageable); // 검색/페이징
     Optional<StoreDetailView> loadStoreDetail(UUID storeId);       // 더 풍부한 상세 뷰
      */
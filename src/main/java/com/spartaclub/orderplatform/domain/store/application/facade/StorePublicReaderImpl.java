@@ -1,9 +1,14 @@
 package com.spartaclub.orderplatform.domain.store.application.facade;
 
 import com.spartaclub.orderplatform.domain.store.application.facade.dto.StoreView;
+import com.spartaclub.orderplatform.domain.store.application.service.OwnerStoreIndex;
 import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +17,7 @@ import org.springframework.stereotype.Component;
 public class StorePublicReaderImpl implements StorePublicReader {
 
     private final StoreRepository storeRepository;
+    private final OwnerStoreIndex ownerStoreIndex;
 
     @Override
     public Optional<StoreView> loadStoreSummaryInfo(UUID storeId) {
@@ -22,4 +28,15 @@ public class StorePublicReaderImpl implements StorePublicReader {
         return storeRepository.findById(storeId)
             .map(StoreView::from);
     }
+
+    @Override
+    public Map<UUID, StoreView> loadStoreSummaryInfos(Collection<UUID> storeIds) {
+        return storeRepository.findAllById(storeIds).values().stream()
+            .collect(Collectors.toMap(StoreView::storeId, StoreView::from));
+    }
+
+    @Override
+    public Set<UUID> loadStoreIdsByOwner(Long ownerId) {
+        return ownerStoreIndex.storeIdsOf(ownerId);
+    }
 }
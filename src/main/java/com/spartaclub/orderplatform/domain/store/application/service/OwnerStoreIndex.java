@@ -0,0 +1,95 @@
+package com.spartaclub.orderplatform.domain.store.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게 소유자 -> 소유 가게 ID 집합 캐시 (가게 생성/삭제/소유자 변경 시 invalidate()로 즉시 무효화)
+ */
+@Slf4j
+@Component
+public class OwnerStoreIndex {
+
+    private final StoreRepository storeRepository;
+
+    // ownerId -> 소유 가게 ID (불변 집합, 기존 주문 조회를 위해 삭제된 가게도 포함)
+    private final Cache<Long, Set<UUID>> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public OwnerStoreIndex(
+        StoreRepository storeRepository,
+        MeterRegistry meterRegistry,
+        @Value("${store.owner-index.max-size:10000}") long maxSize,
+        @Value("${store.owner-index.ttl:10m}") Duration ttl
+    ) {
+        this.storeRepository = storeRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+
+        this.hitCounter = Counter.builder("store.owner-index.requests")
+            .tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("store.owner-index.requests")
+            .tag("result", "miss").register(meterRegistry);
+        Gauge.builder("store.owner-index.size", cache, Cache::estimatedSize)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 소유 가게 ID 조회, 없으면 DB에서 적재 (같은 소유자의 동시 미스는 적재 1회)
+     *
+     * @param ownerId 가게 소유자 ID
+     * @return 소유 가게 ID 집합 (없으면 빈 집합)
+     */
+    public Set<UUID> storeIdsOf(Long ownerId) {
+        Set<UUID> cached = cache.getIfPresent(ownerId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        return cache.get(ownerId, id -> Set.copyOf(storeRepository.findStoreIdsByOwnerId(id)));
+    }
+
+    /**
+     * 소유자 캐시 무효화 트랜잭션 안에서 호출되면 완료 이후에도 한 번 더 무효화하여 커밋 전 데이터가 다시 캐시되는 것을 방지
+     *
+     * @param ownerId 무효화할 가게 소유자 ID
+     */
+    public void invalidate(Long ownerId) {
+        if (ownerId == null) {
+            return;
+        }
+        evict(ownerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evict(ownerId);
+                    }
+                });
+        }
+    }
+
+    private void evict(Long ownerId) {
+        cache.invalidate(ownerId);
+        log.debug("[OwnerStoreIndex] invalidate - ownerId={}", ownerId);
+    }
+}
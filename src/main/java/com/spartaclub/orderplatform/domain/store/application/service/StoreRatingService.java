@@ -0,0 +1,137 @@
+package com.spartaclub.orderplatform.domain.store.application.service;
+
+import com.spartaclub.orderplatform.domain.review.infrastructure.repository.ReviewRepository;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreRatingSnapshot;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가게 평점 집계 서비스 (리뷰 변경 시 UPDATE 1회로 증감, 누적 오차는 청크 단위 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRatingService {
+
+    private static final long[] EMPTY_AGGREGATE = {0L, 0L};
+
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 리뷰 등록 반영
+    @Transactional
+    public void addReview(UUID storeId, int rating) {
+        apply(storeId, rating, 1);
+    }
+
+    // 리뷰 평점 수정 반영
+    @Transactional
+    public void changeReview(UUID storeId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        apply(storeId, (long) newRating - oldRating, 0);
+    }
+
+    // 리뷰 삭제 반영
+    @Transactional
+    public void removeReview(UUID storeId, int rating) {
+        apply(storeId, -rating, -1);
+    }
+
+    /**
+     * afterStoreId 이후 가게 한 청크의 저장된 평점 집계를 실제 리뷰 집계와 비교해 보정
+     *
+     * @param afterStoreId 이전 청크의 마지막 가게 ID
+     * @param chunkSize    청크 크기
+     * @return 검사한 가게 수, 보정한 가게 수, 마지막 가게 ID
+     */
+    @Transactional
+    public ReconcileResult reconcileChunk(UUID afterStoreId, int chunkSize) {
+        List<StoreRatingSnapshot> chunk = storeRepository.findRatingChunk(afterStoreId,
+            chunkSize);
+        if (chunk.isEmpty()) {
+            return new ReconcileResult(0, 0, null);
+        }
+
+        Map<UUID, long[]> actual = aggregate(
+            chunk.stream().map(StoreRatingSnapshot::storeId).toList());
+        List<UUID> drifted = chunk.stream()
+            .filter(snapshot -> isDrifted(snapshot,
+                actual.getOrDefault(snapshot.storeId(), EMPTY_AGGREGATE)))
+            .map(StoreRatingSnapshot::storeId)
+            .toList();
+
+        if (!drifted.isEmpty()) {
+            // 행 잠금 후 재집계하여 동시에 반영 중인 리뷰 증감을 덮어쓰지 않도록 함
+            storeRepository.lockByIds(drifted);
+            Map<UUID, long[]> locked = aggregate(drifted);
+            drifted.forEach(storeId -> overwrite(storeId, locked));
+            log.warn("[StoreRating] 평점 집계 불일치 보정 - count={}, storeIds={}",
+                drifted.size(), drifted);
+        }
+
+        UUID lastStoreId = chunk.get(chunk.size() - 1).storeId();
+        return new ReconcileResult(chunk.size(), drifted.size(), lastStoreId);
+    }
+
+    // 평점 합계가 아직 없는 가게가 있는지 (기동 시 백필 필요 여부)
+    @Transactional(readOnly = true)
+    public boolean needsBackfill() {
+        return storeRepository.existsWithoutRatingSum();
+    }
+
+    private void apply(UUID storeId, long ratingDelta, int countDelta) {
+        if (storeRepository.addRating(storeId, ratingDelta, countDelta) > 0) {
+            return;
+        }
+        // 평점 합계가 없는(백필 전) 가게는 행 잠금 후 실제 리뷰로 재집계 (이번 리뷰 변경 포함)
+        if (storeRepository.lockByIds(List.of(storeId)).isEmpty()) {
+            log.warn("[StoreRating] 평점 반영 대상 가게 없음 - storeId={}", storeId);
+            return;
+        }
+        overwrite(storeId, aggregate(List.of(storeId)));
+    }
+
+    private void overwrite(UUID storeId, Map<UUID, long[]> aggregates) {
+        long[] aggregate = aggregates.getOrDefault(storeId, EMPTY_AGGREGATE);
+        int reviewCount = (int) aggregate[1];
+        storeRepository.overwriteRating(storeId, aggregate[0], reviewCount,
+            Store.averageOf(aggregate[0], reviewCount));
+    }
+
+    // storeId -> {평점 합계, 리뷰 수}
+    private Map<UUID, long[]> aggregate(Collection<UUID> storeIds) {
+        Map<UUID, long[]> result = new HashMap<>();
+        for (Object[] row : reviewRepository.sumRatingAndCountByStoreIds(storeIds)) {
+            result.put((UUID) row[0],
+                new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+        return result;
+    }
+
+    private boolean isDrifted(StoreRatingSnapshot snapshot, long[] aggregate) {
+        int reviewCount = (int) aggregate[1];
+        return !Objects.equals(snapshot.ratingSum(), aggregate[0])
+            || !Objects.equals(snapshot.reviewCount(), reviewCount)
+            || !Objects.equals(snapshot.averageRating(), Store.averageOf(aggregate[0], reviewCount));
+    }
+
+    public record ReconcileResult(
+        int scanned,          // 검사한 가게 수
+        int corrected,        // 보정한 가게 수
+        UUID lastStoreId      // 다음 청크 시작 기준
+    ) {
+
+    }
+}
@@ -23,6 +23,8 @@ import com.spartaclub.orderplatform.domain.store.application.mapper.StoreMapper;
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.store.domain.model.StoreCategory;
 import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreSearchIndexer;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.request.RejectStoreRequestDto;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.request.StoreCategoryRequestDto;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.request.StoreRequestDto;
@@ -55,6 +57,8 @@ public class StoreService {
     private final CategoryRepository categoryRepository;
 
     private final StoreMapper storeMapper;
+    private final StoreSearchIndexer storeSearchIndexer;
+    private final OwnerStoreIndex ownerStoreIndex;
 
     // Owner의 음식점 생성
     @Transactional
@@ -69,8 +73,13 @@ public class StoreService {
         }
 
         Store store = Store.create(user, dto);
+        Store savedStore = storeRepository.save(store);
 
-        return storeMapper.toStoreResponseDto(storeRepository.save(store));
+        // 메뉴 검색 색인에 배달 지역(주소) 반영
+        storeSearchIndexer.putStore(toSearchArea(savedStore));
+        ownerStoreIndex.invalidate(user.getUserId());
+
+        return storeMapper.toStoreResponseDto(savedStore);
     }
 
     // Owner의 음식점 재승인 신청
@@ -90,6 +99,7 @@ public class StoreService {
 
         store.updateStoreInfo(dto);
         store.requestReapproval();
+        storeSearchIndexer.putStore(toSearchArea(store));
 
         return storeMapper.toStoreResponseDto(store);
     }
@@ -112,6 +122,7 @@ public class StoreService {
         }
 
         store.updateStoreInfo(dto);
+        storeSearchIndexer.putStore(toSearchArea(store));
 
         return storeMapper.toStoreResponseDto(store);
     }
@@ -128,6 +139,8 @@ public class StoreService {
 
         store.delete(user.getUserId());
         store.storeSoftDelete(user.getUserId());
+        storeSearchIndexer.removeStore(storeId);
+        ownerStoreIndex.invalidate(user.getUserId());
     }
 
     // Manager의 음식점 승인
@@ -397,4 +410,10 @@ public class StoreService {
                 .map(storeMapper::toStoreSearchResponseDto);
         }
     }
+
+    // 메뉴 검색 색인에 넣을 배달 지역
+    private static StoreSearchArea toSearchArea(Store store) {
+        return new StoreSearchArea(store.getStoreId(), store.getStoreAddress(),
+            store.getCreatedAt(), store.getAverageRating());
+    }
 }
@@ -77,6 +77,7 @@ public class Store extends BaseEntity {
 
     private Double averageRating = 0.0;
     private Integer reviewCount = 0;
+    private Long ratingSum = 0L;          // 삭제되지 않은 리뷰 평점 합계 (평균 증분 계산용)
 
 
     /*  ==================
@@ -93,6 +94,7 @@ public class Store extends BaseEntity {
         store.status = PENDING;
         store.averageRating = 0.0;
         store.reviewCount = 0;
+        store.ratingSum = 0L;
         store.rejectReason = null;
         return store;
     }
@@ -147,9 +149,12 @@ public class Store extends BaseEntity {
     /*  ==================
             평점 관련
         ================== */
-    public void updateAverageRatingAndReviewCount(double averageRating, int reviewCount) {
-        this.averageRating = averageRating;
-        this.reviewCount = reviewCount;
+    // 평점 합계/개수로 평균 계산 (소수 첫째 자리 반올림)
+    public static double averageOf(long ratingSum, int reviewCount) {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
+        return Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
     }
 
     /*  ==================
@@ -2,11 +2,15 @@ package com.spartaclub.orderplatform.domain.store.domain.repository;
 
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.store.domain.model.StoreStatus;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreRatingSnapshot;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -41,9 +45,27 @@ public interface StoreRepository {
 
     Map<UUID, Store> findAllById(Collection<UUID> storeIds);
 
+    // 소유자의 가게 ID 목록 (삭제된 가게 포함)
+    List<UUID> findStoreIdsByOwnerId(Long ownerId);
+
     Page<Store> findApprovedStoresByStoreName(
         String storeName, StoreStatus status, Pageable pageable);
 
-    Page<Store> findDistinctByProductNameContainingIgnoreCase(
-        String keyword, String roadName, Pageable pageable);
-}
\ No newline at end of file
+    // 평점 합계/리뷰 수 원자적 증감 (평균도 같은 UPDATE에서 재계산), 평점 합계가 없는 가게는 0 반환
+    int addRating(UUID storeId, long ratingDelta, int countDelta);
+
+    // 평점 합계가 아직 없는(도입 이전) 가게가 있는지
+    boolean existsWithoutRatingSum();
+
+    // 평점 정합성 보정용 storeId 키셋 청크 조회
+    List<StoreRatingSnapshot> findRatingChunk(UUID afterStoreId, int size);
+
+    // 평점 보정 대상 가게 행 잠금
+    List<UUID> lockByIds(Collection<UUID> storeIds);
+
+    // 평점 집계 값 덮어쓰기 (정합성 보정)
+    void overwriteRating(UUID storeId, long ratingSum, int reviewCount, double averageRating);
+
+    // 메뉴 검색 색인 재구축용 삭제되지 않은 가게의 배달 지역 (호출 측 트랜잭션 안에서 닫아야 함)
+    Stream<StoreSearchArea> streamSearchAreas();
+}
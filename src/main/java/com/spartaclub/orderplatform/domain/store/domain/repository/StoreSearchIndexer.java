@@ -0,0 +1,16 @@
+package com.spartaclub.orderplatform.domain.store.domain.repository;
+
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
+import java.util.UUID;
+
+/**
+ * 메뉴 검색 색인에 가게 배달 지역을 반영하는 포트 (호출한 트랜잭션 커밋 이후 반영)
+ */
+public interface StoreSearchIndexer {
+
+    // 가게 등록/주소 수정 반영
+    void putStore(StoreSearchArea area);
+
+    // 가게 삭제 반영
+    void removeStore(UUID storeId);
+}
@@ -0,0 +1,13 @@
+package com.spartaclub.orderplatform.domain.store.domain.repository.dto;
+
+import java.util.UUID;
+
+// 가게에 저장된 평점 집계 값 (정합성 보정 비교용)
+public record StoreRatingSnapshot(
+    UUID storeId,
+    Long ratingSum,
+    Integer reviewCount,
+    Double averageRating
+) {
+
+}
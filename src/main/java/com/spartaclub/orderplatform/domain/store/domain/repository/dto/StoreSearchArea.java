@@ -0,0 +1,14 @@
+package com.spartaclub.orderplatform.domain.store.domain.repository.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 메뉴 검색 색인에 넣는 가게 배달 지역 (등록 시각/평균 평점은 검색 결과 정렬용)
+public record StoreSearchArea(
+    UUID storeId,
+    String storeAddress,
+    LocalDateTime createdAt,
+    Double averageRating
+) {
+
+}
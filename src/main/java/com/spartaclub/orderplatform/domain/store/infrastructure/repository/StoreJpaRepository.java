@@ -2,12 +2,23 @@ package com.spartaclub.orderplatform.domain.store.infrastructure.repository;
 
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.store.domain.model.StoreStatus;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreRatingSnapshot;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -26,6 +37,9 @@ public interface StoreJpaRepository extends JpaRepository<Store, UUID> {
 
     Page<Store> findByUser_UserId(Long userId, Pageable pageable);
 
+    @Query("SELECT s.storeId FROM Store s WHERE s.user.userId = :ownerId")
+    List<UUID> findStoreIdsByOwnerId(@Param("ownerId") Long ownerId);
+
     @Query("""
            SELECT DISTINCT s
            FROM Store s
@@ -84,18 +98,60 @@ public interface StoreJpaRepository extends JpaRepository<Store, UUID> {
         Pageable pageable
     );
 
-    /**
-     *
-     * @param keyword  ex) 마라탕, 치킨, 떡볶이
-     * @param roadName ex) 한글비석로, 동일로
-     * @param pageable
-     * @return 가게 중 메뉴에 keyword가 포함되어 있고, 주소에 roadName이 포함된 가게가 있으면 중복을 제거하고 하나만 반환
-     */
-    @Query("SELECT DISTINCT s FROM Store s " +
-        "JOIN s.products p " +
-        "WHERE LOWER(p.productName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-        "AND s.storeAddress LIKE CONCAT('%', :roadName, '%')")
-    Page<Store> findDistinctByProductNameContainingIgnoreCase(@Param("keyword") String keyword,
-        @Param("roadName") String roadName,
+    // 검색 색인 재구축용 (가게 ID, 주소, 등록 시각, 평균 평점)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea(
+            s.storeId, s.storeAddress, s.createdAt, s.averageRating)
+        FROM Store s
+        WHERE s.deletedAt IS NULL
+        """)
+    Stream<StoreSearchArea> streamSearchAreas();
+
+    // 평점 합계/리뷰 수 증감, UPDATE 우변은 변경 전 값 기준이므로 평균도 증감 후 값으로 계산
+    // 평점 합계가 아직 없는(도입 이전) 가게는 증분할 기준이 없으므로 반영하지 않음 (0 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           UPDATE Store s
+           SET s.ratingSum = s.ratingSum + :ratingDelta,
+               s.reviewCount = COALESCE(s.reviewCount, 0) + :countDelta,
+               s.averageRating = CASE
+                   WHEN COALESCE(s.reviewCount, 0) + :countDelta > 0
+                   THEN ROUND((s.ratingSum + :ratingDelta) * 1.0
+                        / (COALESCE(s.reviewCount, 0) + :countDelta), 1)
+                   ELSE 0.0
+               END
+           WHERE s.storeId = :storeId
+           AND s.ratingSum IS NOT NULL
+        """)
+    int addRating(@Param("storeId") UUID storeId, @Param("ratingDelta") long ratingDelta,
+        @Param("countDelta") int countDelta);
+
+    // 평점 합계가 아직 없는 가게가 있는지 (기동 시 백필 필요 여부)
+    boolean existsByRatingSumIsNull();
+
+    @Query("""
+           SELECT new com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreRatingSnapshot(
+               s.storeId, s.ratingSum, s.reviewCount, s.averageRating)
+           FROM Store s
+           WHERE s.storeId > :afterStoreId
+           ORDER BY s.storeId
+        """)
+    List<StoreRatingSnapshot> findRatingChunk(@Param("afterStoreId") UUID afterStoreId,
         Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.storeId FROM Store s WHERE s.storeId IN :storeIds")
+    List<UUID> lockByIds(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+           UPDATE Store s
+           SET s.ratingSum = :ratingSum,
+               s.reviewCount = :reviewCount,
+               s.averageRating = :averageRating
+           WHERE s.storeId = :storeId
+        """)
+    int overwriteRating(@Param("storeId") UUID storeId, @Param("ratingSum") long ratingSum,
+        @Param("reviewCount") int reviewCount, @Param("averageRating") double averageRating);
 }
@@ -3,15 +3,20 @@ package com.spartaclub.orderplatform.domain.store.infrastructure.repository;
 import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.store.domain.model.StoreStatus;
 import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreRatingSnapshot;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -90,6 +95,11 @@ public class StoreRepositoryImpl implements StoreRepository {
             .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
     }
 
+    @Override
+    public List<UUID> findStoreIdsByOwnerId(Long ownerId) {
+        return storeJpaRepository.findStoreIdsByOwnerId(ownerId);
+    }
+
     @Override
     public Page<Store> findApprovedStoresByStoreName(
         String storeName, StoreStatus status, Pageable pageable
@@ -98,10 +108,33 @@ public class StoreRepositoryImpl implements StoreRepository {
     }
 
     @Override
-    public Page<Store> findDistinctByProductNameContainingIgnoreCase(
-        String keyword, String roadName, Pageable pageable
-    ) {
-        return storeJpaRepository
-            .findDistinctByProductNameContainingIgnoreCase(keyword, roadName, pageable);
+    public int addRating(UUID storeId, long ratingDelta, int countDelta) {
+        return storeJpaRepository.addRating(storeId, ratingDelta, countDelta);
+    }
+
+    @Override
+    public boolean existsWithoutRatingSum() {
+        return storeJpaRepository.existsByRatingSumIsNull();
+    }
+
+    @Override
+    public List<StoreRatingSnapshot> findRatingChunk(UUID afterStoreId, int size) {
+        return storeJpaRepository.findRatingChunk(afterStoreId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<UUID> lockByIds(Collection<UUID> storeIds) {
+        return storeJpaRepository.lockByIds(storeIds);
+    }
+
+    @Override
+    public void overwriteRating(UUID storeId, long ratingSum, int reviewCount,
+        double averageRating) {
+        storeJpaRepository.overwriteRating(storeId, ratingSum, reviewCount, averageRating);
+    }
+
+    @Override
+    public Stream<StoreSearchArea> streamSearchAreas() {
+        return storeJpaRepository.streamSearchAreas();
     }
 }
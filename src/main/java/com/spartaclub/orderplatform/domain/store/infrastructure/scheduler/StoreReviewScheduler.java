@@ -1,47 +1,83 @@
 package com.spartaclub.orderplatform.domain.store.infrastructure.scheduler;
 
-import com.spartaclub.orderplatform.domain.review.infrastructure.repository.ReviewRepository;
-import com.spartaclub.orderplatform.domain.store.domain.model.Store;
-import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
-import jakarta.transaction.Transactional;
-import java.util.List;
-import java.util.Map;
+import com.spartaclub.orderplatform.domain.store.application.service.StoreRatingService;
+import com.spartaclub.orderplatform.domain.store.application.service.StoreRatingService.ReconcileResult;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJob;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 가게 평점 정합성 보정 스케줄러 (한 노드만 실행, 기동 시 평점 합계가 없는 가게가 있으면 바로 백필)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class StoreReviewScheduler {
 
-    private final StoreRepository storeRepository;
-    private final ReviewRepository reviewRepository;
+    private static final String LOCK_NAME = "store-rating-reconcile";
 
-    @Scheduled(cron = "0 0 0/3 * * *")
-    @Transactional
-    public void updateStoreAverageRatingAndReviewCount() {
+    // UUID 정렬상 최소값 (첫 청크 시작 기준)
+    private static final UUID FIRST_STORE_ID = new UUID(0L, 0L);
 
-        List<Object[]> reviews = reviewRepository.findReviewCountAndAverageForAllStores();
+    private final StoreRatingService storeRatingService;
+    private final ChunkedJobRunner chunkedJobRunner;
+    private final ChunkedJob job;
 
-        if (reviews.isEmpty()) {
-            return;
-        }
-
-        List<UUID> storeIds = reviews.stream().map(r -> (UUID) r[0]).toList();
+    public StoreReviewScheduler(
+        StoreRatingService storeRatingService,
+        ChunkedJobRunner chunkedJobRunner,
+        MeterRegistry meterRegistry,
+        @Value("${store.rating.reconcile-chunk-size:500}") int chunkSize,
+        @Value("${store.rating.reconcile-max-chunks:10000}") int maxChunks,
+        @Value("${store.rating.reconcile-lock-at-most-for:1h}") Duration lockAtMostFor
+    ) {
+        this.storeRatingService = storeRatingService;
+        this.chunkedJobRunner = chunkedJobRunner;
+        this.job = new ChunkedJob(LOCK_NAME, lockAtMostFor, chunkSize, maxChunks,
+            Counter.builder("store.rating.reconcile.scanned")
+                .description("평점 정합성 보정에서 검사한 가게 수")
+                .register(meterRegistry),
+            Timer.builder("store.rating.reconcile.duration")
+                .description("가게 평점 정합성 보정 소요 시간")
+                .register(meterRegistry));
+    }
 
-        Map<UUID, Store> storeMap = storeRepository.findAllById(storeIds);
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (storeRatingService.needsBackfill()) {
+            log.info("[StoreRating] 평점 합계가 없는 가게 발견, 기동 시 보정 실행");
+            reconcileStoreRatings();
+        }
+    }
 
-        for (Object[] review : reviews) {
-            UUID storeId = (UUID) review[0];
-            Double averageRating = (Double) review[1];
-            Long reviewCountLong = (Long) review[2];
-            int reviewCount = reviewCountLong.intValue();
+    @Scheduled(cron = "${store.rating.reconcile-cron:0 30 4 * * *}")
+    public void reconcileStoreRatings() {
+        AtomicReference<UUID> afterStoreId = new AtomicReference<>(FIRST_STORE_ID);
+        AtomicInteger corrected = new AtomicInteger();
 
-            Store store = storeMap.get(storeId);
-            if (store != null) {
-                store.updateAverageRatingAndReviewCount(averageRating, reviewCount);
-            }
-        }
+        // 청크마다 별도 트랜잭션으로 처리하여 잠금/영속성 컨텍스트를 짧게 유지
+        chunkedJobRunner.run(job, () -> {
+                ReconcileResult result = storeRatingService.reconcileChunk(afterStoreId.get(),
+                    job.chunkSize());
+                corrected.addAndGet(result.corrected());
+                if (result.lastStoreId() != null) {
+                    afterStoreId.set(result.lastStoreId());
+                }
+                return result.scanned();
+            })
+            .ifPresent(scanned -> log.info(
+                "[StoreRating] 평점 정합성 보정 완료 - scanned={}, corrected={}", scanned,
+                corrected.get()));
     }
 }
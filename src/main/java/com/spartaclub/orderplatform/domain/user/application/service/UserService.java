@@ -1,6 +1,7 @@
 package com.spartaclub.orderplatform.domain.user.application.service;
 
 import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.auth.service.UserPrincipalCache;
 import com.spartaclub.orderplatform.domain.user.application.mapper.UserMapper;
 import com.spartaclub.orderplatform.domain.user.exception.UserErrorCode;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
@@ -53,6 +54,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 회원가입 처리 중복 체크, 비밀번호 암호화, 사용자 생성
@@ -294,7 +296,10 @@ public class UserService {
         // 6. 변경사항 저장
         User updatedUser = userRepository.save(user);
 
-        // 7. MapStruct를 사용한 응답 DTO 생성
+        // 7. 인증 필터의 사용자 정보 캐시 무효화
+        userPrincipalCache.invalidate(userId);
+
+        // 8. MapStruct를 사용한 응답 DTO 생성
         return userMapper.toUpdateResponse(updatedUser);
     }
 
@@ -406,7 +411,10 @@ public class UserService {
         // 5. 변경사항 저장
         User deletedUser = userRepository.save(user);
 
-        // 6. 응답 DTO 생성
+        // 6. 인증 필터의 사용자 정보 캐시 무효화 (탈퇴 즉시 접근 차단)
+        userPrincipalCache.invalidate(userId);
+
+        // 7. 응답 DTO 생성
         return new UserDeleteResponseDto(deletedUser.getUserId(), deletedUser.getDeletedAt());
     }
 
@@ -535,7 +543,10 @@ public class UserService {
         // 4. 데이터베이스 저장
         User savedUser = userRepository.save(user);
 
-        // 5. 응답 DTO 생성 (Builder 패턴)
+        // 5. 인증 필터의 사용자 정보 캐시 무효화
+        userPrincipalCache.invalidate(savedUser.getUserId());
+
+        // 6. 응답 DTO 생성 (Builder 패턴)
         return ManagerCreateResponseDto.builder()
             .message("관리자 계정이 생성되었습니다.")
             .user(userMapper.toManagerUserInfo(savedUser))
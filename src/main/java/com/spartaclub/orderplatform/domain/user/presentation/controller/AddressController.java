@@ -1,6 +1,7 @@
 package com.spartaclub.orderplatform.domain.user.presentation.controller;
 
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import com.spartaclub.orderplatform.domain.user.application.service.AddressService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +39,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/v1/addresses")
 @RequiredArgsConstructor
+@SqlBudget(6)
 public class AddressController {
 
     private final AddressService addressService;
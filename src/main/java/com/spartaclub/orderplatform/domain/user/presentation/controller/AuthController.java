@@ -6,6 +6,7 @@ import com.spartaclub.orderplatform.domain.user.presentation.dto.TokenRefreshReq
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.spartaclub.orderplatform.domain.user.presentation.dto.TokenRefreshResponseDto;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/v1/auth")
 @RequiredArgsConstructor
+@SqlBudget(4)
 public class AuthController {
 
     private final UserService userService;
@@ -2,6 +2,7 @@ package com.spartaclub.orderplatform.domain.user.presentation.controller;
 
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
 import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudget;
 import com.spartaclub.orderplatform.global.presentation.dto.ApiResponse;
 import com.spartaclub.orderplatform.domain.user.exception.UserErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,6 +51,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/v1/users")
 @RequiredArgsConstructor
+@SqlBudget(6)
 public class UserController {
 
     private final UserService userService;
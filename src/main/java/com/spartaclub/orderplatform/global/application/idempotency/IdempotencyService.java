@@ -0,0 +1,243 @@
+package com.spartaclub.orderplatform.global.application.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spartaclub.orderplatform.global.application.security.SecurityUtils;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecord;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecordRepository;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import com.spartaclub.orderplatform.global.exception.IdempotencyErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Idempotency-Key 처리: 같은 키로 재시도된 요청은 작업을 다시 실행하지 않고 처음 응답을 재사용
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    // 완료 응답 보관 기간
+    private final Duration ttl;
+
+    // 처리 중 기록 유효 기간 (처리 노드가 비정상 종료된 경우 이후 재처리 허용)
+    private final Duration lease;
+
+    // 같은 노드의 동시 중복 요청이 처리 결과를 기다리는 최대 시간
+    private final Duration waitTimeout;
+
+    // keyId -> 완료 응답 (DB 조회 없이 재응답)
+    private final Cache<UUID, StoredResponse> completed;
+
+    // keyId -> 이 노드에서 처리 중인 요청의 결과
+    private final ConcurrentMap<UUID, CompletableFuture<StoredResponse>> inFlight =
+        new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter collapsedCounter;
+    private final Counter conflictCounter;
+
+    public IdempotencyService(
+        IdempotencyRecordRepository idempotencyRecordRepository,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${idempotency.ttl:24h}") Duration ttl,
+        @Value("${idempotency.in-progress-lease:1m}") Duration lease,
+        @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+        @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize,
+        @Value("${idempotency.cache.ttl:10m}") Duration cacheTtl
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+        this.completed = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtl.compareTo(ttl) < 0 ? cacheTtl : ttl)
+            .build();
+
+        this.executedCounter = requestCounter(meterRegistry, "executed");
+        this.replayedCounter = requestCounter(meterRegistry, "replayed");
+        this.collapsedCounter = requestCounter(meterRegistry, "collapsed");
+        this.conflictCounter = requestCounter(meterRegistry, "conflict");
+    }
+
+    /**
+     * 키가 없으면 그대로 실행, 있으면 (작업, 현재 사용자, 키) 기준으로 한 번만 실행
+     *
+     * @param operation    작업 이름 (같은 키라도 작업이 다르면 별개)
+     * @param request      요청 지문 대상 (같은 키로 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED)
+     * @param responseType 저장된 응답을 복원할 타입
+     */
+    public <T> T execute(String operation, String key, Object request, Class<T> responseType,
+        Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        UUID keyId = nameUuid(operation + ':' + SecurityUtils.getCurrentUserId() + ':' + key);
+        UUID requestHash = nameUuid(toJson(request));
+
+        StoredResponse cached = completed.getIfPresent(keyId);
+        if (cached != null) {
+            replayedCounter.increment();
+            return read(cached, requestHash, responseType);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(keyId, mine);
+        if (running != null) {
+            collapsedCounter.increment();
+            return read(await(running), requestHash, responseType);
+        }
+
+        try {
+            StoredResponse stored = findCompletedOrClaim(keyId, requestHash);
+            if (stored != null) {
+                mine.complete(stored);
+                replayedCounter.increment();
+                return read(stored, requestHash, responseType);
+            }
+
+            T result = executeClaimed(keyId, action);
+            stored = new StoredResponse(requestHash, toJson(result));
+            store(keyId, stored);
+            mine.complete(stored);
+            executedCounter.increment();
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(keyId, mine);
+        }
+    }
+
+    // 응답 본문이 없는 작업
+    public void execute(String operation, String key, Object request, Runnable action) {
+        execute(operation, key, request, Void.class, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 처리 권한을 얻으면 null, 이미 완료된 키면 저장된 응답
+    private StoredResponse findCompletedOrClaim(UUID keyId, UUID requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        // 조건부 INSERT 한 번으로 처리 권한 획득 (행 잠금 대기 없음)
+        if (idempotencyRecordRepository.claim(keyId, requestHash, now, now.plus(lease))) {
+            return null;
+        }
+        IdempotencyRecord record = idempotencyRecordRepository.findById(keyId)
+            .filter(IdempotencyRecord::isCompleted)
+            .orElseThrow(() -> {
+                // 다른 노드에서 처리 중 (또는 방금 실패해 기록이 지워짐)
+                conflictCounter.increment();
+                return new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
+            });
+        StoredResponse stored = new StoredResponse(record.getRequestHash(),
+            record.getResponseBody());
+        completed.put(keyId, stored);
+        return stored;
+    }
+
+    private <T> T executeClaimed(UUID keyId, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            // 실패 응답은 저장하지 않고 기록을 지워 같은 키로 다시 시도할 수 있게 함
+            idempotencyRecordRepository.release(keyId);
+            throw e;
+        }
+    }
+
+    // 작업은 이미 반영되었으므로 저장 실패는 기록만 남김 (lease 만료 전까지 다른 노드의 재시도는 409)
+    private void store(UUID keyId, StoredResponse stored) {
+        completed.put(keyId, stored);
+        try {
+            idempotencyRecordRepository.complete(keyId, stored.body(),
+                LocalDateTime.now().plus(ttl));
+        } catch (RuntimeException e) {
+            log.error("[Idempotency] 응답 저장 실패 - keyId={}", keyId, e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 처리 중이던 요청의 실패를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            conflictCounter.increment();
+            throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
+        }
+    }
+
+    private <T> T read(StoredResponse stored, UUID requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return objectMapper.readValue(stored.body(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 복원 실패", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청/응답 직렬화 실패", e);
+        }
+    }
+
+    // 가변 길이 키/본문을 16바이트로 압축
+    private static UUID nameUuid(String value) {
+        return UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record StoredResponse(UUID requestHash, String body) {
+
+    }
+}
@@ -0,0 +1,26 @@
+package com.spartaclub.orderplatform.global.application.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+/**
+ * 잠금 보호 청크 작업 설정 ({@link ChunkedJobRunner})
+ *
+ * @param lockName      스케줄러 잠금 이름
+ * @param lockAtMostFor 잠금 최대 유지 시간 (한 회차 최대 소요 시간보다 길게)
+ * @param chunkSize     청크당 처리 건수 (한 트랜잭션 범위)
+ * @param maxChunks     한 회차 청크 수 상한 (남은 대상은 다음 회차에서 처리)
+ * @param processed     처리 건수 카운터
+ * @param duration      회차 소요 시간 타이머
+ */
+public record ChunkedJob(
+    String lockName,
+    Duration lockAtMostFor,
+    int chunkSize,
+    int maxChunks,
+    Counter processed,
+    Timer duration
+) {
+
+}
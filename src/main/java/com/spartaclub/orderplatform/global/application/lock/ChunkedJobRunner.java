@@ -0,0 +1,44 @@
+package com.spartaclub.orderplatform.global.application.lock;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 잠금 보호 청크 반복 실행 (만료/보관 이관 등 대량 정리 스케줄러 공용)
+ */
+@Service
+@RequiredArgsConstructor
+public class ChunkedJobRunner {
+
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * 잠금을 얻은 경우에만 청크 반복 실행
+     *
+     * @param chunk 청크 1건 처리 후 처리 건수 반환 (chunkSize보다 작으면 남은 대상 없음)
+     * @return 처리 건수 (다른 노드가 실행 중이면 empty)
+     */
+    public OptionalInt run(ChunkedJob job, IntSupplier chunk) {
+        AtomicInteger processed = new AtomicInteger();
+        boolean ran = schedulerLockService.runExclusively(job.lockName(), job.lockAtMostFor(),
+            () -> job.duration().record(() -> processed.set(runChunks(job, chunk))));
+        return ran ? OptionalInt.of(processed.get()) : OptionalInt.empty();
+    }
+
+    private static int runChunks(ChunkedJob job, IntSupplier chunk) {
+        int total = 0;
+        // 청크마다 별도 트랜잭션이라 잠금/undo 범위가 작음, 청크가 가득 차지 않거나 회차 상한에 닿으면 중단
+        for (int i = 0; i < job.maxChunks(); i++) {
+            int count = chunk.getAsInt();
+            total += count;
+            job.processed().increment(count);
+            if (count < job.chunkSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
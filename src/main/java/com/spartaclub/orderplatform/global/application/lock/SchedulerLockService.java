@@ -0,0 +1,55 @@
+package com.spartaclub.orderplatform.global.application.lock;
+
+import com.spartaclub.orderplatform.global.domain.lock.SchedulerLockRepository;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 스케줄 작업 단일 노드 실행 잠금 (호출 측 트랜잭션 없이 사용)
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String instanceId;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.instanceId = hostName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 task 실행
+     *
+     * @return 실행 여부 (다른 노드가 실행 중이면 false)
+     */
+    public boolean runExclusively(String lockName, Duration lockAtMostFor, Runnable task) {
+        // lockAtMostFor는 작업 최대 소요 시간보다 길게 지정 (해제하지 못하고 종료돼도 이후 다른 노드가 실행)
+        LocalDateTime now = LocalDateTime.now();
+        if (!schedulerLockRepository.tryAcquire(lockName, now, now.plus(lockAtMostFor),
+            instanceId)) {
+            log.debug("[SchedulerLock] 다른 노드가 실행 중 - lock={}", lockName);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            schedulerLockRepository.release(lockName, LocalDateTime.now(), instanceId);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.spartaclub.orderplatform.global.application.outbox;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import java.util.List;
+
+// 아웃박스 기록 알림 (기록한 트랜잭션 안에서 동기 발행, 릴레이를 기다리지 않는 best-effort 소비자용)
+public record OutboxAppendedEvent(List<OutboxEvent> events) {
+
+}
@@ -0,0 +1,17 @@
+package com.spartaclub.orderplatform.global.application.outbox;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 핸들러 (최소 1회 전달이므로 멱등하게 처리, 예외 시 전달받은 이벤트 전체 재시도)
+ */
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> supports();
+
+    // 한 배치에서 지원하는 종류의 이벤트를 모아 전달 (발생 순)
+    void handle(List<OutboxEvent> events);
+}
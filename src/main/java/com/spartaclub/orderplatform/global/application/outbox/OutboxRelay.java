@@ -0,0 +1,114 @@
+package com.spartaclub.orderplatform.global.application.outbox;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 아웃박스 릴레이: 점유(짧은 트랜잭션) → 핸들러 호출(트랜잭션 없음) → 결과 반영(짧은 트랜잭션)
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final Map<OutboxEventType, List<OutboxEventHandler>> handlerMap;
+
+    private final Timer lagTimer;
+    private final Counter dispatchedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxService outboxService, List<OutboxEventHandler> handlers,
+        MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        // 이벤트 종류별 핸들러 목록
+        Map<OutboxEventType, List<OutboxEventHandler>> map = new HashMap<>();
+        handlers.forEach(handler -> handler.supports().forEach(type ->
+            map.computeIfAbsent(type, key -> new ArrayList<>()).add(handler)));
+        this.handlerMap = Map.copyOf(map);
+
+        this.lagTimer = Timer.builder("outbox.relay.lag")
+            .description("이벤트 발생부터 핸들러 전달 완료까지 걸린 시간")
+            .register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("outbox.events.dispatched")
+            .register(meterRegistry);
+        this.retriedCounter = Counter.builder("outbox.events.retried")
+            .register(meterRegistry);
+        this.deadCounter = Counter.builder("outbox.events.dead")
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending.oldest.age", oldestPendingAgeMillis,
+                age -> age.get() / 1000.0)
+            .description("가장 오래된 대기 이벤트의 경과 시간(초)")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 최대 batchSize건 전달
+     *
+     * @return 점유한 건수 (batchSize와 같으면 남은 이벤트가 더 있을 수 있음)
+     */
+    public int relay(int batchSize) {
+        List<OutboxEvent> events = outboxService.claim(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, String> failures = new HashMap<>();
+        Map<OutboxEventType, List<OutboxEvent>> byType = events.stream()
+            .collect(Collectors.groupingBy(OutboxEvent::getEventType, LinkedHashMap::new,
+                Collectors.toList()));
+        byType.forEach((type, typed) -> {
+            for (OutboxEventHandler handler : handlerMap.getOrDefault(type, List.of())) {
+                try {
+                    handler.handle(typed);
+                } catch (RuntimeException e) {
+                    log.warn("[Outbox] 핸들러 실패, 재시도 예정 - handler={}, type={}, events={}",
+                        handler.getClass().getSimpleName(), type, typed.size(), e);
+                    String error = handler.getClass().getSimpleName() + ": " + e.getMessage();
+                    typed.forEach(event -> failures.putIfAbsent(event.getEventId(), error));
+                }
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> succeeded = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            if (!failures.containsKey(event.getEventId())) {
+                succeeded.add(event.getEventId());
+                lagTimer.record(Duration.between(event.getOccurredAt(), now));
+            }
+        }
+
+        int dead = outboxService.complete(succeeded, failures);
+        dispatchedCounter.increment(succeeded.size());
+        retriedCounter.increment(failures.size() - dead);
+        deadCounter.increment(dead);
+        return events.size();
+    }
+
+    // 대기 중인 가장 오래된 이벤트 경과 시간 갱신 (릴레이 지연 지표)
+    public void refreshLag() {
+        LocalDateTime now = LocalDateTime.now();
+        oldestPendingAgeMillis.set(outboxService.findOldestPendingOccurredAt()
+            .map(occurredAt -> Math.max(Duration.between(occurredAt, now).toMillis(), 0L))
+            .orElse(0L));
+    }
+}
@@ -0,0 +1,110 @@
+package com.spartaclub.orderplatform.global.application.outbox;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기록/점유/결과 반영 단위 트랜잭션
+ */
+@Slf4j
+@Service
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration lease;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final int maxAttempts;
+
+    public OutboxService(
+        OutboxRepository outboxRepository,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${outbox.relay.lease:1m}") Duration lease,
+        @Value("${outbox.relay.retry-base-delay:1s}") Duration retryBaseDelay,
+        @Value("${outbox.relay.retry-max-delay:5m}") Duration retryMaxDelay,
+        @Value("${outbox.relay.max-attempts:10}") int maxAttempts
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.lease = lease;
+        this.retryBaseDelay = retryBaseDelay;
+        this.retryMaxDelay = retryMaxDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // 상태 변경과 같은 트랜잭션에서 기록 (트랜잭션 밖에서 호출하면 예외)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, UUID aggregateId, Map<String, String> payload) {
+        appendAll(List.of(OutboxEvent.of(eventType, aggregateId, payload, LocalDateTime.now())));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxRepository.saveAll(events);
+        // 릴레이 폴링을 기다리지 않는 실시간 피드용 알림
+        eventPublisher.publishEvent(new OutboxAppendedEvent(events));
+    }
+
+    // 전달 가능한 이벤트를 최대 limit건 점유 (lease 동안 다른 노드/다음 폴링에서 제외)
+    @Transactional
+    public List<OutboxEvent> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxRepository.findAvailableForUpdate(now, limit);
+        events.forEach(event -> event.claim(now.plus(lease)));
+        return events;
+    }
+
+    // 전달 결과 반영: 성공은 삭제, 실패는 지수 백오프로 재시도 또는 DEAD
+    @Transactional
+    public int complete(Collection<UUID> succeeded, Map<UUID, String> failures) {
+        outboxRepository.deleteAllById(succeeded);
+        if (failures.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int dead = 0;
+        for (OutboxEvent event : outboxRepository.findAllById(failures.keySet())) {
+            String error = failures.get(event.getEventId());
+            if (event.getAttempts() >= maxAttempts) {
+                event.markDead(error);
+                dead++;
+                log.error("[Outbox] 최대 재시도 초과 - eventId={}, type={}, aggregateId={}, error={}",
+                    event.getEventId(), event.getEventType(), event.getAggregateId(), error);
+            } else {
+                event.retryAt(now.plus(backoff(event.getAttempts())), error);
+            }
+        }
+        return dead;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findOldestPendingOccurredAt() {
+        return outboxRepository.findOldestPendingOccurredAt();
+    }
+
+    // 1회차 실패 후 base, 이후 2배씩 (최대 retryMaxDelay)
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = retryBaseDelay.multipliedBy(1L << exponent);
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+}
@@ -2,6 +2,7 @@ package com.spartaclub.orderplatform.global.auth.jwt;
 
 import com.spartaclub.orderplatform.global.auth.service.UserDetailsServiceImpl;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,8 +19,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
- * JWT 인증 필터 모든 HTTP 요청에서 JWT 토큰을 검증하고 Spring Security 인증 컨텍스트를 설정 실시간 권한 체크를 위해 매 요청마다 DB에서 최신 사용자
- * 정보 조회
+ * JWT 인증 필터 모든 HTTP 요청에서 JWT 토큰을 검증하고 Spring Security 인증 컨텍스트를 설정 권한 체크를 위한 최신 사용자 정보는
+ * UserPrincipalCache를 거쳐 조회 (캐시 미스 시에만 DB 조회)
  *
  * @author 전우선
  * @date 2025-10-04(토)
@@ -53,12 +54,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. 토큰이 존재하는 경우 검증 및 인증 처리
         if (StringUtils.hasText(token)) {
             try {
-                // 3. 토큰 유효성 검증 및 액세스 토큰인지 확인
-                if (jwtUtil.validateToken(token) && jwtUtil.isAccessToken(token)) {
-                    Long userId = jwtUtil.getUserIdFromToken(token);
+                // 3. 토큰을 한 번만 파싱하여 서명/만료 검증 후 액세스 토큰인지 확인
+                VerifiedToken verifiedToken = jwtUtil.parseToken(token);
+                if (verifiedToken.isAccessToken()) {
+                    Long userId = verifiedToken.userId();
 
-                    // 4. 실시간 권한 체크: DB에서 최신 사용자 정보 조회
-                    // 권한 변경이나 계정 탈퇴 등의 실시간 반영을 위해 매번 DB 조회
+                    // 4. 최신 사용자 정보 조회 (UserPrincipalCache 적중 시 DB 조회 없음)
+                    // 권한 변경/탈퇴 등은 캐시 무효화로 즉시 반영되고, 다른 인스턴스의 변경은 캐시 TTL 안에 반영
                     UserDetails userDetails;
                     try {
                         userDetails = userDetailsService.loadUserByUserId(userId);
@@ -69,8 +71,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         return;
                     }
 
-                    // 5. 토큰의 권한과 현재 DB의 권한 비교
-                    String tokenRole = jwtUtil.getRoleFromToken(token);
+                    // 5. 토큰의 권한과 현재 권한 비교
+                    String tokenRole = verifiedToken.role();
                     String currentRole = userDetails.getAuthorities().iterator().next()
                         .getAuthority().replace("ROLE_", "");
 
@@ -103,6 +105,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             } catch (ExpiredJwtException e) {
                 log.warn("만료된 JWT 토큰입니다.");
+            } catch (JwtException | IllegalArgumentException e) {
+                log.warn("유효하지 않은 JWT 토큰입니다.");
             } catch (Exception e) {
                 log.error("JWT 토큰 처리 중 오류가 발생했습니다.", e);
             }
@@ -1,13 +1,22 @@
 package com.spartaclub.orderplatform.global.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import javax.crypto.SecretKey;
@@ -42,16 +51,33 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    // 검증 완료 토큰 캐시 최대 크기 (application.yml에서 주입, 기본 10,000개)
+    @Value("${jwt.verified-token-cache.max-size:10000}")
+    private long verifiedTokenCacheMaxSize;
+
     // JWT 서명에 사용할 SecretKey 객체
     private SecretKey key;
 
+    // 서명 검증용 파서 (불변 객체이므로 한 번 생성 후 재사용)
+    private JwtParser jwtParser;
+
+    // 최근 검증된 토큰 캐시 (키: 토큰 SHA-256 다이제스트, 토큰 만료 시각까지만 보관)
+    private Cache<String, VerifiedToken> verifiedTokenCache;
+
     /**
-     * 빈 초기화 후 실행되는 메서드 Base64로 인코딩된 비밀키를 디코딩하여 SecretKey 객체 생성
+     * 빈 초기화 후 실행되는 메서드 Base64로 인코딩된 비밀키를 디코딩하여 SecretKey 객체 생성 서명 검증용 파서와 검증 토큰 캐시도 함께 생성
      */
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes); // HMAC-SHA 알고리즘용 키 생성
+        jwtParser = Jwts.parser()
+            .verifyWith(key) // 비밀키로 서명 검증
+            .build();
+        verifiedTokenCache = Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheMaxSize)
+            .expireAfter(new TokenExpiry())
+            .build();
     }
 
     /**
@@ -121,9 +147,7 @@ public class JwtUtil {
      */
     public Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(key) // 비밀키로 서명 검증
-                .build()
+            return jwtParser
                 .parseSignedClaims(token) // 서명된 토큰 파싱
                 .getPayload(); // 페이로드(Claims) 반환
         } catch (ExpiredJwtException e) {
@@ -141,6 +165,58 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * JWT 토큰을 한 번만 파싱하여 검증된 토큰 뷰 반환 최근 검증된 토큰은 캐시에서 바로 반환하며, 캐시 항목은 토큰 만료 시각이 지나면 사용하지 않음
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 토큰 뷰 (userId, role, type, expiresAt)
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     * @throws JwtException        서명 검증 또는 형식 검증에 실패한 경우
+     */
+    public VerifiedToken parseToken(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = verifyToken(token);
+        verifiedTokenCache.put(digest, verified);
+        return verified;
+    }
+
+    /**
+     * 캐시를 거치지 않고 JWT 토큰의 서명을 검증하여 토큰 뷰 생성
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 토큰 뷰
+     */
+    public VerifiedToken verifyToken(String token) {
+        Claims claims = getClaimsFromToken(token);
+        return new VerifiedToken(
+            Long.parseLong(claims.getSubject()),
+            claims.get("role", String.class),
+            claims.get("type", String.class),
+            claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * 토큰 문자열의 SHA-256 다이제스트 계산 원본 토큰 대신 캐시 키로 사용
+     *
+     * @param token JWT 토큰 문자열
+     * @return Base64 인코딩된 다이제스트
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
     /**
      * JWT 토큰에서 사용자 ID 추출
      *
@@ -253,4 +329,26 @@ public class JwtUtil {
         return refreshTokenExpiration;
     }
 
-}
\ No newline at end of file
+    /**
+     * 캐시 항목 만료 정책 토큰의 남은 유효 시간만큼만 캐시에 보관
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.spartaclub.orderplatform.global.auth.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 불변 뷰 한 번의 파싱 결과를 요청 처리 동안 재사용하기 위해 필요한 클레임만 보관
+ *
+ * @param userId    토큰 subject의 사용자 ID
+ * @param role      사용자 권한 (리프레시 토큰은 null)
+ * @param type      토큰 타입 (access 또는 refresh)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record VerifiedToken(
+    Long userId,
+    String role,
+    String type,
+    Instant expiresAt
+) {
+
+    /**
+     * 액세스 토큰인지 확인
+     *
+     * @return 액세스 토큰이면 true
+     */
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    /**
+     * 리프레시 토큰인지 확인
+     *
+     * @return 리프레시 토큰이면 true
+     */
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부 확인
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
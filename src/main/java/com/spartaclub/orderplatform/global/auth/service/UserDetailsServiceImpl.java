@@ -22,6 +22,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     // 사용자 정보 조회를 위한 리포지토리
     private final UserRepository userRepository;
+    // 사용자 ID 기반 조회 결과 캐시
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 이메일로 사용자 정보 로드 Spring Security 인증 과정에서 호출되는 표준 메서드
@@ -39,13 +41,25 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     }
 
     /**
-     * 사용자 ID로 사용자 정보 로드 JWT 토큰에서 추출한 사용자 ID로 사용자 정보를 조회할 때 사용 실시간 권한 체크를 위해 매 요청마다 DB에서 최신 정보 조회
+     * 사용자 ID로 사용자 정보 로드 JWT 토큰에서 추출한 사용자 ID로 사용자 정보를 조회할 때 사용 짧은 TTL의 Principal 캐시를 먼저 확인하고, 사용자 정보
+     * 변경 시에는 캐시가 즉시 무효화되므로 실시간 권한 체크가 유지됨
      *
      * @param userId 사용자 ID
      * @return UserDetails 구현체 (UserDetailsImpl)
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
      */
     public UserDetails loadUserByUserId(Long userId) throws UsernameNotFoundException {
+        return userPrincipalCache.get(userId, this::loadActiveUser);
+    }
+
+    /**
+     * DB에서 탈퇴하지 않은 사용자 조회
+     *
+     * @param userId 사용자 ID
+     * @return UserDetails 구현체 (UserDetailsImpl)
+     * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    private UserDetails loadActiveUser(Long userId) throws UsernameNotFoundException {
         User user = userRepository.findActiveById(userId)
             .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
@@ -0,0 +1,130 @@
+package com.spartaclub.orderplatform.global.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증 필터용 사용자 정보(Principal) 캐시 (크기/TTL 제한, 사용자 정보 변경 시 invalidate()로 즉시 무효화)
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    // 버전 스트라이프 개수 (2의 거듭제곱)
+    private static final int VERSION_STRIPES = 1024;
+
+    // userId 스트라이프별 버전 (조회 도중 무효화되면 버전이 달라져 변경 전 정보를 캐시하지 않음)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    // userId -> (사용자 정보, 저장 시점 버전)
+    private final Cache<Long, CachedPrincipal> cache;
+
+    // 캐시 적중/미스/축출 메트릭
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public UserPrincipalCache(
+        MeterRegistry meterRegistry,
+        @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+        @Value("${auth.principal-cache.ttl:30s}") Duration ttl
+    ) {
+        this.hitCounter = Counter.builder("auth.principal.cache.requests")
+            .tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.principal.cache.requests")
+            .tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("auth.principal.cache.evictions")
+            .register(meterRegistry);
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .removalListener((Long key, CachedPrincipal value, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    evictionCounter.increment();
+                }
+            })
+            .build();
+
+        Gauge.builder("auth.principal.cache.size", cache, Cache::estimatedSize)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 사용자 정보 조회, 없거나 무효화된 경우 loader로 조회 후 저장
+     *
+     * @param userId 사용자 ID
+     * @param loader 캐시 미스 시 DB 조회 함수
+     * @return 사용자 정보
+     */
+    public UserDetails get(Long userId, Function<Long, UserDetails> loader) {
+        long version = versionOf(userId);
+        CachedPrincipal cached = cache.getIfPresent(userId);
+        if (cached != null && cached.version() == version) {
+            hitCounter.increment();
+            return cached.principal();
+        }
+
+        missCounter.increment();
+        UserDetails loaded = loader.apply(userId);
+
+        // 조회 도중 무효화가 일어났다면 저장하지 않음
+        if (versionOf(userId) == version) {
+            cache.put(userId, new CachedPrincipal(loaded, version));
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자 정보 무효화 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 무효화하여 커밋 전 데이터가 다시 캐시되는 것을 방지
+     *
+     * @param userId 무효화할 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evict(userId);
+                    }
+                });
+        }
+    }
+
+    private void evict(Long userId) {
+        versions.incrementAndGet(stripeOf(userId));
+        cache.invalidate(userId);
+        log.debug("[PrincipalCache] invalidate - userId={}", userId);
+    }
+
+    private long versionOf(Long userId) {
+        return versions.get(stripeOf(userId));
+    }
+
+    private int stripeOf(Long userId) {
+        return Long.hashCode(userId) & (VERSION_STRIPES - 1);
+    }
+
+    private record CachedPrincipal(UserDetails principal, long version) {
+
+    }
+}
@@ -86,6 +86,8 @@ public class SecurityConfig {
 
                 // 결제
                 .requestMatchers(HttpMethod.GET, "/v1/payments").hasAnyRole("MANAGER", "MASTER")
+                // PG 웹훅 (PG 서버 호출, 웹훅 토큰으로 검증)
+                .requestMatchers(HttpMethod.POST, "/v1/payments/webhooks/**").permitAll()
 
                 // 그 외 모든 요청은 인증 필요
                 .anyRequest().authenticated()
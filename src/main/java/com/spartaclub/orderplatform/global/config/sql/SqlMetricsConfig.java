@@ -0,0 +1,44 @@
+package com.spartaclub.orderplatform.global.config.sql;
+
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlCountingStatementInspector;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlRequestMetricsFilter;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlRowCountingInterceptor;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlTimingSessionEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청 단위 SQL 계측 설정 (Hibernate 훅으로 수집, 보안 필터 체인보다 앞에서 요청 범위 시작)
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMetricsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new SqlRowCountingInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                SqlTimingSessionEventListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlRequestMetricsFilter> sqlRequestMetricsFilter(
+        MeterRegistry meterRegistry,
+        @Value("${sql.budget.default:20}") int defaultBudget,
+        @Value("${sql.budget.repeat-threshold:5}") int repeatThreshold
+    ) {
+        FilterRegistrationBean<SqlRequestMetricsFilter> registration = new FilterRegistrationBean<>(
+            new SqlRequestMetricsFilter(meterRegistry, defaultBudget, repeatThreshold));
+        // 인증 필터의 사용자 조회까지 집계하도록 보안 필터 체인보다 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package com.spartaclub.orderplatform.global.config.web;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+
+/**
+ * OSIV(Open EntityManager in View) 인터셉터 직접 등록 (spring.jpa.open-in-view 자동 등록 대체)
+ * 등록 경로는 WebConfig에서 지정하며, PG를 호출하는 결제 API는 제외하여 PG 응답 대기 중 DB 커넥션을 점유하지 않도록 함
+ */
+@Configuration
+public class OpenInViewConfig {
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+}
@@ -1,19 +1,67 @@
 package com.spartaclub.orderplatform.global.config.web;
 
+import io.netty.channel.ChannelOption;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
-    @Bean(name = "tossWebClient")
-    public WebClient tossWebClient() {
-        return WebClient.builder()
-            .baseUrl("https://api.tosspayments.com/v1")
-            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+    // PG 전용 커넥션 풀 (maxConnections가 PG 동시 호출 상한, 초과 요청은 pendingAcquireMaxCount까지만 대기)
+    @Bean(name = "tossConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider tossConnectionProvider(
+        @Value("${pg.toss.max-connections:50}") int maxConnections,
+        @Value("${pg.toss.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+        @Value("${pg.toss.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+        @Value("${pg.toss.max-idle-time:30s}") Duration maxIdleTime
+    ) {
+        return ConnectionProvider.builder("toss-pg")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .maxLifeTime(Duration.ofMinutes(5))
+            .evictInBackground(Duration.ofSeconds(30))
+            .metrics(true)
             .build();
     }
+
+    @Bean(name = "tossWebClient")
+    public WebClient tossWebClient(
+        @Qualifier("tossConnectionProvider") ConnectionProvider connectionProvider,
+        @Value("${pg.toss.base-url:https://api.tosspayments.com/v1}") String baseUrl,
+        @Value("${pg.toss.secret-key:}") String secretKey,
+        @Value("${pg.toss.connect-timeout:1s}") Duration connectTimeout,
+        @Value("${pg.toss.read-timeout:5s}") Duration readTimeout
+    ) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            // 요청 단위 응답 대기 제한 (커넥션에 핸들러를 붙이지 않아 풀에 반환된 연결에 남지 않음),
+            // 쓰기 지연을 포함한 호출 전체 시간은 TossPaymentsClient의 call-timeout으로 제한
+            .responseTimeout(readTimeout);
+
+        WebClient.Builder builder = WebClient.builder()
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+
+        // 토스페이먼츠 인증: Basic base64("{secretKey}:")
+        if (!secretKey.isBlank()) {
+            String credentials = Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+        }
+        return builder.build();
+    }
 }
@@ -1,8 +1,11 @@
 package com.spartaclub.orderplatform.global.config.web;
 
 import com.spartaclub.orderplatform.global.exception.advice.PageableHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -17,14 +20,34 @@ import java.util.List;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // OSIV 제외 경로
+    // - PG를 호출하는 API: 트랜잭션을 나눠 PG 호출 중 커넥션을 반납
+    // - 주문 피드(SSE): 연결이 최대 30분 유지되므로 요청 동안 커넥션을 잡지 않음
+    private static final String[] OSIV_EXCLUDED_PATHS = {
+        "/v1/payments/init",
+        "/v1/payments/*/confirm",
+        "/v1/payments/*/cancel",
+        "/v1/orders/stores/*/feed"
+    };
+
     private final PageableHandler pageableHandler;
+    private final ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor;
 
-    public WebConfig(PageableHandler pageableHandler) {
+    public WebConfig(PageableHandler pageableHandler,
+        ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor) {
         this.pageableHandler = pageableHandler;
+        this.openEntityManagerInViewInterceptor = openEntityManagerInViewInterceptor;
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(pageableHandler);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // JPA가 구성되지 않은 환경(WebMvcTest 등)에서는 등록하지 않음
+        openEntityManagerInViewInterceptor.ifAvailable(interceptor ->
+            registry.addWebRequestInterceptor(interceptor).excludePathPatterns(OSIV_EXCLUDED_PATHS));
+    }
+}
@@ -0,0 +1,53 @@
+package com.spartaclub.orderplatform.global.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순 UUID (RFC 9562 UUIDv7) 생성기 (밀리초 48비트 + 순번 12비트 + 난수 62비트)
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    // 밀리초가 바뀔 때 순번 시작값 범위 (남은 절반은 같은 밀리초 내 증가분 여유)
+    private static final int SEQUENCE_SEED_BOUND = 1 << (SEQUENCE_BITS - 1);
+
+    private static final long VERSION = 0x7L << 12;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // 마지막으로 발급한 (밀리초 << 12 | 순번), 같은 밀리초 안에서는 순번을 증가시키고 넘치면 다음 밀리초로 이월
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long stamp = nextStamp(System.currentTimeMillis());
+        long millis = stamp >>> SEQUENCE_BITS;
+        long sequence = stamp & ((1L << SEQUENCE_BITS) - 1);
+
+        long msb = (millis << 16) | VERSION | sequence;
+        long lsb = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(msb, lsb);
+    }
+
+    // UUIDv7에 기록된 생성 시각 (epoch 밀리초)
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    // 시계가 뒤로 가도 마지막 값보다 큰 값을 발급
+    private static long nextStamp(long now) {
+        while (true) {
+            long last = LAST_STAMP.get();
+            long next = now > (last >>> SEQUENCE_BITS)
+                ? (now << SEQUENCE_BITS) | ThreadLocalRandom.current().nextInt(SEQUENCE_SEED_BOUND)
+                : last + 1;
+            if (LAST_STAMP.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.spartaclub.orderplatform.global.domain.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 처리 기록
+ */
+@Entity
+@Table(name = "p_idempotency_records", indexes = {
+    // 만료 기록 정리
+    @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class IdempotencyRecord {
+
+    // (작업, 사용자, 클라이언트 키)와 요청 본문은 이름 기반 UUID로 압축해 고정 길이로 저장
+    @Id
+    @Column(name = "key_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID keyId;
+
+    @Column(name = "request_hash", nullable = false, columnDefinition = "uuid")
+    private UUID requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "text")
+    private String responseBody;      // 완료 시 응답 본문(JSON)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;  // IN_PROGRESS는 lease 만료, COMPLETED는 보관 만료 시각
+
+    public enum IdempotencyStatus {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    public boolean isCompleted() {
+        return status == IdempotencyStatus.COMPLETED;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,21 @@
+package com.spartaclub.orderplatform.global.domain.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyRecordRepository {
+
+    // 처리 권한 획득 (기록이 없거나 만료된 경우에만 IN_PROGRESS로 기록, 동시에 시도해도 한 요청만 성공)
+    boolean claim(UUID keyId, UUID requestHash, LocalDateTime now, LocalDateTime leaseUntil);
+
+    Optional<IdempotencyRecord> findById(UUID keyId);
+
+    // 처리 완료, 응답 본문 저장
+    void complete(UUID keyId, String responseBody, LocalDateTime expiresAt);
+
+    // 처리 실패 시 기록 삭제 (같은 키로 재시도 가능)
+    void release(UUID keyId);
+
+    int deleteExpired(LocalDateTime now);
+}
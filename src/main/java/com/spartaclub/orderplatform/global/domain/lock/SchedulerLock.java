@@ -0,0 +1,34 @@
+package com.spartaclub.orderplatform.global.domain.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 DB 잠금 (여러 노드 중 한 노드만 실행)
+ */
+@Entity
+@Table(name = "p_scheduler_locks")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", nullable = false, updatable = false, length = 64)
+    private String lockName;
+
+    // 이 시각이 지나야 다시 점유 가능 (실행 노드가 비정상 종료되어도 이후 다른 노드가 이어받음)
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;      // 점유 노드 식별자
+}
@@ -0,0 +1,13 @@
+package com.spartaclub.orderplatform.global.domain.lock;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository {
+
+    // 만료된 잠금 점유 (없는 잠금은 생성), 점유 성공 여부 반환
+    boolean tryAcquire(String lockName, LocalDateTime now, LocalDateTime lockUntil,
+        String lockedBy);
+
+    // 본인이 점유한 잠금만 해제
+    void release(String lockName, LocalDateTime now, String lockedBy);
+}
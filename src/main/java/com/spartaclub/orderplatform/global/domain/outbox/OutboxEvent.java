@@ -0,0 +1,111 @@
+package com.spartaclub.orderplatform.global.domain.outbox;
+
+import com.spartaclub.orderplatform.global.domain.id.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 트랜잭션 아웃박스 이벤트 (상태 변경과 같은 트랜잭션에서 기록, 성공 시 삭제, 재시도 초과 시 DEAD)
+ */
+@Entity
+@Table(name = "p_outbox_events", indexes = {
+    // 릴레이 폴링 (status = PENDING AND available_at <= now)
+    @Index(name = "idx_outbox_events_status_available", columnList = "status, available_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "event_id", nullable = false, updatable = false, columnDefinition = "uuid")
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false, length = 40)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, updatable = false)
+    private Map<String, String> payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;     // 이 시각 이후에 릴레이가 점유 가능
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public enum OutboxStatus {
+        PENDING,    // 전달 대기 (재시도 포함)
+        DEAD        // 최대 시도 횟수 초과, 수동 확인 필요
+    }
+
+    public static OutboxEvent of(OutboxEventType eventType, UUID aggregateId,
+        Map<String, String> payload, LocalDateTime now) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.aggregateId = aggregateId;
+        event.payload = payload;
+        event.status = OutboxStatus.PENDING;
+        event.occurredAt = now;
+        event.availableAt = now;
+        return event;
+    }
+
+    public String attribute(String key) {
+        return payload.get(key);
+    }
+
+    // 릴레이 점유: leaseUntil까지 다른 노드가 가져가지 않음 (노드가 전달 중 종료되면 이후 재점유)
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    // 전달 실패: retryAt 이후 재시도
+    public void retryAt(LocalDateTime retryAt, String error) {
+        this.availableAt = retryAt;
+        this.lastError = truncate(error);
+    }
+
+    // 재시도 중단
+    public void markDead(String error) {
+        this.status = OutboxStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
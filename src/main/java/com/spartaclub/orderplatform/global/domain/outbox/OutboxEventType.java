@@ -0,0 +1,8 @@
+package com.spartaclub.orderplatform.global.domain.outbox;
+
+// 아웃박스 이벤트 종류 (aggregateId 기준)
+public enum OutboxEventType {
+    ORDER_PLACED,           // 주문 생성 (aggregateId = orderId)
+    ORDER_STATUS_CHANGED,   // 주문 상태 전이 (aggregateId = orderId)
+    PAYMENT_STATUS_CHANGED  // 결제 상태 확정 (aggregateId = paymentId)
+}
@@ -0,0 +1,22 @@
+package com.spartaclub.orderplatform.global.domain.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OutboxRepository {
+
+    void saveAll(List<OutboxEvent> events);
+
+    // 전달 가능한 대기 이벤트를 행 잠금으로 조회, 다른 노드가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+    List<OutboxEvent> findAvailableForUpdate(LocalDateTime now, int limit);
+
+    List<OutboxEvent> findAllById(Collection<UUID> eventIds);
+
+    void deleteAllById(Collection<UUID> eventIds);
+
+    // 가장 오래된 대기 이벤트의 발생 시각 (릴레이 지연 측정용)
+    Optional<LocalDateTime> findOldestPendingOccurredAt();
+}
@@ -0,0 +1,27 @@
+package com.spartaclub.orderplatform.global.infrastructure.idempotency;
+
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecordRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 Idempotency-Key 기록 정리 스케줄러 (삭제는 멱등이라 잠금 없이 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCleanupScheduler {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 15 * * * *}")
+    public void deleteExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[Idempotency] 만료 기록 정리 - deleted={}", deleted);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.spartaclub.orderplatform.global.infrastructure.idempotency;
+
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecord;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecord.IdempotencyStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// 각 쿼리는 호출 측 트랜잭션 없이 단독으로 커밋 (업무 트랜잭션과 분리)
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    // 없으면 생성, 만료된 기록이면 이어받음 (행 잠금 대기 없이 한 문장으로 판정)
+    @Transactional
+    @Modifying
+    @Query(value = """
+           INSERT INTO p_idempotency_records
+               (key_id, request_hash, status, response_body, created_at, expires_at)
+           VALUES (:keyId, :requestHash, 'IN_PROGRESS', NULL, :now, :leaseUntil)
+           ON CONFLICT (key_id) DO UPDATE
+           SET request_hash = EXCLUDED.request_hash,
+               status = EXCLUDED.status,
+               response_body = NULL,
+               created_at = EXCLUDED.created_at,
+               expires_at = EXCLUDED.expires_at
+           WHERE p_idempotency_records.expires_at <= :now
+        """, nativeQuery = true)
+    int claim(@Param("keyId") UUID keyId, @Param("requestHash") UUID requestHash,
+        @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+           UPDATE IdempotencyRecord r
+           SET r.status = :status,
+               r.responseBody = :responseBody,
+               r.expiresAt = :expiresAt
+           WHERE r.keyId = :keyId
+        """)
+    int complete(@Param("keyId") UUID keyId, @Param("status") IdempotencyStatus status,
+        @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+           DELETE FROM IdempotencyRecord r
+           WHERE r.keyId = :keyId
+           AND r.status = :status
+        """)
+    int release(@Param("keyId") UUID keyId, @Param("status") IdempotencyStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("""
+           DELETE FROM IdempotencyRecord r
+           WHERE r.expiresAt <= :now
+        """)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,44 @@
+package com.spartaclub.orderplatform.global.infrastructure.idempotency;
+
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecord;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecord.IdempotencyStatus;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecordRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepository {
+
+    private final IdempotencyRecordJpaRepository idempotencyRecordJpaRepository;
+
+    @Override
+    public boolean claim(UUID keyId, UUID requestHash, LocalDateTime now,
+        LocalDateTime leaseUntil) {
+        return idempotencyRecordJpaRepository.claim(keyId, requestHash, now, leaseUntil) > 0;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findById(UUID keyId) {
+        return idempotencyRecordJpaRepository.findById(keyId);
+    }
+
+    @Override
+    public void complete(UUID keyId, String responseBody, LocalDateTime expiresAt) {
+        idempotencyRecordJpaRepository.complete(keyId, IdempotencyStatus.COMPLETED, responseBody,
+            expiresAt);
+    }
+
+    @Override
+    public void release(UUID keyId) {
+        idempotencyRecordJpaRepository.release(keyId, IdempotencyStatus.IN_PROGRESS);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return idempotencyRecordJpaRepository.deleteExpired(now);
+    }
+}
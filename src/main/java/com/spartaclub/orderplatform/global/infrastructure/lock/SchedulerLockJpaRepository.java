@@ -0,0 +1,45 @@
+package com.spartaclub.orderplatform.global.infrastructure.lock;
+
+import com.spartaclub.orderplatform.global.domain.lock.SchedulerLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLockJpaRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료된 잠금만 점유 (조건부 UPDATE 1회, 동시에 시도해도 한 노드만 반영)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE SchedulerLock l
+           SET l.lockedUntil = :lockUntil, l.lockedAt = :now, l.lockedBy = :lockedBy
+           WHERE l.lockName = :lockName
+           AND l.lockedUntil <= :now
+        """)
+    int acquireExpired(@Param("lockName") String lockName, @Param("now") LocalDateTime now,
+        @Param("lockUntil") LocalDateTime lockUntil, @Param("lockedBy") String lockedBy);
+
+    // 최초 점유 (이미 있으면 PK 중복으로 실패)
+    @Transactional
+    @Modifying
+    @Query(value = """
+           INSERT INTO p_scheduler_locks (lock_name, locked_until, locked_at, locked_by)
+           VALUES (:lockName, :lockUntil, :now, :lockedBy)
+        """, nativeQuery = true)
+    int insert(@Param("lockName") String lockName, @Param("now") LocalDateTime now,
+        @Param("lockUntil") LocalDateTime lockUntil, @Param("lockedBy") String lockedBy);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE SchedulerLock l
+           SET l.lockedUntil = :now
+           WHERE l.lockName = :lockName
+           AND l.lockedBy = :lockedBy
+        """)
+    int release(@Param("lockName") String lockName, @Param("now") LocalDateTime now,
+        @Param("lockedBy") String lockedBy);
+}
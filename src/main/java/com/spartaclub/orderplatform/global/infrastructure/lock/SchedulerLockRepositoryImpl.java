@@ -0,0 +1,36 @@
+package com.spartaclub.orderplatform.global.infrastructure.lock;
+
+import com.spartaclub.orderplatform.global.domain.lock.SchedulerLockRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockRepositoryImpl implements SchedulerLockRepository {
+
+    private final SchedulerLockJpaRepository schedulerLockJpaRepository;
+
+    // 각 쿼리는 별도 트랜잭션 (INSERT 실패가 다른 작업을 롤백시키지 않도록 호출 측 트랜잭션 없이 사용)
+    @Override
+    public boolean tryAcquire(String lockName, LocalDateTime now, LocalDateTime lockUntil,
+        String lockedBy) {
+        if (schedulerLockJpaRepository.acquireExpired(lockName, now, lockUntil, lockedBy) > 0) {
+            return true;
+        }
+        if (schedulerLockJpaRepository.existsById(lockName)) {
+            return false; // 다른 노드가 점유 중
+        }
+        try {
+            return schedulerLockJpaRepository.insert(lockName, now, lockUntil, lockedBy) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false; // 다른 노드가 먼저 생성
+        }
+    }
+
+    @Override
+    public void release(String lockName, LocalDateTime now, String lockedBy) {
+        schedulerLockJpaRepository.release(lockName, now, lockedBy);
+    }
+}
@@ -0,0 +1,34 @@
+package com.spartaclub.orderplatform.global.infrastructure.outbox;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxJpaRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    // 여러 노드가 동시에 폴링해도 같은 행을 점유하지 않도록 잠긴 행은 건너뜀
+    @Query(value = """
+           SELECT * FROM p_outbox_events
+           WHERE status = 'PENDING'
+           AND available_at <= :now
+           ORDER BY available_at
+           LIMIT :limit
+           FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEvent> findAvailableForUpdate(@Param("now") LocalDateTime now,
+        @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.eventId IN :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+
+    @Query("SELECT MIN(e.occurredAt) FROM OutboxEvent e WHERE e.status = :status")
+    LocalDateTime findOldestOccurredAt(@Param("status") OutboxStatus status);
+}
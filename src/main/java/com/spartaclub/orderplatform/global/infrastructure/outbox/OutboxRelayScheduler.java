@@ -0,0 +1,42 @@
+package com.spartaclub.orderplatform.global.infrastructure.outbox;
+
+import com.spartaclub.orderplatform.global.application.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 릴레이 스케줄러 (배치가 가득 차면 max-batches까지 연속 전달해 적체 해소)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        int relayed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int claimed = outboxRelay.relay(batchSize);
+            relayed += claimed;
+            if (claimed < batchSize) {
+                break;
+            }
+        }
+        outboxRelay.refreshLag();
+
+        if (relayed >= batchSize) {
+            log.info("[Outbox] 적체 이벤트 전달 - relayed={}", relayed);
+        }
+    }
+}
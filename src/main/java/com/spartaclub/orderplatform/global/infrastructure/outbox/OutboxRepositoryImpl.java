@@ -0,0 +1,47 @@
+package com.spartaclub.orderplatform.global.infrastructure.outbox;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent.OutboxStatus;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private final OutboxJpaRepository outboxJpaRepository;
+
+    @Override
+    public void saveAll(List<OutboxEvent> events) {
+        outboxJpaRepository.saveAll(events);
+    }
+
+    @Override
+    public List<OutboxEvent> findAvailableForUpdate(LocalDateTime now, int limit) {
+        return outboxJpaRepository.findAvailableForUpdate(now, limit);
+    }
+
+    @Override
+    public List<OutboxEvent> findAllById(Collection<UUID> eventIds) {
+        return outboxJpaRepository.findAllById(eventIds);
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        outboxJpaRepository.deleteAllByEventIdIn(eventIds);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPendingOccurredAt() {
+        return Optional.ofNullable(outboxJpaRepository.findOldestOccurredAt(OutboxStatus.PENDING));
+    }
+}
@@ -0,0 +1,19 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 1건에서 허용하는 SQL 문 수 (인증 필터의 사용자 조회 포함, 메서드 값이 클래스 값보다 우선)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface SqlBudget {
+
+    // 허용 SQL 문 수
+    int value();
+}
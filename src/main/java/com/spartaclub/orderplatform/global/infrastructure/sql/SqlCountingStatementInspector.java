@@ -0,0 +1,15 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 요청 통계에 집계 (SQL은 변경하지 않음)
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,124 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청별 SQL 문 수/적재 행 수/DB 시간 측정 필터 (엔드포인트별 메트릭, @SqlBudget 초과/N+1 의심 경고)
+ */
+@Slf4j
+public class SqlRequestMetricsFilter extends OncePerRequestFilter {
+
+    // 요청에서 실행한 SQL 문 수 / 적용된 예산 (요청 속성, 엔드포인트 테스트에서 확인)
+    public static final String STATEMENTS_ATTRIBUTE = SqlRequestMetricsFilter.class.getName() + ".statements";
+    public static final String BUDGET_ATTRIBUTE = SqlRequestMetricsFilter.class.getName() + ".budget";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final int repeatThreshold;
+
+    public SqlRequestMetricsFilter(MeterRegistry meterRegistry, int defaultBudget,
+        int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        SqlRequestStats stats = SqlRequestStats.begin();
+        String method = request.getMethod();
+        String uri = UNKNOWN_URI;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            uri = uriOf(request);
+            record(method, uri, stats);
+        }
+
+        // 예외 없이 처리된 요청만 예산 검사 (응답이 이미 커밋되어 요청은 실패시키지 않고 경고/메트릭만 기록)
+        int budget = budgetOf(request);
+        request.setAttribute(STATEMENTS_ATTRIBUTE, stats.statements());
+        request.setAttribute(BUDGET_ATTRIBUTE, budget);
+        if (stats.statements() > budget) {
+            Counter.builder("http.server.requests.sql.budget.exceeded")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry).increment();
+            log.warn("[SqlBudget] SQL 예산 초과 - {} {} statements={}, budget={}, rows={}, dbTime={}ms",
+                method, uri, stats.statements(), budget, stats.rows(),
+                TimeUnit.NANOSECONDS.toMillis(stats.executionNanos()));
+        }
+    }
+
+    private void record(String method, String uri, SqlRequestStats stats) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+            .description("요청 1건에서 실행한 SQL 문 수")
+            .tag("method", method).tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry).record(stats.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+            .description("요청 1건에서 엔티티로 적재한 행 수")
+            .tag("method", method).tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry).record(stats.rows());
+        Timer.builder("http.server.requests.sql.time")
+            .description("요청 1건의 JDBC 실행 누적 시간")
+            .tag("method", method).tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry).record(stats.executionNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.mostRepeatedCount() >= repeatThreshold) {
+            Counter.builder("http.server.requests.sql.repeated")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry).increment();
+            log.warn("[SqlBudget] 같은 SQL 반복 실행(N+1 의심) - {} {} count={}, sql={}",
+                method, uri, stats.mostRepeatedCount(), abbreviate(stats.mostRepeatedSql()));
+        }
+
+        log.debug("[SqlBudget] {} {} statements={}, rows={}, dbTime={}ms", method, uri,
+            stats.statements(), stats.rows(), TimeUnit.NANOSECONDS.toMillis(stats.executionNanos()));
+    }
+
+    // 매핑된 URI 패턴 (경로 변수별로 메트릭이 늘어나지 않도록 실제 경로 대신 사용)
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    private int budgetOf(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+            instanceof HandlerMethod handlerMethod)) {
+            return defaultBudget;
+        }
+        SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(),
+            SqlBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(),
+                SqlBudget.class);
+        }
+        return budget == null ? defaultBudget : budget.value();
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,93 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HTTP 요청 단위 SQL 실행 통계 (요청 스레드의 ThreadLocal에 보관, 요청 밖에서 실행된 SQL은 집계하지 않음)
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    // N+1 감지용으로 기억하는 서로 다른 SQL 최대 개수
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private int statements;
+    private long rows;
+    private long executionNanos;
+
+    // SQL -> 실행 횟수
+    private final Map<String, Integer> repeats = new HashMap<>();
+    private String mostRepeatedSql;
+    private int mostRepeatedCount;
+
+    // 요청 시작: 현재 스레드에 새 통계를 연결
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 요청 종료: 현재 스레드에서 통계 분리
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(String sql) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statement(sql);
+        }
+    }
+
+    static void recordRow() {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    static void recordExecution(long nanos) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.executionNanos += nanos;
+        }
+    }
+
+    private void statement(String sql) {
+        statements++;
+        if (!repeats.containsKey(sql) && repeats.size() >= MAX_TRACKED_STATEMENTS) {
+            return;
+        }
+        int count = repeats.merge(sql, 1, Integer::sum);
+        if (count > mostRepeatedCount) {
+            mostRepeatedCount = count;
+            mostRepeatedSql = sql;
+        }
+    }
+
+    // 준비(prepare)된 SQL 문 수
+    public int statements() {
+        return statements;
+    }
+
+    // 엔티티로 적재된 행 수
+    public long rows() {
+        return rows;
+    }
+
+    // JDBC 실행 누적 시간
+    public long executionNanos() {
+        return executionNanos;
+    }
+
+    // 가장 많이 반복된 SQL (없으면 null)
+    public String mostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    public int mostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+}
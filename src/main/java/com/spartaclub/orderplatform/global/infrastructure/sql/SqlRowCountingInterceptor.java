@@ -0,0 +1,17 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * 엔티티 적재 건수를 요청 통계의 행 수로 집계 (DTO 프로젝션 조회 결과는 포함되지 않음)
+ */
+public class SqlRowCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames,
+        Type[] types) {
+        SqlRequestStats.recordRow();
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션별 JDBC 실행 시간을 요청 통계에 집계 (hibernate.session.events.auto로 세션마다 생성)
+ */
+public class SqlTimingSessionEventListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats.recordExecution(System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlRequestStats.recordExecution(System.nanoTime() - startedAt);
+    }
+}
@@ -36,20 +36,20 @@ VALUES
 -- ======================================================================
 INSERT INTO p_stores
 (store_id, user_id, store_name, store_address, store_number, store_description, status, reject_reason,
- average_rating, review_count,
+ average_rating, review_count, rating_sum,
  created_at, modified_at, deleted_at, created_id, modified_id, deleted_id)
 VALUES
     -- store1 (owner1)
     ('506772f3-6271-418e-a2c7-4fad65e22938',
      (SELECT user_id FROM p_users WHERE email = 'lee@test.com'   LIMIT 1),
     '몽룡이네 한식당', '전라북도 남원시 광한루로 456', '0631234567', '남원에 위치한 백반집', 'APPROVED', NULL,
-    0.0, 0,
+    0.0, 0, 0,
     NOW(), NOW(), NULL, 0, NULL, NULL),
   -- store2 (owner2)
   ('2ce4bac5-858a-4335-a319-2ceed1f2d154',
    (SELECT user_id FROM p_users WHERE email = 'lucas@test.com' LIMIT 1),
    '루카스네 덮밥', '충청북도 충주시 충원대로 238', '2345670819', '충주에 위치한 덮밥집', 'APPROVED', NULL,
-   0.0, 0,
+   0.0, 0, 0,
    NOW(), NOW(), NULL, 0, NULL, NULL);
 
 -- ======================================================================
@@ -111,12 +111,12 @@ VALUES
 -- PAYMENTS (p_payments)
 -- ======================================================================
 INSERT INTO p_payments
-(payment_id, order_id, payment_amount, status, pg_payment_key, pg_order_id,
+(payment_id, order_id, payment_amount, status, pg_payment_key, pg_order_id, status_changed_at,
  created_at, modified_at, deleted_at, created_id, modified_id, deleted_id)
 VALUES
-    (gen_random_uuid(), '94a1916f-3dbc-4475-b286-224146e49a77', 9000,  'CAPTURED', 'pay_key_94a1', 'ORDER-94A1',
+    (gen_random_uuid(), '94a1916f-3dbc-4475-b286-224146e49a77', 9000,  'CAPTURED', 'pay_key_94a1', 'ORDER-94A1', NOW(),
      NOW(), NOW(), NULL, 0, NULL, NULL),
-    (gen_random_uuid(), 'c0ac2c6e-e674-49e2-8a92-22f9e9518f4c', 12000, 'CAPTURED', 'pay_key_c0ac', 'ORDER-C0AC',
+    (gen_random_uuid(), 'c0ac2c6e-e674-49e2-8a92-22f9e9518f4c', 12000, 'CAPTURED', 'pay_key_c0ac', 'ORDER-C0AC', NOW(),
      NOW(), NOW(), NULL, 0, NULL, NULL);
 
 -- ======================================================================
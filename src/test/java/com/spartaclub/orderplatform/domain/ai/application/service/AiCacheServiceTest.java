@@ -0,0 +1,145 @@
+package com.spartaclub.orderplatform.domain.ai.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spartaclub.orderplatform.domain.ai.presentation.dto.AiResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class AiCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiCacheService cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AiCacheService(meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(1),
+            3, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("공백/정규화만 다른 같은 프롬프트는 외부 호출 없이 캐시에서 응답")
+    void getOrGenerate_normalizedPromptHit() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.getOrGenerate("매콤한  떡볶이 설명", p -> "생성-" + calls.incrementAndGet());
+        String second = cache.getOrGenerate("  매콤한 떡볶이\n설명 ", p -> "생성-" + calls.incrementAndGet());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.cache.prompt.requests")
+            .tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("외부 호출 실패는 캐시하지 않음")
+    void getOrGenerate_failureNotCached() {
+        assertThatThrownBy(() -> cache.getOrGenerate("프롬프트", p -> {
+            throw new IllegalStateException("quota");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getOrGenerate("프롬프트", p -> "성공")).isEqualTo("성공");
+    }
+
+    @Test
+    @DisplayName("빈 응답(null)은 캐시하지 않고 다음 요청에서 다시 호출")
+    void getOrGenerate_emptyResponseNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.getOrGenerate("프롬프트", p -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        String second = cache.getOrGenerate("프롬프트", p -> "생성-" + calls.incrementAndGet());
+
+        assertThat(first).isNull();
+        assertThat(second).isEqualTo("생성-2");
+        assertThat(meterRegistry.get("ai.cache.prompt.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 프롬프트 동시 요청은 외부 호출 1회를 공유")
+    void getOrGenerate_singleFlight() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> cache.getOrGenerate("프롬프트", p -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return "결과";
+                }), executor);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<CompletableFuture<String>> followers = List.of(
+                CompletableFuture.supplyAsync(() -> cache.getOrGenerate("프롬프트", p -> {
+                    calls.incrementAndGet();
+                    return "중복 호출";
+                }), executor),
+                CompletableFuture.supplyAsync(() -> cache.getOrGenerate("프롬프트", p -> {
+                    calls.incrementAndGet();
+                    return "중복 호출";
+                }), executor));
+
+            // 후속 요청이 진행 중인 호출에 합류할 시간을 준 뒤 선행 호출 완료
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("결과");
+            for (CompletableFuture<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("결과");
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 이력은 최대 건수를 넘으면 오래된 응답부터 제거")
+    void addResponse_perUserCap() {
+        for (int i = 1; i <= 5; i++) {
+            cache.addResponse(1L, AiResponseDto.builder()
+                .prompt("p" + i).generatedText("g" + i).build());
+        }
+
+        List<AiResponseDto> history = cache.getCachedResponses(1L);
+
+        assertThat(history).extracting(AiResponseDto::getPrompt).containsExactly("p3", "p4", "p5");
+        assertThat(cache.getCachedResponses(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("evictCache 이후 사용자 이력은 비어 있음")
+    void evictCache_clearsHistory() {
+        cache.addResponse(1L, AiResponseDto.builder().prompt("p").generatedText("g").build());
+
+        cache.evictCache(1L);
+
+        assertThat(cache.getCachedResponses(1L)).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
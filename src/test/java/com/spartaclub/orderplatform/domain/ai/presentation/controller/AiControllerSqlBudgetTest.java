@@ -0,0 +1,59 @@
+package com.spartaclub.orderplatform.domain.ai.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spartaclub.orderplatform.domain.ai.application.service.AiCacheService;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * AiController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class AiControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @Autowired
+    private AiCacheService aiCacheService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("AI 설명 생성 API는 클래스 예산(4) 안에서 처리")
+    void generateDescription_withinBudget() throws Exception {
+        // given (외부 AI를 호출하지 않도록 프롬프트 캐시를 미리 채움)
+        User owner = fixtures.owner();
+        String prompt = "예산 테스트 치즈버거 설명";
+        aiCacheService.getOrGenerate(prompt, p -> "치즈가 듬뿍 들어간 버거");
+
+        // when & then
+        mockMvc.perform(post("/v1/products/ai/description")
+                .param("prompt", prompt)
+                .with(fixtures.as(owner)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(4));
+    }
+}
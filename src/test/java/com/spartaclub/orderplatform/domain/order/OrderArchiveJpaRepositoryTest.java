@@ -0,0 +1,172 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderArchive;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.infrastructure.repository.OrderArchiveJpaRepository;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 보관 이관 네이티브 SQL(INSERT ... SELECT, DELETE) 검증 - H2에 운영 테이블 행을 직접 넣고 실행
+ */
+@DataJpaTest
+class OrderArchiveJpaRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 10, 12, 0);
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2025, 1, 10, 13, 0);
+    private static final LocalDateTime ARCHIVED_AT = LocalDateTime.of(2025, 4, 20, 4, 30);
+
+    @Autowired
+    private OrderArchiveJpaRepository orderArchiveJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 사용자/상품 등 이관과 무관한 참조 행은 만들지 않도록 참조 무결성 검사를 끔
+        entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+    }
+
+    @Test
+    @DisplayName("copyFromHot: 조회 모델 스냅샷 + 주문 최종 상태 + 결제 요약을 보관 행으로 복사")
+    void copyFromHot_copiesViewOrderAndPayment() {
+        UUID orderId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
+        insertHotOrder(orderId, OrderStatus.DELIVERED);
+        insertPayment(paymentId, orderId, "pg-key-1");
+
+        int copied = orderArchiveJpaRepository.copyFromHot(List.of(orderId), ARCHIVED_AT);
+
+        assertThat(copied).isEqualTo(1);
+        OrderArchive archive = orderArchiveJpaRepository.findById(orderId).orElseThrow();
+        // 조회 모델은 PAID로 남아 있어도 주문 테이블의 최종 상태를 보관
+        assertThat(archive.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(archive.getUserId()).isEqualTo(7L);
+        assertThat(archive.getOwnerId()).isEqualTo(3L);
+        assertThat(archive.getTotalPrice()).isEqualTo(24000L);
+        assertThat(archive.getItems()).extracting(OrderReadModel.Item::name)
+            .containsExactly("김치찌개");
+        assertThat(archive.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(archive.getModifiedAt()).isEqualTo(MODIFIED_AT);
+        assertThat(archive.getPaymentId()).isEqualTo(paymentId);
+        assertThat(archive.getPaymentStatus()).isEqualTo(PaymentStatus.CAPTURED);
+        assertThat(archive.getPaymentAmount()).isEqualTo(24000L);
+        assertThat(archive.getPgPaymentKey()).isEqualTo("pg-key-1");
+        assertThat(archive.getArchivedAt()).isEqualTo(ARCHIVED_AT);
+    }
+
+    @Test
+    @DisplayName("copyFromHot: 결제가 없던 주문은 결제 요약 없이 복사, 요청하지 않은 주문은 복사하지 않음")
+    void copyFromHot_withoutPayment() {
+        UUID expiredId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        insertHotOrder(expiredId, OrderStatus.EXPIRED);
+        insertHotOrder(otherId, OrderStatus.DELIVERED);
+
+        int copied = orderArchiveJpaRepository.copyFromHot(List.of(expiredId), ARCHIVED_AT);
+
+        assertThat(copied).isEqualTo(1);
+        OrderArchive archive = orderArchiveJpaRepository.findById(expiredId).orElseThrow();
+        assertThat(archive.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        assertThat(archive.getPaymentId()).isNull();
+        assertThat(archive.getPaymentStatus()).isNull();
+        assertThat(orderArchiveJpaRepository.existsById(otherId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("deleteHot*: 이관한 주문의 운영 행만 삭제")
+    void deleteHot_removesOnlyGivenOrders() {
+        UUID archivedId = UUID.randomUUID();
+        UUID keptId = UUID.randomUUID();
+        insertHotOrder(archivedId, OrderStatus.DELIVERED);
+        insertPayment(UUID.randomUUID(), archivedId, "pg-key-1");
+        insertHotOrder(keptId, OrderStatus.DELIVERED);
+        insertPayment(UUID.randomUUID(), keptId, "pg-key-2");
+        List<UUID> orderIds = List.of(archivedId);
+
+        assertThat(orderArchiveJpaRepository.deleteHotOrderProducts(orderIds)).isEqualTo(1);
+        assertThat(orderArchiveJpaRepository.deleteHotPayments(orderIds)).isEqualTo(1);
+        assertThat(orderArchiveJpaRepository.deleteHotViews(orderIds)).isEqualTo(1);
+        assertThat(orderArchiveJpaRepository.deleteHotOrders(orderIds)).isEqualTo(1);
+
+        for (String table : List.of("p_orders", "p_orders_products", "p_payments",
+            "p_order_views")) {
+            assertThat(countByOrderId(table, archivedId)).as(table).isZero();
+            assertThat(countByOrderId(table, keptId)).as(table).isEqualTo(1);
+        }
+    }
+
+    // 주문 + 주문 상품 + 조회 모델 (조회 모델 상태는 주문 시점의 PAID로 둠)
+    private void insertHotOrder(UUID orderId, OrderStatus status) {
+        entityManager.createNativeQuery("""
+                INSERT INTO p_orders (order_id, user_id, store_id, total_price, product_count,
+                    address, status, memo, created_at, modified_at, created_id, modified_id)
+                VALUES (?1, 7, ?2, 24000, 2, '서울시 종로구', ?3, '문 앞', ?4, ?5, 7, 3)
+                """)
+            .setParameter(1, orderId)
+            .setParameter(2, UUID.randomUUID())
+            .setParameter(3, status.name())
+            .setParameter(4, CREATED_AT)
+            .setParameter(5, MODIFIED_AT)
+            .executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO p_orders_products (order_product_id, order_id, product_id, quantity,
+                    unit_price, product_name, created_at, created_id)
+                VALUES (?1, ?2, ?3, 2, 12000, '김치찌개', ?4, 7)
+                """)
+            .setParameter(1, UUID.randomUUID())
+            .setParameter(2, orderId)
+            .setParameter(3, UUID.randomUUID())
+            .setParameter(4, CREATED_AT)
+            .executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO p_order_views (order_id, user_id, store_id, owner_id, total_price,
+                    product_count, address, status, memo, items, created_at, created_id)
+                VALUES (?1, 7, ?2, 3, 24000, 2, '서울시 종로구', 'PAID', '문 앞',
+                    JSON '[{"productId":"%s","name":"김치찌개","price":12000,"quantity":2}]',
+                    ?3, 7)
+                """.formatted(UUID.randomUUID()))
+            .setParameter(1, orderId)
+            .setParameter(2, UUID.randomUUID())
+            .setParameter(3, CREATED_AT)
+            .executeUpdate();
+    }
+
+    private void insertPayment(UUID paymentId, UUID orderId, String pgPaymentKey) {
+        entityManager.createNativeQuery("""
+                INSERT INTO p_payments (payment_id, order_id, payment_amount, status,
+                    pg_payment_key, created_at, created_id)
+                VALUES (?1, ?2, 24000, 'CAPTURED', ?3, ?4, 7)
+                """)
+            .setParameter(1, paymentId)
+            .setParameter(2, orderId)
+            .setParameter(3, pgPaymentKey)
+            .setParameter(4, CREATED_AT)
+            .executeUpdate();
+    }
+
+    private long countByOrderId(String table, UUID orderId) {
+        return ((Number) entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM " + table + " WHERE order_id = ?1")
+            .setParameter(1, orderId)
+            .getSingleResult()).longValue();
+    }
+}
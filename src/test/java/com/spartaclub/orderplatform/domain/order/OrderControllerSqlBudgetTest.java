@@ -0,0 +1,154 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.BulkOrderStatusRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.BulkPlaceOrderRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto.OrderItemRequest;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkPlaceOrderResponseDto.PlacedOrder;
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * OrderController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class OrderControllerSqlBudgetTest {
+
+    private static final int ORDER_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @Autowired
+    private OrderService orderService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    private User owner;
+    private User customer;
+    private Store store;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        owner = fixtures.owner();
+        customer = fixtures.customer();
+        store = fixtures.approvedStore(owner);
+        products = List.of(fixtures.product(owner, store), fixtures.product(owner, store));
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회 API는 클래스 예산(8) 안에서 처리")
+    void getOrderDetail_withinBudget() throws Exception {
+        // given
+        UUID orderId = placeOrders(1).get(0);
+
+        // when & then
+        mockMvc.perform(get("/v1/orders/{orderId}", orderId).with(fixtures.as(customer)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(8));
+    }
+
+    @Test
+    @DisplayName("일괄 주문 API는 주문 수와 관계없이 메서드 예산(10) 안에서 처리")
+    void placeOrders_withinBudget() throws Exception {
+        // given
+        BulkPlaceOrderRequestDto requestDto = new BulkPlaceOrderRequestDto(orderRequests());
+
+        // when & then
+        mockMvc.perform(post("/v1/orders/bulk")
+                .with(fixtures.as(customer))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(10));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 승인 API는 주문 수와 관계없이 메서드 예산(12) 안에서 처리")
+    void acceptOrders_withinBudget() throws Exception {
+        // given (결제 완료된 주문만 승인 가능)
+        List<UUID> orderIds = placeOrders(ORDER_COUNT);
+        fixtures.runAs(customer,
+            () -> orderService.applyPaymentResult(orderIds, OrderTransition.PAY));
+
+        // when & then
+        mockMvc.perform(post("/v1/orders/bulk/accept")
+                .with(fixtures.as(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkOrderStatusRequestDto(orderIds))))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(12));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 거부 API는 주문 수와 관계없이 메서드 예산(12) 안에서 처리")
+    void rejectOrders_withinBudget() throws Exception {
+        // given
+        List<UUID> orderIds = placeOrders(ORDER_COUNT);
+
+        // when & then
+        mockMvc.perform(post("/v1/orders/bulk/reject")
+                .with(fixtures.as(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkOrderStatusRequestDto(orderIds))))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(12));
+    }
+
+    // 고객이 주문한 상태(결제 대기)의 주문 생성
+    private List<UUID> placeOrders(int count) {
+        List<PlaceOrderRequestDto> requests = orderRequests().subList(0, count);
+        return fixtures.runAs(customer, () -> orderService.placeOrders(requests, customer))
+            .placedOrders().stream()
+            .map(PlacedOrder::orderId)
+            .toList();
+    }
+
+    private List<PlaceOrderRequestDto> orderRequests() {
+        return IntStream.range(0, ORDER_COUNT)
+            .mapToObj(i -> new PlaceOrderRequestDto(store.getStoreId(), "서울특별시 종로구 사직로 161",
+                products.stream()
+                    .map(product -> new OrderItemRequest(product.getProductId(), i + 1))
+                    .toList(),
+                null))
+            .toList();
+    }
+}
@@ -13,7 +13,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderFeedService;
 import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.application.service.StoreDailyStatsService;
 import com.spartaclub.orderplatform.domain.order.application.service.query.OrderQueryFacade;
 import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
 import com.spartaclub.orderplatform.domain.order.presentation.controller.OrderController;
@@ -22,12 +24,17 @@ import com.spartaclub.orderplatform.domain.order.presentation.dto.response.Order
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderStatusResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrdersResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.PlaceOrderResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.StoreDailyStatsResponseDto;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.application.idempotency.IdempotencyService;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
 import com.spartaclub.orderplatform.security.WithMockCustomOwner;
 import com.spartaclub.orderplatform.security.WithMockCustomUserCustomer;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -56,7 +63,19 @@ class OrderControllerTest {
     OrderService orderService;
     @MockitoBean
     OrderQueryFacade orderQueryFacade;
+    @MockitoBean
+    OrderFeedService orderFeedService;
+    @MockitoBean
+    StoreDailyStatsService storeDailyStatsService;
+    @MockitoBean
+    IdempotencyService idempotencyService;
 
+    // 멱등 처리는 작업을 그대로 실행
+    @BeforeEach
+    void setUp() {
+        given(idempotencyService.execute(any(), any(), any(), any(), any(Supplier.class)))
+            .willAnswer(inv -> inv.<Supplier<?>>getArgument(4).get());
+    }
 
     // --------------------------------------------------------------------
     // 주문 생성
@@ -105,6 +124,30 @@ class OrderControllerTest {
             capturedUser).isNotNull(); // @WithMockCustomUserCustomer가 주입한 UserDetailsImpl.getUser()
     }
 
+    @Test
+    @DisplayName("주문 생성: Idempotency-Key 헤더를 멱등 처리에 전달")
+    @WithMockCustomUserCustomer
+    void placeOrder_forwardsIdempotencyKey() throws Exception {
+        // given
+        UUID orderId = UUID.randomUUID();
+        given(orderService.placeOrder(any(PlaceOrderRequestDto.class), any(User.class)))
+            .willReturn(new PlaceOrderResponseDto(orderId));
+        PlaceOrderRequestDto req = new PlaceOrderRequestDto(UUID.randomUUID(), "서울",
+            List.of(new PlaceOrderRequestDto.OrderItemRequest(UUID.randomUUID(), 1)), null);
+
+        // when + then
+        mockMvc.perform(post("/v1/orders")
+                .with(csrf())
+                .header(IdempotencyService.HEADER, "retry-key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(req)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.data.orderId").value(orderId.toString()));
+
+        verify(idempotencyService).execute(eq("order.place"), eq("retry-key-1"), eq(req),
+            eq(PlaceOrderResponseDto.class), any());
+    }
+
     // --------------------------------------------------------------------
     // 주문 상세 조회
     // --------------------------------------------------------------------
@@ -229,6 +272,36 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.status").value("DELIVERED"));
         }
+
+        @Test
+        @DisplayName("가게 일별 매출 집계(OWNER): 200 OK + 기간 전달")
+        @WithMockCustomOwner
+        void getStoreDailyStats_ok_owner() throws Exception {
+            UUID storeId = UUID.randomUUID();
+            LocalDate from = LocalDate.of(2025, 10, 1);
+            LocalDate to = LocalDate.of(2025, 10, 3);
+            given(storeDailyStatsService.getDailyStats(eq(storeId), eq(from), eq(to),
+                any(User.class)))
+                .willReturn(StoreDailyStatsResponseDto.of(storeId, from, to, List.of()));
+
+            mockMvc.perform(get("/v1/orders/stores/{storeId}/stats/daily", storeId)
+                    .param("from", "2025-10-01")
+                    .param("to", "2025-10-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.days.length()").value(3))
+                .andExpect(jsonPath("$.data.total.grossSales").value(0));
+        }
+
+        @Test
+        @DisplayName("가게 일별 매출 집계: CUSTOMER 권한으로 접근 시 403")
+        @WithMockUser(username = "user", roles = {"CUSTOMER"})
+        void getStoreDailyStats_forbidden_whenCustomer() throws Exception {
+            mockMvc.perform(get("/v1/orders/stores/{storeId}/stats/daily", UUID.randomUUID())
+                    .param("from", "2025-10-01")
+                    .param("to", "2025-10-03"))
+                .andExpect(status().isForbidden());
+        }
     }
 }
 
@@ -0,0 +1,80 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderExpiryService;
+import com.spartaclub.orderplatform.domain.order.infrastructure.scheduler.OrderExpiryScheduler;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import com.spartaclub.orderplatform.global.application.lock.SchedulerLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class OrderExpirySchedulerTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private OrderExpiryService orderExpiryService;
+    private SchedulerLockService schedulerLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        orderExpiryService = mock(OrderExpiryService.class);
+        schedulerLockService = mock(SchedulerLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new OrderExpiryScheduler(orderExpiryService,
+            new ChunkedJobRunner(schedulerLockService),
+            meterRegistry, Duration.ofMinutes(30), CHUNK_SIZE, 10, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("만료 청크를 반복하고 만료 건수/소요 시간을 order.expiry 메트릭으로 기록")
+    void expirePendingOrders_sweepsChunks() {
+        runTaskWhenLocked(true);
+        given(orderExpiryService.expireChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+            .willReturn(CHUNK_SIZE, CHUNK_SIZE, 30);
+
+        scheduler.expirePendingOrders();
+
+        then(orderExpiryService).should(times(3)).expireChunk(any(), eq(CHUNK_SIZE));
+        assertThat(meterRegistry.get("order.expiry.swept").counter().count()).isEqualTo(230.0);
+        assertThat(meterRegistry.get("order.expiry.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 cutoff로 청크를 반복해 실행 중 생성된 주문은 만료하지 않음")
+    void sweep_usesSingleCutoff() {
+        runTaskWhenLocked(true);
+        given(orderExpiryService.expireChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+            .willReturn(CHUNK_SIZE, 0);
+
+        scheduler.expirePendingOrders();
+
+        ArgumentCaptor<LocalDateTime> cutoffs = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(orderExpiryService).should(times(2)).expireChunk(cutoffs.capture(), eq(CHUNK_SIZE));
+        assertThat(cutoffs.getAllValues()).containsOnly(cutoffs.getValue());
+        assertThat(cutoffs.getValue()).isBefore(LocalDateTime.now().minusMinutes(29));
+    }
+
+    private void runTaskWhenLocked(boolean acquired) {
+        given(schedulerLockService.runExclusively(eq("order-expiry"), any(Duration.class),
+            any(Runnable.class))).willAnswer(invocation -> {
+            if (acquired) {
+                invocation.<Runnable>getArgument(2).run();
+            }
+            return acquired;
+        });
+    }
+}
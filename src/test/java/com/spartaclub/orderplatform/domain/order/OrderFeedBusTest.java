@@ -0,0 +1,243 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent;
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent.Type;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.domain.order.infrastructure.feed.OrderFeedBus;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class OrderFeedBusTest {
+
+    private static final int BUFFER_SIZE = 2;
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(1);
+
+    private final UUID STORE_ID = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderFeedBus orderFeedBus;
+
+    // 다음 구독에 사용할 SSE 연결 (비어 있으면 기본 연결)
+    private final BlockingQueue<RecordingEmitter> nextEmitters = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderFeedBus = new OrderFeedBus(meterRegistry, BUFFER_SIZE, 3, Duration.ofSeconds(15),
+            Duration.ofMinutes(1), 2, SEND_TIMEOUT) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = nextEmitters.poll();
+                return emitter != null ? emitter : super.createEmitter(timeoutMillis);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderFeedBus.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독한 가게만 채널이 생성됨")
+    void subscribe_registersChannel() {
+        assertThat(orderFeedBus.hasSubscribers()).isFalse();
+
+        orderFeedBus.subscribe(STORE_ID);
+
+        assertThat(orderFeedBus.hasSubscribers()).isTrue();
+        assertThat(orderFeedBus.hasSubscribers(STORE_ID)).isTrue();
+        assertThat(orderFeedBus.hasSubscribers(UUID.randomUUID())).isFalse();
+        assertThat(meterRegistry.get("order.feed.subscribers").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("구독 한도를 넘으면 FEED_CAPACITY_EXCEEDED")
+    void subscribe_capacityExceeded() {
+        orderFeedBus.subscribe(STORE_ID);
+        orderFeedBus.subscribe(UUID.randomUUID());
+        orderFeedBus.subscribe(UUID.randomUUID());
+
+        assertThatThrownBy(() -> orderFeedBus.subscribe(STORE_ID))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.FEED_CAPACITY_EXCEEDED);
+        assertThat(meterRegistry.get("order.feed.subscribers").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("order.feed.subscriptions.rejected").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 가게의 이벤트는 발행하지 않음")
+    void publish_onlySubscribedStores() {
+        orderFeedBus.subscribe(STORE_ID);
+
+        orderFeedBus.publish(List.of(event(STORE_ID), event(UUID.randomUUID())));
+
+        assertThat(meterRegistry.get("order.feed.events.published").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발행한 이벤트가 구독자에게 주문 ID와 유형으로 전달됨")
+    void publish_deliversToSubscriber() throws InterruptedException {
+        RecordingEmitter emitter = subscribe(STORE_ID, null);
+        OrderFeedEvent event = event(STORE_ID);
+
+        orderFeedBus.publish(List.of(event));
+
+        assertThat(emitter.nextEvent()).contains("id:" + event.orderId(), "event:PLACED");
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 버퍼를 넘는 오래된 이벤트부터 버리고 최신 이벤트는 순서대로 받음")
+    void publish_slowSubscriberDropsOldest() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        RecordingEmitter emitter = subscribe(STORE_ID, stalled);
+        List<OrderFeedEvent> events = IntStream.range(0, 10)
+            .mapToObj(i -> event(STORE_ID))
+            .toList();
+
+        events.forEach(event -> orderFeedBus.publish(List.of(event)));
+        stalled.countDown();
+
+        List<String> delivered = new ArrayList<>();
+        String last = "id:" + events.get(events.size() - 1).orderId();
+        while (delivered.isEmpty() || !delivered.get(delivered.size() - 1).contains(last)) {
+            String next = emitter.nextEvent();
+            assertThat(next).as("최신 이벤트 전달").isNotNull();
+            delivered.add(next);
+        }
+        double dropped = meterRegistry.get("order.feed.events.dropped").counter().count();
+
+        // 전송 중 1건 + 합류 대기 1건 + 버퍼만큼만 남고 나머지는 버려짐
+        assertThat(dropped).isGreaterThanOrEqualTo(events.size() - (BUFFER_SIZE + 2));
+        assertThat(delivered.size() + dropped).isEqualTo(events.size());
+        List<Integer> order = delivered.stream()
+            .map(sent -> IntStream.range(0, events.size())
+                .filter(i -> sent.contains("id:" + events.get(i).orderId()))
+                .findFirst().orElseThrow())
+            .toList();
+        assertThat(order).isSorted();
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 구독자가 있어도 다른 구독자는 이벤트를 받음")
+    void publish_stalledSubscriberDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        UUID otherStoreId = UUID.randomUUID();
+        subscribe(STORE_ID, stalled);
+        RecordingEmitter sameStore = subscribe(STORE_ID, null);
+        RecordingEmitter otherStore = subscribe(otherStoreId, null);
+
+        try {
+            orderFeedBus.publish(List.of(event(STORE_ID)));
+            assertThat(sameStore.nextEvent()).contains("event:PLACED");
+
+            orderFeedBus.publish(List.of(event(otherStoreId)));
+            assertThat(otherStore.nextEvent()).contains("event:PLACED");
+        } finally {
+            stalled.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간을 넘긴 구독자는 강제 해제되고 전송 스레드를 돌려받음")
+    void publish_stalledSubscriberIsEvicted() throws InterruptedException {
+        // 전송 스레드(2개)를 모두 점유하는 멈춘 구독자
+        CountDownLatch stalled = new CountDownLatch(1);
+        UUID otherStoreId = UUID.randomUUID();
+        subscribe(STORE_ID, stalled);
+        subscribe(STORE_ID, stalled);
+        RecordingEmitter otherStore = subscribe(otherStoreId, null);
+
+        try {
+            orderFeedBus.publish(List.of(event(STORE_ID)));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (orderFeedBus.hasSubscribers(STORE_ID) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(orderFeedBus.hasSubscribers(STORE_ID)).isFalse();
+            assertThat(meterRegistry.get("order.feed.subscriptions.evicted").counter().count())
+                .isEqualTo(2.0);
+            assertThat(meterRegistry.get("order.feed.subscribers").gauge().value())
+                .isEqualTo(1.0);
+
+            orderFeedBus.publish(List.of(event(otherStoreId)));
+            assertThat(otherStore.nextEvent()).contains("event:PLACED");
+        } finally {
+            stalled.countDown();
+        }
+    }
+
+    private RecordingEmitter subscribe(UUID storeId, CountDownLatch stalled) {
+        RecordingEmitter emitter = new RecordingEmitter(stalled);
+        nextEmitters.add(emitter);
+        orderFeedBus.subscribe(storeId);
+        return emitter;
+    }
+
+    private OrderFeedEvent event(UUID storeId) {
+        return new OrderFeedEvent(Type.PLACED, UUID.randomUUID(), storeId,
+            OrderStatus.PAYMENT_PENDING, 10000L, 1, LocalDateTime.now());
+    }
+
+    /**
+     * 전송한 이벤트를 기록하는 SSE 연결 (stalled가 있으면 풀릴 때까지 이벤트 전송이 멈춘 클라이언트처럼 블로킹)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch stalled;
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        private RecordingEmitter(CountDownLatch stalled) {
+            super(60_000L);
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String event = builder.build().stream()
+                .map(data -> String.valueOf(data.getData()))
+                .collect(Collectors.joining());
+            if (!event.contains("event:")) {
+                return; // 연결/heartbeat 주석
+            }
+            if (stalled != null) {
+                try {
+                    stalled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.add(event);
+        }
+
+        private String nextEvent() throws InterruptedException {
+            return sent.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent;
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedEvent.Type;
+import com.spartaclub.orderplatform.domain.order.application.event.OrderFeedSignal;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderFeedService;
+import com.spartaclub.orderplatform.domain.order.application.service.StoreAccessChecker;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.infrastructure.feed.OrderFeedBroadcaster;
+import com.spartaclub.orderplatform.domain.order.infrastructure.feed.OrderFeedBus;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxAppendedEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderFeedServiceTest {
+
+    @Mock
+    private OrderFeedBus orderFeedBus;
+    @Mock
+    private OrderFeedBroadcaster orderFeedBroadcaster;
+    @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
+    private StoreAccessChecker storeAccessChecker;
+
+    @InjectMocks
+    private OrderFeedService orderFeedService;
+
+    private final UUID STORE_ID = UUID.randomUUID();
+    private final LocalDateTime NOW = LocalDateTime.of(2025, 10, 15, 12, 0);
+
+    @Test
+    @DisplayName("기록된 주문 이벤트와 결제 승인만 피드 신호로 브로드캐스트")
+    void onAppended_broadcastsFeedSignals() {
+        // given
+        UUID placedId = UUID.randomUUID();
+        UUID capturedOrderId = UUID.randomUUID();
+        List<OutboxEvent> events = List.of(
+            OutboxEvent.of(OutboxEventType.ORDER_PLACED, placedId,
+                Map.of("storeId", STORE_ID.toString(), "status", "PAYMENT_PENDING"), NOW),
+            OutboxEvent.of(OutboxEventType.PAYMENT_STATUS_CHANGED, UUID.randomUUID(),
+                Map.of("orderId", UUID.randomUUID().toString(), "status", "FAILED"), NOW),
+            OutboxEvent.of(OutboxEventType.PAYMENT_STATUS_CHANGED, UUID.randomUUID(),
+                Map.of("orderId", capturedOrderId.toString(), "status", "CAPTURED"), NOW));
+
+        // when
+        orderFeedService.onAppended(new OutboxAppendedEvent(events));
+
+        // then
+        then(orderFeedBroadcaster).should().broadcast(List.of(
+            new OrderFeedSignal(Type.PLACED, placedId, NOW),
+            new OrderFeedSignal(Type.PAYMENT_CAPTURED, capturedOrderId, NOW)));
+    }
+
+    @Test
+    @DisplayName("받은 신호는 이 노드에 구독자가 있는 가게의 주문만 피드 이벤트로 발행")
+    void deliver_publishesForSubscribedStores() {
+        // given
+        OrderReadModel subscribed = view(STORE_ID);
+        OrderReadModel other = view(UUID.randomUUID());
+        given(subscribed.getStatus()).willReturn(OrderStatus.ACCEPTED);
+        given(orderFeedBus.hasSubscribers()).willReturn(true);
+        given(orderFeedBus.hasSubscribers(STORE_ID)).willReturn(true);
+        given(orderFeedBus.hasSubscribers(other.getStoreId())).willReturn(false);
+        given(orderViewRepository.findAllById(anyCollection()))
+            .willReturn(List.of(subscribed, other));
+
+        // when
+        orderFeedService.deliver(List.of(
+            new OrderFeedSignal(Type.STATUS_CHANGED, subscribed.getOrderId(), NOW),
+            new OrderFeedSignal(Type.STATUS_CHANGED, other.getOrderId(), NOW)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderFeedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(orderFeedBus).should().publish(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(event -> {
+            assertThat(event.orderId()).isEqualTo(subscribed.getOrderId());
+            assertThat(event.type()).isEqualTo(Type.STATUS_CHANGED);
+            assertThat(event.status()).isEqualTo(OrderStatus.ACCEPTED);
+            assertThat(event.occurredAt()).isEqualTo(NOW);
+        });
+    }
+
+    @Test
+    @DisplayName("이 노드에 구독자가 없으면 조회 모델을 읽지 않음")
+    void deliver_withoutSubscribers_skipsViewLookup() {
+        given(orderFeedBus.hasSubscribers()).willReturn(false);
+
+        orderFeedService.deliver(
+            List.of(new OrderFeedSignal(Type.PLACED, UUID.randomUUID(), NOW)));
+
+        then(orderViewRepository).shouldHaveNoInteractions();
+        then(orderFeedBus).should().hasSubscribers();
+        then(orderFeedBus).shouldHaveNoMoreInteractions();
+    }
+
+    private static OrderReadModel view(UUID storeId) {
+        OrderReadModel view = mock(OrderReadModel.class);
+        given(view.getOrderId()).willReturn(UUID.randomUUID());
+        given(view.getStoreId()).willReturn(storeId);
+        return view;
+    }
+}
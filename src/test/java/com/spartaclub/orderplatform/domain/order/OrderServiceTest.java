@@ -2,15 +2,19 @@ package com.spartaclub.orderplatform.domain.order;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.BDDMockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.doReturn;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.mock;
 
 import com.spartaclub.orderplatform.domain.order.application.command.PlaceOrderCommand;
@@ -19,23 +23,43 @@ import com.spartaclub.orderplatform.domain.order.application.mapper.OrderMapper;
 import com.spartaclub.orderplatform.domain.order.application.query.StoreQuery;
 import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
 import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
 import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
 import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.ProductReaderRepository;
 import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.domain.order.exception.ProductRefErrorCode;
+import com.spartaclub.orderplatform.domain.order.exception.StoreRefErrorCode;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto.OrderItemRequest;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkOrderStatusResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkOrderStatusResponseDto.FailedOrder;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkPlaceOrderResponseDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.BulkPlaceOrderResponseDto.PlacedOrder;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.OrderStatusResponseDto;
 import com.spartaclub.orderplatform.domain.order.presentation.dto.response.PlaceOrderResponseDto;
 import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
 import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -47,11 +71,15 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
     private OrderMapper orderMapper;
     @Mock
     private ProductReaderRepository productReaderRepository;
     @Mock
     private StoreReaderRepository storeReaderRepository;
+    @Mock
+    private OutboxService outboxService;
 
     // spy로 만들어 loadStoreSummaryInfo만 스텁해 흐름 단순화
     @Spy
@@ -104,12 +132,16 @@ class OrderServiceTest {
         // loadStoreSummaryInfo(query, userId) → spy 메서드 스텁
         StoreInfoDto storeInfo = mock(StoreInfoDto.class);
         given(storeInfo.storeId()).willReturn(STORE_ID);
+        given(storeInfo.ownerId()).willReturn(1L);
         doReturn(storeInfo).when(orderService)
             .loadStoreSummaryInfo(any(StoreQuery.class), anyLong());
 
         // 저장 시 orderId가 세팅된 Order 반환
         Order saved = mock(Order.class);
         given(saved.getOrderId()).willReturn(ORDER_ID);
+        given(saved.getStoreId()).willReturn(STORE_ID);
+        given(saved.getStatus()).willReturn(OrderStatus.PAYMENT_PENDING);
+        given(saved.getUser()).willReturn(user);
         given(orderRepository.save(any(Order.class))).willReturn(saved);
 
         // when
@@ -124,22 +156,22 @@ class OrderServiceTest {
             items.stream().map(OrderItemRequest::productId).toList())));
         verify(orderRepository).save(any(Order.class));
         verify(orderMapper, times(items.size())).toCommand(any(OrderItemRequest.class));
+        verify(orderViewRepository).saveAll(argThat(views -> views.size() == 1
+            && views.get(0).getOrderId().equals(ORDER_ID) && views.get(0).getOwnerId() == 1L));
+        verify(outboxService).append(eq(OutboxEventType.ORDER_PLACED), eq(ORDER_ID),
+            argThat(payload -> STORE_ID.toString().equals(payload.get("storeId"))));
     }
 
     // ---------------------------------------------------------
     // cancelOrder
     // ---------------------------------------------------------
     @Test
-    @DisplayName("주문 취소: 취소 가능 검증 후 CANCELED로 상태 변경")
+    @DisplayName("주문 취소: 조건부 UPDATE로 CANCELED 전이, 주문 조회 없음")
     void cancelOrder_success() {
         // given
-        User domainUser = mockUser(99L);
         UserDetailsImpl principal = mock(UserDetailsImpl.class);
-
-        Order order = mock(Order.class);
-        doNothing().when(order).checkCancelable();
-
-        doReturn(order).when(orderService).findById(ORDER_ID);
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.CANCEL),
+            any(LocalDateTime.class))).willReturn(true);
 
         // when
         OrderStatusResponseDto resp = orderService.cancelOrder(principal, ORDER_ID);
@@ -147,21 +179,52 @@ class OrderServiceTest {
         // then
         assertThat(resp.orderId()).isEqualTo(ORDER_ID);
         assertThat(resp.status()).isEqualTo(OrderStatus.CANCELED);
-        verify(order).checkCancelable();
-        verify(order).changeStatus(OrderStatus.CANCELED);
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("주문 취소 실패: 반영 0건이면 주문 검증으로 실패 사유 판별")
+    void cancelOrder_notApplied_mapsErrorCode() {
+        // given
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.CANCEL),
+            any(LocalDateTime.class))).willReturn(false);
+
+        Order order = mock(Order.class);
+        willThrow(new BusinessException(OrderErrorCode.CANCELLATION_WINDOW_EXPIRED))
+            .given(order).checkCancelable();
+        doReturn(order).when(orderService).findById(ORDER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancelOrder(mock(UserDetailsImpl.class), ORDER_ID))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.CANCELLATION_WINDOW_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("주문 취소 실패: 주문이 없으면 NOT_EXIST")
+    void cancelOrder_notExist() {
+        // given
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.CANCEL),
+            any(LocalDateTime.class))).willReturn(false);
+        given(orderRepository.findById(ORDER_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancelOrder(mock(UserDetailsImpl.class), ORDER_ID))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.NOT_EXIST);
     }
 
     // ---------------------------------------------------------
     // acceptOrder
     // ---------------------------------------------------------
     @Test
-    @DisplayName("주문 승인: 검증 후 ACCEPTED로 상태 변경")
+    @DisplayName("주문 승인: 조건부 UPDATE로 ACCEPTED 전이")
     void acceptOrder_success() {
         // given
-        Order order = mock(Order.class);
-        doNothing().when(order).checkAcceptable();
-
-        doReturn(order).when(orderService).findById(ORDER_ID);
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.ACCEPT),
+            any(LocalDateTime.class))).willReturn(true);
 
         // when
         OrderStatusResponseDto resp = orderService.acceptOrder(mock(UserDetailsImpl.class),
@@ -169,21 +232,37 @@ class OrderServiceTest {
 
         // then
         assertThat(resp.status()).isEqualTo(OrderStatus.ACCEPTED);
+        verify(outboxService).append(OutboxEventType.ORDER_STATUS_CHANGED, ORDER_ID,
+            Map.of("status", OrderStatus.ACCEPTED.name()));
+    }
+
+    @Test
+    @DisplayName("주문 승인 실패: 검증은 통과했지만 반영 0건(동시 변경)이면 INVALID_STATUS_FOR_ACCEPT")
+    void acceptOrder_concurrentChange() {
+        // given
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.ACCEPT),
+            any(LocalDateTime.class))).willReturn(false);
+
+        Order order = mock(Order.class);
+        doReturn(order).when(orderService).findById(ORDER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.acceptOrder(mock(UserDetailsImpl.class), ORDER_ID))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(OrderErrorCode.INVALID_STATUS_FOR_ACCEPT);
         verify(order).checkAcceptable();
-        verify(order).changeStatus(OrderStatus.ACCEPTED);
     }
 
     // ---------------------------------------------------------
     // rejectOrder
     // ---------------------------------------------------------
     @Test
-    @DisplayName("주문 거부: 검증 후 REJECTED로 상태 변경")
+    @DisplayName("주문 거부: 조건부 UPDATE로 REJECTED 전이")
     void rejectOrder_success() {
         // given
-        Order order = mock(Order.class);
-        doNothing().when(order).checkRejectable();
-
-        doReturn(order).when(orderService).findById(ORDER_ID);
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.REJECT),
+            any(LocalDateTime.class))).willReturn(true);
 
         // when
         OrderStatusResponseDto resp = orderService.rejectOrder(mock(UserDetailsImpl.class),
@@ -191,21 +270,17 @@ class OrderServiceTest {
 
         // then
         assertThat(resp.status()).isEqualTo(OrderStatus.REJECTED);
-        verify(order).checkRejectable();
-        verify(order).changeStatus(OrderStatus.REJECTED);
     }
 
     // ---------------------------------------------------------
     // completeDelivery
     // ---------------------------------------------------------
     @Test
-    @DisplayName("배달 완료: 검증 후 DELIVERED로 상태 변경")
+    @DisplayName("배달 완료: 조건부 UPDATE로 DELIVERED 전이")
     void completeDelivery_success() {
         // given
-        Order order = mock(Order.class);
-        doNothing().when(order).checkDeliverable();
-
-        doReturn(order).when(orderService).findById(ORDER_ID);
+        given(orderRepository.transition(eq(ORDER_ID), eq(OrderTransition.COMPLETE_DELIVERY),
+            any(LocalDateTime.class))).willReturn(true);
 
         // when
         OrderStatusResponseDto resp = orderService.completeDelivery(mock(UserDetailsImpl.class),
@@ -213,8 +288,166 @@ class OrderServiceTest {
 
         // then
         assertThat(resp.status()).isEqualTo(OrderStatus.DELIVERED);
-        verify(order).checkDeliverable();
-        verify(order).changeStatus(OrderStatus.DELIVERED);
     }
-}
 
+    // ---------------------------------------------------------
+    // acceptOrders (bulk)
+    // ---------------------------------------------------------
+    @Test
+    @DisplayName("일괄 승인: 본인 가게 범위로 전이하고 전이 불가/없는 주문을 구분해 응답")
+    void acceptOrders_partial() {
+        // given
+        UUID notAcceptable = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UserDetailsImpl owner = ownerDetails(20L);
+        given(storeReaderRepository.loadStoreIdsByOwner(20L)).willReturn(Set.of(STORE_ID));
+        given(orderRepository.transitionAllInStores(anyCollection(), eq(Set.of(STORE_ID)),
+            eq(OrderTransition.ACCEPT), any(LocalDateTime.class))).willReturn(List.of(ORDER_ID));
+        given(orderRepository.findIdsInStores(List.of(notAcceptable, missing), Set.of(STORE_ID)))
+            .willReturn(List.of(notAcceptable));
+
+        // when
+        BulkOrderStatusResponseDto resp = orderService.acceptOrders(
+            owner, List.of(ORDER_ID, notAcceptable, ORDER_ID, missing));
+
+        // then
+        assertThat(resp.status()).isEqualTo(OrderStatus.ACCEPTED);
+        assertThat(resp.updatedOrderIds()).containsExactly(ORDER_ID);
+        assertThat(resp.failedOrders()).extracting(FailedOrder::orderId)
+            .containsExactly(notAcceptable, missing);
+        assertThat(resp.failedOrders()).extracting(FailedOrder::code).containsExactly(
+            OrderErrorCode.INVALID_STATUS_FOR_ACCEPT.getCode(),
+            OrderErrorCode.NOT_EXIST.getCode());
+        verify(outboxService).appendAll(argThat(events -> events.size() == 1
+            && events.get(0).getAggregateId().equals(ORDER_ID)
+            && events.get(0).getEventType() == OutboxEventType.ORDER_STATUS_CHANGED));
+    }
+
+    @Test
+    @DisplayName("일괄 거부: 가게가 없는 오너는 UPDATE 없이 모두 없는 주문으로 응답")
+    void rejectOrders_noOwnedStores() {
+        // given
+        given(storeReaderRepository.loadStoreIdsByOwner(30L)).willReturn(Set.of());
+
+        // when
+        BulkOrderStatusResponseDto resp = orderService.rejectOrders(ownerDetails(30L),
+            List.of(ORDER_ID));
+
+        // then
+        assertThat(resp.updatedOrderIds()).isEmpty();
+        assertThat(resp.failedOrders()).extracting(FailedOrder::code)
+            .containsExactly(OrderErrorCode.NOT_EXIST.getCode());
+        verify(orderRepository, never()).transitionAllInStores(anyCollection(), anyCollection(),
+            any(), any());
+    }
+
+    private UserDetailsImpl ownerDetails(long userId) {
+        User user = mock(User.class);
+        given(user.getUserId()).willReturn(userId);
+        UserDetailsImpl userDetails = mock(UserDetailsImpl.class);
+        given(userDetails.getUser()).willReturn(user);
+        return userDetails;
+    }
+
+    // ---------------------------------------------------------
+    // applyPaymentResult (PG 통지)
+    // ---------------------------------------------------------
+    @Test
+    @DisplayName("결제 결과 반영: 전이된 주문만 아웃박스 기록, 전이 불가 주문은 무시")
+    void applyPaymentResult_appendsOnlyTransitioned() {
+        // given
+        UUID other = UUID.randomUUID();
+        given(orderRepository.transitionAll(anyCollection(), eq(OrderTransition.PAY),
+            any(LocalDateTime.class))).willReturn(List.of(ORDER_ID));
+
+        // when
+        List<UUID> updated = orderService.applyPaymentResult(List.of(ORDER_ID, other),
+            OrderTransition.PAY);
+
+        // then
+        assertThat(updated).containsExactly(ORDER_ID);
+        verify(outboxService).appendAll(argThat(events -> events.size() == 1
+            && events.get(0).getAggregateId().equals(ORDER_ID)
+            && "PAID".equals(events.get(0).attribute("status"))));
+    }
+
+    // ---------------------------------------------------------
+    // placeOrders (bulk)
+    // ---------------------------------------------------------
+    @Test
+    @DisplayName("일괄 주문: 가게/상품을 IN 조회 1회씩으로 검증하고 통과한 주문만 일괄 저장, 순번별 결과 응답")
+    void placeOrders_partial() {
+        // given
+        UUID otherStoreId = UUID.randomUUID();
+        Product product = product(STORE_ID);
+        given(product.getProductName()).willReturn("짜장면");
+        given(product.getPrice()).willReturn(7000L);
+        Product otherStoreProduct = product(otherStoreId);
+
+        List<PlaceOrderRequestDto> requests = List.of(
+            placeRequest(STORE_ID, product.getProductId()),                // 0: 성공
+            placeRequest(UUID.randomUUID(), product.getProductId()),       // 1: 가게 없음
+            placeRequest(STORE_ID, UUID.randomUUID()),                     // 2: 상품 없음
+            placeRequest(STORE_ID, otherStoreProduct.getProductId())       // 3: 다른 가게 상품
+        );
+
+        given(storeReaderRepository.loadStoreSummaryInfos(anyCollection())).willReturn(Map.of(
+            STORE_ID, new StoreSummary(STORE_ID, "가게", 1L),
+            otherStoreId, new StoreSummary(otherStoreId, "다른 가게", 2L)));
+        given(productReaderRepository.findByProductIdIn(anyList()))
+            .willReturn(List.of(product, otherStoreProduct));
+        given(orderMapper.toCommand(any(OrderItemRequest.class))).willAnswer(invocation -> {
+            OrderItemRequest item = invocation.getArgument(0);
+            return new PlaceOrderCommand(item.productId(), item.quantity());
+        });
+
+        User user = mockUser(10L);
+        Order saved = mock(Order.class);
+        given(saved.getOrderId()).willReturn(ORDER_ID);
+        given(saved.getStoreId()).willReturn(STORE_ID);
+        given(saved.getStatus()).willReturn(OrderStatus.PAYMENT_PENDING);
+        given(saved.getUser()).willReturn(user);
+        given(orderRepository.saveAll(anyList())).willReturn(List.of(saved));
+
+        // when
+        BulkPlaceOrderResponseDto resp = orderService.placeOrders(requests, user);
+
+        // then
+        assertThat(resp.placedOrders()).containsExactly(new PlacedOrder(0, ORDER_ID));
+        assertThat(resp.failedOrders()).containsExactly(
+            new BulkPlaceOrderResponseDto.FailedOrder(1, StoreRefErrorCode.NOT_EXIST.getCode()),
+            new BulkPlaceOrderResponseDto.FailedOrder(2, ProductRefErrorCode.NOT_EXIST.getCode()),
+            new BulkPlaceOrderResponseDto.FailedOrder(3,
+                ProductRefErrorCode.STORE_MISMATCH.getCode()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+            .satisfies(order -> assertThat(order.getTotalPrice()).isEqualTo(14000L));
+        verify(storeReaderRepository, times(1)).loadStoreSummaryInfos(anyCollection());
+        verify(productReaderRepository, times(1)).findByProductIdIn(anyList());
+        verify(orderRepository, never()).save(any(Order.class));
+
+        // 저장된 주문만 조회 모델 생성, 가게 소유자 ID 기록
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderReadModel>> viewCaptor = ArgumentCaptor.forClass(List.class);
+        verify(orderViewRepository).saveAll(viewCaptor.capture());
+        assertThat(viewCaptor.getValue()).singleElement()
+            .satisfies(view -> assertThat(view.getOwnerId()).isEqualTo(1L));
+    }
+
+    private Product product(UUID storeId) {
+        Store store = mock(Store.class);
+        given(store.getStoreId()).willReturn(storeId);
+        Product product = mock(Product.class);
+        given(product.getProductId()).willReturn(UUID.randomUUID());
+        given(product.getStore()).willReturn(store);
+        return product;
+    }
+
+    private PlaceOrderRequestDto placeRequest(UUID storeId, UUID productId) {
+        return new PlaceOrderRequestDto(storeId, "서울",
+            List.of(new OrderItemRequest(productId, 2)), "메모");
+    }
+}
@@ -0,0 +1,97 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderViewService;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderViewService.ReconcileResult;
+import com.spartaclub.orderplatform.domain.order.infrastructure.scheduler.OrderViewScheduler;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import com.spartaclub.orderplatform.global.application.lock.SchedulerLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderViewSchedulerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private OrderViewService orderViewService;
+    private SchedulerLockService schedulerLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderViewScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        orderViewService = mock(OrderViewService.class);
+        schedulerLockService = mock(SchedulerLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new OrderViewScheduler(orderViewService,
+            new ChunkedJobRunner(schedulerLockService), meterRegistry, CHUNK_SIZE, 100,
+            Duration.ofHours(2));
+    }
+
+    @Test
+    @DisplayName("이전 청크의 마지막 위치에서 이어서 보정하고 검사 건수를 메트릭으로 기록")
+    void reconcileOrderViews_continuesFromLastCursor() {
+        runTaskWhenLocked(true);
+        OrderCursor first = new OrderCursor(LocalDateTime.of(2025, 1, 1, 0, 0), UUID.randomUUID());
+        given(orderViewService.reconcileChunk(any(OrderCursor.class), eq(CHUNK_SIZE)))
+            .willReturn(new ReconcileResult(CHUNK_SIZE, 1, 0, first),
+                new ReconcileResult(1, 0, 1,
+                    new OrderCursor(LocalDateTime.of(2025, 1, 2, 0, 0), UUID.randomUUID())));
+
+        scheduler.reconcileOrderViews();
+
+        then(orderViewService).should().reconcileChunk(first, CHUNK_SIZE);
+        assertThat(meterRegistry.get("order.view.reconcile.scanned").counter().count())
+            .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 중이면 실행하지 않음")
+    void reconcileOrderViews_skipsWhenLocked() {
+        runTaskWhenLocked(false);
+
+        scheduler.reconcileOrderViews();
+
+        then(orderViewService).should(never()).reconcileChunk(any(), eq(CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("기동 시 조회 모델이 없는 주문이 있을 때만 보정 실행")
+    void backfillOnStartup_onlyWhenViewsMissing() {
+        runTaskWhenLocked(true);
+        given(orderViewService.hasMissingViews()).willReturn(false);
+
+        scheduler.backfillOnStartup();
+        then(orderViewService).should(never()).reconcileChunk(any(), eq(CHUNK_SIZE));
+
+        given(orderViewService.hasMissingViews()).willReturn(true);
+        given(orderViewService.reconcileChunk(any(OrderCursor.class), eq(CHUNK_SIZE)))
+            .willReturn(new ReconcileResult(0, 0, 0, null));
+
+        scheduler.backfillOnStartup();
+        then(orderViewService).should().reconcileChunk(any(), eq(CHUNK_SIZE));
+    }
+
+    private void runTaskWhenLocked(boolean acquired) {
+        given(schedulerLockService.runExclusively(eq("order-view-reconcile"),
+            any(Duration.class), any(Runnable.class))).willAnswer(invocation -> {
+            if (acquired) {
+                invocation.<Runnable>getArgument(2).run();
+            }
+            return acquired;
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.spartaclub.orderplatform.domain.order.application.query.OrderCursor;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderViewService;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderViewService.ReconcileResult;
+import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderStatus;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreReaderRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.dto.StoreSummary;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
+    private StoreReaderRepository storeReaderRepository;
+
+    @InjectMocks
+    private OrderViewService orderViewService;
+
+    private final UUID STORE_ID = UUID.randomUUID();
+    private final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 10, 15, 12, 0);
+    private final OrderCursor FIRST = new OrderCursor(LocalDateTime.of(1970, 1, 1, 0, 0),
+        new UUID(0L, 0L));
+
+    @Test
+    @DisplayName("조회 모델이 없는 주문은 가게 소유자 ID와 함께 생성, 상태가 다른 행은 주문 기준으로 보정")
+    void reconcileChunk_createsMissingAndCorrectsDrift() {
+        // given
+        Order synced = order(OrderStatus.PAID);
+        Order drifted = order(OrderStatus.PAID);
+        Order missing = order(OrderStatus.PAYMENT_PENDING);
+        given(orderRepository.findChunkWithProducts(FIRST, 3))
+            .willReturn(List.of(synced, drifted, missing));
+
+        OrderReadModel syncedView = OrderReadModel.of(synced, 1L);
+        given(drifted.getStatus()).willReturn(OrderStatus.PAYMENT_PENDING);
+        OrderReadModel driftedView = OrderReadModel.of(drifted, 1L);
+        given(drifted.getStatus()).willReturn(OrderStatus.ACCEPTED);
+        given(orderViewRepository.findAllById(anyCollection()))
+            .willReturn(List.of(syncedView, driftedView));
+        given(storeReaderRepository.loadStoreSummaryInfos(anyCollection()))
+            .willReturn(Map.of(STORE_ID, new StoreSummary(STORE_ID, "가게", 1L)));
+
+        // when
+        ReconcileResult result = orderViewService.reconcileChunk(FIRST, 3);
+
+        // then
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.corrected()).isEqualTo(1);
+        assertThat(result.last()).isEqualTo(
+            new OrderCursor(CREATED_AT, missing.getOrderId()));
+        assertThat(driftedView.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+        assertThat(syncedView.getStatus()).isEqualTo(OrderStatus.PAID);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderReadModel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderViewRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(view -> {
+            assertThat(view.getOrderId()).isEqualTo(missing.getOrderId());
+            assertThat(view.getOwnerId()).isEqualTo(1L);
+            assertThat(view.getStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+        });
+    }
+
+    @Test
+    @DisplayName("빈 청크면 조회 모델/가게 조회 없이 종료")
+    void reconcileChunk_empty() {
+        given(orderRepository.findChunkWithProducts(eq(FIRST), eq(500))).willReturn(List.of());
+
+        ReconcileResult result = orderViewService.reconcileChunk(FIRST, 500);
+
+        assertThat(result.scanned()).isZero();
+        verifyNoInteractions(orderViewRepository, storeReaderRepository);
+    }
+
+    private Order order(OrderStatus status) {
+        User user = mock(User.class);
+        given(user.getUserId()).willReturn(10L);
+        Order order = mock(Order.class);
+        given(order.getOrderId()).willReturn(UUID.randomUUID());
+        given(order.getUser()).willReturn(user);
+        given(order.getStoreId()).willReturn(STORE_ID);
+        given(order.getStatus()).willReturn(status);
+        given(order.getCreatedAt()).willReturn(CREATED_AT);
+        return order;
+    }
+}
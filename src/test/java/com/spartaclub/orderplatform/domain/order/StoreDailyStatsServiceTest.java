@@ -0,0 +1,155 @@
+package com.spartaclub.orderplatform.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.spartaclub.orderplatform.domain.order.application.service.StoreAccessChecker;
+import com.spartaclub.orderplatform.domain.order.application.service.StoreDailyStatsService;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderReadModel;
+import com.spartaclub.orderplatform.domain.order.domain.model.StoreDailyStatsDelta;
+import com.spartaclub.orderplatform.domain.order.domain.repository.OrderViewRepository;
+import com.spartaclub.orderplatform.domain.order.domain.repository.StoreDailyStatsRepository;
+import com.spartaclub.orderplatform.domain.order.exception.OrderErrorCode;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.response.StoreDailyStatsResponseDto;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class StoreDailyStatsServiceTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Mock
+    private StoreDailyStatsRepository storeDailyStatsRepository;
+    @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
+    private StoreAccessChecker storeAccessChecker;
+
+    @InjectMocks
+    private StoreDailyStatsService storeDailyStatsService;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storeDailyStatsService, "maxRangeDays", 366);
+    }
+
+    @Test
+    @DisplayName("승인/환불/배달/취소를 가게·일자별로 합산해 UPSERT 1회, 반영한 이벤트 기록")
+    void handle_aggregatesPerStoreAndDay() {
+        OrderReadModel first = view(10_000L);
+        OrderReadModel second = view(30_000L);
+        OutboxEvent paidFirst = paymentEvent(first, "CAPTURED");
+        OutboxEvent paidSecond = paymentEvent(second, "CAPTURED");
+        OutboxEvent refunded = paymentEvent(first, "REFUNDED");
+        OutboxEvent delivered = orderEvent(second, "DELIVERED");
+        OutboxEvent accepted = orderEvent(second, "ACCEPTED");
+        given(storeDailyStatsRepository.findAppliedEventIds(any())).willReturn(Set.of());
+        given(orderViewRepository.findAllById(any())).willReturn(List.of(first, second));
+
+        storeDailyStatsService.handle(List.of(paidFirst, paidSecond, refunded, delivered, accepted));
+
+        ArgumentCaptor<StoreDailyStatsDelta> delta =
+            ArgumentCaptor.forClass(StoreDailyStatsDelta.class);
+        then(storeDailyStatsRepository).should(times(1)).increment(delta.capture(), any());
+        assertThat(delta.getValue()).isEqualTo(new StoreDailyStatsDelta(storeId,
+            OCCURRED_AT.toLocalDate(), 2, 40_000L, 1, 10_000L, 1, 0));
+        then(storeDailyStatsRepository).should().markApplied(
+            List.of(paidFirst.getEventId(), paidSecond.getEventId(), refunded.getEventId(),
+                delivered.getEventId()), any());
+    }
+
+    @Test
+    @DisplayName("이미 반영한 이벤트는 다시 집계하지 않음")
+    void handle_skipsAppliedEvents() {
+        OrderReadModel order = view(10_000L);
+        OutboxEvent paid = paymentEvent(order, "CAPTURED");
+        given(storeDailyStatsRepository.findAppliedEventIds(any()))
+            .willReturn(Set.of(paid.getEventId()));
+
+        storeDailyStatsService.handle(List.of(paid));
+
+        then(storeDailyStatsRepository).should(never()).increment(any(), any());
+        then(storeDailyStatsRepository).should(never()).markApplied(any(), any());
+    }
+
+    @Test
+    @DisplayName("기간 조회: 집계가 없는 일자는 0, 합계/객단가 계산")
+    void getDailyStats_fillsMissingDays() {
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate to = LocalDate.of(2025, 10, 3);
+        given(storeDailyStatsRepository.findAllByStoreIdBetween(storeId, from, to))
+            .willReturn(List.of());
+
+        StoreDailyStatsResponseDto result = storeDailyStatsService.getDailyStats(storeId, from,
+            to, mock(User.class));
+
+        assertThat(result.days()).hasSize(3);
+        assertThat(result.days()).allSatisfy(day -> assertThat(day.stats().paidCount()).isZero());
+        assertThat(result.total().averageBasket()).isZero();
+    }
+
+    @Test
+    @DisplayName("기간 조회: 시작일이 종료일보다 늦으면 INVALID_STATS_RANGE")
+    void getDailyStats_invalidRange() {
+        assertThatThrownBy(() -> storeDailyStatsService.getDailyStats(storeId,
+            LocalDate.of(2025, 10, 3), LocalDate.of(2025, 10, 1), mock(User.class)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(OrderErrorCode.INVALID_STATS_RANGE);
+    }
+
+    private OrderReadModel view(long totalPrice) {
+        OrderReadModel view = mock(OrderReadModel.class);
+        UUID orderId = UUID.randomUUID();
+        given(view.getOrderId()).willReturn(orderId);
+        // 이미 반영된 이벤트만 있는 경우에는 조회되지 않음
+        lenient().when(view.getStoreId()).thenReturn(storeId);
+        lenient().when(view.getTotalPrice()).thenReturn(totalPrice);
+        return view;
+    }
+
+    private static OutboxEvent paymentEvent(OrderReadModel view, String status) {
+        return event(OutboxEventType.PAYMENT_STATUS_CHANGED, UUID.randomUUID(),
+            Map.of("orderId", view.getOrderId().toString(), "status", status));
+    }
+
+    private static OutboxEvent orderEvent(OrderReadModel view, String status) {
+        return event(OutboxEventType.ORDER_STATUS_CHANGED, view.getOrderId(),
+            Map.of("status", status));
+    }
+
+    // 식별자는 INSERT 시 생성되므로 테스트에서 직접 지정
+    private static OutboxEvent event(OutboxEventType type, UUID aggregateId,
+        Map<String, String> payload) {
+        OutboxEvent event = OutboxEvent.of(type, aggregateId, payload, OCCURRED_AT);
+        ReflectionTestUtils.setField(event, "eventId", UUID.randomUUID());
+        return event;
+    }
+}
@@ -0,0 +1,76 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto.OrderItemRequest;
+import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * PaymentController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class PaymentControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @Autowired
+    private OrderService orderService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("결제 상세 조회 API는 클래스 예산(8) 안에서 처리")
+    void getPaymentDetail_withinBudget() throws Exception {
+        // given
+        User owner = fixtures.owner();
+        User customer = fixtures.customer();
+        Store store = fixtures.approvedStore(owner);
+        Product product = fixtures.product(owner, store);
+        PlaceOrderRequestDto request = new PlaceOrderRequestDto(store.getStoreId(),
+            "서울특별시 종로구 사직로 161", List.of(new OrderItemRequest(product.getProductId(), 2)),
+            null);
+        UUID orderId = fixtures.runAs(customer,
+                () -> orderService.placeOrders(List.of(request), customer))
+            .placedOrders().get(0).orderId();
+        Payment payment = fixtures.persist(customer, Payment.ofStatus(
+            fixtures.find(Order.class, orderId), PaymentStatus.CAPTURED, 24000L));
+
+        // when & then
+        mockMvc.perform(get("/v1/payments/{paymentId}", payment.getPaymentId())
+                .with(fixtures.as(customer)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(8));
+    }
+}
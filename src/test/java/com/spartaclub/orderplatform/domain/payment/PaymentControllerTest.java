@@ -15,9 +15,12 @@ import com.spartaclub.orderplatform.domain.payment.presentation.controller.Payme
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.InitPaymentResponseDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentDetailResponseDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentsListResponseDto;
+import com.spartaclub.orderplatform.global.application.idempotency.IdempotencyService;
 import com.spartaclub.orderplatform.security.WithMockCustomUser;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -53,6 +56,19 @@ class PaymentControllerTest {
     // Service는 목으로 대체
     @MockitoBean
     PaymentService paymentService;
+    @MockitoBean
+    IdempotencyService idempotencyService;
+
+    // 멱등 처리는 작업을 그대로 실행
+    @BeforeEach
+    void setUp() {
+        Mockito.when(idempotencyService.execute(any(), any(), any(), any(), any(Supplier.class)))
+            .thenAnswer(inv -> inv.<Supplier<?>>getArgument(4).get());
+        Mockito.doAnswer(inv -> {
+            inv.<Runnable>getArgument(3).run();
+            return null;
+        }).when(idempotencyService).execute(any(), any(), any(), any(Runnable.class));
+    }
 
     // DTO들은 생성자/필드가 미정일 수 있어, 안전하게 Mockito.mock()으로 더미 객체를 사용합니다.
     @Test
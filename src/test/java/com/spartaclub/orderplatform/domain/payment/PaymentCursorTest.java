@@ -0,0 +1,42 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentCursor;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentCursorTest {
+
+    @Test
+    @DisplayName("encode → decode 시 (createdAt, paymentId)가 그대로 복원된다")
+    void encodeDecode_roundTrip() {
+        PaymentCursor cursor = new PaymentCursor(
+            LocalDateTime.of(2025, 10, 15, 12, 30, 45, 123_456_000), UUID.randomUUID());
+
+        PaymentCursor decoded = PaymentCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)로 해석된다")
+    void decode_blank_returnsNull() {
+        assertThat(PaymentCursor.decode("")).isNull();
+        assertThat(PaymentCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_CURSOR 예외")
+    void decode_invalid_throws() {
+        assertThatThrownBy(() -> PaymentCursor.decode("not-a-cursor"))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(PaymentErrorCode.INVALID_CURSOR);
+    }
+}
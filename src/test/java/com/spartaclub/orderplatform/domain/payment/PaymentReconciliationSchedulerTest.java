@@ -0,0 +1,91 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.Mismatch;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.MismatchType;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.ReconciliationReport;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.scheduler.PaymentReconciliationScheduler;
+import com.spartaclub.orderplatform.global.application.lock.SchedulerLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PaymentReconciliationSchedulerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 1);
+
+    @TempDir
+    private Path dir;
+
+    private PaymentReconciliationService paymentReconciliationService;
+    private SchedulerLockService schedulerLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentReconciliationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        paymentReconciliationService = mock(PaymentReconciliationService.class);
+        schedulerLockService = mock(SchedulerLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PaymentReconciliationScheduler(paymentReconciliationService,
+            schedulerLockService, meterRegistry, dir, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("정산 파일을 대사하고 불일치를 파일과 지표로 기록")
+    void reconcile_writesMismatchesAndMetrics() throws IOException {
+        Path settlementFile = Files.writeString(dir.resolve("settlement-20251001.csv"), "");
+        Mismatch mismatch = new Mismatch(MismatchType.AMOUNT, "ORD-1", UUID.randomUUID(),
+            "10000", "11000");
+        given(paymentReconciliationService.reconcile(eq(settlementFile), eq(DATE), any()))
+            .willAnswer(invocation -> {
+                invocation.<Consumer<Mismatch>>getArgument(2).accept(mismatch);
+                return report(Map.of(MismatchType.AMOUNT, 1L));
+            });
+
+        scheduler.reconcile(DATE);
+
+        assertThat(Files.readAllLines(dir.resolve("settlement-20251001.mismatches.csv")))
+            .containsExactly("type,pgOrderId,paymentId,expected,actual",
+                "AMOUNT,ORD-1," + mismatch.paymentId() + ",10000,11000");
+        assertThat(meterRegistry.get("payment.reconciliation.mismatches")
+            .tag("type", "AMOUNT").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("payment.reconciliation.throughput").gauge().value())
+            .isEqualTo(200.0);
+    }
+
+    @Test
+    @DisplayName("정산 파일이 없으면 대사 생략")
+    void reconcile_missingFile_skips() {
+        scheduler.reconcile(DATE);
+
+        then(paymentReconciliationService).should(never()).reconcile(any(), any(), any());
+    }
+
+    private static ReconciliationReport report(Map<MismatchType, Long> counts) {
+        Map<MismatchType, Long> mismatches = new EnumMap<>(MismatchType.class);
+        for (MismatchType type : MismatchType.values()) {
+            mismatches.put(type, counts.getOrDefault(type, 0L));
+        }
+        return new ReconciliationReport(100, 100, 99, mismatches, Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,129 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.Mismatch;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.MismatchType;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentReconciliationService.ReconciliationReport;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentReconciliationRow;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 1);
+    private static final LocalDateTime FROM = DATE.atStartOfDay();
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @TempDir
+    private Path dir;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @InjectMocks
+    private PaymentReconciliationService paymentReconciliationService;
+
+    @Test
+    @DisplayName("주문번호 순 병합 비교로 일치/상태/금액/결제키/누락 불일치를 구분")
+    void reconcile_reportsEachMismatchType() throws IOException {
+        Path file = Files.writeString(dir.resolve("settlement.csv"), """
+            orderId,paymentKey,status,amount
+            ORD-1,pk-1,DONE,10000
+            ORD-2,pk-2,CANCELED,20000
+            ORD-3,pk-3,DONE,30000
+            ORD-4,pk-4x,DONE,40000
+            ORD-5,pk-5,DONE,50000
+            ORD-7,pk-7,DONE,70000
+            """);
+        given(paymentRepository.streamForReconciliation(FROM, TO)).willReturn(Stream.of(
+            row("ORD-1", "pk-1", PaymentStatus.CAPTURED, 10000),
+            row("ORD-2", "pk-2", PaymentStatus.CAPTURED, 20000),
+            row("ORD-3", "pk-3", PaymentStatus.CAPTURED, 31000),
+            row("ORD-4", "pk-4", PaymentStatus.CAPTURED, 40000),
+            row("ORD-6", "pk-6", PaymentStatus.CAPTURED, 60000),
+            row("ORD-8", null, PaymentStatus.FAILED, 80000)));
+        List<Mismatch> mismatches = new ArrayList<>();
+
+        ReconciliationReport report = paymentReconciliationService.reconcile(file, DATE,
+            mismatches::add);
+
+        assertThat(mismatches).extracting(Mismatch::type, Mismatch::pgOrderId).containsExactly(
+            tuple(MismatchType.STATUS, "ORD-2"),
+            tuple(MismatchType.AMOUNT, "ORD-3"),
+            tuple(MismatchType.PAYMENT_KEY, "ORD-4"),
+            tuple(MismatchType.MISSING_PAYMENT, "ORD-5"),
+            tuple(MismatchType.MISSING_SETTLEMENT, "ORD-6"),
+            tuple(MismatchType.MISSING_PAYMENT, "ORD-7"));
+        assertThat(mismatches.get(1).expected()).isEqualTo("30000");
+        assertThat(mismatches.get(1).actual()).isEqualTo("31000");
+        assertThat(report.settlementRows()).isEqualTo(6);
+        assertThat(report.paymentRows()).isEqualTo(6);
+        assertThat(report.matched()).isEqualTo(1);
+        assertThat(report.mismatchCount()).isEqualTo(6);
+        assertThat(report.mismatches()).containsEntry(MismatchType.MISSING_PAYMENT, 2L);
+        assertThat(report.rowsPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("결제 조회 결과가 주문번호 순이 아니면 실패")
+    void reconcile_unsortedPayments_fails() throws IOException {
+        Path file = Files.writeString(dir.resolve("settlement.csv"), "ORD-9,pk-9,DONE,100\n");
+        given(paymentRepository.streamForReconciliation(FROM, TO)).willReturn(Stream.of(
+            row("ORD-2", "pk-2", PaymentStatus.CAPTURED, 100),
+            row("ORD-1", "pk-1", PaymentStatus.CAPTURED, 100)));
+
+        assertThatThrownBy(() -> paymentReconciliationService.reconcile(file, DATE, m -> {
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("자정 직전 생성되어 자정 이후 승인된 결제는 승인일 정산 파일과 대사")
+    void reconcile_crossMidnight_usesStatusChangeDate() throws IOException {
+        // 전날 23:59 생성(결제 대기) → 정산일 00:01 승인, 정산 파일은 승인일(DATE)에만 포함
+        Path previousDay = Files.writeString(dir.resolve("previous.csv"), "");
+        Path settlementDay = Files.writeString(dir.resolve("settlement.csv"),
+            "ORD-1,pk-1,DONE,10000\n");
+        given(paymentRepository.streamForReconciliation(FROM.minusDays(1), FROM))
+            .willReturn(Stream.empty());
+        given(paymentRepository.streamForReconciliation(FROM, TO)).willReturn(Stream.of(
+            row("ORD-1", "pk-1", PaymentStatus.CAPTURED, 10000)));
+        List<Mismatch> mismatches = new ArrayList<>();
+
+        ReconciliationReport previous = paymentReconciliationService.reconcile(previousDay,
+            DATE.minusDays(1), mismatches::add);
+        ReconciliationReport current = paymentReconciliationService.reconcile(settlementDay,
+            DATE, mismatches::add);
+
+        assertThat(mismatches).isEmpty();
+        assertThat(previous.paymentRows()).isZero();
+        assertThat(current.matched()).isEqualTo(1);
+    }
+
+    private static PaymentReconciliationRow row(String pgOrderId, String pgPaymentKey,
+        PaymentStatus status, long amount) {
+        return new PaymentReconciliationRow(pgOrderId, UUID.randomUUID(), pgPaymentKey, status,
+            amount);
+    }
+}
@@ -0,0 +1,129 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.payment.application.PaymentRecoveryService;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentRecoveryService.RecoveryResult;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentStateService;
+import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.TossPaymentsClient;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentRecoveryServiceTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentStateService paymentStateService;
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+
+    @InjectMocks
+    private PaymentRecoveryService paymentRecoveryService;
+
+    @Test
+    @DisplayName("승인 중단: PG가 승인 완료(DONE)면 CAPTURED로 확정")
+    void recover_confirmDone_captured() {
+        Payment payment = stale(PgOperation.CONFIRM, "pk-1");
+        given(paymentRepository.findStalePgOperations(BEFORE, 10)).willReturn(List.of(payment));
+        given(tossPaymentsClient.getPayment("pk-1")).willReturn(Optional.of(pg("pk-1", "DONE")));
+        given(paymentStateService.complete(payment.getPaymentId(), PgOperation.CONFIRM,
+            PaymentStatus.CAPTURED)).willReturn(true);
+
+        RecoveryResult result = paymentRecoveryService.recover(BEFORE, 10);
+
+        assertThat(result.resolved()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("승인 중단: PG에 기록이 없으면 AUTHORIZED로 되돌림")
+    void recover_confirmUnknown_revertsToAuthorized() {
+        Payment payment = stale(PgOperation.CONFIRM, "pk-1");
+        given(paymentRepository.findStalePgOperations(BEFORE, 10)).willReturn(List.of(payment));
+        given(tossPaymentsClient.getPayment("pk-1")).willReturn(Optional.empty());
+
+        paymentRecoveryService.recover(BEFORE, 10);
+
+        then(paymentStateService).should().complete(payment.getPaymentId(), PgOperation.CONFIRM,
+            PaymentStatus.AUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("취소 중단: PG가 취소 완료면 REFUNDED로 확정")
+    void recover_cancelDone_refunded() {
+        Payment payment = stale(PgOperation.CANCEL, "pk-2");
+        given(paymentRepository.findStalePgOperations(BEFORE, 10)).willReturn(List.of(payment));
+        given(tossPaymentsClient.getPayment("pk-2"))
+            .willReturn(Optional.of(pg("pk-2", "CANCELED")));
+
+        paymentRecoveryService.recover(BEFORE, 10);
+
+        then(paymentStateService).should().complete(payment.getPaymentId(), PgOperation.CANCEL,
+            PaymentStatus.REFUNDED);
+    }
+
+    @Test
+    @DisplayName("준비 중단: PG 조회 없이 예약 삭제")
+    void recover_ready_abandonsReservation() {
+        Payment payment = stale(PgOperation.READY, null);
+        given(paymentRepository.findStalePgOperations(BEFORE, 10)).willReturn(List.of(payment));
+
+        paymentRecoveryService.recover(BEFORE, 10);
+
+        then(paymentStateService).should().abandonReservation(payment.getPaymentId());
+        then(tossPaymentsClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("PG 조회 실패 시 건너뛰고 다음 스윕에서 재시도")
+    void recover_gatewayError_skipped() {
+        Payment payment = stale(PgOperation.CONFIRM, "pk-1");
+        given(paymentRepository.findStalePgOperations(BEFORE, 10)).willReturn(List.of(payment));
+        given(tossPaymentsClient.getPayment("pk-1"))
+            .willThrow(new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_ERROR));
+
+        RecoveryResult result = paymentRecoveryService.recover(BEFORE, 10);
+
+        assertThat(result.scanned()).isEqualTo(1);
+        assertThat(result.resolved()).isZero();
+        then(paymentStateService).should(never()).complete(ArgumentMatchers.any(),
+            ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    private Payment stale(PgOperation operation, String pgPaymentKey) {
+        Payment payment = mock(Payment.class);
+        given(payment.getPaymentId()).willReturn(UUID.randomUUID());
+        given(payment.getPgOperation()).willReturn(operation);
+        if (pgPaymentKey != null) {
+            given(payment.getPgPaymentKey()).willReturn(pgPaymentKey);
+        }
+        return payment;
+    }
+
+    private TossPaymentResponse pg(String paymentKey, String status) {
+        return new TossPaymentResponse(paymentKey, null, status, null);
+    }
+}
@@ -7,7 +7,6 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
 
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
 import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentQuery;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
 import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
@@ -24,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -56,18 +56,33 @@ class PaymentRepositoryImplTest {
     }
 
     @Test
-    @DisplayName("existsByOrder: JPA 레포로 위임된다")
-    void existsByOrder_delegatesToJpaRepository() {
+    @DisplayName("saveIfOrderAbsent: 즉시 flush해 저장된 결제를 반환한다")
+    void saveIfOrderAbsent_savesAndFlushes() {
         // given
-        Order order = Mockito.mock(Order.class);
-        given(paymentJPARepository.existsByOrder(order)).willReturn(true);
+        Payment payment = Mockito.mock(Payment.class);
+        given(paymentJPARepository.saveAndFlush(payment)).willReturn(payment);
+
+        // when
+        Optional<Payment> saved = paymentRepository.saveIfOrderAbsent(payment);
+
+        // then
+        assertThat(saved).isEqualTo(Optional.of(payment));
+        then(paymentJPARepository).should(times(1)).saveAndFlush(payment);
+    }
+
+    @Test
+    @DisplayName("saveIfOrderAbsent: 같은 주문의 결제가 있으면(유니크 제약 위반) empty")
+    void saveIfOrderAbsent_duplicateOrder() {
+        // given
+        Payment payment = Mockito.mock(Payment.class);
+        given(paymentJPARepository.saveAndFlush(payment))
+            .willThrow(new DataIntegrityViolationException("uk_payments_order_id"));
 
         // when
-        boolean exists = paymentRepository.existsByOrder(order);
+        Optional<Payment> saved = paymentRepository.saveIfOrderAbsent(payment);
 
         // then
-        assertThat(exists).isTrue();
-        then(paymentJPARepository).should(times(1)).existsByOrder(order);
+        assertThat(saved).isEqualTo(Optional.empty());
     }
 
     @Test
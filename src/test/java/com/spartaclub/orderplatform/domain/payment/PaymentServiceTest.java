@@ -5,17 +5,20 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
-import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
-import com.spartaclub.orderplatform.domain.order.domain.model.Order;
 import com.spartaclub.orderplatform.domain.payment.application.PaymentService;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentStateService;
+import com.spartaclub.orderplatform.domain.payment.application.dto.query.PaymentQuery;
 import com.spartaclub.orderplatform.domain.payment.application.mapper.PaymentMapper;
 import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
 import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentSummary;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
 import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
 import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.TossPaymentsClient;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.CancelPaymentRequestDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.ConfirmPaymentRequestDto;
@@ -25,7 +28,8 @@ import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.Ini
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentDetailResponseDto;
 import com.spartaclub.orderplatform.domain.payment.presentation.dto.response.PaymentsListResponseDto;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,6 +43,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -46,7 +52,7 @@ class PaymentServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
     @Mock
-    private OrderService orderService;
+    private PaymentStateService paymentStateService;
     @Mock
     private TossPaymentsClient tossPaymentsClient;
     @Mock
@@ -59,48 +65,61 @@ class PaymentServiceTest {
     // 결제 생성 테스트
     // ----------------------------------------------------------------
     @Test
-    @DisplayName("결제 생성 성공 - PG 요청 성공 시 CAPTURED 대기 상태로 저장")
+    @DisplayName("결제 생성 성공 - 예약 후 PG 요청 성공 시 AUTHORIZED 반영")
     void initPayment_success() {
         // given
         UUID orderId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
         long amount = 10000L;
         InitPaymentRequestDto request = new InitPaymentRequestDto(orderId, "card", amount);
-        Order order = mock(Order.class);
 
-        given(orderService.findById(orderId)).willReturn(order);
-        willDoNothing().given(order).validatePaymentAvailable(amount);
-        given(paymentRepository.existsByOrder(order)).willReturn(false);
+        given(paymentStateService.reserve(request)).willReturn(paymentId);
         given(tossPaymentsClient.requestPaymentReady(amount))
             .willReturn("https://toss.com/pay/success?paymentKey=abc123&orderId=ord-001");
-
-        Payment payment = Payment.ofStatus(order, PaymentStatus.PAYMENT_PENDING, amount, "abc123",
-            "ord-001");
-        given(paymentRepository.save(any(Payment.class))).willReturn(payment);
+        given(paymentStateService.authorize(paymentId, "abc123", "ord-001")).willReturn(true);
 
         // when
         InitPaymentResponseDto result = paymentService.initPayment(request);
 
         // then
         assertThat(result).isNotNull();
+        assertThat(result.paymentId()).isEqualTo(paymentId);
         assertThat(result.PgPaymentKey()).isEqualTo("abc123");
         assertThat(result.PgOrderId()).isEqualTo("ord-001");
-        then(paymentRepository).should(times(1)).save(any(Payment.class));
+        then(paymentStateService).should(times(1)).authorize(paymentId, "abc123", "ord-001");
     }
 
     @Test
-    @DisplayName("결제 생성 실패 - 중복 결제 시 BusinessException 발생")
+    @DisplayName("결제 생성 실패 - 중복 결제 시 BusinessException 발생, PG 호출 없음")
     void initPayment_duplicatePayment() {
         // given
         UUID orderId = UUID.randomUUID();
         InitPaymentRequestDto request = new InitPaymentRequestDto(orderId, "card", 10000L);
-        Order order = mock(Order.class);
 
-        given(orderService.findById(orderId)).willReturn(order);
-        given(paymentRepository.existsByOrder(order)).willReturn(true);
+        given(paymentStateService.reserve(request))
+            .willThrow(new BusinessException(PaymentErrorCode.DUPLICATE_PAYMENT));
+
+        // when + then
+        assertThatThrownBy(() -> paymentService.initPayment(request))
+            .isInstanceOf(BusinessException.class);
+        then(tossPaymentsClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("결제 생성 실패 - Redirect URL 파싱 실패 시 예약 삭제")
+    void initPayment_invalidRedirect_abandonsReservation() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        InitPaymentRequestDto request = new InitPaymentRequestDto(UUID.randomUUID(), "card",
+            10000L);
+
+        given(paymentStateService.reserve(request)).willReturn(paymentId);
+        given(tossPaymentsClient.requestPaymentReady(10000L)).willReturn("https://toss.com/pay");
 
         // when + then
         assertThatThrownBy(() -> paymentService.initPayment(request))
             .isInstanceOf(BusinessException.class);
+        then(paymentStateService).should().abandonReservation(paymentId);
     }
 
     // ----------------------------------------------------------------
@@ -115,20 +134,69 @@ class PaymentServiceTest {
         ConfirmPaymentRequestDto request = new ConfirmPaymentRequestDto(orderId, "pgKey", "ord001",
             10000L);
 
-        Order order = mock(Order.class);
-        Payment payment = mock(Payment.class);
-
-        given(orderService.findById(orderId)).willReturn(order);
-        willDoNothing().given(order).validatePaymentAvailable(10000L);
-        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-        willDoNothing().given(payment).validateApproval("pgKey", "ord001", 10000L);
         given(tossPaymentsClient.confirmPayment("pgKey", "ord001", 10000L)).willReturn(true);
 
         // when
         paymentService.confirmPayment(request, paymentId);
 
         // then
-        then(payment).should().changeStatus(PaymentStatus.CAPTURED);
+        then(paymentStateService).should().beginConfirm(request, paymentId);
+        then(paymentStateService).should()
+            .complete(paymentId, PgOperation.CONFIRM, PaymentStatus.CAPTURED);
+    }
+
+    @Test
+    @DisplayName("결제 승인 거절 시 AUTHORIZED로 되돌려 재승인 허용")
+    void confirmPayment_declined() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        ConfirmPaymentRequestDto request = new ConfirmPaymentRequestDto(UUID.randomUUID(),
+            "pgKey", "ord001", 10000L);
+
+        given(tossPaymentsClient.confirmPayment("pgKey", "ord001", 10000L)).willReturn(false);
+
+        // when
+        paymentService.confirmPayment(request, paymentId);
+
+        // then
+        then(paymentStateService).should()
+            .complete(paymentId, PgOperation.CONFIRM, PaymentStatus.AUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("결제 승인 중 PG 오류 시 진행 표시 유지 (복구 스윕이 확정)")
+    void confirmPayment_gatewayError_leavesInFlight() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        ConfirmPaymentRequestDto request = new ConfirmPaymentRequestDto(UUID.randomUUID(),
+            "pgKey", "ord001", 10000L);
+
+        given(tossPaymentsClient.confirmPayment("pgKey", "ord001", 10000L))
+            .willThrow(new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_ERROR));
+
+        // when + then
+        assertThatThrownBy(() -> paymentService.confirmPayment(request, paymentId))
+            .isInstanceOf(BusinessException.class);
+        then(paymentStateService).should(never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷 열림으로 PG를 호출하지 않았으면 진행 표시 즉시 해제 (AUTHORIZED 유지)")
+    void confirmPayment_circuitOpen_releasesInFlight() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        ConfirmPaymentRequestDto request = new ConfirmPaymentRequestDto(UUID.randomUUID(),
+            "pgKey", "ord001", 10000L);
+
+        given(tossPaymentsClient.confirmPayment("pgKey", "ord001", 10000L))
+            .willThrow(new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+
+        // when + then
+        assertThatThrownBy(() -> paymentService.confirmPayment(request, paymentId))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+        then(paymentStateService).should()
+            .complete(paymentId, PgOperation.CONFIRM, PaymentStatus.AUTHORIZED);
     }
 
     // ----------------------------------------------------------------
@@ -140,17 +208,16 @@ class PaymentServiceTest {
         // given
         UUID paymentId = UUID.randomUUID();
         CancelPaymentRequestDto request = new CancelPaymentRequestDto("pgKey", "사용자 요청 취소");
-        Payment payment = mock(Payment.class);
 
-        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-        willDoNothing().given(payment).checkCancelable("pgKey");
         given(tossPaymentsClient.cancelPayment("pgKey", "사용자 요청 취소")).willReturn(true);
 
         // when
         paymentService.cancelPayment(request, paymentId);
 
         // then
-        then(payment).should().changeStatus(PaymentStatus.REFUNDED);
+        then(paymentStateService).should().beginCancel(request, paymentId);
+        then(paymentStateService).should()
+            .complete(paymentId, PgOperation.CANCEL, PaymentStatus.REFUNDED);
     }
 
     // ----------------------------------------------------------------
@@ -179,27 +246,65 @@ class PaymentServiceTest {
     // 결제 전체 조회 테스트
     // ----------------------------------------------------------------
     @Test
-    @DisplayName("결제 목록 조회 성공")
+    @DisplayName("결제 목록 조회 성공 - 프로젝션 조회, 종료일은 다음 날 0시 미만으로 변환")
     void getPayments_success() {
         // given
-        GetPaymentsListRequestDto request = new GetPaymentsListRequestDto(new ArrayList<>(
-            PaymentStatus.CAPTURED.ordinal()));
+        UUID storeId = UUID.randomUUID();
+        GetPaymentsListRequestDto request = new GetPaymentsListRequestDto(
+            List.of(PaymentStatus.CAPTURED), storeId, LocalDate.of(2025, 10, 1),
+            LocalDate.of(2025, 10, 31), null);
         Pageable pageable = PageRequest.of(0, 10);
-        Payment payment = mock(Payment.class);
-        Page<Payment> page = new PageImpl<>(List.of(payment));
+        PaymentSummary summary = summary();
+        Page<PaymentSummary> page = new PageImpl<>(List.of(summary));
         PaymentDetailResponseDto dto = mock(PaymentDetailResponseDto.class);
         PaymentsListResponseDto.PageableDto pageableDto = mock(
             PaymentsListResponseDto.PageableDto.class);
 
-        given(paymentRepository.findAll(any(), any(Pageable.class))).willReturn(page);
-        given(paymentMapper.toDto(payment)).willReturn(dto);
+        given(paymentRepository.findSummaries(any(), any(Pageable.class))).willReturn(page);
+        given(paymentMapper.toDto(summary)).willReturn(dto);
         given(paymentMapper.toPageableDto(page)).willReturn(pageableDto);
 
         // when
         PaymentsListResponseDto result = paymentService.getPayments(request, null, pageable);
 
         // then
-        assertThat(result).isNotNull();
-        then(paymentRepository).should().findAll(any(), any(Pageable.class));
+        assertThat(result.payments()).isEqualTo(List.of(dto));
+        assertThat(result.cursor()).isNull();
+        then(paymentRepository).should().findSummaries(
+            new PaymentQuery(List.of(PaymentStatus.CAPTURED), storeId,
+                LocalDateTime.of(2025, 10, 1, 0, 0), LocalDateTime.of(2025, 11, 1, 0, 0)),
+            pageable);
+        then(paymentRepository).should(never()).findAll(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("결제 목록 커서 모드 - COUNT 없이 size만큼 조회하고 다음 커서 반환")
+    void getPayments_cursorMode() {
+        // given
+        GetPaymentsListRequestDto request = new GetPaymentsListRequestDto(null, null, null, null,
+            "");
+        PaymentSummary summary = summary();
+        Slice<PaymentSummary> slice = new SliceImpl<>(List.of(summary), PageRequest.of(0, 1),
+            true);
+        PaymentsListResponseDto.CursorDto cursorDto = new PaymentsListResponseDto.CursorDto(1,
+            true, "next");
+
+        given(paymentRepository.findSummarySlice(new PaymentQuery(null), null, 1))
+            .willReturn(slice);
+        given(paymentMapper.toCursorDto(slice)).willReturn(cursorDto);
+
+        // when
+        PaymentsListResponseDto result = paymentService.getPayments(request, null,
+            PageRequest.of(3, 1));
+
+        // then
+        assertThat(result.cursor()).isEqualTo(cursorDto);
+        assertThat(result.pageable()).isNull();
+        then(paymentRepository).should(never()).findSummaries(any(), any(Pageable.class));
+    }
+
+    private static PaymentSummary summary() {
+        return new PaymentSummary(UUID.randomUUID(), UUID.randomUUID(), 10000L,
+            PaymentStatus.CAPTURED, "pk", "ord", LocalDateTime.now());
     }
 }
@@ -0,0 +1,167 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.domain.model.Order;
+import com.spartaclub.orderplatform.domain.payment.application.PaymentStateService;
+import com.spartaclub.orderplatform.domain.payment.domain.model.Payment;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgOperation;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.CancelPaymentRequestDto;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.ConfirmPaymentRequestDto;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.InitPaymentRequestDto;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentStateServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private PaymentStateService paymentStateService;
+
+    @Test
+    @DisplayName("결제 예약: PAYMENT_PENDING + READY 진행 표시로 저장")
+    void reserve_savesPendingWithReadyOperation() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        InitPaymentRequestDto request = new InitPaymentRequestDto(orderId, "card", 10000L);
+        Order order = mock(Order.class);
+
+        given(orderService.findById(orderId)).willReturn(order);
+        given(paymentRepository.saveIfOrderAbsent(any(Payment.class)))
+            .willAnswer(inv -> Optional.of(inv.getArgument(0)));
+
+        // when
+        paymentStateService.reserve(request);
+
+        // then
+        ArgumentCaptor<Payment> captor = ArgumentCaptor.forClass(Payment.class);
+        then(paymentRepository).should().saveIfOrderAbsent(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(PaymentStatus.PAYMENT_PENDING);
+        assertThat(captor.getValue().getPgOperation()).isEqualTo(PgOperation.READY);
+        assertThat(captor.getValue().getPgRequestedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("결제 예약 실패: 같은 주문의 결제가 이미 있으면 DUPLICATE_PAYMENT")
+    void reserve_duplicatePayment() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        InitPaymentRequestDto request = new InitPaymentRequestDto(orderId, "card", 10000L);
+        Order order = mock(Order.class);
+
+        given(orderService.findById(orderId)).willReturn(order);
+        given(paymentRepository.saveIfOrderAbsent(any(Payment.class)))
+            .willReturn(Optional.empty());
+
+        // when + then
+        assertThatThrownBy(() -> paymentStateService.reserve(request))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.DUPLICATE_PAYMENT);
+        then(paymentRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("승인 시작: 검증 후 CONFIRM 진행 표시")
+    void beginConfirm_marksInFlight() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
+        ConfirmPaymentRequestDto request = new ConfirmPaymentRequestDto(orderId, "pgKey", "ord001",
+            10000L);
+        Payment payment = mock(Payment.class);
+
+        given(orderService.findById(orderId)).willReturn(mock(Order.class));
+        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+        given(paymentRepository.beginPgOperation(eq(paymentId), eq(PgOperation.CONFIRM), any()))
+            .willReturn(true);
+
+        // when
+        paymentStateService.beginConfirm(request, paymentId);
+
+        // then
+        then(payment).should().validateApproval("pgKey", "ord001", 10000L);
+        then(paymentRepository).should()
+            .beginPgOperation(eq(paymentId), eq(PgOperation.CONFIRM), any());
+    }
+
+    @Test
+    @DisplayName("취소 시작 실패: 같은 결제의 PG 호출이 진행 중이면 PAYMENT_IN_PROGRESS")
+    void beginCancel_alreadyInFlight() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        CancelPaymentRequestDto request = new CancelPaymentRequestDto("pgKey", "단순 변심");
+
+        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(mock(Payment.class)));
+        given(paymentRepository.beginPgOperation(eq(paymentId), eq(PgOperation.CANCEL), any()))
+            .willReturn(false);
+
+        // when + then
+        assertThatThrownBy(() -> paymentStateService.beginCancel(request, paymentId))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("결과 반영: 상태가 바뀌면 같은 트랜잭션에서 아웃박스 기록")
+    void complete_appendsOutboxEvent() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
+        given(paymentRepository.completePgOperation(eq(paymentId), eq(PgOperation.CONFIRM),
+            eq(PaymentStatus.CAPTURED), any())).willReturn(true);
+        given(paymentRepository.findOrderIdById(paymentId)).willReturn(Optional.of(orderId));
+
+        // when
+        boolean completed = paymentStateService.complete(paymentId, PgOperation.CONFIRM,
+            PaymentStatus.CAPTURED);
+
+        // then
+        assertThat(completed).isTrue();
+        then(outboxService).should().append(OutboxEventType.PAYMENT_STATUS_CHANGED, paymentId,
+            Map.of("orderId", orderId.toString(), "status", PaymentStatus.CAPTURED.name()));
+    }
+
+    @Test
+    @DisplayName("결과 반영: PG 거절로 시작 상태로 되돌리면 아웃박스 기록 없음")
+    void complete_declined_noOutboxEvent() {
+        // given
+        UUID paymentId = UUID.randomUUID();
+        given(paymentRepository.completePgOperation(eq(paymentId), eq(PgOperation.CONFIRM),
+            eq(PaymentStatus.AUTHORIZED), any())).willReturn(true);
+
+        // when
+        paymentStateService.complete(paymentId, PgOperation.CONFIRM, PaymentStatus.AUTHORIZED);
+
+        // then
+        then(outboxService).should(never()).append(any(), any(), any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.PgWebhookRequestDto;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * PgWebhookController SQL 예산 테스트 - 수신 요청이 DB 반영 없이 큐 적재만으로 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest(properties = "pg.toss.webhook.token=" + PgWebhookControllerSqlBudgetTest.TOKEN)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PgWebhookControllerSqlBudgetTest {
+
+    static final String TOKEN = "budget-webhook-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("토스 웹훅 수신 API는 클래스 예산(1) 안에서 처리")
+    void receiveTossWebhook_withinBudget() throws Exception {
+        // given
+        PgWebhookRequestDto requestDto = new PgWebhookRequestDto(UUID.randomUUID().toString(),
+            "PAYMENT_STATUS_CHANGED", LocalDateTime.now(),
+            new PgWebhookRequestDto.Data("budget-payment-key", UUID.randomUUID().toString(),
+                TossPaymentResponse.STATUS_ABORTED));
+
+        // when & then
+        mockMvc.perform(post("/v1/payments/webhooks/toss")
+                .param("token", TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(1));
+    }
+}
@@ -0,0 +1,253 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.domain.model.OrderTransition;
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookProcessor;
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookProcessor.Result;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentWebhookTarget;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent.EventStatus;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PaymentRepository;
+import com.spartaclub.orderplatform.domain.payment.domain.repository.PgWebhookEventRepository;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.global.application.outbox.OutboxService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PgWebhookProcessorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private static final long AMOUNT = 10000L;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PgWebhookEventRepository pgWebhookEventRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private PgWebhookProcessor pgWebhookProcessor;
+
+    private final UUID paymentId = UUID.randomUUID();
+    private final UUID orderId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        pgWebhookProcessor = new PgWebhookProcessor(paymentRepository, pgWebhookEventRepository,
+            orderService, outboxService, Duration.ofMinutes(1), Duration.ofSeconds(30), 3);
+    }
+
+    @Test
+    @DisplayName("한 배치의 승인 후 취소는 발생 순으로 적용해 결제 대기 → 환불, 주문 취소")
+    void applyQueued_doneThenCanceledInSameBatch_refunds() {
+        // given: 도착 순서 역전 + 재전송 중복
+        givenPayment(PaymentStatus.PAYMENT_PENDING);
+        List<PgWebhookEvent> events = List.of(
+            event("e-2", "CANCELED", T0.plusSeconds(5)),
+            event("e-1", "DONE", T0),
+            event("e-1", "DONE", T0));
+
+        // when
+        Result result = pgWebhookProcessor.applyQueued(events, pg("CANCELED"));
+
+        // then
+        assertThat(result.changed()).isEqualTo(1);
+        assertThat(result.deferred()).isZero();
+        then(paymentRepository).should()
+            .changeStatus(eq(List.of(paymentId)), eq(PaymentStatus.REFUNDED), anyTime());
+        then(paymentRepository).should(never())
+            .changeStatus(any(), eq(PaymentStatus.CAPTURED), any());
+        then(orderService).should()
+            .applyPaymentResult(List.of(orderId), OrderTransition.CANCEL_BY_PAYMENT);
+        then(outboxService).should().appendAll(argThat(list -> list.size() == 1
+            && list.get(0).getAggregateId().equals(paymentId)
+            && "REFUNDED".equals(list.get(0).attribute("status"))));
+        then(pgWebhookEventRepository).should(never()).saveIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("승인보다 먼저 도착한 취소는 버리지 않고 미뤘다가 승인 반영 후 환불")
+    void canceledBeforeDoneAcrossBatches_refundsAfterDone() {
+        PgWebhookEvent canceled = event("e-2", "CANCELED", T0.plusSeconds(5));
+
+        // 1) 취소만 도착: 결제 대기 상태이므로 DB로 넘겨 재시도
+        givenPayment(PaymentStatus.AUTHORIZED);
+        Result first = pgWebhookProcessor.applyQueued(List.of(canceled), pg("CANCELED"));
+
+        assertThat(first.changed()).isZero();
+        assertThat(first.deferred()).isEqualTo(1);
+        then(pgWebhookEventRepository).should().saveIfAbsent(canceled);
+        assertThat(canceled.getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(canceled.getLastError()).isEqualTo("앞선 승인 통지 대기");
+
+        // 2) 승인 도착: 결제 완료, 주문 결제 완료
+        Result second = pgWebhookProcessor.applyQueued(List.of(event("e-1", "DONE", T0)),
+            pg("CANCELED"));
+
+        assertThat(second.changed()).isEqualTo(1);
+        then(paymentRepository).should()
+            .changeStatus(eq(List.of(paymentId)), eq(PaymentStatus.CAPTURED), anyTime());
+        then(orderService).should().applyPaymentResult(List.of(orderId), OrderTransition.PAY);
+
+        // 3) 미뤄둔 취소 재시도: 환불, 주문 취소, 처리된 이벤트 삭제
+        givenPayment(PaymentStatus.CAPTURED);
+        Result third = pgWebhookProcessor.applySpilled(List.of(canceled), pg("CANCELED"));
+
+        assertThat(third.changed()).isEqualTo(1);
+        then(paymentRepository).should()
+            .changeStatus(eq(List.of(paymentId)), eq(PaymentStatus.REFUNDED), anyTime());
+        then(orderService).should()
+            .applyPaymentResult(List.of(orderId), OrderTransition.CANCEL_BY_PAYMENT);
+        then(pgWebhookEventRepository).should().deleteAllById(List.of("e-2"));
+    }
+
+    @Test
+    @DisplayName("PG 조회 결과가 통지와 다르면(기록 없음, 금액 불일치 포함) 반영하지 않고 버림")
+    void applyQueued_unconfirmedByPg_rejected() {
+        givenPayment(PaymentStatus.AUTHORIZED);
+
+        Result notFound = pgWebhookProcessor.applyQueued(List.of(event("e-1", "DONE", T0)),
+            Map.of("pk-1", Optional.empty()));
+        Result aborted = pgWebhookProcessor.applyQueued(List.of(event("e-2", "DONE", T0)),
+            pg("ABORTED"));
+        Result amountMismatch = pgWebhookProcessor.applyQueued(List.of(event("e-3", "DONE", T0)),
+            Map.of("pk-1", Optional.of(new TossPaymentResponse("pk-1", "ORD-1", "DONE", 1L))));
+
+        assertThat(List.of(notFound, aborted, amountMismatch))
+            .allSatisfy(result -> {
+                assertThat(result.changed()).isZero();
+                assertThat(result.rejected()).isEqualTo(1);
+                assertThat(result.deferred()).isZero();
+            });
+        then(paymentRepository).should(never()).changeStatus(any(), any(), any());
+        then(orderService).should(never()).applyPaymentResult(any(), any());
+    }
+
+    @Test
+    @DisplayName("PG 조회에 실패한 결제는 해당 이벤트와 이후 이벤트를 모두 미룸")
+    void applyQueued_lookupFailed_defersRemainingEvents() {
+        givenPayment(PaymentStatus.AUTHORIZED);
+        PgWebhookEvent done = event("e-1", "DONE", T0);
+        PgWebhookEvent canceled = event("e-2", "CANCELED", T0.plusSeconds(5));
+
+        Result result = pgWebhookProcessor.applyQueued(List.of(canceled, done), Map.of());
+
+        assertThat(result.deferred()).isEqualTo(2);
+        then(pgWebhookEventRepository).should().saveIfAbsent(done);
+        then(pgWebhookEventRepository).should().saveIfAbsent(canceled);
+        assertThat(done.getLastError()).isEqualTo("PG 조회 실패");
+        assertThat(canceled.getLastError()).isEqualTo("PG 조회 실패");
+        then(paymentRepository).should(never()).changeStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 실패는 결제 상태만 바꾸고 주문은 그대로 둠 (PG 조회 불필요)")
+    void applyQueued_failedLeavesOrder() {
+        givenPayment(PaymentStatus.AUTHORIZED);
+
+        Result result = pgWebhookProcessor.applyQueued(List.of(event("e-1", "ABORTED", T0)),
+            Map.of());
+
+        assertThat(result.changed()).isEqualTo(1);
+        then(paymentRepository).should()
+            .changeStatus(eq(List.of(paymentId)), eq(PaymentStatus.FAILED), anyTime());
+        then(outboxService).should().appendAll(argThat(list -> list.size() == 1));
+        then(orderService).should(never()).applyPaymentResult(any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 반영된 통지는 처리된 것으로 보고 삭제, 결제/주문 변경 없음")
+    void applySpilled_alreadyApplied_deleted() {
+        givenPayment(PaymentStatus.CAPTURED);
+
+        Result result = pgWebhookProcessor.applySpilled(List.of(event("e-1", "DONE", T0)),
+            pg("DONE"));
+
+        assertThat(result.changed()).isZero();
+        then(pgWebhookEventRepository).should().deleteAllById(List.of("e-1"));
+        then(paymentRepository).should(never()).changeStatus(any(), any(), any());
+        then(outboxService).should(never()).appendAll(any());
+    }
+
+    @Test
+    @DisplayName("결제가 없는 통지는 재시도하다 최대 시도 횟수를 넘기면 DEAD")
+    void applySpilled_exceedsMaxAttempts_markedDead() {
+        given(paymentRepository.findForWebhookUpdate(anyCollection())).willReturn(List.of());
+        PgWebhookEvent retry = event("e-1", "DONE", T0);
+        retry.claim(LocalDateTime.now());
+        PgWebhookEvent dead = event("e-2", "DONE", T0.plusSeconds(1));
+        for (int i = 0; i < 3; i++) {
+            dead.claim(LocalDateTime.now());
+        }
+        given(pgWebhookEventRepository.findAllById(anyCollection()))
+            .willReturn(List.of(retry, dead));
+
+        Result result = pgWebhookProcessor.applySpilled(List.of(retry, dead), pg("DONE"));
+
+        assertThat(result.deferred()).isEqualTo(2);
+        assertThat(result.dead()).isEqualTo(1);
+        assertThat(retry.getStatus()).isEqualTo(EventStatus.PENDING);
+        assertThat(retry.getLastError()).isEqualTo("결제 없음");
+        assertThat(dead.getStatus()).isEqualTo(EventStatus.DEAD);
+        then(pgWebhookEventRepository).should().deleteAllById(List.of());
+    }
+
+    @Test
+    @DisplayName("DB 이벤트 점유 시 시도 횟수 증가, lease 동안 다시 점유되지 않음")
+    void claimSpilled_leasesEvents() {
+        PgWebhookEvent event = event("e-1", "DONE", T0);
+        given(pgWebhookEventRepository.findAvailableForUpdate(anyTime(), eq(100)))
+            .willReturn(List.of(event));
+
+        List<PgWebhookEvent> claimed = pgWebhookProcessor.claimSpilled(100);
+
+        assertThat(claimed).containsExactly(event);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+    }
+
+    private void givenPayment(PaymentStatus status) {
+        given(paymentRepository.findForWebhookUpdate(anyCollection())).willReturn(List.of(
+            new PaymentWebhookTarget(paymentId, orderId, "pk-1", status, AMOUNT)));
+    }
+
+    private static Map<String, Optional<TossPaymentResponse>> pg(String status) {
+        return Map.of("pk-1",
+            Optional.of(new TossPaymentResponse("pk-1", "ORD-1", status, AMOUNT)));
+    }
+
+    private static LocalDateTime anyTime() {
+        return any(LocalDateTime.class);
+    }
+
+    private static PgWebhookEvent event(String eventId, String status,
+        LocalDateTime occurredAt) {
+        return PgWebhookEvent.of(eventId, "pk-1", status, occurredAt, T0.plusMinutes(1));
+    }
+}
@@ -0,0 +1,228 @@
+package com.spartaclub.orderplatform.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookProcessor;
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookProcessor.Result;
+import com.spartaclub.orderplatform.domain.payment.application.PgWebhookService;
+import com.spartaclub.orderplatform.domain.payment.domain.model.PgWebhookEvent;
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.TossPaymentsClient;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.webhook.PgWebhookQueue;
+import com.spartaclub.orderplatform.domain.payment.presentation.dto.request.PgWebhookRequestDto;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+
+class PgWebhookServiceTest {
+
+    private static final String TOKEN = "secret";
+
+    private PgWebhookQueue pgWebhookQueue;
+    private PgWebhookProcessor pgWebhookProcessor;
+    private TossPaymentsClient tossPaymentsClient;
+    private SimpleMeterRegistry meterRegistry;
+    private PgWebhookService pgWebhookService;
+
+    @BeforeEach
+    void setUp() {
+        pgWebhookQueue = mock(PgWebhookQueue.class);
+        pgWebhookProcessor = mock(PgWebhookProcessor.class);
+        tossPaymentsClient = mock(TossPaymentsClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        pgWebhookService = service(TOKEN, new MockEnvironment());
+    }
+
+    @Test
+    @DisplayName("토큰이 다르면 큐에 넣지 않고 거부")
+    void receive_invalidToken() {
+        assertThatThrownBy(() -> pgWebhookService.receive("wrong", request("e-1", "DONE")))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(PaymentErrorCode.INVALID_WEBHOOK_TOKEN);
+        assertThatThrownBy(() -> pgWebhookService.receive(null, request("e-1", "DONE")))
+            .isInstanceOf(BusinessException.class);
+        then(pgWebhookQueue).should(never()).add(any());
+    }
+
+    @Test
+    @DisplayName("토큰 미설정이면 local 프로필이 아닌 한 모든 요청 거부 (빈 토큰 포함)")
+    void receive_tokenNotConfigured_failsClosed() {
+        PgWebhookService unconfigured = service("", new MockEnvironment());
+
+        assertThatThrownBy(() -> unconfigured.receive(null, request("e-1", "DONE")))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(PaymentErrorCode.INVALID_WEBHOOK_TOKEN);
+        assertThatThrownBy(() -> unconfigured.receive("", request("e-1", "DONE")))
+            .isInstanceOf(BusinessException.class);
+        then(pgWebhookQueue).should(never()).add(any());
+
+        MockEnvironment local = new MockEnvironment();
+        local.setActiveProfiles("local");
+        service("", local).receive(null, request("e-1", "DONE"));
+        then(pgWebhookQueue).should().add(any());
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 재전송은 한 번만 큐에 적재, 미지원 상태는 무시")
+    void receive_dedupAndIgnore() {
+        pgWebhookService.receive(TOKEN, request("e-1", "DONE"));
+        pgWebhookService.receive(TOKEN, request("e-1", "DONE"));
+        pgWebhookService.receive(TOKEN, request("e-2", "WAITING_FOR_DEPOSIT"));
+
+        then(pgWebhookQueue).should(times(1)).add(any());
+        assertThat(received("accepted")).isEqualTo(1.0);
+        assertThat(received("duplicate")).isEqualTo(1.0);
+        assertThat(received("ignored")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적재 실패 시 예외를 그대로 전달하고, PG 재전송은 중복으로 거르지 않음")
+    void receive_queueFailure_allowsRetry() {
+        willThrow(new IllegalStateException("db down")).given(pgWebhookQueue).add(any());
+
+        assertThatThrownBy(() -> pgWebhookService.receive(TOKEN, request("e-1", "DONE")))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> pgWebhookService.receive(TOKEN, request("e-1", "DONE")))
+            .isInstanceOf(IllegalStateException.class);
+        then(pgWebhookQueue).should(times(2)).add(any());
+    }
+
+    @Test
+    @DisplayName("이벤트 ID가 없으면 결제키/상태/발생 시각으로 생성")
+    void resolveEventId_fallback() {
+        PgWebhookRequestDto request = request(null, "DONE");
+
+        assertThat(request.resolveEventId()).isEqualTo("pk-1:DONE:2025-10-01T12:00");
+    }
+
+    @Test
+    @DisplayName("승인/취소는 결제키별로 PG를 조회해 반영, 조회 실패한 키는 결과에서 제외")
+    void processQueued_looksUpPgPayments() {
+        List<PgWebhookEvent> events = List.of(event("e-1", "pk-1", "DONE"),
+            event("e-2", "pk-1", "CANCELED"), event("e-3", "pk-2", "DONE"),
+            event("e-4", "pk-3", "DONE"), event("e-5", "pk-4", "ABORTED"));
+        TossPaymentResponse canceled = new TossPaymentResponse("pk-1", "ORD-1", "CANCELED", 1000L);
+        given(pgWebhookQueue.drain(500)).willReturn(events);
+        given(tossPaymentsClient.getPaymentAsync("pk-1")).willReturn(Mono.just(canceled));
+        given(tossPaymentsClient.getPaymentAsync("pk-2")).willReturn(Mono.empty());
+        given(tossPaymentsClient.getPaymentAsync("pk-3")).willReturn(
+            Mono.error(new BusinessException(PaymentErrorCode.PAYMENT_GATEWAY_BUSY)));
+        given(pgWebhookProcessor.applyQueued(eq(events), any()))
+            .willReturn(new Result(2, 0, 1, 0));
+
+        assertThat(pgWebhookService.processQueued(500)).isEqualTo(5);
+
+        then(pgWebhookProcessor).should().applyQueued(eq(events), argThat(pgPayments ->
+            pgPayments.equals(Map.of("pk-1", Optional.of(canceled), "pk-2", Optional.empty()))));
+        then(tossPaymentsClient).should(times(1)).getPaymentAsync("pk-1");
+        then(tossPaymentsClient).should(never()).getPaymentAsync("pk-4");
+        assertThat(meterRegistry.get("pg.webhook.applied").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("pg.webhook.deferred").counter().count()).isEqualTo(1.0);
+        then(pgWebhookQueue).should(never()).spill(any());
+    }
+
+    @Test
+    @DisplayName("큐 배치 반영 실패 시 배치를 DB로 넘김")
+    void processQueued_spillsOnFailure() {
+        List<PgWebhookEvent> events = List.of(event("e-1", "pk-1", "ABORTED"));
+        given(pgWebhookQueue.drain(500)).willReturn(events);
+        willThrow(new IllegalStateException("deadlock")).given(pgWebhookProcessor)
+            .applyQueued(eq(events), any());
+
+        int drained = pgWebhookService.processQueued(500);
+
+        assertThat(drained).isEqualTo(1);
+        then(pgWebhookQueue).should().spill(events);
+        then(pgWebhookQueue).should(never()).requeue(any());
+        assertThat(meterRegistry.get("pg.webhook.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB로도 넘기지 못하면 큐에 되돌리고, 자리가 없어 되돌리지 못한 이벤트만 유실로 기록")
+    void processQueued_spillFails_requeues() {
+        List<PgWebhookEvent> events = List.of(event("e-1", "pk-1", "ABORTED"),
+            event("e-2", "pk-2", "ABORTED"));
+        given(pgWebhookQueue.drain(500)).willReturn(events);
+        willThrow(new IllegalStateException("db down")).given(pgWebhookProcessor)
+            .applyQueued(eq(events), any());
+        willThrow(new IllegalStateException("db down")).given(pgWebhookQueue).spill(events);
+        given(pgWebhookQueue.requeue(events)).willReturn(List.of(events.get(1)));
+
+        pgWebhookService.processQueued(500);
+
+        then(pgWebhookQueue).should().requeue(events);
+        assertThat(meterRegistry.get("pg.webhook.lost").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB 이벤트는 점유 후 PG 조회 결과와 함께 반영, 실패하면 lease 만료까지 대기")
+    void processSpilled_claimsAndApplies() {
+        List<PgWebhookEvent> events = List.of(event("e-1", "pk-1", "ABORTED"));
+        given(pgWebhookProcessor.claimSpilled(500)).willReturn(events);
+        given(pgWebhookProcessor.applySpilled(events, Map.of()))
+            .willReturn(new Result(0, 0, 1, 1));
+
+        assertThat(pgWebhookService.processSpilled(500)).isEqualTo(1);
+        assertThat(meterRegistry.get("pg.webhook.dead").counter().count()).isEqualTo(1.0);
+
+        willThrow(new IllegalStateException("db down")).given(pgWebhookProcessor)
+            .applySpilled(events, Map.of());
+        assertThat(pgWebhookService.processSpilled(500)).isZero();
+    }
+
+    @Test
+    @DisplayName("큐 배치 반영 성공 시 상태가 바뀐 결제 수 기록")
+    void processQueued_applies() {
+        List<PgWebhookEvent> events = List.of(event("e-1", "pk-1", "ABORTED"));
+        given(pgWebhookQueue.drain(500)).willReturn(events);
+        given(pgWebhookProcessor.applyQueued(events, Map.of()))
+            .willReturn(new Result(1, 0, 0, 0));
+
+        assertThat(pgWebhookService.processQueued(500)).isEqualTo(1);
+        then(pgWebhookQueue).should(never()).spill(any());
+        then(tossPaymentsClient).should(never()).getPaymentAsync(any());
+        assertThat(meterRegistry.get("pg.webhook.applied").counter().count()).isEqualTo(1.0);
+    }
+
+    private double received(String result) {
+        return meterRegistry.get("pg.webhook.received").tag("result", result).counter().count();
+    }
+
+    private PgWebhookService service(String token, MockEnvironment environment) {
+        return new PgWebhookService(pgWebhookQueue, pgWebhookProcessor, tossPaymentsClient,
+            meterRegistry, environment, token, 4, 1000, Duration.ofHours(1));
+    }
+
+    private static PgWebhookEvent event(String eventId, String paymentKey, String status) {
+        return PgWebhookEvent.of(eventId, paymentKey, status, LocalDateTime.now(),
+            LocalDateTime.now());
+    }
+
+    private static PgWebhookRequestDto request(String eventId, String status) {
+        return new PgWebhookRequestDto(eventId, "PAYMENT_STATUS_CHANGED",
+            LocalDateTime.of(2025, 10, 1, 12, 0),
+            new PgWebhookRequestDto.Data("pk-1", "ORD-1", status));
+    }
+}
@@ -0,0 +1,145 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.global.config.web.WebClientConfig;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 장애 주입 스텁 PG 대상 서킷 브레이커/벌크헤드 검증
+ */
+class PgCallGuardTest {
+
+    private static final int WINDOW = 10;
+    private static final int BULKHEAD = 3;
+
+    private StubPgServer stubPgServer;
+    private ConnectionProvider connectionProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private PgCallGuard pgCallGuard;
+    private TossPaymentsClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubPgServer = new StubPgServer(32);
+
+        WebClientConfig config = new WebClientConfig();
+        connectionProvider = config.tossConnectionProvider(20, 100, Duration.ofSeconds(5),
+            Duration.ofSeconds(30));
+        WebClient webClient = config.tossWebClient(connectionProvider, stubPgServer.baseUrl(),
+            "test_sk", Duration.ofSeconds(1), Duration.ofSeconds(2));
+
+        meterRegistry = new SimpleMeterRegistry();
+        pgCallGuard = new PgCallGuard(meterRegistry, WINDOW, WINDOW, 50f, Duration.ofSeconds(1),
+            80f, Duration.ofMinutes(1), 2, BULKHEAD);
+        client = new TossPaymentsClient(webClient, false, Duration.ofSeconds(3), pgCallGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        stubPgServer.close();
+    }
+
+    @Test
+    @DisplayName("PG 장애율이 임계치를 넘으면 서킷이 열리고 이후 호출은 PG에 도달하지 않음")
+    void circuitOpensOnGatewayFailures() {
+        stubPgServer.errorRate(1.0);
+
+        for (int i = 0; i < WINDOW; i++) {
+            assertThatThrownBy(() -> client.confirmPayment("pk", "order", 1000L))
+                .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_ERROR);
+        }
+        assertThat(pgCallGuard.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.confirmPayment("pk", "order", 1000L))
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+        assertThat(stubPgServer.requestCount()).isEqualTo(WINDOW);
+        assertThat(meterRegistry.get("pg.calls.rejected").tag("reason", "circuit_open")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pg.circuit.transitions").tag("from", "CLOSED")
+            .tag("to", "OPEN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("PG 거절(4xx)은 장애로 집계하지 않아 서킷이 열리지 않음")
+    void declinesDoNotOpenCircuit() {
+        stubPgServer.responseStatus(400);
+
+        for (int i = 0; i < WINDOW * 2; i++) {
+            assertThat(client.confirmPayment("pk", "order", 1000L)).isFalse();
+        }
+
+        assertThat(pgCallGuard.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 대기 없이 PAYMENT_GATEWAY_BUSY")
+    void bulkheadRejectsExcessCalls() {
+        stubPgServer.latency(Duration.ofMillis(300));
+
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, 10)
+            .mapToObj(i -> client.confirmPaymentFuture("pk-" + i, "order-" + i, 1000L))
+            .toList();
+
+        long busy = futures.stream()
+            .filter(future -> {
+                try {
+                    return !future.join();
+                } catch (CompletionException e) {
+                    return e.getCause() instanceof BusinessException be
+                        && be.getErrorCode() == PaymentErrorCode.PAYMENT_GATEWAY_BUSY;
+                }
+            })
+            .count();
+        assertThat(busy).isEqualTo(10 - BULKHEAD);
+        assertThat(stubPgServer.maxInFlight()).isLessThanOrEqualTo(BULKHEAD);
+        assertThat(meterRegistry.get("pg.calls.rejected").tag("reason", "bulkhead_full")
+            .counter().count()).isEqualTo(10.0 - BULKHEAD);
+    }
+
+    @Test
+    @DisplayName("PG가 느려 동시 호출 한도가 찬 상태에서도 한도 초과 거절은 집계되지 않아 느린 호출로 서킷이 열림")
+    void circuitOpensOnSlowCallsWhileBulkheadSaturated() {
+        stubPgServer.latency(Duration.ofMillis(1200));
+
+        long busy = 0;
+        int waves = (WINDOW + BULKHEAD - 1) / BULKHEAD;
+        for (int wave = 0; wave < waves; wave++) {
+            List<CompletableFuture<Boolean>> futures = IntStream.range(0, BULKHEAD * 2)
+                .mapToObj(i -> client.confirmPaymentFuture("pk-" + i, "order-" + i, 1000L))
+                .toList();
+            busy += futures.stream()
+                .filter(future -> {
+                    try {
+                        future.join();
+                        return false;
+                    } catch (CompletionException e) {
+                        return e.getCause() instanceof BusinessException be
+                            && be.getErrorCode() == PaymentErrorCode.PAYMENT_GATEWAY_BUSY;
+                    }
+                })
+                .count();
+        }
+
+        assertThat(busy).isPositive();
+        assertThat(pgCallGuard.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.confirmPayment("pk", "order", 1000L))
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+    }
+}
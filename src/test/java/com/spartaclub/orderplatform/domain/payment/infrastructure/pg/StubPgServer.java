@@ -0,0 +1,159 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토스페이먼츠 API를 흉내내는 인프로세스 스텁 PG 서버 (테스트/벤치마크용)
+ */
+public class StubPgServer implements AutoCloseable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int responseStatus = 200;
+    private volatile double errorRate = 0.0;
+
+    // paymentKey -> PG 결제 상태 (조회 응답용)
+    private final Map<String, String> paymentStatuses = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public StubPgServer(int workerThreads) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newFixedThreadPool(workerThreads);
+        server.setExecutor(executor);
+        server.createContext("/v1/payments", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public StubPgServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public StubPgServer responseStatus(int responseStatus) {
+        this.responseStatus = responseStatus;
+        return this;
+    }
+
+    // 장애 주입: errorRate 비율만큼 무작위로 500 응답 (서킷 브레이커 검증용)
+    public StubPgServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    // 동시 처리 중인 요청 수의 최댓값 (클라이언트 동시성 제한 검증용)
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            sleep(latency);
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                write(exchange, 500, Map.of("code", "STUB_FAULT"));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if ("GET".equals(exchange.getRequestMethod())) {
+                handleGet(exchange, path.substring("/v1/payments/".length()));
+                return;
+            }
+
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            Map<String, Object> body;
+            if (path.endsWith("/confirm")) {
+                body = Map.of(
+                    "paymentKey", request.path("paymentKey").asText(),
+                    "orderId", request.path("orderId").asText(),
+                    "status", "DONE",
+                    "totalAmount", request.path("amount").asLong());
+            } else if (path.endsWith("/cancel")) {
+                String paymentKey = path.substring("/v1/payments/".length(),
+                    path.length() - "/cancel".length());
+                body = Map.of("paymentKey", paymentKey, "status", "CANCELED");
+            } else {
+                write(exchange, 404, Map.of("code", "NOT_FOUND"));
+                return;
+            }
+
+            if (responseStatus != 200) {
+                write(exchange, responseStatus, Map.of("code", "STUB_ERROR"));
+            } else {
+                paymentStatuses.put((String) body.get("paymentKey"), (String) body.get("status"));
+                write(exchange, 200, body);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void handleGet(HttpExchange exchange, String paymentKey) throws IOException {
+        String status = paymentStatuses.get(paymentKey);
+        if (status == null) {
+            write(exchange, 404, Map.of("code", "NOT_FOUND_PAYMENT"));
+            return;
+        }
+        write(exchange, 200, Map.of("paymentKey", paymentKey, "status", status));
+    }
+
+    private void write(HttpExchange exchange, int status, Map<String, Object> body)
+        throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,111 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spartaclub.orderplatform.domain.payment.exception.PaymentErrorCode;
+import com.spartaclub.orderplatform.domain.payment.infrastructure.pg.dto.TossPaymentResponse;
+import com.spartaclub.orderplatform.global.config.web.WebClientConfig;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+class TossPaymentsClientTest {
+
+    private static final int MAX_CONNECTIONS = 4;
+
+    private StubPgServer stubPgServer;
+    private ConnectionProvider connectionProvider;
+    private TossPaymentsClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubPgServer = new StubPgServer(32);
+
+        WebClientConfig config = new WebClientConfig();
+        connectionProvider = config.tossConnectionProvider(MAX_CONNECTIONS, 100,
+            Duration.ofSeconds(5), Duration.ofSeconds(30));
+        WebClient webClient = config.tossWebClient(connectionProvider, stubPgServer.baseUrl(),
+            "test_sk", Duration.ofSeconds(1), Duration.ofMillis(500));
+
+        PgCallGuard pgCallGuard = new PgCallGuard(new SimpleMeterRegistry(), 50, 20, 50f,
+            Duration.ofSeconds(3), 80f, Duration.ofSeconds(30), 5, 100);
+        client = new TossPaymentsClient(webClient, false, Duration.ofSeconds(5), pgCallGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        stubPgServer.close();
+    }
+
+    @Test
+    @DisplayName("승인/취소: PG가 DONE/CANCELED 응답하면 true")
+    void confirmAndCancel_success() {
+        assertThat(client.confirmPayment("pk-1", "order-1", 10000L)).isTrue();
+        assertThat(client.cancelPayment("pk-1", "단순 변심")).isTrue();
+        assertThat(stubPgServer.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("결제 조회: 승인된 결제는 DONE, PG에 기록이 없으면 empty")
+    void getPayment() {
+        client.confirmPayment("pk-1", "order-1", 10000L);
+
+        assertThat(client.getPayment("pk-1")).get()
+            .extracting(TossPaymentResponse::status).isEqualTo("DONE");
+        assertThat(client.getPayment("pk-unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PG 4xx 응답은 거절(false)")
+    void confirm_declined() {
+        stubPgServer.responseStatus(400);
+
+        assertThat(client.confirmPayment("pk-1", "order-1", 10000L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("PG 5xx 응답은 PAYMENT_GATEWAY_ERROR")
+    void confirm_serverError() {
+        stubPgServer.responseStatus(500);
+
+        assertThatThrownBy(() -> client.confirmPayment("pk-1", "order-1", 10000L))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_ERROR);
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃 초과 시 PAYMENT_GATEWAY_ERROR")
+    void confirm_readTimeout() {
+        stubPgServer.latency(Duration.ofSeconds(2));
+
+        assertThatThrownBy(() -> client.confirmPayment("pk-1", "order-1", 10000L))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(PaymentErrorCode.PAYMENT_GATEWAY_ERROR);
+    }
+
+    @Test
+    @DisplayName("비동기 호출: 동시 요청은 커넥션 풀 크기 이내로만 PG에 도달")
+    void confirmFuture_boundedConcurrency() {
+        stubPgServer.latency(Duration.ofMillis(100));
+
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, 20)
+            .mapToObj(i -> client.confirmPaymentFuture("pk-" + i, "order-" + i, 1000L))
+            .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isTrue());
+        assertThat(stubPgServer.requestCount()).isEqualTo(20);
+        assertThat(stubPgServer.maxInFlight()).isLessThanOrEqualTo(MAX_CONNECTIONS);
+    }
+}
@@ -0,0 +1,93 @@
+package com.spartaclub.orderplatform.domain.payment.infrastructure.pg.settlement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spartaclub.orderplatform.domain.payment.domain.model.PaymentStatus;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SettlementFileReaderTest {
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    @DisplayName("헤더를 건너뛰고 CRLF/LF 줄바꿈을 모두 읽음")
+    void read_skipsHeaderAndHandlesCrlf() throws IOException {
+        Path file = write("orderId,paymentKey,status,amount\r\n"
+            + "ORD-1,pk-1,DONE,15000\r\n"
+            + "ORD-2,pk-2,CANCELED,8000\n"
+            + "ORD-3,pk-3,ABORTED,0");
+
+        List<SettlementRecord> records = readAll(file);
+
+        assertThat(records).containsExactly(
+            new SettlementRecord("ORD-1", "pk-1", "DONE", 15000),
+            new SettlementRecord("ORD-2", "pk-2", "CANCELED", 8000),
+            new SettlementRecord("ORD-3", "pk-3", "ABORTED", 0));
+        assertThat(records).extracting(SettlementRecord::expectedStatus)
+            .containsExactly(PaymentStatus.CAPTURED, PaymentStatus.REFUNDED, PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기보다 큰 파일도 줄 경계와 무관하게 모두 읽음")
+    void read_largeFileAcrossBufferBoundaries() throws IOException {
+        int rows = 50_000;
+        Path file = dir.resolve("large.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.format("ORD-%08d,pk-%d,DONE,%d%n", i, i, i));
+            }
+        }
+
+        long count = 0;
+        try (SettlementFileReader reader = SettlementFileReader.open(file)) {
+            while (reader.hasNext()) {
+                SettlementRecord record = reader.next();
+                assertThat(record.amount()).isEqualTo(count);
+                count++;
+            }
+        }
+
+        assertThat(count).isEqualTo(rows);
+    }
+
+    @Test
+    @DisplayName("주문번호가 오름차순이 아니면 실패")
+    void read_unsorted_fails() throws IOException {
+        Path file = write("ORD-2,pk-2,DONE,100\nORD-1,pk-1,DONE,100\n");
+
+        assertThatThrownBy(() -> readAll(file))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("line=2");
+    }
+
+    @Test
+    @DisplayName("필드 수나 금액 형식이 잘못된 줄은 실패")
+    void read_malformed_fails() throws IOException {
+        assertThatThrownBy(() -> readAll(write("ORD-1,pk-1,DONE\n")))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> readAll(write("ORD-1,pk-1,DONE,1a0\n")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(dir, "settlement", ".csv"), content);
+    }
+
+    private static List<SettlementRecord> readAll(Path file) throws IOException {
+        List<SettlementRecord> records = new ArrayList<>();
+        try (SettlementFileReader reader = SettlementFileReader.open(file)) {
+            reader.forEachRemaining(records::add);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,85 @@
+package com.spartaclub.orderplatform.domain.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.ai.application.service.AiService;
+import com.spartaclub.orderplatform.domain.product.application.mapper.ProductMapper;
+import com.spartaclub.orderplatform.domain.product.domain.repository.ProductAddressReaderRepository;
+import com.spartaclub.orderplatform.domain.product.domain.repository.ProductOptionGroupRepository;
+import com.spartaclub.orderplatform.domain.product.domain.repository.ProductRepository;
+import com.spartaclub.orderplatform.domain.product.domain.repository.ProductReviewReaderRepository;
+import com.spartaclub.orderplatform.domain.product.domain.repository.ProductStoreReaderRepository;
+import com.spartaclub.orderplatform.domain.product.exception.ProductErrorCode;
+import com.spartaclub.orderplatform.domain.product.infrastructure.search.ProductSearchIndex;
+import com.spartaclub.orderplatform.domain.store.application.mapper.StoreMapper;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductMapper productMapper;
+    @Mock
+    private ProductStoreReaderRepository storeRepository;
+    @Mock
+    private StoreMapper storeMapper;
+    @Mock
+    private ProductAddressReaderRepository addressRepository;
+    @Mock
+    private AiService aiService;
+    @Mock
+    private ProductOptionGroupRepository productOptionGroupRepository;
+    @Mock
+    private ProductReviewReaderRepository reviewRepository;
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @InjectMocks
+    private ProductService productService;
+
+    @Test
+    @DisplayName("상품명 검색 실패 - 공백만 입력한 검색어")
+    void search_blankKeyword_fail() {
+        BusinessException exception = assertThrows(
+            BusinessException.class,
+            () -> productService.getStoreListByProductNameAndAddressId(" ", UUID.randomUUID(),
+                PageRequest.of(0, 10))
+        );
+
+        assertThat(exception.getErrorCode()).isEqualTo(ProductErrorCode.INVALID_SEARCH_KEYWORD);
+        then(productSearchIndex).should(never()).searchStoreIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("상품명 검색 - 한 글자 검색어도 허용")
+    void search_singleCharacterKeyword_allowed() {
+        // given (검색어 검증을 통과하면 배송지 조회로 진행)
+        UUID addressId = UUID.randomUUID();
+        given(addressRepository.findById(addressId)).willReturn(Optional.empty());
+
+        // when & then
+        BusinessException exception = assertThrows(
+            BusinessException.class,
+            () -> productService.getStoreListByProductNameAndAddressId("죽", addressId,
+                PageRequest.of(0, 10))
+        );
+
+        assertThat(exception.getErrorCode()).isEqualTo(ProductErrorCode.ADDRESS_NOT_EXIST);
+    }
+}
@@ -0,0 +1,128 @@
+package com.spartaclub.orderplatform.domain.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreSearchArea;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class ProductSearchIndexTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private ProductSearchIndex index;
+
+    private final UUID STORE_A = UUID.randomUUID();
+    private final UUID STORE_B = UUID.randomUUID();
+    private final UUID KIMCHI = UUID.randomUUID();
+    private final UUID BULGOGI = UUID.randomUUID();
+    private final UUID JEYUK = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 밖에서는 즉시 반영
+        index = new ProductSearchIndex(null, null);
+        index.putStore(new StoreSearchArea(STORE_A, "전라북도 남원시 광한루로 456", NOW.minusDays(1), 4.5));
+        index.putStore(new StoreSearchArea(STORE_B, "충청북도 충주시 충원대로 238", NOW, 3.0));
+        index.putProduct(KIMCHI, STORE_A, "김치 찌개");
+        index.putProduct(BULGOGI, STORE_A, "불고기");
+        index.putProduct(JEYUK, STORE_B, "제육덮밥");
+    }
+
+    private List<UUID> search(String keyword, String area) {
+        return index.searchStoreIds(keyword, area, FIRST_PAGE).getContent();
+    }
+
+    @Test
+    @DisplayName("상품명 부분 일치로 가게 검색 (공백 무시)")
+    void search_byPartialName() {
+        assertThat(search("김치찌개", "")).containsExactly(STORE_A);
+        assertThat(search("덮밥", null)).containsExactly(STORE_B);
+        assertThat(search("고", "")).containsExactly(STORE_A);
+    }
+
+    @Test
+    @DisplayName("gram은 모두 있지만 순서가 다르면 검색되지 않음")
+    void search_verifiesContainment() {
+        assertThat(search("기고불", "")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배달 지역(도로명)으로 가게 필터링")
+    void search_filteredByArea() {
+        assertThat(search("김치", "광한루로")).containsExactly(STORE_A);
+        assertThat(search("김치", "충원대로")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 수정/삭제, 가게 삭제가 색인에 반영됨")
+    void incrementalUpdates() {
+        index.putProduct(KIMCHI, STORE_A, "된장찌개");
+        assertThat(search("김치", "")).isEmpty();
+        assertThat(search("된장", "")).containsExactly(STORE_A);
+
+        index.removeProduct(JEYUK);
+        assertThat(search("제육", "")).isEmpty();
+
+        index.removeStore(STORE_A);
+        assertThat(search("불고기", "")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 안에서 등록 시각 순으로 정렬/페이징하고 전체 건수를 함께 반환")
+    void search_pagedInIndex() {
+        UUID storeC = UUID.randomUUID();
+        index.putStore(new StoreSearchArea(storeC, "전라북도 남원시 광한루로 1", NOW.minusDays(2), 4.0));
+        index.putProduct(UUID.randomUUID(), storeC, "김치볶음밥");
+        index.putProduct(UUID.randomUUID(), STORE_B, "김치전");
+
+        Page<UUID> first = index.searchStoreIds("김치", "", PageRequest.of(0, 2));
+        Page<UUID> second = index.searchStoreIds("김치", "", PageRequest.of(1, 2));
+        Page<UUID> ascending = index.searchStoreIds("김치", "",
+            PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "createdAt")));
+
+        assertThat(first.getContent()).containsExactly(STORE_B, STORE_A);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(second.getContent()).containsExactly(storeC);
+        assertThat(ascending.getContent()).containsExactly(storeC, STORE_A);
+    }
+
+    @Test
+    @DisplayName("평균 평점 순 정렬과 페이지 경계")
+    void search_sortedByRating() {
+        UUID storeC = UUID.randomUUID();
+        index.putStore(new StoreSearchArea(storeC, "전라북도 남원시 광한루로 1", NOW.minusDays(2), 4.0));
+        index.putProduct(UUID.randomUUID(), storeC, "김치볶음밥");
+        index.putProduct(UUID.randomUUID(), STORE_B, "김치전");
+        Sort byRatingAsc = Sort.by(Sort.Direction.ASC, "rating");
+
+        Page<UUID> ascending = index.searchStoreIds("김치", "", PageRequest.of(0, 2, byRatingAsc));
+        Page<UUID> last = index.searchStoreIds("김치", "", PageRequest.of(1, 2, byRatingAsc));
+        Page<UUID> descending = index.searchStoreIds("김치", "",
+            PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "rating")));
+        Page<UUID> beyond = index.searchStoreIds("김치", "", PageRequest.of(2, 2, byRatingAsc));
+
+        assertThat(ascending.getContent()).containsExactly(STORE_B, storeC);
+        assertThat(last.getContent()).containsExactly(STORE_A);
+        assertThat(descending.getContent()).containsExactly(STORE_A, storeC, STORE_B);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검색어 글자 수는 공백을 제외하고 셈")
+    void keywordLength_ignoresWhitespace() {
+        assertThat(ProductSearchIndex.keywordLength(" 김 ")).isEqualTo(1);
+        assertThat(ProductSearchIndex.keywordLength("김치 찌개")).isEqualTo(4);
+        assertThat(ProductSearchIndex.keywordLength(null)).isZero();
+    }
+}
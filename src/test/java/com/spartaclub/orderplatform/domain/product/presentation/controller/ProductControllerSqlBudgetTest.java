@@ -0,0 +1,144 @@
+package com.spartaclub.orderplatform.domain.product.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.ai.application.service.AiCacheService;
+import com.spartaclub.orderplatform.domain.ai.presentation.dto.AiResponseDto;
+import com.spartaclub.orderplatform.domain.product.domain.entity.OptionGroupTag;
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.product.domain.entity.ProductOptionGroup;
+import com.spartaclub.orderplatform.domain.product.domain.entity.ProductOptionItem;
+import com.spartaclub.orderplatform.domain.product.domain.entity.ProductOptionMap;
+import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductAddOptionGroupsRequestDto;
+import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductCreateRequestDto;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * ProductController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class ProductControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @Autowired
+    private AiCacheService aiCacheService;
+
+    @Value("${ai.cache.history-per-user:20}")
+    private int historyPerUser;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    private User owner;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        owner = fixtures.owner();
+        store = fixtures.approvedStore(owner);
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 API는 옵션 그룹/아이템까지 클래스 예산(8) 안에서 처리")
+    void getProduct_withinBudget() throws Exception {
+        // given
+        Product product = fixtures.product(owner, store);
+        for (ProductOptionGroup group : optionGroups(2)) {
+            fixtures.persist(owner, ProductOptionItem.create(group, "기본", 0L));
+            fixtures.persist(owner, ProductOptionItem.create(group, "추가", 500L));
+            fixtures.persist(owner, ProductOptionMap.create(product, group));
+        }
+
+        // when & then
+        mockMvc.perform(get("/v1/products/{productId}", product.getProductId())
+                .with(fixtures.as(owner)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(8));
+    }
+
+    @Test
+    @DisplayName("상품 등록 API는 AI 생성 이력이 가득 차 있어도 메서드 예산(30) 안에서 처리")
+    void createProduct_withinBudget() throws Exception {
+        // given (사용자당 보관하는 최대 개수만큼 AI 생성 이력을 채워 로그 저장이 가장 많은 경우)
+        String description = "";
+        for (int i = 0; i < historyPerUser; i++) {
+            description = "AI 생성 설명 " + i;
+            aiCacheService.addResponse(owner.getUserId(), AiResponseDto.builder()
+                .prompt("프롬프트 " + i)
+                .generatedText(description)
+                .isUsed(false)
+                .build());
+        }
+        ProductCreateRequestDto requestDto = new ProductCreateRequestDto(store.getStoreId(),
+            "치즈버거 세트", 12000L, description, false);
+
+        // when & then
+        mockMvc.perform(post("/v1/products")
+                .with(fixtures.as(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isCreated())
+            .andExpect(withinSqlBudget(30));
+    }
+
+    @Test
+    @DisplayName("상품 옵션 그룹 연결 API는 메서드 예산(12) 안에서 처리")
+    void addGroupToProduct_withinBudget() throws Exception {
+        // given
+        Product product = fixtures.product(owner, store);
+        ProductAddOptionGroupsRequestDto requestDto = new ProductAddOptionGroupsRequestDto();
+        requestDto.setProductId(product.getProductId());
+        requestDto.setProductOptionGroupIds(optionGroups(3).stream()
+            .map(ProductOptionGroup::getProductOptionGroupId)
+            .toList());
+
+        // when & then
+        mockMvc.perform(post("/v1/products/add-group-to-product")
+                .with(fixtures.as(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(12));
+    }
+
+    private List<ProductOptionGroup> optionGroups(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> fixtures.persist(owner,
+                ProductOptionGroup.create("옵션 그룹 " + i, OptionGroupTag.OPTIONAL, 0L, 2L)))
+            .toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.spartaclub.orderplatform.domain.product.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.product.domain.entity.OptionGroupTag;
+import com.spartaclub.orderplatform.domain.product.presentation.dto.ProductOptionGroupRequestDto;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * ProductOptionGroupController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class ProductOptionGroupControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("상품 옵션 그룹 생성 API는 클래스 예산(6) 안에서 처리")
+    void createProductOptionGroup_withinBudget() throws Exception {
+        // given
+        User owner = fixtures.owner();
+        ProductOptionGroupRequestDto requestDto = ProductOptionGroupRequestDto.builder()
+            .optionGroupName("토핑 선택")
+            .tag(OptionGroupTag.OPTIONAL)
+            .minSelect(0L)
+            .maxSelect(3L)
+            .build();
+
+        // when & then
+        mockMvc.perform(post("/v1/product-option-groups")
+                .with(fixtures.as(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(6));
+    }
+}
@@ -0,0 +1,86 @@
+package com.spartaclub.orderplatform.domain.review.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.order.application.service.OrderService;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto;
+import com.spartaclub.orderplatform.domain.order.presentation.dto.request.PlaceOrderRequestDto.OrderItemRequest;
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.review.presentation.dto.request.ReviewCreateRequestDto;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * ReviewController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class ReviewControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @Autowired
+    private OrderService orderService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("리뷰 등록 API는 중복 검사/연관 조회/평점 반영을 클래스 예산(8) 안에서 처리")
+    void createReview_withinBudget() throws Exception {
+        // given
+        User owner = fixtures.owner();
+        User customer = fixtures.customer();
+        Store store = fixtures.approvedStore(owner);
+        Product product = fixtures.product(owner, store);
+        PlaceOrderRequestDto request = new PlaceOrderRequestDto(store.getStoreId(),
+            "서울특별시 종로구 사직로 161", List.of(new OrderItemRequest(product.getProductId(), 1)),
+            null);
+        UUID orderId = fixtures.runAs(customer,
+                () -> orderService.placeOrders(List.of(request), customer))
+            .placedOrders().get(0).orderId();
+
+        ReviewCreateRequestDto requestDto = new ReviewCreateRequestDto();
+        requestDto.setStoreId(store.getStoreId());
+        requestDto.setOrderId(orderId);
+        requestDto.setProductId(product.getProductId());
+        requestDto.setRating(5);
+        requestDto.setContents("맛있어요");
+
+        // when & then
+        mockMvc.perform(post("/v1/reviews")
+                .with(fixtures.as(customer))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isCreated())
+            .andExpect(withinSqlBudget(8));
+    }
+}
@@ -0,0 +1,69 @@
+package com.spartaclub.orderplatform.domain.store.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerStoreIndexTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private OwnerStoreIndex ownerStoreIndex;
+
+    @BeforeEach
+    void setUp() {
+        ownerStoreIndex = new OwnerStoreIndex(storeRepository, new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("소유 가게 ID는 최초 1회만 DB에서 적재하고 이후 메모리에서 응답")
+    void storeIdsOf_cached() {
+        UUID storeId = UUID.randomUUID();
+        given(storeRepository.findStoreIdsByOwnerId(OWNER_ID)).willReturn(List.of(storeId));
+
+        assertThat(ownerStoreIndex.storeIdsOf(OWNER_ID)).containsExactly(storeId);
+        assertThat(ownerStoreIndex.storeIdsOf(OWNER_ID)).containsExactly(storeId);
+
+        verify(storeRepository, times(1)).findStoreIdsByOwnerId(OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 적재해 새 가게가 반영됨")
+    void invalidate_reloads() {
+        UUID first = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        given(storeRepository.findStoreIdsByOwnerId(OWNER_ID))
+            .willReturn(List.of(first), List.of(first, created));
+
+        assertThat(ownerStoreIndex.storeIdsOf(OWNER_ID)).containsExactly(first);
+        ownerStoreIndex.invalidate(OWNER_ID);
+
+        assertThat(ownerStoreIndex.storeIdsOf(OWNER_ID)).containsExactlyInAnyOrder(first, created);
+    }
+
+    @Test
+    @DisplayName("가게가 없는 소유자는 빈 집합")
+    void storeIdsOf_empty() {
+        given(storeRepository.findStoreIdsByOwnerId(OWNER_ID)).willReturn(List.of());
+
+        assertThat(ownerStoreIndex.storeIdsOf(OWNER_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.spartaclub.orderplatform.domain.store.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.spartaclub.orderplatform.domain.review.infrastructure.repository.ReviewRepository;
+import com.spartaclub.orderplatform.domain.store.application.service.StoreRatingService.ReconcileResult;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.dto.StoreRatingSnapshot;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingServiceTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private StoreRatingService storeRatingService;
+
+    private final UUID STORE_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("리뷰 등록/삭제 시 평점 합계와 리뷰 수를 증감")
+    void addAndRemoveReview() {
+        given(storeRepository.addRating(eq(STORE_ID), anyLong(), anyInt())).willReturn(1);
+
+        storeRatingService.addReview(STORE_ID, 4);
+        storeRatingService.removeReview(STORE_ID, 4);
+
+        verify(storeRepository).addRating(STORE_ID, 4L, 1);
+        verify(storeRepository).addRating(STORE_ID, -4L, -1);
+    }
+
+    @Test
+    @DisplayName("리뷰 평점 수정 시 차이만큼 합계 증감, 같은 평점이면 UPDATE 없음")
+    void changeReview() {
+        given(storeRepository.addRating(eq(STORE_ID), anyLong(), anyInt())).willReturn(1);
+
+        storeRatingService.changeReview(STORE_ID, 5, 2);
+        storeRatingService.changeReview(STORE_ID, 3, 3);
+
+        verify(storeRepository).addRating(STORE_ID, -3L, 0);
+        verify(storeRepository, never()).addRating(STORE_ID, 0L, 0);
+    }
+
+    @Test
+    @DisplayName("평점 합계가 없는(백필 전) 가게는 잠금 후 실제 리뷰로 재집계해 덮어쓰기")
+    void addReview_withoutRatingSum_backfillsFromReviews() {
+        given(storeRepository.addRating(STORE_ID, 5L, 1)).willReturn(0);
+        given(storeRepository.lockByIds(List.of(STORE_ID))).willReturn(List.of(STORE_ID));
+        given(reviewRepository.sumRatingAndCountByStoreIds(List.of(STORE_ID)))
+            .willReturn(List.<Object[]>of(new Object[]{STORE_ID, 12L, 3L}));
+
+        storeRatingService.addReview(STORE_ID, 5);
+
+        verify(storeRepository).overwriteRating(STORE_ID, 12L, 3, Store.averageOf(12L, 3));
+    }
+
+    @Test
+    @DisplayName("반영 대상 가게가 없으면 재집계하지 않음")
+    void addReview_missingStore() {
+        given(storeRepository.addRating(STORE_ID, 5L, 1)).willReturn(0);
+        given(storeRepository.lockByIds(List.of(STORE_ID))).willReturn(List.of());
+
+        storeRatingService.addReview(STORE_ID, 5);
+
+        verifyNoInteractions(reviewRepository);
+        verify(storeRepository, never()).overwriteRating(eq(STORE_ID), anyLong(), anyInt(),
+            anyDouble());
+    }
+
+    @Test
+    @DisplayName("정합성 보정: 저장된 집계가 실제 리뷰 집계와 다르면 잠금 후 덮어쓰기")
+    void reconcileChunk_correctsDrift() {
+        UUID okStoreId = UUID.randomUUID();
+        given(storeRepository.findRatingChunk(STORE_ID, 2)).willReturn(List.of(
+            new StoreRatingSnapshot(okStoreId, 9L, 2, 4.5),
+            new StoreRatingSnapshot(STORE_ID, 3L, 1, 3.0)));
+        given(reviewRepository.sumRatingAndCountByStoreIds(anyCollection())).willReturn(List.of(
+            new Object[]{okStoreId, 9L, 2L},
+            new Object[]{STORE_ID, 7L, 2L}));
+
+        ReconcileResult result = storeRatingService.reconcileChunk(STORE_ID, 2);
+
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.corrected()).isEqualTo(1);
+        assertThat(result.lastStoreId()).isEqualTo(STORE_ID);
+        verify(storeRepository).lockByIds(List.of(STORE_ID));
+        verify(storeRepository).overwriteRating(STORE_ID, 7L, 2, Store.averageOf(7L, 2));
+        verify(storeRepository, never()).overwriteRating(eq(okStoreId), anyLong(), anyInt(),
+            anyDouble());
+    }
+
+    @Test
+    @DisplayName("정합성 보정: 빈 청크면 아무 작업도 하지 않음")
+    void reconcileChunk_empty() {
+        given(storeRepository.findRatingChunk(STORE_ID, 10)).willReturn(List.of());
+
+        ReconcileResult result = storeRatingService.reconcileChunk(STORE_ID, 10);
+
+        assertThat(result.scanned()).isZero();
+        verifyNoInteractions(reviewRepository);
+    }
+}
@@ -27,6 +27,7 @@ import com.spartaclub.orderplatform.domain.store.domain.model.Store;
 import com.spartaclub.orderplatform.domain.store.domain.model.StoreCategory;
 import com.spartaclub.orderplatform.domain.store.domain.model.StoreStatus;
 import com.spartaclub.orderplatform.domain.store.domain.repository.StoreRepository;
+import com.spartaclub.orderplatform.domain.store.domain.repository.StoreSearchIndexer;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.request.RejectStoreRequestDto;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.request.StoreCategoryRequestDto;
 import com.spartaclub.orderplatform.domain.store.presentation.dto.request.StoreRequestDto;
@@ -71,6 +72,12 @@ class StoreServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private StoreSearchIndexer storeSearchIndexer;
+
+    @Mock
+    private OwnerStoreIndex ownerStoreIndex;
+
     private Store store;
     private UUID storeId;
     private UUID categoryId;
@@ -0,0 +1,93 @@
+package com.spartaclub.orderplatform.domain.store.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.domain.store.application.service.StoreRatingService;
+import com.spartaclub.orderplatform.domain.store.application.service.StoreRatingService.ReconcileResult;
+import com.spartaclub.orderplatform.global.application.lock.ChunkedJobRunner;
+import com.spartaclub.orderplatform.global.application.lock.SchedulerLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreReviewSchedulerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private StoreRatingService storeRatingService;
+    private SchedulerLockService schedulerLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private StoreReviewScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        storeRatingService = mock(StoreRatingService.class);
+        schedulerLockService = mock(SchedulerLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new StoreReviewScheduler(storeRatingService,
+            new ChunkedJobRunner(schedulerLockService), meterRegistry, CHUNK_SIZE, 100,
+            Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("이전 청크의 마지막 가게 다음부터 이어서 보정하고 검사 건수를 메트릭으로 기록")
+    void reconcileStoreRatings_continuesFromLastStore() {
+        runTaskWhenLocked(true);
+        UUID lastStoreId = UUID.randomUUID();
+        given(storeRatingService.reconcileChunk(any(UUID.class), eq(CHUNK_SIZE)))
+            .willReturn(new ReconcileResult(CHUNK_SIZE, 1, lastStoreId),
+                new ReconcileResult(0, 0, null));
+
+        scheduler.reconcileStoreRatings();
+
+        then(storeRatingService).should().reconcileChunk(lastStoreId, CHUNK_SIZE);
+        assertThat(meterRegistry.get("store.rating.reconcile.scanned").counter().count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 중이면 실행하지 않음")
+    void reconcileStoreRatings_skipsWhenLocked() {
+        runTaskWhenLocked(false);
+
+        scheduler.reconcileStoreRatings();
+
+        then(storeRatingService).should(never()).reconcileChunk(any(), eq(CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("기동 시 평점 합계가 없는 가게가 있을 때만 보정 실행")
+    void backfillOnStartup_onlyWhenNeeded() {
+        runTaskWhenLocked(true);
+        given(storeRatingService.needsBackfill()).willReturn(false);
+
+        scheduler.backfillOnStartup();
+        then(storeRatingService).should(never()).reconcileChunk(any(), eq(CHUNK_SIZE));
+
+        given(storeRatingService.needsBackfill()).willReturn(true);
+        given(storeRatingService.reconcileChunk(any(UUID.class), eq(CHUNK_SIZE)))
+            .willReturn(new ReconcileResult(0, 0, null));
+
+        scheduler.backfillOnStartup();
+        then(storeRatingService).should().reconcileChunk(any(), eq(CHUNK_SIZE));
+    }
+
+    private void runTaskWhenLocked(boolean acquired) {
+        given(schedulerLockService.runExclusively(eq("store-rating-reconcile"),
+            any(Duration.class), any(Runnable.class))).willAnswer(invocation -> {
+            if (acquired) {
+                invocation.<Runnable>getArgument(2).run();
+            }
+            return acquired;
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.spartaclub.orderplatform.domain.store.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spartaclub.orderplatform.domain.category.domain.model.Category;
+import com.spartaclub.orderplatform.domain.category.domain.model.CategoryType;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.store.domain.model.StoreCategory;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * StoreController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class StoreControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("음식점 상세 조회 API는 카테고리/상품이 여러 개여도 클래스 예산(6) 안에서 처리")
+    void searchStoreDetail_withinBudget() throws Exception {
+        // given
+        User owner = fixtures.owner();
+        User customer = fixtures.customer();
+        Store store = fixtures.approvedStore(owner);
+        for (CategoryType type : new CategoryType[]{CategoryType.KOREANFOOD,
+            CategoryType.SNACKFOOD}) {
+            Category category = fixtures.persist(owner, Category.of(type.name()));
+            fixtures.persist(owner, new StoreCategory(store, category));
+        }
+        fixtures.product(owner, store);
+        fixtures.product(owner, store);
+
+        // when & then
+        mockMvc.perform(get("/v1/stores/search/{storeId}", store.getStoreId())
+                .with(fixtures.as(customer)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(6));
+    }
+}
@@ -22,6 +22,7 @@ import com.spartaclub.orderplatform.domain.user.presentation.dto.UserProfileResp
 import com.spartaclub.orderplatform.domain.user.presentation.dto.UserSignupRequestDto;
 import com.spartaclub.orderplatform.domain.user.presentation.dto.UserSignupResponseDto;
 import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.auth.service.UserPrincipalCache;
 import com.spartaclub.orderplatform.global.exception.BusinessException;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,6 +58,9 @@ class UserServiceUnitTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserService userService;
 
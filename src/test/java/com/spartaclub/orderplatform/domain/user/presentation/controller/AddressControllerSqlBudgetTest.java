@@ -0,0 +1,64 @@
+package com.spartaclub.orderplatform.domain.user.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spartaclub.orderplatform.domain.user.domain.entity.Address;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * AddressController SQL 예산 테스트 - 인증부터 응답까지 실제 필터 체인/DB로 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class AddressControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("주소 목록 조회 API는 주소가 여러 개여도 클래스 예산(6) 안에서 처리")
+    void getAllAddresses_withinBudget() throws Exception {
+        // given
+        User customer = fixtures.customer();
+        for (int i = 0; i < 3; i++) {
+            fixtures.persist(customer, Address.builder()
+                .name("홍길동")
+                .phoneNumber("01012345678")
+                .postCode("03000")
+                .roadNameAddress("서울특별시 종로구 사직로 " + i)
+                .detailedAddress(i + "층")
+                .addressName("주소" + i)
+                .defaultAddress(i == 0)
+                .user(customer)
+                .build());
+        }
+
+        // when & then
+        mockMvc.perform(get("/v1/addresses").with(fixtures.as(customer)))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(6));
+    }
+}
@@ -0,0 +1,74 @@
+package com.spartaclub.orderplatform.domain.user.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.user.domain.entity.RefreshToken;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetFixtures;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * AuthController SQL 예산 테스트 - 실제 서비스/DB로 토큰 갱신을 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetFixtures.class)
+class AuthControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlBudgetFixtures fixtures;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("토큰 갱신 API는 조회/삭제/저장을 클래스 예산(4) 안에서 처리")
+    void refreshToken_withinBudget() throws Exception {
+        // given (토큰 서명 검증은 목으로 통과시키고 저장된 리프레시 토큰으로 갱신)
+        User customer = fixtures.customer();
+        String refreshToken = "budget-refresh-" + customer.getUserId();
+        fixtures.persist(customer,
+            new RefreshToken(refreshToken, customer, LocalDateTime.now().plusDays(1)));
+
+        given(jwtUtil.validateToken(refreshToken)).willReturn(true);
+        given(jwtUtil.isRefreshToken(refreshToken)).willReturn(true);
+        given(jwtUtil.createAccessToken(any(), any(), any())).willReturn("new-access-token");
+        given(jwtUtil.createRefreshToken(any()))
+            .willReturn("budget-rotated-" + customer.getUserId());
+        given(jwtUtil.getRefreshTokenExpiration()).willReturn(86_400_000L);
+        given(jwtUtil.getAccessTokenExpirationInSeconds()).willReturn(3_600L);
+
+        // when & then
+        mockMvc.perform(post("/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))))
+            .andExpect(status().isOk())
+            .andExpect(withinSqlBudget(4));
+    }
+}
@@ -0,0 +1,59 @@
+package com.spartaclub.orderplatform.domain.user.presentation.controller;
+
+import static com.spartaclub.orderplatform.global.infrastructure.sql.SqlBudgetAssertions.withinSqlBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.domain.user.domain.entity.UserRole;
+import com.spartaclub.orderplatform.domain.user.presentation.dto.UserSignupRequestDto;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * UserController SQL 예산 테스트 - 실제 서비스/DB로 요청을 처리해 @SqlBudget 안에서 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("회원가입 API는 중복 검사와 저장을 클래스 예산(6) 안에서 처리")
+    void signup_withinBudget() throws Exception {
+        // given
+        UserSignupRequestDto requestDto = new UserSignupRequestDto();
+        requestDto.setUsername("budgetuser");
+        requestDto.setEmail("budget@example.com");
+        requestDto.setPassword("Password123!");
+        requestDto.setNickname("budgetnick");
+        requestDto.setPhoneNumber("01098765432");
+        requestDto.setRole(UserRole.CUSTOMER);
+
+        // when & then
+        mockMvc.perform(post("/v1/users/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isCreated())
+            .andExpect(withinSqlBudget(6));
+    }
+}
@@ -0,0 +1,206 @@
+package com.spartaclub.orderplatform.global.application.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecord;
+import com.spartaclub.orderplatform.global.domain.idempotency.IdempotencyRecordRepository;
+import com.spartaclub.orderplatform.global.exception.BusinessException;
+import com.spartaclub.orderplatform.global.exception.IdempotencyErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String OPERATION = "order.place";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, objectMapper,
+            meterRegistry, Duration.ofHours(24), Duration.ofMinutes(1), Duration.ofSeconds(5),
+            100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 기록 없이 그대로 실행")
+    void execute_withoutKey() {
+        Result result = idempotencyService.execute(OPERATION, null, new Request("a"),
+            Result.class, () -> new Result("ok"));
+
+        assertThat(result).isEqualTo(new Result("ok"));
+        then(idempotencyRecordRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("처음 요청은 실행 후 응답 저장, 같은 키 재시도는 실행 없이 처음 응답 반환")
+    void execute_replaysCompletedResponse() {
+        given(idempotencyRecordRepository.claim(any(), any(), any(), any())).willReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+
+        Result first = idempotencyService.execute(OPERATION, "key-1", new Request("a"),
+            Result.class, () -> new Result("order-" + executions.incrementAndGet()));
+        Result retried = idempotencyService.execute(OPERATION, "key-1", new Request("a"),
+            Result.class, () -> new Result("order-" + executions.incrementAndGet()));
+
+        assertThat(first).isEqualTo(new Result("order-1"));
+        assertThat(retried).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+        then(idempotencyRecordRepository).should()
+            .complete(any(), anyString(), any());
+        then(idempotencyRecordRepository).should(times(1)).claim(any(), any(), any(), any());
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "replayed")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 완료된 키는 DB에 저장된 응답 반환")
+    void execute_replaysFromDatabase() {
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.isCompleted()).willReturn(true);
+        given(record.getRequestHash()).willReturn(hashOf(new Request("a")));
+        given(record.getResponseBody()).willReturn("{\"id\":\"order-1\"}");
+        given(idempotencyRecordRepository.claim(any(), any(), any(), any())).willReturn(false);
+        given(idempotencyRecordRepository.findById(any())).willReturn(Optional.of(record));
+
+        Result result = idempotencyService.execute(OPERATION, "key-1", new Request("a"),
+            Result.class, () -> {
+                throw new AssertionError("재실행되면 안 됨");
+            });
+
+        assertThat(result).isEqualTo(new Result("order-1"));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED")
+    void execute_keyReusedWithDifferentRequest() {
+        given(idempotencyRecordRepository.claim(any(), any(), any(), any())).willReturn(true);
+        idempotencyService.execute(OPERATION, "key-1", new Request("a"), Result.class,
+            () -> new Result("order-1"));
+
+        assertThatThrownBy(() -> idempotencyService.execute(OPERATION, "key-1",
+            new Request("b"), Result.class, () -> new Result("order-2")))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 처리 중이면 기다리지 않고 IDEMPOTENCY_IN_PROGRESS")
+    void execute_inProgressElsewhere() {
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.isCompleted()).willReturn(false);
+        given(idempotencyRecordRepository.claim(any(), any(), any(), any())).willReturn(false);
+        given(idempotencyRecordRepository.findById(any())).willReturn(Optional.of(record));
+
+        assertThatThrownBy(() -> idempotencyService.execute(OPERATION, "key-1",
+            new Request("a"), Result.class, () -> new Result("order-1")))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 기록을 지워 같은 키로 재시도 가능")
+    void execute_failureReleasesKey() {
+        given(idempotencyRecordRepository.claim(any(), any(), any(), any())).willReturn(true);
+
+        assertThatThrownBy(() -> idempotencyService.execute(OPERATION, "key-1",
+            new Request("a"), Result.class, () -> {
+                throw new IllegalStateException("down");
+            }))
+            .isInstanceOf(IllegalStateException.class);
+
+        then(idempotencyRecordRepository).should().release(any());
+        then(idempotencyRecordRepository).should(never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 노드의 동시 중복 요청은 한 번만 실행하고 같은 응답을 받음")
+    void execute_collapsesConcurrentDuplicates() throws Exception {
+        given(idempotencyRecordRepository.claim(any(), any(), any(), any())).willReturn(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<Result> first = CompletableFuture.supplyAsync(() ->
+            idempotencyService.execute(OPERATION, "key-1", new Request("a"), Result.class,
+                () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return new Result("order-1");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Result> duplicate = CompletableFuture.supplyAsync(() ->
+            idempotencyService.execute(OPERATION, "key-1", new Request("a"), Result.class,
+                () -> new Result("order-" + (executions.incrementAndGet()))));
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(new Result("order-1"));
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(new Result("order-1"));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("키 길이가 100자를 넘으면 INVALID_IDEMPOTENCY_KEY")
+    void execute_invalidKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(OPERATION, "k".repeat(101),
+            new Request("a"), Result.class, () -> new Result("order-1")))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
+    private UUID hashOf(Object request) {
+        try {
+            return UUID.nameUUIDFromBytes(
+                objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Request(String value) {
+
+    }
+
+    record Result(String id) {
+
+    }
+}
@@ -0,0 +1,112 @@
+package com.spartaclub.orderplatform.global.application.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedJobRunnerTest {
+
+    private static final String LOCK = "test-job";
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_CHUNKS = 3;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChunkedJob job;
+    private ChunkedJobRunner chunkedJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new ChunkedJob(LOCK, Duration.ofMinutes(10), CHUNK_SIZE, MAX_CHUNKS,
+            Counter.builder("test.processed").register(meterRegistry),
+            Timer.builder("test.duration").register(meterRegistry));
+        chunkedJobRunner = new ChunkedJobRunner(schedulerLockService);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차지 않을 때까지 반복하고 처리 건수/소요 시간 기록")
+    void run_untilPartialChunk() {
+        runTaskWhenLocked(true);
+        Chunks chunks = new Chunks(CHUNK_SIZE, 40, CHUNK_SIZE);
+
+        OptionalInt processed = chunkedJobRunner.run(job, chunks);
+
+        assertThat(processed).hasValue(140);
+        assertThat(chunks.calls).isEqualTo(2);
+        assertThat(meterRegistry.get("test.processed").counter().count()).isEqualTo(140.0);
+        assertThat(meterRegistry.get("test.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 회차 청크 수 상한에서 중단")
+    void run_stopsAtMaxChunks() {
+        runTaskWhenLocked(true);
+        Chunks chunks = new Chunks(CHUNK_SIZE, CHUNK_SIZE, CHUNK_SIZE, CHUNK_SIZE);
+
+        OptionalInt processed = chunkedJobRunner.run(job, chunks);
+
+        assertThat(processed).hasValue(CHUNK_SIZE * MAX_CHUNKS);
+        assertThat(chunks.calls).isEqualTo(MAX_CHUNKS);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 청크를 실행하지 않고 empty 반환")
+    void run_lockedElsewhere() {
+        runTaskWhenLocked(false);
+        Chunks chunks = new Chunks(CHUNK_SIZE);
+
+        OptionalInt processed = chunkedJobRunner.run(job, chunks);
+
+        assertThat(processed).isEmpty();
+        assertThat(chunks.calls).isZero();
+        assertThat(meterRegistry.get("test.duration").timer().count()).isZero();
+    }
+
+    private void runTaskWhenLocked(boolean acquired) {
+        given(schedulerLockService.runExclusively(eq(LOCK), any(Duration.class),
+            any(Runnable.class))).willAnswer(invocation -> {
+            if (acquired) {
+                invocation.<Runnable>getArgument(2).run();
+            }
+            return acquired;
+        });
+    }
+
+    // 호출마다 정해진 처리 건수를 차례로 반환
+    private static class Chunks implements IntSupplier {
+
+        private final Deque<Integer> counts;
+        private int calls;
+
+        Chunks(Integer... counts) {
+            this.counts = new ArrayDeque<>(List.of(counts));
+        }
+
+        @Override
+        public int getAsInt() {
+            calls++;
+            return counts.pop();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.spartaclub.orderplatform.global.application.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.global.domain.lock.SchedulerLockRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockServiceTest {
+
+    private static final String LOCK = "test-job";
+
+    @Mock
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private SchedulerLockService schedulerLockService;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLockService = new SchedulerLockService(schedulerLockRepository);
+    }
+
+    @Test
+    @DisplayName("잠금을 얻으면 작업 실행 후 해제")
+    void runExclusively_acquired() {
+        given(schedulerLockRepository.tryAcquire(eq(LOCK), any(), any(), anyString()))
+            .willReturn(true);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean executed = schedulerLockService.runExclusively(LOCK, Duration.ofMinutes(1),
+            runs::incrementAndGet);
+
+        assertThat(executed).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+        then(schedulerLockRepository).should().release(eq(LOCK), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 점유 중이면 실행하지 않고 해제도 하지 않음")
+    void runExclusively_notAcquired() {
+        given(schedulerLockRepository.tryAcquire(eq(LOCK), any(), any(), anyString()))
+            .willReturn(false);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean executed = schedulerLockService.runExclusively(LOCK, Duration.ofMinutes(1),
+            runs::incrementAndGet);
+
+        assertThat(executed).isFalse();
+        assertThat(runs.get()).isZero();
+        then(schedulerLockRepository).should(never()).release(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 잠금은 해제")
+    void runExclusively_releasesOnFailure() {
+        given(schedulerLockRepository.tryAcquire(eq(LOCK), any(), any(), anyString()))
+            .willReturn(true);
+
+        assertThatThrownBy(() -> schedulerLockService.runExclusively(LOCK, Duration.ofMinutes(1),
+            () -> {
+                throw new IllegalStateException("fail");
+            })).isInstanceOf(IllegalStateException.class);
+        then(schedulerLockRepository).should().release(eq(LOCK), any(), anyString());
+    }
+}
@@ -0,0 +1,104 @@
+package com.spartaclub.orderplatform.global.application.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboxRelayTest {
+
+    private OutboxService outboxService;
+    private OutboxEventHandler orderHandler;
+    private OutboxEventHandler paymentHandler;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = mock(OutboxService.class);
+        orderHandler = handler(EnumSet.of(OutboxEventType.ORDER_PLACED));
+        paymentHandler = handler(EnumSet.of(OutboxEventType.PAYMENT_STATUS_CHANGED));
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxService, List.of(orderHandler, paymentHandler),
+            meterRegistry);
+    }
+
+    @Test
+    @DisplayName("점유한 이벤트를 종류별 핸들러에 전달하고 성공한 이벤트를 완료 처리")
+    void relay_dispatchesByType() {
+        OutboxEvent placed = event(OutboxEventType.ORDER_PLACED);
+        OutboxEvent paid = event(OutboxEventType.PAYMENT_STATUS_CHANGED);
+        given(outboxService.claim(10)).willReturn(List.of(placed, paid));
+
+        int claimed = outboxRelay.relay(10);
+
+        assertThat(claimed).isEqualTo(2);
+        then(orderHandler).should().handle(List.of(placed));
+        then(paymentHandler).should().handle(List.of(paid));
+        then(outboxService).should().complete(
+            argThat(ids -> ids.containsAll(List.of(placed.getEventId(), paid.getEventId()))),
+            argThat(Map::isEmpty));
+        assertThat(meterRegistry.get("outbox.events.dispatched").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("outbox.relay.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("핸들러 실패 시 해당 이벤트만 재시도 대상, 다른 종류는 완료")
+    void relay_handlerFailure_retriesOnlyFailedEvents() {
+        OutboxEvent placed = event(OutboxEventType.ORDER_PLACED);
+        OutboxEvent paid = event(OutboxEventType.PAYMENT_STATUS_CHANGED);
+        given(outboxService.claim(10)).willReturn(List.of(placed, paid));
+        willThrow(new IllegalStateException("down")).given(paymentHandler).handle(List.of(paid));
+
+        outboxRelay.relay(10);
+
+        then(outboxService).should().complete(
+            argThat(ids -> ids.size() == 1 && ids.contains(placed.getEventId())),
+            argThat(failures -> failures.size() == 1
+                && failures.get(paid.getEventId()).contains("down")));
+        assertThat(meterRegistry.get("outbox.events.retried").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("점유한 이벤트가 없으면 완료 처리 생략")
+    void relay_empty() {
+        given(outboxService.claim(anyInt())).willReturn(List.of());
+
+        assertThat(outboxRelay.relay(10)).isZero();
+        then(outboxService).should(never()).complete(any(), any());
+    }
+
+    private static OutboxEventHandler handler(Set<OutboxEventType> types) {
+        OutboxEventHandler handler = mock(OutboxEventHandler.class);
+        given(handler.supports()).willReturn(types);
+        return handler;
+    }
+
+    private static OutboxEvent event(OutboxEventType type) {
+        OutboxEvent event = mock(OutboxEvent.class);
+        given(event.getEventId()).willReturn(UUID.randomUUID());
+        given(event.getEventType()).willReturn(type);
+        given(event.getOccurredAt()).willReturn(LocalDateTime.now().minusSeconds(1));
+        return event;
+    }
+}
@@ -0,0 +1,108 @@
+package com.spartaclub.orderplatform.global.application.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEvent.OutboxStatus;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxEventType;
+import com.spartaclub.orderplatform.global.domain.outbox.OutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxService(outboxRepository, eventPublisher, Duration.ofMinutes(1),
+            Duration.ofSeconds(1), Duration.ofSeconds(30), 3);
+    }
+
+    @Test
+    @DisplayName("기록한 이벤트는 저장 후 같은 트랜잭션에서 기록 알림으로 발행")
+    void appendAll_savesAndNotifies() {
+        List<OutboxEvent> events = List.of(event(), event());
+
+        outboxService.appendAll(events);
+
+        then(outboxRepository).should().saveAll(events);
+        then(eventPublisher).should().publishEvent(new OutboxAppendedEvent(events));
+    }
+
+    @Test
+    @DisplayName("점유한 이벤트는 시도 횟수 증가, lease 동안 다시 점유되지 않음")
+    void claim_leasesEvents() {
+        OutboxEvent event = event();
+        given(outboxRepository.findAvailableForUpdate(any(), anyInt()))
+            .willReturn(List.of(event));
+
+        List<OutboxEvent> claimed = outboxService.claim(10);
+
+        assertThat(claimed).containsExactly(event);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+    }
+
+    @Test
+    @DisplayName("성공은 삭제, 실패는 백오프 후 재시도, 최대 시도 초과는 DEAD")
+    void complete_retriesAndMarksDead() {
+        UUID succeeded = UUID.randomUUID();
+        OutboxEvent retry = event();
+        retry.claim(LocalDateTime.now());
+        OutboxEvent dead = event();
+        for (int i = 0; i < 3; i++) {
+            dead.claim(LocalDateTime.now());
+        }
+        given(outboxRepository.findAllById(any())).willReturn(List.of(retry, dead));
+
+        int deadCount = outboxService.complete(List.of(succeeded),
+            Map.of(retry.getEventId(), "timeout", dead.getEventId(), "timeout"));
+
+        then(outboxRepository).should().deleteAllById(List.of(succeeded));
+        assertThat(deadCount).isEqualTo(1);
+        assertThat(retry.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retry.getLastError()).isEqualTo("timeout");
+        assertThat(retry.getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(dead.getStatus()).isEqualTo(OutboxStatus.DEAD);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 2배씩 늘어나고 최대값에서 멈춤")
+    void backoff_exponentialWithCap() {
+        assertThat(outboxService.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outboxService.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(outboxService.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(outboxService.backoff(10)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    // 식별자는 INSERT 시 생성되므로 테스트에서 직접 지정
+    private static OutboxEvent event() {
+        OutboxEvent event = OutboxEvent.of(OutboxEventType.ORDER_PLACED, UUID.randomUUID(),
+            Map.of("status", "PAYMENT_PENDING"), LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "eventId", UUID.randomUUID());
+        return event;
+    }
+}
@@ -0,0 +1,62 @@
+package com.spartaclub.orderplatform.global.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+            Base64.getEncoder().encodeToString(new byte[64]));
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 15 * 60 * 1000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 60 * 60 * 1000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("parseToken: 한 번의 파싱으로 userId, role, type, 만료 시각을 반환")
+    void parseToken_accessToken() {
+        String token = jwtUtil.createAccessToken(7L, "user@test.com", "OWNER");
+
+        VerifiedToken verified = jwtUtil.parseToken(token);
+
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.role()).isEqualTo("OWNER");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.expiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("parseToken: 같은 토큰은 캐시된 검증 결과를 재사용")
+    void parseToken_cached() {
+        String token = jwtUtil.createRefreshToken(3L);
+
+        VerifiedToken first = jwtUtil.parseToken(token);
+        VerifiedToken second = jwtUtil.parseToken(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.isRefreshToken()).isTrue();
+    }
+
+    @Test
+    @DisplayName("parseToken: 서명이 변조된 토큰은 예외")
+    void parseToken_tampered() {
+        String token = jwtUtil.createAccessToken(7L, "user@test.com", "OWNER");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThatThrownBy(() -> jwtUtil.parseToken(tampered))
+            .isInstanceOf(JwtException.class);
+    }
+}
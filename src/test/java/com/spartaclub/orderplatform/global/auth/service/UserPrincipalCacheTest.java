@@ -0,0 +1,71 @@
+package com.spartaclub.orderplatform.global.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class UserPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserPrincipalCache(meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 두 번째 조회부터 캐시 적중")
+    void get_cachedAfterFirstLoad() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> principal(id, loads));
+        cache.get(1L, id -> principal(id, loads));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.principal.cache.requests")
+            .tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auth.principal.cache.requests")
+            .tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("invalidate 이후에는 DB에서 다시 조회")
+    void invalidate_reloads() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> principal(id, loads));
+
+        cache.invalidate(1L);
+        cache.get(1L, id -> principal(id, loads));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 캐시에 저장하지 않음")
+    void invalidateDuringLoad_notCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return principal(id, loads);
+        });
+        cache.get(1L, id -> principal(id, loads));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private UserDetails principal(Long userId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new User(String.valueOf(userId), "", List.of());
+    }
+}
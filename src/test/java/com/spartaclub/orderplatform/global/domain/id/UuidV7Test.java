@@ -0,0 +1,70 @@
+package com.spartaclub.orderplatform.global.domain.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("버전 7, RFC variant, 현재 시각 타임스탬프")
+    void versionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // 밀리초당 수천 건 이상 연속 생성 시 순번이 다음 밀리초로 이월되므로 약간 앞설 수 있음
+        assertThat(UuidV7.timestampOf(uuid)).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    @DisplayName("연속 생성한 UUID는 DB(uuid 바이트) 정렬 기준으로 항상 증가")
+    void monotonic() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7.next());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(compareUnsigned(uuids.get(i - 1), uuids.get(i))).isNegative();
+        }
+        assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    void concurrentUnique() throws InterruptedException {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    uuids.add(UuidV7.next());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(uuids).hasSize(8 * 20_000);
+    }
+
+    // PostgreSQL uuid 비교와 같은 부호 없는 바이트 순서
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb
+            : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
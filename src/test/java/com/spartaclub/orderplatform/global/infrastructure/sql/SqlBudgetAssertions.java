@@ -0,0 +1,32 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * SQL 예산 검증 - SqlRequestMetricsFilter가 남긴 요청 속성으로 실행 SQL 수가 @SqlBudget 이하인지 확인
+ */
+public final class SqlBudgetAssertions {
+
+    private SqlBudgetAssertions() {
+    }
+
+    // 적용된 예산이 expectedBudget이고 실행한 SQL 수가 예산 이하인지 검증 (초과하면 테스트 실패)
+    public static ResultMatcher withinSqlBudget(int expectedBudget) {
+        return result -> {
+            HttpServletRequest request = result.getRequest();
+            String endpoint = request.getMethod() + " " + request.getRequestURI();
+            Object statements = request.getAttribute(SqlRequestMetricsFilter.STATEMENTS_ATTRIBUTE);
+            Object budget = request.getAttribute(SqlRequestMetricsFilter.BUDGET_ATTRIBUTE);
+
+            assertThat(budget).as("%s 에 적용된 SQL 예산", endpoint).isEqualTo(expectedBudget);
+            assertThat(statements).as("%s 의 SQL 실행 수 기록", endpoint)
+                .isInstanceOf(Integer.class);
+            assertThat((Integer) statements)
+                .as("%s 의 SQL 실행 수가 예산(%d)을 초과", endpoint, expectedBudget)
+                .isLessThanOrEqualTo(expectedBudget);
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import static org.mockito.BDDMockito.given;
+
+import com.spartaclub.orderplatform.domain.product.domain.entity.Product;
+import com.spartaclub.orderplatform.domain.store.domain.model.Store;
+import com.spartaclub.orderplatform.domain.store.presentation.dto.request.StoreRequestDto;
+import com.spartaclub.orderplatform.domain.user.domain.entity.User;
+import com.spartaclub.orderplatform.domain.user.domain.entity.UserRole;
+import com.spartaclub.orderplatform.global.auth.UserDetailsImpl;
+import com.spartaclub.orderplatform.global.auth.jwt.JwtUtil;
+import com.spartaclub.orderplatform.global.auth.jwt.VerifiedToken;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * SQL 예산 테스트 데이터 - 실제 DB에 사용자/가게/상품을 저장하고 목 JwtUtil로 해당 사용자 인증 헤더를 구성
+ */
+@TestComponent
+public class SqlBudgetFixtures {
+
+    // 유니크 컬럼(아이디, 전화번호 등) 충돌을 피하기 위한 일련번호
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(
+        ThreadLocalRandom.current().nextInt(1_000_000, 9_000_000));
+
+    private static final String ENCODED_PASSWORD = "{noop}Password123!";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JwtUtil jwtUtil;
+
+    public SqlBudgetFixtures(EntityManager entityManager, TransactionTemplate transactionTemplate,
+        JwtUtil jwtUtil) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.jwtUtil = jwtUtil;
+    }
+
+    public User customer() {
+        int seq = SEQUENCE.incrementAndGet();
+        return save(User.createUser("c" + seq, "c" + seq + "@budget.test", ENCODED_PASSWORD,
+            "c" + seq, phoneNumber(seq), UserRole.CUSTOMER));
+    }
+
+    public User owner() {
+        int seq = SEQUENCE.incrementAndGet();
+        return save(User.createBusinessUser("o" + seq, "o" + seq + "@budget.test",
+            ENCODED_PASSWORD, "o" + seq, phoneNumber(seq), UserRole.OWNER,
+            String.format("%010d", seq)));
+    }
+
+    public User manager() {
+        int seq = SEQUENCE.incrementAndGet();
+        return save(User.createManager("m" + seq, "m" + seq + "@budget.test", ENCODED_PASSWORD,
+            "m" + seq, phoneNumber(seq)));
+    }
+
+    // 승인 대기 가게
+    public Store pendingStore(User owner) {
+        return persist(owner, Store.create(owner, storeRequest()));
+    }
+
+    // 승인된 가게
+    public Store approvedStore(User owner) {
+        Store store = Store.create(owner, storeRequest());
+        store.approve();
+        return persist(owner, store);
+    }
+
+    public Product product(User owner, Store store) {
+        return persist(owner, Product.create("메뉴" + SEQUENCE.incrementAndGet(), 12000L,
+            "예산 테스트 메뉴", store));
+    }
+
+    // 가게 등록 요청 (가게 이름/전화번호는 매번 다르게 생성)
+    public StoreRequestDto storeRequest() {
+        int seq = SEQUENCE.incrementAndGet();
+        StoreRequestDto dto = new StoreRequestDto();
+        dto.setStoreName("가게" + seq);
+        dto.setStoreAddress("서울특별시 종로구 사직로 " + seq);
+        dto.setStoreNumber(String.format("02%08d", seq));
+        dto.setStoreDescription("예산 테스트 가게");
+        return dto;
+    }
+
+    // actor 로그인 상태로 저장 (BaseEntity 생성자 감사 값)
+    public <T> T persist(User actor, T entity) {
+        return runAs(actor, () -> {
+            entityManager.persist(entity);
+            return entity;
+        });
+    }
+
+    public <T> T find(Class<T> type, Object id) {
+        return transactionTemplate.execute(status -> entityManager.find(type, id));
+    }
+
+    // actor 로그인 상태의 트랜잭션 안에서 실행
+    public <T> T runAs(User actor, Supplier<T> action) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        UserDetailsImpl userDetails = new UserDetailsImpl(actor);
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null,
+            userDetails.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // user의 액세스 토큰으로 요청 (JwtAuthenticationFilter부터 실제 필터 체인을 그대로 통과)
+    public RequestPostProcessor as(User user) {
+        String token = "budget-token-" + user.getUserId();
+        given(jwtUtil.getTokenFromHeader(JwtUtil.BEARER_PREFIX + token)).willReturn(token);
+        given(jwtUtil.parseToken(token)).willReturn(new VerifiedToken(user.getUserId(),
+            user.getRole().name(), "access", Instant.now().plusSeconds(600)));
+        return request -> {
+            request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token);
+            return request;
+        };
+    }
+
+    private User save(User user) {
+        return transactionTemplate.execute(status -> {
+            entityManager.persist(user);
+            return user;
+        });
+    }
+
+    private static String phoneNumber(int seq) {
+        return String.format("010%08d", seq);
+    }
+}
@@ -0,0 +1,131 @@
+package com.spartaclub.orderplatform.global.infrastructure.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class SqlRequestMetricsFilterTest {
+
+    private final SqlCountingStatementInspector inspector = new SqlCountingStatementInspector();
+    private final SqlRowCountingInterceptor interceptor = new SqlRowCountingInterceptor();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("요청별 SQL 문 수/적재 행 수를 URI 패턴별 메트릭으로 기록")
+    void recordsPerEndpoint() throws Exception {
+        SqlRequestMetricsFilter filter = new SqlRequestMetricsFilter(meterRegistry, 20, 5);
+
+        filter.doFilter(request("GET", "/v1/test/{id}", "list"), new MockHttpServletResponse(),
+            executing(3, 2));
+
+        assertThat(meterRegistry.get("http.server.requests.sql.statements")
+            .tag("method", "GET").tag("uri", "/v1/test/{id}").summary().totalAmount())
+            .isEqualTo(3.0);
+        assertThat(meterRegistry.get("http.server.requests.sql.rows")
+            .tag("uri", "/v1/test/{id}").summary().totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("http.server.requests.sql.time")
+            .tag("uri", "/v1/test/{id}").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메서드 예산 초과 시 요청은 그대로 두고 카운터 증가, 문 수/예산을 요청 속성에 기록")
+    void methodBudgetExceeded_recorded() throws Exception {
+        SqlRequestMetricsFilter filter = new SqlRequestMetricsFilter(meterRegistry, 20, 5);
+        MockHttpServletRequest request = request("GET", "/v1/test", "list");
+
+        filter.doFilter(request, new MockHttpServletResponse(), executing(4, 0));
+
+        assertThat(request.getAttribute(SqlRequestMetricsFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(4);
+        assertThat(request.getAttribute(SqlRequestMetricsFilter.BUDGET_ATTRIBUTE)).isEqualTo(3);
+        assertThat(meterRegistry.get("http.server.requests.sql.budget.exceeded")
+            .tag("uri", "/v1/test").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("메서드에 예산이 없으면 클래스 예산 적용")
+    void classBudgetExceeded_recorded() throws Exception {
+        SqlRequestMetricsFilter filter = new SqlRequestMetricsFilter(meterRegistry, 20, 5);
+        MockHttpServletRequest request = request("POST", "/v1/test", "create");
+
+        filter.doFilter(request, new MockHttpServletResponse(), executing(7, 0));
+
+        assertThat(request.getAttribute(SqlRequestMetricsFilter.BUDGET_ATTRIBUTE)).isEqualTo(5);
+        assertThat(meterRegistry.get("http.server.requests.sql.budget.exceeded")
+            .tag("method", "POST").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 SQL이 반복 임계치 이상 실행되면 N+1 의심으로 집계")
+    void repeatedStatement_counted() throws Exception {
+        SqlRequestMetricsFilter filter = new SqlRequestMetricsFilter(meterRegistry, 20, 5);
+
+        filter.doFilter(request("GET", "/v1/test", "create"), new MockHttpServletResponse(),
+            (req, res) -> {
+                inspector.inspect("select * from p_order where order_id=?");
+                for (int i = 0; i < 5; i++) {
+                    inspector.inspect("select * from p_users where user_id=?");
+                }
+            });
+
+        assertThat(meterRegistry.get("http.server.requests.sql.repeated")
+            .tag("uri", "/v1/test").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청 범위 밖에서 실행된 SQL은 집계하지 않음")
+    void outsideRequest_ignored() throws Exception {
+        inspector.inspect("select 1");
+        SqlRequestMetricsFilter filter = new SqlRequestMetricsFilter(meterRegistry, 20, 5);
+
+        filter.doFilter(request("GET", "/v1/test", "list"), new MockHttpServletResponse(),
+            executing(0, 0));
+
+        assertThat(meterRegistry.get("http.server.requests.sql.statements")
+            .tag("uri", "/v1/test").summary().totalAmount()).isZero();
+    }
+
+    private FilterChain executing(int statements, int rows) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select * from p_test where id=" + i);
+            }
+            for (int i = 0; i < rows; i++) {
+                interceptor.onLoad(new Object(), (long) i, null, null, null);
+            }
+        };
+    }
+
+    private MockHttpServletRequest request(String method, String pattern, String handler)
+        throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(new TestController(), TestController.class.getMethod(handler)));
+        return request;
+    }
+
+    @SqlBudget(5)
+    static class TestController {
+
+        @SqlBudget(3)
+        public void list() {
+        }
+
+        public void create() {
+        }
+    }
+}